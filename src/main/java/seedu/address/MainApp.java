@@ -3,6 +3,7 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -29,12 +30,17 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.UsersList;
 import seedu.address.model.healthworker.HealthworkerList;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryHealthHubStorage;
+import seedu.address.storage.HealthHubData;
+import seedu.address.storage.HealthHubFileConverter;
 import seedu.address.storage.HealthHubStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SqlHealthHubStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.storage.XmlHealthHubStorage;
+import seedu.address.storage.user.SqlUsersListStorage;
 import seedu.address.storage.user.UsersListStorage;
 import seedu.address.storage.user.XmlUsersListStorage;
 import seedu.address.ui.Ui;
@@ -70,77 +76,147 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        HealthHubStorage healthHubStorage = new XmlHealthHubStorage(userPrefs.getHealthHubFilePath());
-        UsersListStorage usersListStorage = new XmlUsersListStorage(userPrefs.getUsersListFilePath());
-        storage = new StorageManager(usersListStorage, healthHubStorage, userPrefsStorage);
+        HealthHubStorage healthHubStorage = initHealthHubStorage(userPrefs);
+        UsersListStorage usersListStorage = initUsersListStorage(userPrefs);
+        storage = new StorageManager(usersListStorage, healthHubStorage, userPrefsStorage,
+            StorageManager.DEFAULT_SAVE_DEBOUNCE_MILLIS, userPrefs.getJournalSizeLimit());
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
+        storage.trackHealthHubChanges(model.getOrderBook(), model.getDeliverymenList());
+        storage.trackUsersListChanges(model.getUsersList());
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, Platform::runLater);
 
         ui = new UiManager(logic, config, userPrefs);
 
         initEventsCenter();
     }
 
+    /**
+     * Returns the {@code HealthHubStorage} for the data file format in {@code userPrefs}.
+     * An XML data file is converted when the binary format is chosen, and kept in the XML format if it
+     * cannot be converted. When the SQL format is chosen, the data file is copied into a database if there is
+     * none yet, and kept in its own format if it cannot be copied.
+     */
+    private HealthHubStorage initHealthHubStorage(UserPrefs userPrefs) {
+        Path healthHubFilePath = userPrefs.getHealthHubFilePath();
+        switch (userPrefs.getHealthHubFileFormat()) {
+        case BINARY:
+            try {
+                HealthHubFileConverter.convertToBinaryIfXml(healthHubFilePath);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Unable to convert " + healthHubFilePath + " to the binary format, keeping it as XML: "
+                    + StringUtil.getDetails(e));
+                return new XmlHealthHubStorage(healthHubFilePath);
+            }
+            return new BinaryHealthHubStorage(healthHubFilePath);
+        case SQL:
+            try {
+                HealthHubFileConverter.convertToSqlIfMissing(healthHubFilePath);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Unable to copy " + healthHubFilePath + " to a database, keeping it as a file: "
+                    + StringUtil.getDetails(e));
+                return isBinaryFile(healthHubFilePath)
+                    ? new BinaryHealthHubStorage(healthHubFilePath)
+                    : new XmlHealthHubStorage(healthHubFilePath);
+            }
+            return new SqlHealthHubStorage(healthHubFilePath);
+        default:
+            return new XmlHealthHubStorage(healthHubFilePath);
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is a binary HealthHub file, or false if it is not or cannot be
+     * read.
+     */
+    private boolean isBinaryFile(Path filePath) {
+        try {
+            return BinaryHealthHubStorage.isBinaryFile(filePath);
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the {@code UsersListStorage} for the data file format in {@code userPrefs}.
+     * The users list file is copied into a database when the SQL format is chosen and there is none yet, and kept
+     * in the XML format if it cannot be copied.
+     */
+    private UsersListStorage initUsersListStorage(UserPrefs userPrefs) {
+        Path usersListFilePath = userPrefs.getUsersListFilePath();
+        if (userPrefs.getHealthHubFileFormat() != UserPrefs.HealthHubFileFormat.SQL) {
+            return new XmlUsersListStorage(usersListFilePath);
+        }
+
+        try {
+            SqlUsersListStorage.convertXmlIfMissing(usersListFilePath);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Unable to copy " + usersListFilePath + " to a database, keeping it as XML: "
+                + StringUtil.getDetails(e));
+            return new XmlUsersListStorage(usersListFilePath);
+        }
+        return new SqlUsersListStorage(usersListFilePath);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s request book and {@code userPrefs}. <br>
      * The data from the sample request book will be used instead if {@code storage}'s request book is not found,
      * or an empty request book will be used instead if errors occur when reading {@code storage}'s request book.
      */
     private Model initModelManager(Storage storage, UserPrefs userPrefs) {
-        Optional<ReadOnlyRequestBook> orderBookOptional;
+        // The users list is kept in its own file, so it is read while the healthhub file is being read.
+        CompletableFuture<ReadOnlyUsersList> initialUserFuture =
+            CompletableFuture.supplyAsync(() -> initUsersList(storage));
+
         ReadOnlyRequestBook initialData;
-        Optional<ReadOnlyUsersList> usersListOptional;
-        ReadOnlyUsersList initialUser;
-        Optional<HealthworkerList> deliverymenListOptional;
         HealthworkerList initialDeliverymenData;
 
         try {
-            orderBookOptional = storage.readRequestBook();
-            if (!orderBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample RequestBook");
+            Optional<HealthHubData> healthHubOptional = storage.readHealthHub();
+            if (!healthHubOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample RequestBook and HealthworkerList");
             }
-            initialData = orderBookOptional.orElseGet(SampleDataUtil::getSampleOrderBook);
+            initialData = healthHubOptional.map(HealthHubData::getRequestBook)
+                .orElseGet(SampleDataUtil::getSampleOrderBook);
+            initialDeliverymenData = healthHubOptional.map(HealthHubData::getHealthworkerList)
+                .orElseGet(SampleDataUtil::getSampleDeliverymenList);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty RequestBook");
+            logger.warning("Data file not in the correct format. "
+                + "Will be starting with an empty RequestBook and HealthworkerList");
             initialData = new RequestBook();
+            initialDeliverymenData = new HealthworkerList();
         } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty RequestBook");
+            logger.warning("Problem while reading from the file. "
+                + "Will be starting with an empty RequestBook and HealthworkerList");
             initialData = new RequestBook();
+            initialDeliverymenData = new HealthworkerList();
         }
 
+        return new ModelManager(initialData, initialUserFuture.join(), initialDeliverymenData, userPrefs);
+    }
+
+    /**
+     * Returns the users list in {@code storage}.
+     * The sample users list will be used instead if {@code storage}'s users list is not found,
+     * or an empty users list will be used instead if errors occur when reading {@code storage}'s users list.
+     */
+    private ReadOnlyUsersList initUsersList(Storage storage) {
         try {
-            usersListOptional = storage.readUsersList();
+            Optional<ReadOnlyUsersList> usersListOptional = storage.readUsersList();
             if (!usersListOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample UsersList");
             }
-            initialUser = usersListOptional.orElseGet(SampleDataUtil::getSampleUsersList);
+            return usersListOptional.orElseGet(SampleDataUtil::getSampleUsersList);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty UsersList");
-            initialUser = new UsersList();
+            return new UsersList();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty UsersList");
-            initialUser = new UsersList();
+            return new UsersList();
         }
-
-        try {
-            deliverymenListOptional = storage.readHealthworkerList();
-            if (!deliverymenListOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample HealthworkerList");
-            }
-            initialDeliverymenData = deliverymenListOptional.orElseGet(SampleDataUtil::getSampleDeliverymenList);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty HealthworkerList");
-            initialDeliverymenData = new HealthworkerList();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty HealthworkerList");
-            initialDeliverymenData = new HealthworkerList();
-        }
-
-        return new ModelManager(initialData, initialUser, initialDeliverymenData, userPrefs);
     }
 
     private void initLogging(Config config) {
@@ -216,7 +292,8 @@ public class MainApp extends Application {
     }
 
     private void initEventsCenter() {
-        EventsCenter.getInstance().registerHandler(this);
+        // Exiting closes the windows, so it is done on the JavaFX application thread
+        EventsCenter.getInstance().registerUiHandler(this);
     }
 
     @Override
@@ -229,6 +306,10 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        // Commands still running would change the model while it is saved
+        logic.stop();
+        storage.flushHealthHub();
+        logger.info("Healthhub saves: " + storage.getHealthHubWriteMetrics());
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -2,20 +2,28 @@ package seedu.address.commons.core;
 
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.AsyncEventBus;
 import com.google.common.eventbus.EventBus;
 
+import javafx.application.Platform;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ * <p>
+ * Events may be posted on any thread, such as the thread that runs commands. Handlers registered with
+ * {@link #registerHandler} handle an event on the thread that posts it, while handlers registered with
+ * {@link #registerUiHandler}, which change the scene, handle it on the JavaFX application thread.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
     private static EventsCenter instance;
     private final EventBus eventBus;
+    private final EventBus uiEventBus;
 
     private EventsCenter() {
         eventBus = new EventBus();
+        uiEventBus = new AsyncEventBus(EventsCenter::runOnFxApplicationThread);
     }
 
     public static EventsCenter getInstance() {
@@ -33,13 +41,32 @@ public class EventsCenter {
         eventBus.register(handler);
     }
 
+    /**
+     * Registers {@code handler} to handle events on the JavaFX application thread.
+     */
+    public void registerUiHandler(Object handler) {
+        uiEventBus.register(handler);
+    }
+
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
         logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
         eventBus.post(event);
+        uiEventBus.post(event);
         return this;
     }
 
+    /**
+     * Runs {@code runnable} now if called on the JavaFX application thread, or later on that thread otherwise.
+     */
+    private static void runOnFxApplicationThread(Runnable runnable) {
+        if (Platform.isFxApplicationThread()) {
+            runnable.run();
+        } else {
+            Platform.runLater(runnable);
+        }
+    }
+
 }
@@ -0,0 +1,93 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hand-written checks of the character classes used to validate fields, which give the same answers as the
+ * validation regexes of the fields without compiling or running a pattern.
+ * Fields are validated every time they are parsed or loaded, so these checks are on the load path.
+ * <p>
+ * As in the regexes, alphanumeric characters and digits are ASCII only.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}}.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c);
+    }
+
+    /**
+     * Returns true if {@code test} has only alphanumeric characters and is {@code minLength} to {@code maxLength}
+     * characters long, as matched by {@code \p{Alnum}{minLength,maxLength}}.
+     */
+    public static boolean isAlphanumeric(String test, int minLength, int maxLength) {
+        requireNonNull(test);
+        int length = test.length();
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} starts with an alphanumeric character, has only alphanumeric characters and
+     * spaces after it and is {@code minLength} to {@code maxLength} characters long, as matched by
+     * {@code \p{Alnum}[\p{Alnum} ]{minLength - 1,maxLength - 1}}.
+     */
+    public static boolean isAlphanumericWords(String test, int minLength, int maxLength) {
+        requireNonNull(test);
+        int length = test.length();
+        if (length == 0 || length < minLength || length > maxLength || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, as matched by {@code \d}.
+     */
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code fromIndex}, inclusive, to {@code toIndex},
+     * exclusive, are all digits.
+     */
+    public static boolean isDigits(String test, int fromIndex, int toIndex) {
+        requireNonNull(test);
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace character, as matched by {@code \s}.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} ends a line, so that it is not matched by {@code .}.
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
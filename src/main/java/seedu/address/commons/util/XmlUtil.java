@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.io.FileNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -16,6 +18,9 @@ import javax.xml.bind.Unmarshaller;
  */
 public class XmlUtil {
 
+    // Creating a context is expensive, while a context is thread-safe and can be reused for every file.
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,7 +42,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
+        JAXBContext context = getContext(classToConvert);
         Unmarshaller um = context.createUnmarshaller();
 
         return ((T) um.unmarshal(file.toFile()));
@@ -61,11 +66,34 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
+        JAXBContext context = getContext(data.getClass());
         Marshaller m = context.createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Returns a new {@code Unmarshaller} for {@code boundClass}, which may be used to read parts of a document.
+     * Unlike the {@code JAXBContext} it is created from, the unmarshaller must only be used by one thread at a time.
+     *
+     * @throws JAXBException Thrown if {@code boundClass} cannot be bound to xml.
+     */
+    public static Unmarshaller createUnmarshaller(Class<?> boundClass) throws JAXBException {
+        requireNonNull(boundClass);
+        return getContext(boundClass).createUnmarshaller();
+    }
+
+    /**
+     * Returns the {@code JAXBContext} for {@code boundClass}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> boundClass) throws JAXBException {
+        JAXBContext context = contexts.get(boundClass);
+        if (context == null) {
+            context = JAXBContext.newInstance(boundClass);
+            contexts.putIfAbsent(boundClass, context);
+        }
+        return context;
+    }
+
 }
@@ -1,11 +1,14 @@
 package seedu.address.logic;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.healthworker.Healthworker;
 import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestStatistics;
 
 /**
  * API of the Logic component
@@ -22,12 +25,37 @@ public interface Logic {
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
     /**
-     * Returns an unmodifiable view of the filtered list of request
+     * Executes the command on the thread that runs commands, after every command submitted before it, so that
+     * the caller is not held up while the command runs.
+     * The result is handed back on the thread that the lists of this {@code Logic} are changed on, after the
+     * changes the command made to them.
+     *
+     * @param commandText The command as entered by the user.
+     * @return a future completed with the result of the command execution, or with the {@code CommandException}
+     *     or {@code ParseException} it failed with.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Stops taking commands, and waits a short while for the commands already submitted to finish, unless it is
+     * called by one of them.
+     */
+    void stop();
+
+    /**
+     * Returns an unmodifiable copy of the filtered list of request, which takes the changes of the list on the
+     * thread that results are handed back on
      */
     ObservableList<Request> getFilteredOrderList();
 
     /**
-     * Returns an unmodifiable view of the filtered list of delivery men
+     * Returns the statistics of the filtered list of request
+     */
+    RequestStatistics getRequestStatistics();
+
+    /**
+     * Returns an unmodifiable copy of the filtered list of delivery men, which takes the changes of the list on
+     * the thread that results are handed back on
      */
     ObservableList<Healthworker> getFilteredDeliverymanList();
 
@@ -2,6 +2,11 @@ package seedu.address.logic;
 
 import static seedu.address.commons.core.Messages.MESSAGE_REQUIRE_LOGIN;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -21,21 +26,55 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.healthworker.Healthworker;
 import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestStatistics;
 
 /**
  * The main LogicManager of the app.
+ * <p>
+ * Commands submitted with {@link #executeAsync} run one at a time, in order, on a thread of their own, which is
+ * the only thread that changes the model. The UI reads copies of the filtered lists instead of the lists of the
+ * model, which take the changes of the model on the UI thread, so that rendering never waits for a command.
  */
 public class LogicManager extends ComponentManager implements Logic {
+    private static final long STOP_TIMEOUT_SECONDS = 3;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final CommandHistory history;
     private final RequestBookParser requestBookParser;
+    private final ExecutorService commandExecutor;
+    private final Executor resultExecutor;
+    private final ObservableList<Request> filteredOrders;
+    private final ObservableList<Healthworker> filteredDeliverymen;
+    private final RequestStatistics requestStatistics;
+    private volatile Thread commandThread;
 
+    /**
+     * Creates a {@code LogicManager} that hands results and list changes back on the thread that makes them.
+     */
     public LogicManager(Model model) {
+        this(model, Runnable::run);
+    }
+
+    /**
+     * Creates a {@code LogicManager} that hands results and list changes back through {@code resultExecutor},
+     * such as {@code Platform::runLater} for the JavaFX application thread.
+     */
+    public LogicManager(Model model, Executor resultExecutor) {
         this.model = model;
+        this.resultExecutor = resultExecutor;
         history = new CommandHistory();
         requestBookParser = new RequestBookParser();
+        commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "healthhub-commands");
+            thread.setDaemon(true);
+            commandThread = thread;
+            return thread;
+        });
+        filteredOrders = new ObservableListMirror<>(model.getFilteredOrderList(), resultExecutor);
+        filteredDeliverymen = new ObservableListMirror<>(model.getFilteredDeliverymenList(), resultExecutor);
+        requestStatistics = new RequestStatistics(filteredOrders);
     }
 
     @Override
@@ -53,14 +92,49 @@ public class LogicManager extends ComponentManager implements Logic {
         }
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            try {
+                CommandResult commandResult = execute(commandText);
+                resultExecutor.execute(() -> result.complete(commandResult));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                resultExecutor.execute(() -> result.completeExceptionally(e));
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void stop() {
+        commandExecutor.shutdown();
+        if (Thread.currentThread() == commandThread) {
+            // Stopped by the running command, such as exit, which cannot wait for itself to finish
+            return;
+        }
+        try {
+            if (!commandExecutor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands still running after waiting " + STOP_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Override
     public ObservableList<Request> getFilteredOrderList() {
-        return model.getFilteredOrderList();
+        return filteredOrders;
+    }
+
+    @Override
+    public RequestStatistics getRequestStatistics() {
+        return requestStatistics;
     }
 
     @Override
     public ObservableList<Healthworker> getFilteredDeliverymanList() {
-        return model.getFilteredDeliverymenList();
+        return filteredDeliverymen;
     }
 
     @Override
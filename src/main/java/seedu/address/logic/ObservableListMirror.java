@@ -0,0 +1,106 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only copy of an observable list, which takes each change of the list on the thread of an executor.
+ * Lets the UI show a list that is changed on another thread: the changes are handed over in the order they are
+ * made, and each change of the list is one change of the copy, so listeners of the copy see the same changes as
+ * listeners of the list.
+ * <p>
+ * Changes of the elements themselves, which are reported as updates, are not copied.
+ *
+ * @param <T> type of the elements
+ */
+public class ObservableListMirror<T> extends ObservableListBase<T> {
+
+    private final List<T> elements;
+    private final Executor executor;
+
+    /**
+     * Creates a copy of {@code source}, which must not change until the copy is made.
+     *
+     * @param executor runs the changes of the copy, in the order they are given
+     */
+    public ObservableListMirror(ObservableList<T> source, Executor executor) {
+        requireNonNull(source);
+        requireNonNull(executor);
+        this.elements = new ArrayList<>(source);
+        this.executor = executor;
+        source.addListener(this::handleSourceChanged);
+    }
+
+    /**
+     * Records the steps of {@code change} while the source is in the state it describes, and hands them over to
+     * the executor.
+     */
+    private void handleSourceChanged(ListChangeListener.Change<? extends T> change) {
+        List<Step<T>> steps = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // The permuted elements are copied as they are now, in place of the same range
+                int size = change.getTo() - change.getFrom();
+                steps.add(new Step<>(change.getFrom(), size,
+                    new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo()))));
+            } else if (!change.wasUpdated()) {
+                steps.add(new Step<>(change.getFrom(), change.getRemovedSize(),
+                    new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+        if (!steps.isEmpty()) {
+            executor.execute(() -> apply(steps));
+        }
+    }
+
+    /**
+     * Applies {@code steps} to the copy, in order, as one change.
+     */
+    private void apply(List<Step<T>> steps) {
+        beginChange();
+        for (Step<T> step : steps) {
+            List<T> removed = elements.subList(step.from, step.from + step.removedSize);
+            if (!removed.isEmpty()) {
+                nextRemove(step.from, new ArrayList<>(removed));
+                removed.clear();
+            }
+            if (!step.added.isEmpty()) {
+                elements.addAll(step.from, step.added);
+                nextAdd(step.from, step.from + step.added.size());
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Replaces {@code removedSize} elements from {@code from} with {@code added}.
+     */
+    private static class Step<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+
+        Step(int from, int removedSize, List<T> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+    }
+}
@@ -8,7 +8,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.RequestBook;
-import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestStatus;
 
 /**
  * Clears the address book.
@@ -22,10 +22,8 @@ public class ClearCommand extends RequestCommand {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        for (Request request : model.getOrderBook().getRequestList()) {
-            if (request.isOngoing()) {
-                throw new CommandException(Messages.MESSAGE_ORDER_ONGOING_CANNOT_CLEAR);
-            }
+        if (model.getOrderBook().countRequestsWithStatus(new RequestStatus("ONGOING")) > 0) {
+            throw new CommandException(Messages.MESSAGE_ORDER_ONGOING_CANNOT_CLEAR);
         }
         model.resetData(new RequestBook());
         model.commitOrderBook();
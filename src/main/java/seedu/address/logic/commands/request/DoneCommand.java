@@ -55,7 +55,6 @@ public class DoneCommand extends RequestCommand {
         requireNonNull(model);
 
         List<Request> lastShownList = model.getFilteredOrderList();
-        List<Healthworker> lastShowHealthworkerList = model.getFilteredDeliverymenList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_REQUEST_DISPLAYED_INDEX);
@@ -67,26 +66,24 @@ public class DoneCommand extends RequestCommand {
             throw new CommandException(MESSAGE_ONGOING_ORDER);
         }
 
-
-        //fetch healthworker from index because request's healthworker not reliable.
-        Healthworker healthworkerToRemoveOrder = requestToBeCompleted.getHealthworker();
-        Healthworker correctHealthworker = lastShowHealthworkerList.stream()
-            .filter(deliveryman -> deliveryman.equals(healthworkerToRemoveOrder))
-            .findFirst()
+        Healthworker healthworkerToRemoveOrder = model.getDeliverymenList()
+            .getDeliverymanByName(requestToBeCompleted.getHealthworker().getName())
             .orElseThrow(() -> new CommandException(MESSAGE_DELIVERYMAN_NOT_EXIST));
-        Healthworker updatedHealthworker = removeOrderFromDeliveryman(correctHealthworker, requestToBeCompleted);
+        Healthworker updatedHealthworker = removeOrderFromDeliveryman(healthworkerToRemoveOrder,
+            requestToBeCompleted);
 
-        requestToBeCompleted.setStatusCompleted();
+        Request completedRequest = new Request(requestToBeCompleted);
+        completedRequest.setStatusCompleted();
 
-        model.updateOrder(requestToBeCompleted, requestToBeCompleted);
+        model.updateOrder(requestToBeCompleted, completedRequest);
         model.updateFilteredOrderList(Model.PREDICATE_SHOW_ALL_ORDERS);
         model.commitOrderBook();
 
-        model.updateDeliveryman(correctHealthworker, updatedHealthworker);
+        model.updateDeliveryman(healthworkerToRemoveOrder, updatedHealthworker);
         model.updateFilteredDeliverymenList(Model.PREDICATE_SHOW_ALL_DELIVERYMEN);
         model.commitDeliverymenList();
 
-        return new CommandResult(String.format(MESSAGE_COMPLETED_ORDER_SUCCESS, requestToBeCompleted));
+        return new CommandResult(String.format(MESSAGE_COMPLETED_ORDER_SUCCESS, completedRequest));
     }
 
     @Override
@@ -19,34 +19,59 @@ import seedu.address.model.request.Request;
 public class FindCommand extends RequestCommand {
     public static final String COMMAND_WORD = "find";
 
+    public static final String EXPLAIN_WORD = "explain";
+
     public static final String MESSAGE_USAGE = RequestCommand.COMMAND_WORD + " " + COMMAND_WORD
         + ": Finds the request whose keywords contain any of "
         + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-        + "Parameters: [n/NAME] [p/PHONE] [a/ADDRESS] [dt/DATETIME] [c/CONDITION] " +
+        + "Starting with " + EXPLAIN_WORD + " also shows how the requests were found and how long it took.\n"
+        + "Parameters: [" + EXPLAIN_WORD + "] [n/NAME] [p/PHONE] [a/ADDRESS] [dt/DATETIME] [c/CONDITION] " +
         "[st/ORDER_STATUS]\n"
         + "Example: " + RequestCommand.COMMAND_WORD + " " + COMMAND_WORD + " n/John " +
         "c/Physiotherapy\n"
         + "Example: " + RequestCommand.COMMAND_WORD + " " + COMMAND_WORD
-        + " dt/01-10-2018 10:00:00 dt/03-10-2018 10:00:00";
+        + " dt/01-10-2018 10:00:00 dt/03-10-2018 10:00:00\n"
+        + "Example: " + RequestCommand.COMMAND_WORD + " " + COMMAND_WORD + " " + EXPLAIN_WORD
+        + " n/John st/PENDING";
+
+    public static final String MESSAGE_EXPLAIN = "%1$s\nTook %2$.3f ms";
 
     private final Predicate<Request> predicate;
+    private final boolean explain;
 
     public FindCommand(Predicate<Request> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand to list the requests accepted by {@code predicate}, which also describes how they were
+     * found and how long it took if {@code explain} is true.
+     */
+    public FindCommand(Predicate<Request> predicate, boolean explain) {
         this.predicate = predicate;
+        this.explain = explain;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
+        long startTime = System.nanoTime();
         model.updateFilteredOrderList(predicate);
-        return new CommandResult(
-            String.format(Messages.MESSAGE_REQUESTS_LISTED_OVERVIEW, model.getFilteredOrderList().size()));
+        int requestCount = model.getFilteredOrderList().size();
+        double elapsedMillis = (System.nanoTime() - startTime) / 1e6;
+
+        String message = String.format(Messages.MESSAGE_REQUESTS_LISTED_OVERVIEW, requestCount);
+        if (explain) {
+            message += "\n" + String.format(MESSAGE_EXPLAIN, model.explainOrderQuery(predicate), elapsedMillis);
+        }
+        return new CommandResult(message);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof FindCommand // instanceof handles nulls
-            && predicate.equals(((FindCommand) other).predicate)); // state check
+            && predicate.equals(((FindCommand) other).predicate)
+            && explain == ((FindCommand) other).explain); // state check
     }
 }
@@ -3,24 +3,60 @@ package seedu.address.logic.commands.request;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
 
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
+import seedu.address.model.request.Request;
 
 /**
- * Lists all orders in the request book to the user.
+ * Lists all orders in the request book to the user, or only those with the given statuses.
  */
 public class ListCommand extends RequestCommand {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = RequestCommand.COMMAND_WORD + " " + COMMAND_WORD
+        + ": Lists all the requests, or only those with the given statuses.\n"
+        + "Parameters: [st/ORDER_STATUS]\n"
+        + "Example: " + RequestCommand.COMMAND_WORD + " " + COMMAND_WORD + " st/PENDING ONGOING";
+
     public static final String MESSAGE_SUCCESS = "Listed all orders";
 
+    private final Predicate<Request> statusPredicate;
+
+    public ListCommand() {
+        this(null);
+    }
+
+    /**
+     * Creates a ListCommand to list the requests accepted by {@code statusPredicate}, or all the requests if it is
+     * null.
+     */
+    public ListCommand(Predicate<Request> statusPredicate) {
+        this.statusPredicate = statusPredicate;
+    }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (statusPredicate == null) {
+            model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        model.updateFilteredOrderList(statusPredicate);
+        return new CommandResult(
+            String.format(Messages.MESSAGE_REQUESTS_LISTED_OVERVIEW, model.getFilteredOrderList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof ListCommand // instanceof handles nulls
+            && Objects.equals(statusPredicate, ((ListCommand) other).statusPredicate)); // state check
     }
 }
@@ -0,0 +1,54 @@
+package seedu.address.logic.commands.request;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestPhoneStartsWithPredicate;
+
+/**
+ * Lists the requests of a caller, whose phone number starts with the given digits, and counts how many of them are
+ * still open.
+ */
+public class LookupCommand extends RequestCommand {
+    public static final String COMMAND_WORD = "lookup";
+
+    public static final String MESSAGE_USAGE = RequestCommand.COMMAND_WORD + " " + COMMAND_WORD
+        + ": Lists the requests whose phone number starts with the given digits, such as the requests of a caller.\n"
+        + "Parameters: PHONE (the whole phone number or its first digits)\n"
+        + "Example: " + RequestCommand.COMMAND_WORD + " " + COMMAND_WORD + " 94351253";
+
+    public static final String MESSAGE_SUCCESS = "%1$d open and %2$d past requests listed for phone %3$s";
+
+    private final String phonePrefix;
+
+    public LookupCommand(String phonePrefix) {
+        requireNonNull(phonePrefix);
+        this.phonePrefix = phonePrefix;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        model.updateFilteredOrderList(new RequestPhoneStartsWithPredicate(phonePrefix));
+
+        int pastCount = 0;
+        for (Request request : model.getFilteredOrderList()) {
+            if (request.getRequestStatus().isCompletedStatus()) {
+                pastCount++;
+            }
+        }
+        int openCount = model.getFilteredOrderList().size() - pastCount;
+        return new CommandResult(String.format(MESSAGE_SUCCESS, openCount, pastCount, phonePrefix));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof LookupCommand // instanceof handles nulls
+            && phonePrefix.equals(((LookupCommand) other).phonePrefix)); // state check
+    }
+}
@@ -65,7 +65,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_NAME_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -95,7 +95,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_ADDRESS_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.of(trimmedAddress);
     }
 
     /**
@@ -140,7 +140,7 @@ public class ParserUtil {
         if (!Condition.isValidFood(trimmedFood)) {
             throw new ParseException(Condition.MESSAGE_FOOD_CONSTRAINTS);
         }
-        return new Condition(trimmedFood);
+        return Condition.of(trimmedFood);
     }
 
     /**
@@ -40,15 +40,22 @@ public class FindCommandParser implements Parser<RequestCommand> {
 
         if (!arePrefixesPresent(
                 argMultimap, PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS, PREFIX_DATE, PREFIX_CONDITION, PREFIX_STATUS)
-                || !argMultimap.getPreamble().isEmpty()) {
+                || !isValidPreamble(argMultimap.getPreamble())) {
             throw new ParseException(String.format(MESSAGE_INVALID_REQUEST_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
         Predicate<Request> suppliedPredicates = new RequestPredicateUtil().parsePredicate(argMultimap);
-        return new FindCommand(suppliedPredicates);
+        return new FindCommand(suppliedPredicates, argMultimap.getPreamble().equals(FindCommand.EXPLAIN_WORD));
 
     }
 
+    /**
+     * Returns true if {@code preamble} is empty or asks for the query to be explained.
+     */
+    private static boolean isValidPreamble(String preamble) {
+        return preamble.isEmpty() || preamble.equals(FindCommand.EXPLAIN_WORD);
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
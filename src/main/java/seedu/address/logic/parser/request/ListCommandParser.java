@@ -0,0 +1,44 @@
+package seedu.address.logic.parser.request;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.request.ListCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.request.RequestStatus;
+import seedu.address.model.request.RequestStatusContainsKeywordPredicate;
+
+/**
+ * Parses input arguments and creates a new ListCommand object
+ */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns an ListCommand object for execution.
+     * Arguments without a status prefix are ignored, and list all the requests.
+     *
+     * @throws ParseException if the given statuses are empty or invalid
+     */
+    public ListCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_STATUS);
+        Optional<String> statuses = argMultimap.getValue(PREFIX_STATUS);
+        if (!statuses.isPresent()) {
+            return new ListCommand();
+        }
+        if (statuses.get().trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        }
+
+        List<RequestStatus> requestStatuses = new RequestStatusPredicateUtil()
+            .parseOrderStatusKeywords(Arrays.asList(statuses.get().trim().split("\\s+")));
+        return new ListCommand(new RequestStatusContainsKeywordPredicate(requestStatuses));
+    }
+}
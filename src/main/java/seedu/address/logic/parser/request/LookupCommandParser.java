@@ -0,0 +1,28 @@
+package seedu.address.logic.parser.request;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.logic.commands.request.LookupCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new LookupCommand object
+ */
+public class LookupCommandParser implements Parser<LookupCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LookupCommand
+     * and returns an LookupCommand object for execution.
+     *
+     * @throws ParseException if the user input is not a run of digits
+     */
+    public LookupCommand parse(String args) throws ParseException {
+        String phonePrefix = args.trim();
+        if (phonePrefix.isEmpty() || !ValidationUtil.isDigits(phonePrefix, 0, phonePrefix.length())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE));
+        }
+        return new LookupCommand(phonePrefix);
+    }
+}
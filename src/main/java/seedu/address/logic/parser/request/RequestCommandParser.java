@@ -14,6 +14,7 @@ import seedu.address.logic.commands.request.DoneCommand;
 import seedu.address.logic.commands.request.EditCommand;
 import seedu.address.logic.commands.request.FindCommand;
 import seedu.address.logic.commands.request.ListCommand;
+import seedu.address.logic.commands.request.LookupCommand;
 import seedu.address.logic.commands.request.RequestCommand;
 import seedu.address.logic.commands.request.SelectCommand;
 import seedu.address.logic.parser.Parser;
@@ -52,7 +53,7 @@ public class RequestCommandParser implements Parser<RequestCommand> {
             return new DeleteCommandParser().parse(arguments);
 
         case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+            return new ListCommandParser().parse(arguments);
 
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
@@ -66,6 +67,9 @@ public class RequestCommandParser implements Parser<RequestCommand> {
         case DoneCommand.COMMAND_WORD:
             return new DoneCommandParser().parse(arguments);
 
+        case LookupCommand.COMMAND_WORD:
+            return new LookupCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -1,9 +1,7 @@
 package seedu.address.logic.parser.request;
 
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -16,22 +14,20 @@ import seedu.address.model.request.RequestDate;
 public class RequestDatePredicateUtil {
     private static final int VALID_DATE_LIST_SIZE = 2;
 
-    private static final SimpleDateFormat sf = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
-
     /**
      * Sorts the dates in ascending request
      * Returns a list of size 2 if more than 2 date fields are specified
      */
-    public List<Date> parseDateKeywords(List<String> keywords) throws ParseException {
+    public List<RequestDate> parseDateKeywords(List<String> keywords) throws ParseException {
         final int firstIndex = 0;
         final int lastIndex = keywords.size() - 1;
 
-        List<Date> dates = parseStringToDate(keywords);
+        List<RequestDate> dates = parseStringToDate(keywords);
 
         Collections.sort(dates);
 
         if (dates.size() > VALID_DATE_LIST_SIZE) {
-            List<Date> newKeywords = new ArrayList<>();
+            List<RequestDate> newKeywords = new ArrayList<>();
             newKeywords.add(dates.get(firstIndex));
             newKeywords.add(dates.get(lastIndex));
             return newKeywords;
@@ -41,19 +37,17 @@ public class RequestDatePredicateUtil {
     }
 
     /**
-     * Parses a list of {@code stringDates} and returns a list of Date object
+     * Parses a list of {@code stringDates} and returns a list of RequestDate object
      * @throws ParseException if invalid date format is supplied
      */
-    private List<Date> parseStringToDate(List<String> stringsDates) throws ParseException {
-        List<Date> dates = new ArrayList<>();
+    private List<RequestDate> parseStringToDate(List<String> stringsDates) throws ParseException {
+        List<RequestDate> dates = new ArrayList<>();
 
         for (String stringDate : stringsDates) {
-            try {
-                sf.setLenient(false);
-                dates.add(sf.parse(stringDate));
-            } catch (java.text.ParseException pE) {
+            if (!RequestDate.isValidDate(stringDate)) {
                 throw new ParseException(RequestDate.MESSAGE_DATE_CONSTRAINTS);
             }
+            dates.add(new RequestDate(stringDate));
         }
 
         return dates;
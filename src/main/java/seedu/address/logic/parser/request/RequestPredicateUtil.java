@@ -2,8 +2,8 @@ package seedu.address.logic.parser.request;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -15,9 +15,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.request.Request;
 import seedu.address.model.request.RequestAddressContainsKeywordPredicate;
 import seedu.address.model.request.RequestConditionContainsKeywordPredicate;
+import seedu.address.model.request.RequestDate;
 import seedu.address.model.request.RequestDatePredicate;
 import seedu.address.model.request.RequestNameContainsKeywordPredicate;
 import seedu.address.model.request.RequestPhoneContainsKeywordPredicate;
+import seedu.address.model.request.RequestQuery;
 import seedu.address.model.request.RequestStatus;
 import seedu.address.model.request.RequestStatusContainsKeywordPredicate;
 
@@ -34,7 +36,7 @@ public class RequestPredicateUtil {
     private static final String STRING_PREFIX_FOOD = "c/";
     private static final String STRING_PREFIX_STATUS = "st/";
 
-    private Predicate<Request> chainedPredicated;
+    private final List<Predicate<Request>> chainedPredicates = new ArrayList<>();
 
     /**
      * Parses the given {@code argMultimap} to a chained predicate
@@ -56,7 +58,10 @@ public class RequestPredicateUtil {
             chainPredicate(prefix, keywords);
         }
 
-        return chainedPredicated;
+        if (chainedPredicates.size() == 1) {
+            return chainedPredicates.get(0);
+        }
+        return new RequestQuery(chainedPredicates);
     }
 
     /**
@@ -107,7 +112,7 @@ public class RequestPredicateUtil {
             break;
 
         case STRING_PREFIX_DATE:
-            List<Date> date = new RequestDatePredicateUtil().parseDateKeywords(keywords);
+            List<RequestDate> date = new RequestDatePredicateUtil().parseDateKeywords(keywords);
             RequestDatePredicate datePredicate = new RequestDatePredicate(date);
 
             setToPredicate(datePredicate);
@@ -150,15 +155,9 @@ public class RequestPredicateUtil {
     }
 
     /**
-     * Set {@code chainedPredicate} to {@code predicate} if predicate is not set
-     * else AND the predicates
+     * Adds {@code predicate} to the predicates that are ANDed together
      */
     private void setToPredicate(Predicate<Request> predicate) {
-        // predicate is not set
-        if (chainedPredicated == null) {
-            chainedPredicated = predicate;
-        } else {
-            chainedPredicated = chainedPredicated.and(predicate);
-        }
+        chainedPredicates.add(predicate);
     }
 }
@@ -75,6 +75,13 @@ public interface Model {
      */
     void updateFilteredOrderList(Predicate<Request> predicate);
 
+    /**
+     * Returns a description of how the requests accepted by {@code predicate} are found in the request book.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    String explainOrderQuery(Predicate<Request> predicate);
+
     /**
      * Returns true if the model has previous request book states to restore.
      */
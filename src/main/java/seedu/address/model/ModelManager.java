@@ -3,6 +3,7 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -21,8 +22,10 @@ import seedu.address.model.healthworker.Healthworker;
 import seedu.address.model.healthworker.HealthworkerList;
 import seedu.address.model.healthworker.VersionedHealthworkerList;
 import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestQuery;
 import seedu.address.model.user.User;
 import seedu.address.model.user.UserSession;
+import seedu.address.model.util.HistoryLimits;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -53,9 +56,11 @@ public class ModelManager extends ComponentManager implements Model {
             + " and deliverymen list " + healthworkerList
             + " and user prefs " + userPrefs);
 
-        versionedOrderBook = new VersionedRequestBook(orderBook);
-        versionedUsersList = new VersionedUsersList(usersList);
-        versionedHealthworkerList = new VersionedHealthworkerList(healthworkerList);
+        HistoryLimits historyLimits = new HistoryLimits(userPrefs.getUndoHistoryMemoryBudget(),
+            userPrefs.getUndoHistoryMaxDepth());
+        versionedOrderBook = new VersionedRequestBook(orderBook, historyLimits);
+        versionedUsersList = new VersionedUsersList(usersList, historyLimits);
+        versionedHealthworkerList = new VersionedHealthworkerList(healthworkerList, historyLimits);
         filteredRequests = new FilteredList<>(versionedOrderBook.getRequestList());
         filteredUsers = new FilteredList<>(versionedUsersList.getUserList());
         filteredDeliverymen = new FilteredList<>(versionedHealthworkerList.getDeliverymenList());
@@ -149,6 +154,7 @@ public class ModelManager extends ComponentManager implements Model {
         requireAllNonNull(target, editedRequest);
 
         versionedOrderBook.updateRequest(target, editedRequest);
+        ReferenceResolver.resolveRequest(editedRequest, versionedHealthworkerList);
         indicateAppChanged();
     }
 
@@ -177,6 +183,7 @@ public class ModelManager extends ComponentManager implements Model {
         requireAllNonNull(target, editedHealthworker);
 
         versionedHealthworkerList.updateDeliveryman(target, editedHealthworker);
+        ReferenceResolver.resolveHealthworker(editedHealthworker, versionedOrderBook);
         indicateAppChanged();
     }
 
@@ -194,10 +201,16 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredOrderList(Predicate<Request> predicate) {
         requireNonNull(predicate);
-        filteredRequests.setPredicate(predicate);
+        filteredRequests.setPredicate(versionedOrderBook.getRequestIndex().bind(predicate));
         EventsCenter.getInstance().post(new BackToHomeEvent());
     }
 
+    @Override
+    public String explainOrderQuery(Predicate<Request> predicate) {
+        requireNonNull(predicate);
+        return RequestQuery.of(predicate).plan(versionedOrderBook.getRequestIndex()).toString();
+    }
+
     //=========== Filtered Healthworker List Accessors =======================================================
 
     /**
@@ -230,13 +243,15 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void undoOrderBook() {
-        versionedOrderBook.undo();
+        List<Request> restoredRequests = versionedOrderBook.undo();
+        ReferenceResolver.resolveRestoredRequests(restoredRequests, versionedOrderBook, versionedHealthworkerList);
         indicateAppChanged();
     }
 
     @Override
     public void redoOrderBook() {
-        versionedOrderBook.redo();
+        List<Request> restoredRequests = versionedOrderBook.redo();
+        ReferenceResolver.resolveRestoredRequests(restoredRequests, versionedOrderBook, versionedHealthworkerList);
         indicateAppChanged();
     }
 
@@ -321,13 +336,17 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void undoDeliverymenList() {
-        versionedHealthworkerList.undo();
+        List<Healthworker> restoredHealthworkers = versionedHealthworkerList.undo();
+        ReferenceResolver.resolveRestoredHealthworkers(restoredHealthworkers, versionedOrderBook,
+            versionedHealthworkerList);
         indicateAppChanged();
     }
 
     @Override
     public void redoDeliverymenList() {
-        versionedHealthworkerList.redo();
+        List<Healthworker> restoredHealthworkers = versionedHealthworkerList.redo();
+        ReferenceResolver.resolveRestoredHealthworkers(restoredHealthworkers, versionedOrderBook,
+            versionedHealthworkerList);
         indicateAppChanged();
     }
 
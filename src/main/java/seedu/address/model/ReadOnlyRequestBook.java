@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestStatus;
 
 /**
  * Unmodifiable view of an request book
@@ -14,4 +15,9 @@ public interface ReadOnlyRequestBook {
      */
     ObservableList<Request> getRequestList();
 
+    /**
+     * Returns the number of requests with {@code status}.
+     */
+    int countRequestsWithStatus(RequestStatus status);
+
 }
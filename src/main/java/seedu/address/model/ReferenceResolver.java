@@ -0,0 +1,116 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import seedu.address.model.healthworker.Healthworker;
+import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.model.request.Request;
+
+/**
+ * Links the requests in a request book and the healthworkers in a healthworker list into a single object graph.
+ * Each healthworker holds the {@code Request} instances that are in the request book, found by tag, and each
+ * assigned request refers to the {@code Healthworker} instance that is in the healthworker list, found by name.
+ * Every request and healthworker then exists once in memory, however it was loaded or edited.
+ * <p>
+ * Lookups go through the tag index of the request book and the name index of the healthworker list, so linking
+ * an edited request or healthworker is constant-time, and linking everything is linear.
+ */
+public class ReferenceResolver {
+
+    /**
+     * Links all the requests in {@code requestBook} and healthworkers in {@code healthworkerList}.
+     * Used after loading the data.
+     */
+    public static void resolve(RequestBook requestBook, HealthworkerList healthworkerList) {
+        requireAllNonNull(requestBook, healthworkerList);
+        for (Healthworker healthworker : healthworkerList.getDeliverymenList()) {
+            resolveHealthworker(healthworker, requestBook);
+        }
+        for (Request request : requestBook.getRequestList()) {
+            linkToHealthworker(request, healthworkerList);
+        }
+    }
+
+    /**
+     * Links {@code editedRequest}, which has replaced the request with the same tag in the request book, to the
+     * healthworker it is assigned to in {@code healthworkerList}. The healthworker then holds
+     * {@code editedRequest} in place of the replaced request. Completed requests are not held by healthworkers.
+     */
+    public static void resolveRequest(Request editedRequest, HealthworkerList healthworkerList) {
+        requireAllNonNull(editedRequest, healthworkerList);
+        if (editedRequest.getTag() == null || !editedRequest.isAlreadyAssignedDeliveryman()
+                || editedRequest.isCompleted()) {
+            return;
+        }
+        healthworkerList.getDeliverymanByName(editedRequest.getHealthworker().getName())
+            .ifPresent(healthworker -> {
+                healthworker.replaceOrder(editedRequest);
+                editedRequest.linkHealthworker(healthworker);
+            });
+    }
+
+    /**
+     * Links {@code restoredRequests}, which undoing or redoing has put back into {@code requestBook}, to the
+     * healthworkers in {@code healthworkerList}. The other requests are already linked, so only the requests of
+     * the replayed revision are visited. Requests that a later edit of the revision removed again are skipped.
+     */
+    public static void resolveRestoredRequests(List<Request> restoredRequests, RequestBook requestBook,
+                                               HealthworkerList healthworkerList) {
+        requireAllNonNull(restoredRequests, requestBook, healthworkerList);
+        for (Request request : restoredRequests) {
+            if (request.getTag() != null && requestBook.getRequestByTag(request.getTag()).orElse(null) == request) {
+                // Completed requests are linked too, although healthworkers no longer hold them
+                linkToHealthworker(request, healthworkerList);
+                resolveRequest(request, healthworkerList);
+            }
+        }
+    }
+
+    /**
+     * Links {@code restoredHealthworkers}, which undoing or redoing has put back into {@code healthworkerList}, to
+     * the requests in {@code requestBook}. Healthworkers that a later edit of the revision removed again are
+     * skipped.
+     */
+    public static void resolveRestoredHealthworkers(List<Healthworker> restoredHealthworkers,
+                                                    RequestBook requestBook, HealthworkerList healthworkerList) {
+        requireAllNonNull(restoredHealthworkers, requestBook, healthworkerList);
+        for (Healthworker healthworker : restoredHealthworkers) {
+            if (healthworkerList.getDeliverymanByName(healthworker.getName()).orElse(null) == healthworker) {
+                resolveHealthworker(healthworker, requestBook);
+            }
+        }
+    }
+
+    /**
+     * Links {@code healthworker} to the requests in {@code requestBook} with the tags of its requests, and links
+     * those requests back to {@code healthworker}.
+     */
+    public static void resolveHealthworker(Healthworker healthworker, RequestBook requestBook) {
+        requireAllNonNull(healthworker, requestBook);
+        // Replacing a request swaps in a new set, so the snapshot taken here is not changed while iterating
+        for (Request assignedRequest : healthworker.getRequests()) {
+            if (assignedRequest.getTag() == null) {
+                continue;
+            }
+            requestBook.getRequestByTag(assignedRequest.getTag()).ifPresent(request -> {
+                healthworker.replaceOrder(request);
+                if (request.isAlreadyAssignedDeliveryman()
+                        && request.getHealthworker().isSameDeliveryman(healthworker)) {
+                    request.linkHealthworker(healthworker);
+                }
+            });
+        }
+    }
+
+    /**
+     * Points {@code request} at the instance in {@code healthworkerList} of the healthworker it is assigned to.
+     */
+    private static void linkToHealthworker(Request request, HealthworkerList healthworkerList) {
+        if (request.isAlreadyAssignedDeliveryman()) {
+            healthworkerList.getDeliverymanByName(request.getHealthworker().getName())
+                .ifPresent(request::linkHealthworker);
+        }
+    }
+}
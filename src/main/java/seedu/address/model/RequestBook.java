@@ -2,10 +2,16 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestIndex;
+import seedu.address.model.request.RequestStatus;
 import seedu.address.model.request.UniqueRequestList;
 
 
@@ -16,6 +22,7 @@ import seedu.address.model.request.UniqueRequestList;
 public class RequestBook implements ReadOnlyRequestBook {
 
     private final UniqueRequestList requests;
+    private final RequestIndex requestIndex = new RequestIndex();
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -38,6 +45,15 @@ public class RequestBook implements ReadOnlyRequestBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Returns a read-only copy of the requests in {@code toBeCopied}, such as for saving them on another thread.
+     * Unlike a {@code RequestBook}, the copy does not index its requests, so copying takes a single copy of the list.
+     */
+    public static ReadOnlyRequestBook unindexedCopyOf(ReadOnlyRequestBook toBeCopied) {
+        requireNonNull(toBeCopied);
+        return new UnindexedCopy(toBeCopied.getRequestList());
+    }
+
     //// list overwrite operations
 
     /**
@@ -46,6 +62,8 @@ public class RequestBook implements ReadOnlyRequestBook {
      */
     public void setRequests(List<Request> requests) {
         this.requests.setRequest(requests);
+        requestIndex.clear();
+        requests.forEach(requestIndex::add);
     }
 
     /**
@@ -67,6 +85,14 @@ public class RequestBook implements ReadOnlyRequestBook {
         return requests.contains(request);
     }
 
+    /**
+     * Returns the request in the request book with the given {@code tag}, if any.
+     */
+    public Optional<Request> getRequestByTag(UUID tag) {
+        requireNonNull(tag);
+        return requests.getByTag(tag);
+    }
+
     /**
      * Adds an request to the request book.
      * The request must not already exist in the request book.
@@ -76,6 +102,7 @@ public class RequestBook implements ReadOnlyRequestBook {
             request.assignTag();
         }
         requests.add(request);
+        requestIndex.add(request);
     }
 
     /**
@@ -83,14 +110,29 @@ public class RequestBook implements ReadOnlyRequestBook {
      * {@code target} must exist in the request book.
      * The request identity of {@code editedRequest} must not be the same as another existing
      * request in the request book.
+     * {@code editedRequest} keeps the tag of {@code target} unless it has one of its own.
      */
     public void updateRequest(Request target, Request editedRequest) {
         requireNonNull(editedRequest);
 
         if (editedRequest.getTag() == null) {
-            editedRequest.assignTag();
+            editedRequest.assignTagOf(target);
         }
-        requests.setRequest(target, editedRequest);
+        // The index tells requests apart by identity, so the stored request is unindexed, not the equal target
+        Request replaced = requests.setRequest(target, editedRequest);
+        requestIndex.remove(replaced);
+        requestIndex.add(editedRequest);
+    }
+
+    /**
+     * Replaces the {@code removeCount} requests starting at position {@code from} with {@code inserted}.
+     * Used to replay recorded edits when undoing and redoing.
+     */
+    void spliceRequests(int from, int removeCount, List<Request> inserted) {
+        List<Request> removed = new ArrayList<>(getRequestList().subList(from, from + removeCount));
+        requests.splice(from, removeCount, inserted);
+        removed.forEach(requestIndex::remove);
+        inserted.forEach(requestIndex::add);
     }
 
     /**
@@ -98,7 +140,14 @@ public class RequestBook implements ReadOnlyRequestBook {
      * {@code key} must exist in the address book.
      */
     public void removeRequest(Request key) {
-        requests.remove(key);
+        requestIndex.remove(requests.remove(key));
+    }
+
+    /**
+     * Returns the index of the requests in this request book.
+     */
+    public RequestIndex getRequestIndex() {
+        return requestIndex;
     }
 
     //// util methods
@@ -114,6 +163,11 @@ public class RequestBook implements ReadOnlyRequestBook {
         return requests.asUnmodifiableObservableList();
     }
 
+    @Override
+    public int countRequestsWithStatus(RequestStatus status) {
+        return requestIndex.countByStatus(status);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -125,4 +179,31 @@ public class RequestBook implements ReadOnlyRequestBook {
     public int hashCode() {
         return requests.hashCode();
     }
+
+    /**
+     * A read-only copy of a list of requests, which counts requests by scanning them.
+     */
+    private static class UnindexedCopy implements ReadOnlyRequestBook {
+        private final ObservableList<Request> requests;
+
+        UnindexedCopy(List<Request> requests) {
+            this.requests = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(requests));
+        }
+
+        @Override
+        public ObservableList<Request> getRequestList() {
+            return requests;
+        }
+
+        @Override
+        public int countRequestsWithStatus(RequestStatus status) {
+            requireNonNull(status);
+            return (int) requests.stream().filter(request -> status.equals(request.getRequestStatus())).count();
+        }
+
+        @Override
+        public String toString() {
+            return requests.toString();
+        }
+    }
 }
@@ -26,6 +26,15 @@ public abstract class TaggedObject {
         tag = UUID.randomUUID();
     }
 
+    /**
+     * Gives this object the tag of {@code other}, so that it stands for the same object as {@code other}.
+     * Used when this object replaces {@code other}, such as an edited copy of it. Assigns a new tag if
+     * {@code other} has none.
+     */
+    public void assignTagOf(TaggedObject other) {
+        tag = other.getTag() == null ? UUID.randomUUID() : other.getTag();
+    }
+
     public boolean hasSameTag(TaggedObject other) {
         return getTag().equals(other.getTag());
     }
@@ -11,13 +11,36 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    /**
+     * The formats the healthhub data file can be stored in.
+     */
+    public enum HealthHubFileFormat {
+        XML,
+        BINARY,
+        // Embedded H2 databases next to the healthhub and users list files, which save changes row by row
+        SQL
+    }
+
+    public static final long DEFAULT_UNDO_HISTORY_MEMORY_BUDGET = 2 * 1024 * 1024;
+    public static final int DEFAULT_UNDO_HISTORY_MAX_DEPTH = 500;
+    public static final long DEFAULT_JOURNAL_SIZE_LIMIT = 1024 * 1024;
+
     private GuiSettings guiSettings;
     private Path foodZoomFilePath = Paths.get("data", "addressbook.xml");
+    private HealthHubFileFormat healthHubFileFormat = HealthHubFileFormat.XML;
     private Path routeListFilePath = Paths.get("data", "routelist.xml");
     private Path usersListFilePath = Paths.get("data", "users.xml");
 
     private Path deliverymenListFilePath = Paths.get("data", "deliverymen.xml");
 
+    // Applies to each of the request, healthworker and user histories.
+    private long undoHistoryMemoryBudget = DEFAULT_UNDO_HISTORY_MEMORY_BUDGET;
+    private int undoHistoryMaxDepth = DEFAULT_UNDO_HISTORY_MAX_DEPTH;
+
+    // Size in bytes the journal of a data file may grow to before the file is rewritten, 0 to disable journals.
+    // With the SQL format, 0 saves the data in full instead of row by row.
+    private long journalSizeLimit = DEFAULT_JOURNAL_SIZE_LIMIT;
+
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
     }
@@ -42,6 +65,14 @@ public class UserPrefs {
         this.foodZoomFilePath = foodZoomFilePath;
     }
 
+    public HealthHubFileFormat getHealthHubFileFormat() {
+        return healthHubFileFormat;
+    }
+
+    public void setHealthHubFileFormat(HealthHubFileFormat healthHubFileFormat) {
+        this.healthHubFileFormat = healthHubFileFormat;
+    }
+
     public Path getRouteListFilePath() {
         return routeListFilePath;
     }
@@ -66,6 +97,30 @@ public class UserPrefs {
         this.deliverymenListFilePath = deliverymenListFilePath;
     }
 
+    public long getUndoHistoryMemoryBudget() {
+        return undoHistoryMemoryBudget;
+    }
+
+    public void setUndoHistoryMemoryBudget(long undoHistoryMemoryBudget) {
+        this.undoHistoryMemoryBudget = undoHistoryMemoryBudget;
+    }
+
+    public int getUndoHistoryMaxDepth() {
+        return undoHistoryMaxDepth;
+    }
+
+    public void setUndoHistoryMaxDepth(int undoHistoryMaxDepth) {
+        this.undoHistoryMaxDepth = undoHistoryMaxDepth;
+    }
+
+    public long getJournalSizeLimit() {
+        return journalSizeLimit;
+    }
+
+    public void setJournalSizeLimit(long journalSizeLimit) {
+        this.journalSizeLimit = journalSizeLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -78,12 +133,17 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-            && Objects.equals(foodZoomFilePath, o.foodZoomFilePath);
+            && Objects.equals(foodZoomFilePath, o.foodZoomFilePath)
+            && healthHubFileFormat == o.healthHubFileFormat
+            && undoHistoryMemoryBudget == o.undoHistoryMemoryBudget
+            && undoHistoryMaxDepth == o.undoHistoryMaxDepth
+            && journalSizeLimit == o.journalSizeLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, foodZoomFilePath);
+        return Objects.hash(guiSettings, foodZoomFilePath, healthHubFileFormat, undoHistoryMemoryBudget,
+            undoHistoryMaxDepth, journalSizeLimit);
     }
 
     @Override
@@ -91,7 +151,11 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + foodZoomFilePath);
+        sb.append("\nLocal data file format : " + healthHubFileFormat);
         sb.append("\nLocal data file location : " + usersListFilePath);
+        sb.append("\nUndo history memory budget : " + undoHistoryMemoryBudget);
+        sb.append("\nUndo history maximum depth : " + undoHistoryMaxDepth);
+        sb.append("\nJournal size limit : " + journalSizeLimit);
         return sb.toString();
     }
 
@@ -81,6 +81,14 @@ public class UsersList implements ReadOnlyUsersList {
         users.setUser(target, editedUser);
     }
 
+    /**
+     * Replaces the {@code removeCount} users starting at position {@code from} with {@code inserted}.
+     * Used to replay recorded edits when undoing and redoing.
+     */
+    void spliceUsers(int from, int removeCount, List<User> inserted) {
+        users.splice(from, removeCount, inserted);
+    }
+
     /**
      * Removes {@code key} from this {@code UsersList}.
      * {@code key} must exist in the userslist.
@@ -1,72 +1,78 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestCodec;
+import seedu.address.model.util.HistoryLimits;
+import seedu.address.model.util.ListEditLog;
+
 /**
  * {@code RequestBook} that keeps track of its own history.
+ * The history is kept as a log of the edits made to the request list rather than as copies of the request book.
  */
 public class VersionedRequestBook extends RequestBook {
 
-    private final List<ReadOnlyRequestBook> orderBookStateList;
-    private int currentStatePointer;
+    private final ListEditLog<Request> orderBookEditLog;
 
     public VersionedRequestBook(ReadOnlyRequestBook initialState) {
+        this(initialState, HistoryLimits.UNLIMITED);
+    }
+
+    /**
+     * Creates a {@code VersionedRequestBook} whose history is kept within {@code historyLimits}.
+     */
+    public VersionedRequestBook(ReadOnlyRequestBook initialState, HistoryLimits historyLimits) {
         super(initialState);
 
-        orderBookStateList = new ArrayList<>();
-        orderBookStateList.add(new RequestBook(initialState));
-        currentStatePointer = 0;
+        orderBookEditLog = new ListEditLog<>(getRequestList(), this::spliceRequests, new RequestCodec(),
+            historyLimits);
     }
 
     /**
-     * Saves a copy of the current {@code RequestBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the edits made to the {@code RequestBook} since the last commit as a new state.
+     * Undone states are discarded.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        orderBookStateList.add(new RequestBook(this));
-        currentStatePointer++;
-    }
-
-    private void removeStatesAfterCurrentPointer() {
-        orderBookStateList.subList(currentStatePointer + 1, orderBookStateList.size()).clear();
+        orderBookEditLog.commit();
     }
 
     /**
      * Restores the address book to its previous state.
+     *
+     * @return the requests put back into the list, some of which may have been removed from it again.
      */
-    public void undo() {
+    public List<Request> undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(orderBookStateList.get(currentStatePointer));
+        return orderBookEditLog.undo();
     }
 
     /**
      * Restores the address book to its previously undone state.
+     *
+     * @return the requests put back into the list, some of which may have been removed from it again.
      */
-    public void redo() {
+    public List<Request> redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(orderBookStateList.get(currentStatePointer));
+        return orderBookEditLog.redo();
     }
 
     /**
      * Returns true if {@code undo()} has address book states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return orderBookEditLog.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < orderBookStateList.size() - 1;
+        return orderBookEditLog.canRedo();
     }
 
     @Override
@@ -85,8 +91,7 @@ public class VersionedRequestBook extends RequestBook {
 
         // state check
         return super.equals(otherVersionedOrderBook)
-            && orderBookStateList.equals(otherVersionedOrderBook.orderBookStateList)
-            && currentStatePointer == otherVersionedOrderBook.currentStatePointer;
+            && orderBookEditLog.equals(otherVersionedOrderBook.orderBookEditLog);
     }
 
     /**
@@ -1,39 +1,39 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
-import java.util.List;
+import seedu.address.model.user.User;
+import seedu.address.model.user.UserCodec;
+import seedu.address.model.util.HistoryLimits;
+import seedu.address.model.util.ListEditLog;
 
 /**
  * {@code UsersList} that keeps track of its own history.
+ * The history is kept as a log of the edits made to the user list rather than as copies of the users list.
  */
 public class VersionedUsersList extends UsersList {
 
-    private final List<ReadOnlyUsersList> usersListState;
-    private int currentStatePointer;
+    private final ListEditLog<User> usersListEditLog;
 
     public VersionedUsersList(ReadOnlyUsersList initialState) {
+        this(initialState, HistoryLimits.UNLIMITED);
+    }
+
+    /**
+     * Creates a {@code VersionedUsersList} whose history is kept within {@code historyLimits}.
+     */
+    public VersionedUsersList(ReadOnlyUsersList initialState, HistoryLimits historyLimits) {
         super(initialState);
 
-        usersListState = new ArrayList<>();
-        usersListState.add(new UsersList(initialState));
-        currentStatePointer = 0;
+        usersListEditLog = new ListEditLog<>(getUserList(), this::spliceUsers, new UserCodec(), historyLimits);
     }
 
     /**
-     * Saves a copy of the current {@code UsersList} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the edits made to the {@code UsersList} since the last commit as a new state.
+     * Undone states are discarded.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        usersListState.add(new UsersList(this));
-        currentStatePointer++;
+        usersListEditLog.commit();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        usersListState.subList(currentStatePointer + 1, usersListState.size()).clear();
-    }
-
-
     /**
      * Restores the users list to its previous state.
      */
@@ -41,8 +41,7 @@ public class VersionedUsersList extends UsersList {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(usersListState.get(currentStatePointer));
+        usersListEditLog.undo();
     }
 
     /**
@@ -52,22 +51,21 @@ public class VersionedUsersList extends UsersList {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(usersListState.get(currentStatePointer));
+        usersListEditLog.redo();
     }
 
     /**
      * Returns true if {@code undo()} has users list states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return usersListEditLog.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has users list states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < usersListState.size() - 1;
+        return usersListEditLog.canRedo();
     }
 
     @Override
@@ -86,8 +84,7 @@ public class VersionedUsersList extends UsersList {
 
         // state check
         return super.equals(otherVersionedUsersList)
-                && usersListState.equals(otherVersionedUsersList.usersListState)
-                && currentStatePointer == otherVersionedUsersList.currentStatePointer;
+                && usersListEditLog.equals(otherVersionedUsersList.usersListEditLog);
     }
     /**
      * Thrown when trying to {@code undo()} but can't.
@@ -3,8 +3,9 @@ package seedu.address.model.common;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.model.util.PostalDistrictUtil;
+import seedu.address.model.util.WeakInterner;
 
 /**
  * Represents a Person's address in the address book.
@@ -22,8 +23,17 @@ public class Address {
      */
     public static final String ADDRESS_VALIDATION_REGEX = "[^\\s].*(\\d{6})$";
 
+    private static final int POSTAL_CODE_LENGTH = 6;
+    private static final int POSTAL_SECTOR_LENGTH = 2;
+
+    private static final WeakInterner<Address> POOL = new WeakInterner<>(Address::new);
+
     public final String value;
 
+    private final String postalCode;
+    private final String postalSector;
+    private final int district;
+
     /**
      * Constructs an {@code Address}.
      *
@@ -33,25 +43,55 @@ public class Address {
         requireNonNull(address);
         checkArgument(isValidAddress(address), MESSAGE_ADDRESS_CONSTRAINTS);
         value = address;
+        postalCode = address.substring(address.length() - POSTAL_CODE_LENGTH);
+        postalSector = postalCode.substring(0, POSTAL_SECTOR_LENGTH);
+        district = PostalDistrictUtil.getDistrict(postalCode);
+    }
+
+    /**
+     * Returns an {@code Address} of {@code address}, shared with the other addresses of the same value.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        return POOL.intern(address);
     }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns true if a given string is a valid address.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(ADDRESS_VALIDATION_REGEX);
+        int postalCodeIndex = test.length() - POSTAL_CODE_LENGTH;
+        if (postalCodeIndex < 1 || ValidationUtil.isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < postalCodeIndex; i++) {
+            if (ValidationUtil.isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return ValidationUtil.isDigits(test, postalCodeIndex, test.length());
     }
 
-    /*
-     * Returns the postal code form this address
+    /**
+     * Returns the postal code of this address, which is its last 6 characters.
      */
     public String getPostalCode() {
-        Pattern pattern = Pattern.compile(ADDRESS_VALIDATION_REGEX);
-        Matcher matcher = pattern.matcher(value);
+        return postalCode;
+    }
 
-        matcher.matches();
+    /**
+     * Returns the postal sector of this address, which is the first 2 digits of its postal code.
+     */
+    public String getPostalSector() {
+        return postalSector;
+    }
 
-        return matcher.group(1);
+    /**
+     * Returns the district of the Singapore map this address is in, or {@link PostalDistrictUtil#NO_DISTRICT}.
+     */
+    public int getDistrict() {
+        return district;
     }
 
     @Override
@@ -3,6 +3,9 @@ package seedu.address.model.common;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.model.util.WeakInterner;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +22,12 @@ public class Name {
      */
     public static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]{1,64}";
 
+    /** The bounds on the length of a name matched by the regex. */
+    private static final int MIN_LENGTH = 2;
+    private static final int MAX_LENGTH = 65;
+
+    private static final WeakInterner<Name> POOL = new WeakInterner<>(Name::new);
+
     public final String fullName;
 
     /**
@@ -32,11 +41,20 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} of {@code name}, shared with the other names of the same value.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        return POOL.intern(name);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test, MIN_LENGTH, MAX_LENGTH);
     }
 
 
@@ -2,6 +2,8 @@ package seedu.address.model.common;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's password in FoodZoom.
  * Guarantees: immutable; is valid as declared in {@link #isValidPassword(String)}
@@ -17,6 +19,9 @@ public class Password {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String PASSWORD_VALIDATION_REGEX = "[\\p{Alnum}]{6,}";
+
+    private static final int MIN_LENGTH = 6;
+
     public final String value;
 
 
@@ -36,7 +41,7 @@ public class Password {
      * Returns true if a given string is a valid password.
      */
     public static boolean isValidPassword(String test) {
-        return test.matches(PASSWORD_VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test, MIN_LENGTH, Integer.MAX_VALUE);
     }
 
     @Override
@@ -2,6 +2,8 @@ package seedu.address.model.common;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's username in FoodZoom.
  * Guarantees: immutable; is valid as declared in {@link #isValidUsername(String)}
@@ -17,6 +19,10 @@ public class Username {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String USERNAME_VALIDATION_REGEX = "[\\p{Alnum}]{3,64}";
+
+    private static final int MIN_LENGTH = 3;
+    private static final int MAX_LENGTH = 64;
+
     public final String value;
 
 
@@ -36,7 +42,7 @@ public class Username {
      * Returns true if a given string is a valid username.
      */
     public static boolean isValidUsername(String test) {
-        return test.matches(USERNAME_VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test, MIN_LENGTH, MAX_LENGTH);
     }
 
     @Override
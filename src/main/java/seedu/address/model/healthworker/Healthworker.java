@@ -3,6 +3,7 @@ package seedu.address.model.healthworker;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -16,6 +17,10 @@ import seedu.address.model.request.Request;
 /**
  * Represents a Healthworker in FoodZoom.
  * Guarantees: has a name that is unique.
+ * <p>
+ * The set of assigned requests is never changed in place: each change replaces it with an updated copy, so the
+ * set returned by {@link #getRequests()} can be read on another thread, such as by the UI, while a command
+ * changes the requests of the healthworker.
  */
 public class Healthworker extends TaggedObject {
 
@@ -23,7 +28,7 @@ public class Healthworker extends TaggedObject {
     public static final int ORDERS_LIMIT = 5;
 
     private final Name name;
-    private final Set<Request> requests = new HashSet<>();
+    private volatile Set<Request> requests = Collections.emptySet();
 
     public Healthworker(Name name) {
         this(null, name, null);
@@ -39,7 +44,7 @@ public class Healthworker extends TaggedObject {
         requireAllNonNull(name);
         this.name = name;
         if (requests != null) {
-            this.requests.addAll(requests);
+            this.requests = Collections.unmodifiableSet(new HashSet<>(requests));
         }
     }
 
@@ -54,6 +59,10 @@ public class Healthworker extends TaggedObject {
         return name;
     }
 
+    /**
+     * Returns an unmodifiable snapshot of the requests assigned to the healthworker, which later changes to the
+     * healthworker do not affect.
+     */
     public Set<Request> getRequests() {
         return requests;
     }
@@ -62,19 +71,45 @@ public class Healthworker extends TaggedObject {
      * Adds {@code request} to the set of requests for the healthworker.
      * Throws {@code RequestLimitExceededException} if the amount of requests assigned exceeds the limit for requests.
      */
-    public void addOrder(Request request) throws RequestLimitExceededException {
+    public synchronized void addOrder(Request request) throws RequestLimitExceededException {
         if (requests.size() >= ORDERS_LIMIT) {
             throw new RequestLimitExceededException();
         }
-        requests.add(request);
+        Set<Request> updatedRequests = new HashSet<>(requests);
+        updatedRequests.add(request);
+        requests = Collections.unmodifiableSet(updatedRequests);
     }
 
     public boolean canAccommodate(Collection<Request> requests) {
         return getRequests().size() + requests.size() <= ORDERS_LIMIT;
     }
 
-    public void removeOrder(Request request) {
-        requests.remove(request);
+    /**
+     * Removes {@code request} from the set of requests for the healthworker.
+     */
+    public synchronized void removeOrder(Request request) {
+        if (requests.contains(request)) {
+            Set<Request> updatedRequests = new HashSet<>(requests);
+            updatedRequests.remove(request);
+            requests = Collections.unmodifiableSet(updatedRequests);
+        }
+    }
+
+    /**
+     * Replaces the request of this healthworker with the same tag as {@code editedRequest} by
+     * {@code editedRequest}. Does nothing if this healthworker has no such request.
+     */
+    public synchronized void replaceOrder(Request editedRequest) {
+        requireAllNonNull(editedRequest, editedRequest.getTag());
+        for (Request request : requests) {
+            if (request != editedRequest && editedRequest.getTag().equals(request.getTag())) {
+                Set<Request> updatedRequests = new HashSet<>(requests);
+                updatedRequests.remove(request);
+                updatedRequests.add(editedRequest);
+                requests = Collections.unmodifiableSet(updatedRequests);
+                return;
+            }
+        }
     }
 
     public boolean hasOrders() {
@@ -0,0 +1,43 @@
+package seedu.address.model.healthworker;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.address.model.common.Name;
+import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestCodec;
+import seedu.address.model.util.ElementCodec;
+
+/**
+ * Converts a {@code Healthworker}, together with its assigned requests, to and from a compact binary form.
+ */
+public class HealthworkerCodec implements ElementCodec<Healthworker> {
+
+    private final RequestCodec requestCodec = new RequestCodec();
+
+    @Override
+    public void write(DataOutput out, Healthworker healthworker) throws IOException {
+        ElementCodec.writeTag(out, healthworker.getTag());
+        out.writeUTF(healthworker.getName().fullName);
+        out.writeInt(healthworker.getRequests().size());
+        for (Request request : healthworker.getRequests()) {
+            requestCodec.write(out, request);
+        }
+    }
+
+    @Override
+    public Healthworker read(DataInput in) throws IOException {
+        UUID tag = ElementCodec.readTag(in);
+        Name name = Name.of(in.readUTF());
+        int requestCount = in.readInt();
+        Set<Request> requests = new HashSet<>();
+        for (int i = 0; i < requestCount; i++) {
+            requests.add(requestCodec.read(in));
+        }
+        return new Healthworker(tag, name, requests);
+    }
+}
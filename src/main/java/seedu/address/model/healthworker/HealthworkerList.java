@@ -3,8 +3,10 @@ package seedu.address.model.healthworker;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.common.Name;
 
 /**
  * Wraps all data into a deliverymen list.
@@ -56,6 +58,14 @@ public class HealthworkerList {
         return deliverymenList.contains(healthworker);
     }
 
+    /**
+     * Returns the healthworker in the {@code HealthworkerList} with the given {@code name}, if any.
+     */
+    public Optional<Healthworker> getDeliverymanByName(Name name) {
+        requireNonNull(name);
+        return deliverymenList.getByName(name);
+    }
+
     /**
      * Adds a healthworker to the {@code healthworkerList}
      * @param d
@@ -69,16 +79,25 @@ public class HealthworkerList {
 
     /**
      * Replaces the {@code target} healthworker with an {@code edited} healthworker.
+     * {@code editedD} keeps the tag of {@code target} unless it has one of its own.
      */
     public void updateDeliveryman(Healthworker target, Healthworker editedD) {
         requireNonNull(editedD);
 
         if (editedD.getTag() == null) {
-            editedD.assignTag();
+            editedD.assignTagOf(target);
         }
         deliverymenList.setDeliveryman(target, editedD);
     }
 
+    /**
+     * Replaces the {@code removeCount} healthworkers starting at position {@code from} with {@code inserted}.
+     * Used to replay recorded edits when undoing and redoing.
+     */
+    void spliceDeliverymen(int from, int removeCount, List<Healthworker> inserted) {
+        deliverymenList.splice(from, removeCount, inserted);
+    }
+
     public void removeDeliveryman(Healthworker key) {
         deliverymenList.remove(key);
     }
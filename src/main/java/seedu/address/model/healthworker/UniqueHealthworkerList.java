@@ -5,24 +5,39 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.common.Name;
 import seedu.address.model.common.exceptions.DuplicateHealthWorkerException;
 import seedu.address.model.common.exceptions.HealthWorkerNotFoundException;
+import seedu.address.model.util.UniqueKeyedList;
 
 /**
- * A list of unique deliverymen
+ * A list of unique deliverymen.
+ * Healthworkers are indexed by name, compared case-insensitively as in
+ * {@code Healthworker#isSameDeliveryman(Healthworker)}.
  */
 public class UniqueHealthworkerList implements Iterable<Healthworker> {
-    private final ObservableList<Healthworker> internalList = FXCollections.observableArrayList();
+    private final UniqueKeyedList<Healthworker, String> internalList =
+            new UniqueKeyedList<>(healthworker -> toKey(healthworker.getName()),
+                DuplicateHealthWorkerException::new, HealthWorkerNotFoundException::new);
 
     /**
      * Returns true if the list contains an equivalent common as the given argument.
      */
     public boolean contains(Healthworker toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameDeliveryman);
+        return internalList.contains(toCheck);
+    }
+
+    /**
+     * Returns the healthworker with the given {@code name}, if any.
+     */
+    public Optional<Healthworker> getByName(Name name) {
+        requireNonNull(name);
+        return internalList.get(toKey(name));
     }
 
     /**
@@ -31,10 +46,6 @@ public class UniqueHealthworkerList implements Iterable<Healthworker> {
      */
     public void add(Healthworker toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            //TODO: add appropriate exception for this
-            throw new DuplicateHealthWorkerException();
-        }
         internalList.add(toAdd);
     }
 
@@ -44,9 +55,7 @@ public class UniqueHealthworkerList implements Iterable<Healthworker> {
      */
     public void remove(Healthworker toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new HealthWorkerNotFoundException();
-        }
+        internalList.remove(toRemove);
     }
 
     /**
@@ -56,18 +65,14 @@ public class UniqueHealthworkerList implements Iterable<Healthworker> {
      */
     public void setDeliveryman(Healthworker target, Healthworker edited) {
         requireAllNonNull(target, edited);
+        internalList.set(target, edited);
+    }
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            //TODO: add appropriate exception
-            throw new HealthWorkerNotFoundException();
-        }
-
-        if (!target.isSameDeliveryman(edited) && contains(edited)) {
-            throw new DuplicateHealthWorkerException();
-        }
-
-        internalList.set(index, edited);
+    /**
+     * Replaces the {@code removeCount} healthworkers starting at position {@code from} with {@code inserted}.
+     */
+    public void splice(int from, int removeCount, List<Healthworker> inserted) {
+        internalList.splice(from, removeCount, inserted);
     }
 
     public void setDeliverymen(UniqueHealthworkerList replacement) {
@@ -77,16 +82,11 @@ public class UniqueHealthworkerList implements Iterable<Healthworker> {
 
     public void setDeliverymen(List<Healthworker> deliverymen) {
         requireAllNonNull(deliverymen);
-
-        if (!deliverymenAreUnique(deliverymen)) {
-            throw new DuplicateHealthWorkerException();
-        }
-
         internalList.setAll(deliverymen);
     }
 
     public ObservableList<Healthworker> asUnmodifiableObservableList() {
-        return FXCollections.unmodifiableObservableList(internalList);
+        return internalList.asUnmodifiableObservableList();
     }
 
     @Override
@@ -106,17 +106,7 @@ public class UniqueHealthworkerList implements Iterable<Healthworker> {
         return internalList.hashCode();
     }
 
-    /**
-     * Returns true if all the deliverymen in the list are unique.
-     */
-    private boolean deliverymenAreUnique(List<Healthworker> deliverymen) {
-        for (int i = 0; i < deliverymen.size() - 1; i++) {
-            for (int j = i + 1; j < deliverymen.size(); j++) {
-                if (deliverymen.get(i).isSameDeliveryman(deliverymen.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private static String toKey(Name name) {
+        return name.fullName.toLowerCase(Locale.ROOT);
     }
 }
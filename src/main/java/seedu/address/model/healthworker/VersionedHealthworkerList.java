@@ -1,66 +1,70 @@
 package seedu.address.model.healthworker;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.model.util.HistoryLimits;
+import seedu.address.model.util.ListEditLog;
+
 /**
  * Represents a versioned version of the deliverymen list.
+ * The history is kept as a log of the edits made to the list rather than as copies of the list.
  */
 public class VersionedHealthworkerList extends HealthworkerList {
 
-    private final List<HealthworkerList> healthworkerListStateList;
-    private int currentStatePointer;
+    private final ListEditLog<Healthworker> healthworkerListEditLog;
 
     public VersionedHealthworkerList(HealthworkerList initialState) {
+        this(initialState, HistoryLimits.UNLIMITED);
+    }
+
+    /**
+     * Creates a {@code VersionedHealthworkerList} whose history is kept within {@code historyLimits}.
+     */
+    public VersionedHealthworkerList(HealthworkerList initialState, HistoryLimits historyLimits) {
         super(initialState);
 
-        healthworkerListStateList = new ArrayList<>();
-        healthworkerListStateList.add(new HealthworkerList(initialState));
-        currentStatePointer = 0;
+        healthworkerListEditLog = new ListEditLog<>(getDeliverymenList(), this::spliceDeliverymen,
+            new HealthworkerCodec(), historyLimits);
     }
 
     /**
-     * Saves a copy of the current {@code HealthworkerList} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the edits made to the {@code HealthworkerList} since the last commit as a new state.
+     * Undone states are discarded.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        healthworkerListStateList.add(new HealthworkerList(this));
-        currentStatePointer++;
-    }
-
-    private void removeStatesAfterCurrentPointer() {
-        healthworkerListStateList.subList(currentStatePointer + 1, healthworkerListStateList.size()).clear();
+        healthworkerListEditLog.commit();
     }
 
     /**
      * Restores the deliverymen list to its previous state.
+     *
+     * @return the healthworkers put back into the list, some of which may have been removed from it again.
      */
-    public void undo() {
+    public List<Healthworker> undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(healthworkerListStateList.get(currentStatePointer));
+        return healthworkerListEditLog.undo();
     }
 
     /**
      * Restores the deliverymen list to its previously undone state.
+     *
+     * @return the healthworkers put back into the list, some of which may have been removed from it again.
      */
-    public void redo() {
+    public List<Healthworker> redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(healthworkerListStateList.get(currentStatePointer));
+        return healthworkerListEditLog.redo();
     }
 
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return healthworkerListEditLog.canUndo();
     }
 
     public boolean canRedo() {
-        return currentStatePointer < healthworkerListStateList.size() - 1;
+        return healthworkerListEditLog.canRedo();
     }
 
     @Override
@@ -76,8 +80,7 @@ public class VersionedHealthworkerList extends HealthworkerList {
         VersionedHealthworkerList otherList = (VersionedHealthworkerList) other;
 
         return super.equals(otherList)
-                && healthworkerListStateList.equals(otherList.healthworkerListStateList)
-                && currentStatePointer == otherList.currentStatePointer;
+                && healthworkerListEditLog.equals(otherList.healthworkerListEditLog);
     }
 
     /**
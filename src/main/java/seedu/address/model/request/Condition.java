@@ -3,6 +3,9 @@ package seedu.address.model.request;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.model.util.WeakInterner;
+
 /**
  * Represents a Condition's name in the request book.
  * Guarantees: immutable; is valid as declared in {@link #isValidFoodName(String)}
@@ -18,6 +21,8 @@ public class Condition {
      */
     public static final String FOOD_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final WeakInterner<Condition> POOL = new WeakInterner<>(Condition::new);
+
     public final String foodName;
 
     /**
@@ -31,11 +36,20 @@ public class Condition {
         foodName = name;
     }
 
+    /**
+     * Returns a {@code Condition} of {@code name}, shared with the other conditions of the same value.
+     *
+     * @param name A valid condition.
+     */
+    public static Condition of(String name) {
+        return POOL.intern(name);
+    }
+
     /**
      * Returns true if a given string is a valid Condition.
      */
     public static boolean isValidFood(String test) {
-        return test.matches(FOOD_VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test, 1, Integer.MAX_VALUE);
     }
 
 
@@ -0,0 +1,173 @@
+package seedu.address.model.request;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Counts the requests with each condition, in an array indexed by the ids of the {@link ConditionDictionary}.
+ * Adding or removing a request only touches the counts of its conditions.
+ * <p>
+ * The counted conditions are also kept in an indexed max-heap ordered by count, so that a change of count moves
+ * one condition a few levels of the heap, and the most common conditions are read off its top without looking at
+ * the others. Of conditions with the same count, the one first added to the dictionary comes first.
+ */
+public class ConditionCounts {
+
+    private static final int NOT_IN_HEAP = -1;
+
+    private int[] counts = new int[0];
+    // The ids of the conditions with a count, in heap order
+    private int[] heap = new int[0];
+    // The position in the heap of each id, or NOT_IN_HEAP
+    private int[] positions = new int[0];
+    private int heapSize;
+
+    /**
+     * Counts the conditions of {@code request}.
+     */
+    public void add(Request request) {
+        requireNonNull(request);
+        request.getConditionSet().forEachId(id -> {
+            if (id >= counts.length) {
+                grow(id);
+            }
+            counts[id]++;
+            if (positions[id] == NOT_IN_HEAP) {
+                positions[id] = heapSize;
+                heap[heapSize++] = id;
+            }
+            siftUp(positions[id]);
+        });
+    }
+
+    /**
+     * Stops counting the conditions of {@code request}, which must have been added.
+     */
+    public void remove(Request request) {
+        requireNonNull(request);
+        request.getConditionSet().forEachId(id -> {
+            if (id >= counts.length || counts[id] == 0) {
+                return;
+            }
+            counts[id]--;
+            if (counts[id] > 0) {
+                siftDown(positions[id]);
+                return;
+            }
+
+            int position = positions[id];
+            positions[id] = NOT_IN_HEAP;
+            heapSize--;
+            if (position < heapSize) {
+                moveTo(heap[heapSize], position);
+                siftDown(position);
+                siftUp(position);
+            }
+        });
+    }
+
+    /**
+     * Makes the arrays big enough for the condition {@code id}.
+     */
+    private void grow(int id) {
+        int oldLength = counts.length;
+        int newLength = Math.max(id + 1, 2 * oldLength);
+        counts = Arrays.copyOf(counts, newLength);
+        heap = Arrays.copyOf(heap, newLength);
+        positions = Arrays.copyOf(positions, newLength);
+        Arrays.fill(positions, oldLength, newLength, NOT_IN_HEAP);
+    }
+
+    /**
+     * Returns the number of counted requests with {@code condition}.
+     */
+    public int getCount(Condition condition) {
+        int id = ConditionDictionary.getInstance().findId(condition);
+        return id >= 0 && id < counts.length ? counts[id] : 0;
+    }
+
+    /**
+     * Returns the condition of the most counted requests, if any request is counted.
+     * Of conditions with the same count, the one first added to the dictionary is returned.
+     */
+    public Optional<Condition> getMostCommon() {
+        return heapSize == 0 ? Optional.empty() : Optional.of(ConditionDictionary.getInstance().get(heap[0]));
+    }
+
+    /**
+     * Returns up to {@code limit} conditions of the most counted requests, from the most counted.
+     * Only looks at about {@code limit} conditions of the heap: a condition can only come after its parent.
+     */
+    public List<Condition> getMostCommon(int limit) {
+        List<Condition> mostCommon = new ArrayList<>();
+        PriorityQueue<Integer> frontier = new PriorityQueue<>((first, second) ->
+            isBefore(heap[first], heap[second]) ? -1 : 1);
+        if (heapSize > 0) {
+            frontier.add(0);
+        }
+        while (mostCommon.size() < limit && !frontier.isEmpty()) {
+            int position = frontier.poll();
+            mostCommon.add(ConditionDictionary.getInstance().get(heap[position]));
+            for (int child = 2 * position + 1; child <= 2 * position + 2 && child < heapSize; child++) {
+                frontier.add(child);
+            }
+        }
+        return mostCommon;
+    }
+
+    /**
+     * Returns true if the condition {@code id} comes before the condition {@code otherId}: it has a greater count,
+     * or the same count and a smaller id.
+     */
+    private boolean isBefore(int id, int otherId) {
+        return counts[id] > counts[otherId] || (counts[id] == counts[otherId] && id < otherId);
+    }
+
+    /**
+     * Moves the condition at {@code position} of the heap up while it comes before its parent.
+     */
+    private void siftUp(int position) {
+        int id = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!isBefore(id, heap[parent])) {
+                break;
+            }
+            moveTo(heap[parent], position);
+            position = parent;
+        }
+        moveTo(id, position);
+    }
+
+    /**
+     * Moves the condition at {@code position} of the heap down while a child comes before it.
+     */
+    private void siftDown(int position) {
+        int id = heap[position];
+        while (2 * position + 1 < heapSize) {
+            int child = 2 * position + 1;
+            if (child + 1 < heapSize && isBefore(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!isBefore(heap[child], id)) {
+                break;
+            }
+            moveTo(heap[child], position);
+            position = child;
+        }
+        moveTo(id, position);
+    }
+
+    /**
+     * Puts the condition {@code id} at {@code position} of the heap.
+     */
+    private void moveTo(int id, int position) {
+        heap[position] = id;
+        positions[id] = position;
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.request;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * The dictionary of all the conditions used by requests, which gives each distinct condition a small integer id.
+ * Requests keep their conditions as ids, so that a set of conditions takes a few bytes, and filtering and counting
+ * requests by condition work on ids instead of comparing strings.
+ * <p>
+ * Ids are assigned in the order the conditions are first seen and are never reused, so the dictionary only grows.
+ * There are few distinct conditions compared to requests. Safe for use by several threads.
+ * <p>
+ * An id must keep meaning the same condition, so the dictionary keeps the name of each condition, but it refers to
+ * the conditions themselves weakly: a condition that no request uses any more can be collected from its pool, and
+ * is looked up in the pool again when its id is next read.
+ */
+public class ConditionDictionary {
+
+    private static final ConditionDictionary INSTANCE = new ConditionDictionary();
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<WeakReference<Condition>> conditions = new ArrayList<>();
+
+    /**
+     * Returns the dictionary shared by all requests.
+     */
+    public static ConditionDictionary getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the id of {@code condition}, adding it to the dictionary if it is not there.
+     */
+    public synchronized int idOf(Condition condition) {
+        requireNonNull(condition);
+        Integer id = ids.get(condition.foodName);
+        if (id == null) {
+            id = names.size();
+            ids.put(condition.foodName, id);
+            names.add(condition.foodName);
+            conditions.add(new WeakReference<>(condition));
+        }
+        return id;
+    }
+
+    /**
+     * Returns the id of {@code condition}, or -1 if it is not in the dictionary.
+     */
+    public synchronized int findId(Condition condition) {
+        return condition == null ? -1 : ids.getOrDefault(condition.foodName, -1);
+    }
+
+    /**
+     * Returns the condition with the given {@code id}.
+     *
+     * @throws IndexOutOfBoundsException if no condition has the id.
+     */
+    public synchronized Condition get(int id) {
+        Condition condition = conditions.get(id).get();
+        if (condition == null) {
+            condition = Condition.of(names.get(id));
+            conditions.set(id, new WeakReference<>(condition));
+        }
+        return condition;
+    }
+
+    /**
+     * Returns the number of conditions in the dictionary. Ids run from 0 to one less than this.
+     */
+    public synchronized int size() {
+        return names.size();
+    }
+
+    /**
+     * Sets the bits in {@code matches} of the conditions with ids from {@code fromId} onwards whose names satisfy
+     * {@code predicate}, and returns the number of conditions in the dictionary, which is where the next call
+     * can continue from.
+     */
+    public synchronized int match(Predicate<String> predicate, int fromId, BitSet matches) {
+        requireNonNull(predicate);
+        for (int id = fromId; id < names.size(); id++) {
+            if (predicate.test(names.get(id))) {
+                matches.set(id);
+            }
+        }
+        return names.size();
+    }
+}
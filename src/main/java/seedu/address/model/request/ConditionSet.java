@@ -0,0 +1,127 @@
+package seedu.address.model.request;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable set of conditions, kept as the sorted ids of the conditions in the {@link ConditionDictionary}.
+ * Iterates over the conditions in the order of their ids.
+ * <p>
+ * Membership checks are binary searches over a few ids, and checks against a set of ids from the dictionary,
+ * such as the ids of the conditions that match a keyword, need no strings at all.
+ */
+public class ConditionSet extends AbstractSet<Condition> {
+
+    private static final ConditionSet EMPTY = new ConditionSet(new int[0]);
+
+    private final int[] ids;
+
+    private ConditionSet(int[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Returns a {@code ConditionSet} of {@code conditions}, adding them to the dictionary if needed.
+     */
+    public static ConditionSet of(Collection<Condition> conditions) {
+        requireNonNull(conditions);
+        if (conditions instanceof ConditionSet) {
+            return (ConditionSet) conditions;
+        }
+        if (conditions.isEmpty()) {
+            return EMPTY;
+        }
+
+        ConditionDictionary dictionary = ConditionDictionary.getInstance();
+        int[] ids = new int[conditions.size()];
+        int count = 0;
+        for (Condition condition : conditions) {
+            ids[count++] = dictionary.idOf(condition);
+        }
+        Arrays.sort(ids);
+        // Drops duplicates, which a collection that is not a set may have
+        int distinctCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinctCount == 0 || ids[distinctCount - 1] != ids[i]) {
+                ids[distinctCount++] = ids[i];
+            }
+        }
+        return new ConditionSet(distinctCount == ids.length ? ids : Arrays.copyOf(ids, distinctCount));
+    }
+
+    /**
+     * Returns true if this set has a condition whose id is set in {@code conditionIds}.
+     */
+    public boolean containsAny(BitSet conditionIds) {
+        for (int id : ids) {
+            if (conditionIds.get(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Performs {@code action} on the id of each condition in this set, in increasing order.
+     */
+    public void forEachId(IntConsumer action) {
+        for (int id : ids) {
+            action.accept(id);
+        }
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Condition)) {
+            return false;
+        }
+        int id = ConditionDictionary.getInstance().findId((Condition) other);
+        return id >= 0 && Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    @Override
+    public Iterator<Condition> iterator() {
+        return new Iterator<Condition>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < ids.length;
+            }
+
+            @Override
+            public Condition next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return ConditionDictionary.getInstance().get(ids[next++]);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof ConditionSet) {
+            // Each condition has a single id
+            return Arrays.equals(ids, ((ConditionSet) other).ids);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.model.request;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A predicate on requests that can look up the requests it accepts in a {@link RequestIndex} instead of
+ * testing each request.
+ */
+public interface IndexedRequestPredicate extends SelectiveRequestPredicate {
+
+    /**
+     * Returns the requests in {@code index} that this predicate accepts.
+     */
+    Set<Request> findIn(RequestIndex index);
+
+    /**
+     * Returns a predicate that accepts the same requests as this one, using {@code index} for the requests in it.
+     */
+    default Predicate<Request> withIndex(RequestIndex index) {
+        return new RequestIndexMatchPredicate(index, this::findIn, this);
+    }
+}
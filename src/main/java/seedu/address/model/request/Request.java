@@ -2,7 +2,6 @@ package seedu.address.model.request;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -25,7 +24,7 @@ public class Request extends TaggedObject {
     private final Phone phone;
     private final Address address;
     private final RequestDate requestDate;
-    private final Set<Condition> condition = new HashSet<>();
+    private final ConditionSet condition;
     private RequestStatus requestStatus;
     private Healthworker healthworker;
 
@@ -63,7 +62,7 @@ public class Request extends TaggedObject {
         this.name = name;
         this.phone = phone;
         this.address = address;
-        this.condition.addAll(condition);
+        this.condition = ConditionSet.of(condition);
         this.requestDate = requestDate;
         this.requestStatus = requestStatus;
         this.healthworker = healthworker;
@@ -105,12 +104,19 @@ public class Request extends TaggedObject {
         requestStatus = new RequestStatus("COMPLETED");
     }
     /**
-     * Returns a condition set
+     * Returns an immutable view of the conditions of this request.
      */
     public Set<Condition> getCondition() {
         return condition;
     }
 
+    /**
+     * Returns the conditions of this request as ids in the {@link ConditionDictionary}.
+     */
+    public ConditionSet getConditionSet() {
+        return condition;
+    }
+
     public void setHealthworker(Healthworker newHealthworker) throws RequestLimitExceededException {
         assert(!isAlreadyAssignedDeliveryman());
         healthworker = newHealthworker;
@@ -118,6 +124,15 @@ public class Request extends TaggedObject {
         newHealthworker.addOrder(this);
     }
 
+    /**
+     * Points this request at {@code assignedHealthworker}, the instance of its assigned healthworker that is
+     * in the healthworker list. The status of the request and the requests of the healthworker are unchanged.
+     */
+    public void linkHealthworker(Healthworker assignedHealthworker) {
+        assert isAlreadyAssignedDeliveryman() && healthworker.isSameDeliveryman(assignedHealthworker);
+        healthworker = assignedHealthworker;
+    }
+
     private void updateStatusOngoing() {
         requestStatus = new RequestStatus("ONGOING");
     }
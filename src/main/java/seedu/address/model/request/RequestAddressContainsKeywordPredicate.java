@@ -1,20 +1,36 @@
 package seedu.address.model.request;
 
-import java.util.function.Predicate;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Tests that a {@code Request}'s {@code Address} matches any of the keywords given.
  */
-public class RequestAddressContainsKeywordPredicate implements Predicate<Request> {
+public class RequestAddressContainsKeywordPredicate implements IndexedRequestPredicate {
     private final String keyword;
 
     public RequestAddressContainsKeywordPredicate(String address) {
-        keyword = address.trim().toLowerCase();
+        keyword = address.trim().toLowerCase(Locale.ROOT);
     }
 
     @Override
     public boolean test(Request request) {
-        return request.getAddress().value.toLowerCase().contains(keyword);
+        return request.getAddress().value.toLowerCase(Locale.ROOT).contains(keyword);
+    }
+
+    @Override
+    public Set<Request> findIn(RequestIndex index) {
+        return index.findByAddress(keyword);
+    }
+
+    @Override
+    public int estimateCount(RequestIndex index) {
+        return index.estimateByAddress(keyword);
+    }
+
+    @Override
+    public String toString() {
+        return "address contains \"" + keyword + "\"";
     }
 
     @Override
@@ -0,0 +1,56 @@
+package seedu.address.model.request;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import seedu.address.model.common.Address;
+import seedu.address.model.common.Name;
+import seedu.address.model.common.Phone;
+import seedu.address.model.healthworker.Healthworker;
+import seedu.address.model.util.ElementCodec;
+
+/**
+ * Converts a {@code Request} to and from a compact binary form.
+ * As in storage, the assigned healthworker is kept by name only.
+ */
+public class RequestCodec implements ElementCodec<Request> {
+
+    @Override
+    public void write(DataOutput out, Request request) throws IOException {
+        ElementCodec.writeTag(out, request.getTag());
+        out.writeUTF(request.getName().fullName);
+        out.writeUTF(request.getPhone().value);
+        out.writeUTF(request.getAddress().value);
+        out.writeUTF(request.getDate().toString());
+        out.writeUTF(request.getRequestStatus().toString());
+        out.writeInt(request.getCondition().size());
+        for (Condition condition : request.getCondition()) {
+            out.writeUTF(condition.foodName);
+        }
+        out.writeBoolean(request.getHealthworker() != null);
+        if (request.getHealthworker() != null) {
+            out.writeUTF(request.getHealthworker().getName().fullName);
+        }
+    }
+
+    @Override
+    public Request read(DataInput in) throws IOException {
+        UUID tag = ElementCodec.readTag(in);
+        Name name = Name.of(in.readUTF());
+        Phone phone = new Phone(in.readUTF());
+        Address address = Address.of(in.readUTF());
+        RequestDate date = new RequestDate(in.readUTF());
+        RequestStatus status = new RequestStatus(in.readUTF());
+        int conditionCount = in.readInt();
+        Set<Condition> conditions = new HashSet<>();
+        for (int i = 0; i < conditionCount; i++) {
+            conditions.add(Condition.of(in.readUTF()));
+        }
+        Healthworker healthworker = in.readBoolean() ? new Healthworker(Name.of(in.readUTF())) : null;
+        return new Request(tag, name, phone, address, date, status, conditions, healthworker);
+    }
+}
@@ -1,21 +1,45 @@
 package seedu.address.model.request;
 
-import java.util.function.Predicate;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Tests that a {@code Request}'s {@code Condition} matches any of the keywords given.
  */
-public class RequestConditionContainsKeywordPredicate implements Predicate<Request> {
+public class RequestConditionContainsKeywordPredicate implements IndexedRequestPredicate {
     private final String keyword;
+    // Ids of the conditions in the dictionary that match the keyword, up to matchedCount
+    private final BitSet matchingConditionIds = new BitSet();
+    private int matchedCount;
 
     public RequestConditionContainsKeywordPredicate(String condition) {
-        keyword = condition.trim().toLowerCase();
+        keyword = condition.trim().toLowerCase(Locale.ROOT);
     }
 
     @Override
     public boolean test(Request request) {
-        return request.getCondition().stream()
-            .anyMatch(orderFood -> orderFood.foodName.toLowerCase().contains(keyword));
+        if (matchedCount < ConditionDictionary.getInstance().size()) {
+            // Only conditions added to the dictionary since the last test are matched against the keyword
+            matchedCount = ConditionDictionary.getInstance().match(
+                foodName -> foodName.toLowerCase(Locale.ROOT).contains(keyword), matchedCount, matchingConditionIds);
+        }
+        return request.getConditionSet().containsAny(matchingConditionIds);
+    }
+
+    @Override
+    public Set<Request> findIn(RequestIndex index) {
+        return index.findByCondition(keyword);
+    }
+
+    @Override
+    public int estimateCount(RequestIndex index) {
+        return index.estimateByCondition(keyword);
+    }
+
+    @Override
+    public String toString() {
+        return "condition contains \"" + keyword + "\"";
     }
 
     @Override
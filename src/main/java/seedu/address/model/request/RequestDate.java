@@ -3,22 +3,54 @@ package seedu.address.model.request;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.MonthDay;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
 
 /**
  * Represents an Request's date in the request book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)} (String)}
+ * <p>
+ * The date is kept as seconds since the epoch, together with the day it falls on, so comparing and grouping
+ * dates takes no allocation. Dates are read and written in the time zone of the system.
  */
-public class RequestDate {
+public class RequestDate implements Comparable<RequestDate> {
 
     public static final String MESSAGE_DATE_CONSTRAINTS =
             "Date should be in the format dd-MM-yyyy HH:mm:ss and it should be a valid date.";
 
-    private static final SimpleDateFormat sf = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
-
-    private Date date = null;
+    /**
+     * Reads dates in the format dd-MM-yyyy HH:mm:ss, also accepting fields with fewer digits, such as a two digit
+     * year, as dates have always been read. Rejects dates that do not exist, such as 31-04-2018.
+     */
+    private static final DateTimeFormatter PARSER = new DateTimeFormatterBuilder()
+            .appendValue(ChronoField.DAY_OF_MONTH, 1, 2, SignStyle.NOT_NEGATIVE)
+            .appendLiteral('-')
+            .appendValue(ChronoField.MONTH_OF_YEAR, 1, 2, SignStyle.NOT_NEGATIVE)
+            .appendLiteral('-')
+            .appendValue(ChronoField.YEAR, 1, 9, SignStyle.NORMAL)
+            .appendLiteral(' ')
+            .appendValue(ChronoField.HOUR_OF_DAY, 1, 2, SignStyle.NOT_NEGATIVE)
+            .appendLiteral(':')
+            .appendValue(ChronoField.MINUTE_OF_HOUR, 1, 2, SignStyle.NOT_NEGATIVE)
+            .appendLiteral(':')
+            .appendValue(ChronoField.SECOND_OF_MINUTE, 1, 2, SignStyle.NOT_NEGATIVE)
+            .toFormatter()
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu HH:mm:ss");
+
+    private final long epochSecond;
+    private final long epochDay;
+    private final MonthDay monthDay;
 
     /**
      * Constructs a {@code RequestDate}.
@@ -26,58 +58,78 @@ public class RequestDate {
      * @param orderDate A valid Request Date.
      */
     public RequestDate(String orderDate) {
-
         requireNonNull(orderDate);
-
-        try {
-            sf.setLenient(false);
-            date = sf.parse(orderDate);
-        } catch (ParseException pE) {
-            checkArgument(false, MESSAGE_DATE_CONSTRAINTS);
-        }
+        LocalDateTime dateTime = parse(orderDate);
+        checkArgument(dateTime != null, MESSAGE_DATE_CONSTRAINTS);
+
+        epochSecond = dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+        // The date may move if the time does not exist in the time zone, such as during a daylight saving gap
+        ZonedDateTime zonedDateTime = Instant.ofEpochSecond(epochSecond).atZone(ZoneId.systemDefault());
+        epochDay = zonedDateTime.toLocalDate().toEpochDay();
+        monthDay = MonthDay.from(zonedDateTime);
     }
 
     /**
      * Returns true if a given string is a valid date.
      */
     public static boolean isValidDate(String orderDate) {
+        requireNonNull(orderDate);
+        return parse(orderDate) != null;
+    }
+
+    /**
+     * Returns the date and time in {@code orderDate}, or null if it is not a valid date.
+     */
+    private static LocalDateTime parse(String orderDate) {
         try {
-            sf.setLenient(false);
-            sf.parse(orderDate);
-            return true;
-        } catch (ParseException pE) {
-            return false;
+            return LocalDateTime.parse(orderDate, PARSER);
+        } catch (DateTimeParseException dtpe) {
+            return null;
         }
     }
 
-    public Date getDate() {
-        return date;
+    /**
+     * Returns the number of seconds from the epoch to this date.
+     */
+    public long getEpochSecond() {
+        return epochSecond;
     }
 
-    public Date getShortenedDate() {
-        try {
-            SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM");
-            return dateFormat.parse(dateFormat.format(date));
-        } catch (ParseException pE) {
-            return date;
-        }
+    /**
+     * Returns the number of days from the epoch to the day of this date, in the time zone of the system.
+     * All the dates on the same day have the same epoch day.
+     */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns the day and month of this date, without the year.
+     */
+    public MonthDay getMonthDay() {
+        return monthDay;
+    }
+
+    @Override
+    public int compareTo(RequestDate other) {
+        return Long.compare(epochSecond, other.epochSecond);
     }
 
     @Override
     public String toString() {
-        return sf.format(date);
+        return FORMATTER.format(Instant.ofEpochSecond(epochSecond).atZone(ZoneId.systemDefault()));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof RequestDate // instanceof handles nulls
-                && date.equals(((RequestDate) other).date)); // state check
+                && epochSecond == ((RequestDate) other).epochSecond); // state check
     }
 
     @Override
     public int hashCode() {
-        return date.hashCode();
+        return Long.hashCode(epochSecond);
     }
 
 }
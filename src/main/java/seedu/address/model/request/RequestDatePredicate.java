@@ -1,26 +1,25 @@
 package seedu.address.model.request;
 
-import java.util.Date;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 /**
  * Tests that a {@code Request}'s {@code Date} matches any of the keywords given.
  */
-public class RequestDatePredicate implements Predicate<Request> {
+public class RequestDatePredicate implements IndexedRequestPredicate {
     public static final int VALID_SEARCH_DATE_RANGE_SIZE = 2;
     public static final int LOWER_DATE_RANGE_INDEX = 0;
     public static final int UPPER_DATE_RANGE_INDEX = 1;
 
-    private Predicate<Request> datePredicate;
+    private IndexedRequestPredicate datePredicate;
 
-    public RequestDatePredicate(List<Date> dates) {
+    public RequestDatePredicate(List<RequestDate> dates) {
         assert dates.size() < 3;
 
         if (dates.size() == VALID_SEARCH_DATE_RANGE_SIZE) {
-            Date lowerDateBoundary = dates.get(LOWER_DATE_RANGE_INDEX);
-            Date upperDateBoundary = dates.get(UPPER_DATE_RANGE_INDEX);
-            assert (lowerDateBoundary.before(upperDateBoundary) && lowerDateBoundary != upperDateBoundary);
+            RequestDate lowerDateBoundary = dates.get(LOWER_DATE_RANGE_INDEX);
+            RequestDate upperDateBoundary = dates.get(UPPER_DATE_RANGE_INDEX);
+            assert lowerDateBoundary.compareTo(upperDateBoundary) <= 0;
             datePredicate = new RequestDateRangePredicate(lowerDateBoundary, upperDateBoundary);
         } else {
             // One date in list
@@ -33,6 +32,21 @@ public class RequestDatePredicate implements Predicate<Request> {
         return datePredicate.test(request);
     }
 
+    @Override
+    public Set<Request> findIn(RequestIndex index) {
+        return datePredicate.findIn(index);
+    }
+
+    @Override
+    public int estimateCount(RequestIndex index) {
+        return datePredicate.estimateCount(index);
+    }
+
+    @Override
+    public String toString() {
+        return datePredicate.toString();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,23 +1,38 @@
 package seedu.address.model.request;
 
-import java.util.Date;
-import java.util.function.Predicate;
+import java.util.Set;
 
 /**
  * Tests that a {@code Request}'s {@code Date} is within the 2 dates given.
  */
-public class RequestDateRangePredicate implements Predicate<Request> {
-    private final Date lowerDateBoundary;
-    private final Date upperDateBoundary;
+public class RequestDateRangePredicate implements IndexedRequestPredicate {
+    private final RequestDate lowerDateBoundary;
+    private final RequestDate upperDateBoundary;
 
-    public RequestDateRangePredicate(Date lowerDateBoundary, Date upperDateBoundary) {
+    public RequestDateRangePredicate(RequestDate lowerDateBoundary, RequestDate upperDateBoundary) {
         this.lowerDateBoundary = lowerDateBoundary;
         this.upperDateBoundary = upperDateBoundary;
     }
 
     @Override
     public boolean test(Request request) {
-        return isWithinDateBoundary(request.getDate().getDate());
+        long epochSecond = request.getDate().getEpochSecond();
+        return epochSecond >= lowerDateBoundary.getEpochSecond() && epochSecond <= upperDateBoundary.getEpochSecond();
+    }
+
+    @Override
+    public Set<Request> findIn(RequestIndex index) {
+        return index.findByDateRange(lowerDateBoundary, upperDateBoundary);
+    }
+
+    @Override
+    public int estimateCount(RequestIndex index) {
+        return index.estimateByDateRange(lowerDateBoundary, upperDateBoundary);
+    }
+
+    @Override
+    public String toString() {
+        return "date is from " + lowerDateBoundary + " to " + upperDateBoundary;
     }
 
     @Override
@@ -27,9 +42,4 @@ public class RequestDateRangePredicate implements Predicate<Request> {
                 && lowerDateBoundary.equals(((RequestDateRangePredicate) other).lowerDateBoundary)
                 && upperDateBoundary.equals(((RequestDateRangePredicate) other).upperDateBoundary)); // state check
     }
-
-    private boolean isWithinDateBoundary(Date date) {
-        return (date.equals(lowerDateBoundary) || date.equals(upperDateBoundary)
-                || (date.after(lowerDateBoundary) && date.before(upperDateBoundary)));
-    }
 }
@@ -1,22 +1,36 @@
 package seedu.address.model.request;
 
-import java.util.Date;
-import java.util.function.Predicate;
+import java.util.Set;
 
 
 /**
  * Tests that a {@code Request}'s {@code Date} matches any of the keywords given.
  */
-public class RequestDateSinglePredicate implements Predicate<Request> {
-    private final Date keyword;
+public class RequestDateSinglePredicate implements IndexedRequestPredicate {
+    private final RequestDate keyword;
 
-    public RequestDateSinglePredicate(Date date) {
+    public RequestDateSinglePredicate(RequestDate date) {
         keyword = date;
     }
 
     @Override
     public boolean test(Request request) {
-        return request.getDate().getDate().equals(keyword);
+        return request.getDate().getEpochSecond() == keyword.getEpochSecond();
+    }
+
+    @Override
+    public Set<Request> findIn(RequestIndex index) {
+        return index.findByDate(keyword);
+    }
+
+    @Override
+    public int estimateCount(RequestIndex index) {
+        return index.estimateByDateRange(keyword, keyword);
+    }
+
+    @Override
+    public String toString() {
+        return "date is " + keyword;
     }
 
     @Override
@@ -0,0 +1,297 @@
+package seedu.address.model.request;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.util.TrigramIndex;
+
+/**
+ * Indexes the requests in a request book by the text of their names, phones, addresses and conditions, by their
+ * phone numbers, by their dates and by their statuses, so that finding the requests whose text contains a keyword,
+ * whose phone number starts with some digits, whose date is in a range or that have a status does not check every
+ * request. The number of requests found can also be estimated without finding them.
+ * The request book keeps the index up to date as requests are added, edited and removed. Requests must not be
+ * changed while they are in the index: commands change the status of a copy of a request and replace the request
+ * with the copy.
+ */
+public class RequestIndex {
+
+    private final TrigramIndex<Request> names =
+        new TrigramIndex<>(request -> Collections.singletonList(request.getName().fullName));
+    private final TrigramIndex<Request> phones =
+        new TrigramIndex<>(request -> Collections.singletonList(request.getPhone().value));
+    private final TrigramIndex<Request> addresses =
+        new TrigramIndex<>(request -> Collections.singletonList(request.getAddress().value));
+    private final TrigramIndex<Request> conditions = new TrigramIndex<>(RequestIndex::conditionNamesOf);
+    // Requests by their phone number, sorted so that the numbers with a prefix are a range
+    private final NavigableMap<String, Set<Request>> phoneNumbers = new TreeMap<>();
+    // Requests by the epoch second of their date
+    private final NavigableMap<Long, Set<Request>> dates = new TreeMap<>();
+    // Requests by their status, so the requests with a status and their number are at hand
+    private final Map<RequestStatus, Set<Request>> statuses = new HashMap<>();
+    private int modificationCount;
+
+    /**
+     * Adds {@code request} to the index.
+     */
+    public void add(Request request) {
+        requireNonNull(request);
+        names.add(request);
+        phones.add(request);
+        addresses.add(request);
+        conditions.add(request);
+        phoneNumbers.computeIfAbsent(request.getPhone().value, unused -> newRequestSet()).add(request);
+        dates.computeIfAbsent(request.getDate().getEpochSecond(), unused -> newRequestSet()).add(request);
+        statuses.computeIfAbsent(request.getRequestStatus(), unused -> newRequestSet()).add(request);
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code request} from the index, if it is there.
+     */
+    public void remove(Request request) {
+        requireNonNull(request);
+        names.remove(request);
+        phones.remove(request);
+        addresses.remove(request);
+        conditions.remove(request);
+        removeFrom(phoneNumbers, request.getPhone().value, request);
+        removeFrom(dates, request.getDate().getEpochSecond(), request);
+        removeFrom(statuses, request.getRequestStatus(), request);
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code request} from the requests under {@code key} in {@code requestsByKey}, and removes the key
+     * if no request is left under it.
+     */
+    private static <K> void removeFrom(Map<K, Set<Request>> requestsByKey, K key, Request request) {
+        Set<Request> requests = requestsByKey.get(key);
+        if (requests != null) {
+            requests.remove(request);
+            if (requests.isEmpty()) {
+                requestsByKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all the requests from the index.
+     */
+    public void clear() {
+        names.clear();
+        phones.clear();
+        addresses.clear();
+        conditions.clear();
+        phoneNumbers.clear();
+        dates.clear();
+        statuses.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns true if {@code request} is in the index.
+     */
+    public boolean contains(Request request) {
+        return names.contains(request);
+    }
+
+    /**
+     * Returns the number of requests in the index.
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Returns all the requests in the index.
+     */
+    public Set<Request> findAll() {
+        Set<Request> requests = newRequestSet();
+        dates.values().forEach(requests::addAll);
+        return requests;
+    }
+
+    /**
+     * Returns the number of times the index has been changed. Results found before a change may be out of date.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the requests whose lower cased name contains {@code keyword}, which must be lower cased.
+     */
+    public Set<Request> findByName(String keyword) {
+        return names.find(keyword);
+    }
+
+    /**
+     * Returns an estimate of the number of requests {@link #findByName} would find, which is never less.
+     */
+    public int estimateByName(String keyword) {
+        return names.estimate(keyword);
+    }
+
+    /**
+     * Returns the requests whose phone contains {@code keyword}.
+     */
+    public Set<Request> findByPhone(String keyword) {
+        return phones.find(keyword);
+    }
+
+    /**
+     * Returns an estimate of the number of requests {@link #findByPhone} would find, which is never less.
+     */
+    public int estimateByPhone(String keyword) {
+        return phones.estimate(keyword);
+    }
+
+    /**
+     * Returns the requests whose phone number starts with {@code prefix}.
+     */
+    public Set<Request> findByPhonePrefix(String prefix) {
+        requireNonNull(prefix);
+        Set<Request> matches = newRequestSet();
+        phoneNumbersWithPrefix(prefix).values().forEach(matches::addAll);
+        return matches;
+    }
+
+    /**
+     * Returns the number of requests {@link #findByPhonePrefix} would find.
+     */
+    public int estimateByPhonePrefix(String prefix) {
+        requireNonNull(prefix);
+        int count = 0;
+        for (Set<Request> requestsWithPhoneNumber : phoneNumbersWithPrefix(prefix).values()) {
+            count += requestsWithPhoneNumber.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the view of the phone numbers that start with {@code prefix}.
+     */
+    private NavigableMap<String, Set<Request>> phoneNumbersWithPrefix(String prefix) {
+        // Every string starting with the prefix sorts before the prefix followed by the greatest character
+        return phoneNumbers.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Returns the requests whose lower cased address contains {@code keyword}, which must be lower cased.
+     */
+    public Set<Request> findByAddress(String keyword) {
+        return addresses.find(keyword);
+    }
+
+    /**
+     * Returns an estimate of the number of requests {@link #findByAddress} would find, which is never less.
+     */
+    public int estimateByAddress(String keyword) {
+        return addresses.estimate(keyword);
+    }
+
+    /**
+     * Returns the requests with a condition whose lower cased name contains {@code keyword}, which must be lower
+     * cased.
+     */
+    public Set<Request> findByCondition(String keyword) {
+        return conditions.find(keyword);
+    }
+
+    /**
+     * Returns an estimate of the number of requests {@link #findByCondition} would find, which is never less.
+     */
+    public int estimateByCondition(String keyword) {
+        return conditions.estimate(keyword);
+    }
+
+    /**
+     * Returns the requests whose date is {@code date}.
+     */
+    public Set<Request> findByDate(RequestDate date) {
+        return findByDateRange(date, date);
+    }
+
+    /**
+     * Returns the requests whose date is from {@code lower} to {@code upper}, inclusive.
+     */
+    public Set<Request> findByDateRange(RequestDate lower, RequestDate upper) {
+        requireNonNull(lower);
+        requireNonNull(upper);
+        Set<Request> matches = newRequestSet();
+        if (lower.compareTo(upper) <= 0) {
+            dates.subMap(lower.getEpochSecond(), true, upper.getEpochSecond(), true).values()
+                .forEach(matches::addAll);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of requests {@link #findByDateRange} would find, counting the dates in the range.
+     */
+    public int estimateByDateRange(RequestDate lower, RequestDate upper) {
+        requireNonNull(lower);
+        requireNonNull(upper);
+        int count = 0;
+        if (lower.compareTo(upper) <= 0) {
+            for (Set<Request> requestsOnDate
+                    : dates.subMap(lower.getEpochSecond(), true, upper.getEpochSecond(), true).values()) {
+                count += requestsOnDate.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the requests with {@code status}.
+     */
+    public Set<Request> findByStatus(RequestStatus status) {
+        requireNonNull(status);
+        Set<Request> matches = newRequestSet();
+        matches.addAll(statuses.getOrDefault(status, Collections.emptySet()));
+        return matches;
+    }
+
+    /**
+     * Returns the number of requests with {@code status}.
+     */
+    public int countByStatus(RequestStatus status) {
+        requireNonNull(status);
+        Set<Request> requestsWithStatus = statuses.get(status);
+        return requestsWithStatus == null ? 0 : requestsWithStatus.size();
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks up the requests it accepts in this index,
+     * if {@code predicate} can use the index, or {@code predicate} itself otherwise.
+     */
+    public Predicate<Request> bind(Predicate<Request> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof IndexedRequestPredicate) {
+            return ((IndexedRequestPredicate) predicate).withIndex(this);
+        }
+        return predicate;
+    }
+
+    /**
+     * Returns an empty set of requests, which tells requests apart by identity.
+     */
+    static Set<Request> newRequestSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static List<String> conditionNamesOf(Request request) {
+        return request.getCondition().stream().map(condition -> condition.foodName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.model.request;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Request} is among the requests found in a {@link RequestIndex}.
+ * The requests are found on the first test, and found again on the first test after the index changes.
+ * Requests that are not in the index, such as a request being added before the index has been told of it, are
+ * tested directly.
+ */
+public class RequestIndexMatchPredicate implements Predicate<Request> {
+    private final RequestIndex index;
+    private final Function<RequestIndex, Set<Request>> finder;
+    private final Predicate<Request> unindexedPredicate;
+    private Set<Request> matches;
+    private int matchesModificationCount;
+
+    /**
+     * Creates a predicate that accepts the requests of {@code index} found by {@code finder}, and the requests
+     * not in {@code index} accepted by {@code unindexedPredicate}.
+     */
+    public RequestIndexMatchPredicate(RequestIndex index, Function<RequestIndex, Set<Request>> finder,
+            Predicate<Request> unindexedPredicate) {
+        requireNonNull(index);
+        requireNonNull(finder);
+        requireNonNull(unindexedPredicate);
+        this.index = index;
+        this.finder = finder;
+        this.unindexedPredicate = unindexedPredicate;
+    }
+
+    @Override
+    public boolean test(Request request) {
+        if (!index.contains(request)) {
+            return unindexedPredicate.test(request);
+        }
+        if (matches == null || matchesModificationCount != index.getModificationCount()) {
+            matches = finder.apply(index);
+            matchesModificationCount = index.getModificationCount();
+        }
+        return matches.contains(request);
+    }
+}
@@ -1,20 +1,36 @@
 package seedu.address.model.request;
 
-import java.util.function.Predicate;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Tests that a {@code Request}'s {@code Name} matches any of the keywords given.
  */
-public class RequestNameContainsKeywordPredicate implements Predicate<Request> {
+public class RequestNameContainsKeywordPredicate implements IndexedRequestPredicate {
     private final String keyword;
 
     public RequestNameContainsKeywordPredicate(String name) {
-        keyword = name.trim().toLowerCase();
+        keyword = name.trim().toLowerCase(Locale.ROOT);
     }
 
     @Override
     public boolean test(Request request) {
-        return request.getName().fullName.toLowerCase().contains(keyword);
+        return request.getName().fullName.toLowerCase(Locale.ROOT).contains(keyword);
+    }
+
+    @Override
+    public Set<Request> findIn(RequestIndex index) {
+        return index.findByName(keyword);
+    }
+
+    @Override
+    public int estimateCount(RequestIndex index) {
+        return index.estimateByName(keyword);
+    }
+
+    @Override
+    public String toString() {
+        return "name contains \"" + keyword + "\"";
     }
 
     @Override
@@ -1,13 +1,12 @@
 package seedu.address.model.request;
 
 import java.util.List;
-
-import java.util.function.Predicate;
+import java.util.Set;
 
 /**
  * Tests that a {@code Request}'s {@code Phone} matches any of the keywords given.
  */
-public class RequestPhoneContainsKeywordPredicate implements Predicate<Request> {
+public class RequestPhoneContainsKeywordPredicate implements IndexedRequestPredicate {
     private final List<String> keywords;
 
     public RequestPhoneContainsKeywordPredicate(List<String> phone) {
@@ -20,6 +19,27 @@ public class RequestPhoneContainsKeywordPredicate implements Predicate<Request>
                 .anyMatch(keyword -> request.getPhone().value.contains(keyword));
     }
 
+    @Override
+    public Set<Request> findIn(RequestIndex index) {
+        Set<Request> matches = RequestIndex.newRequestSet();
+        keywords.forEach(keyword -> matches.addAll(index.findByPhone(keyword)));
+        return matches;
+    }
+
+    @Override
+    public int estimateCount(RequestIndex index) {
+        int estimate = 0;
+        for (String keyword : keywords) {
+            estimate += index.estimateByPhone(keyword);
+        }
+        return Math.min(estimate, index.size());
+    }
+
+    @Override
+    public String toString() {
+        return "phone contains any of " + keywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,44 @@
+package seedu.address.model.request;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+/**
+ * Tests that a {@code Request}'s {@code Phone} starts with the given digits.
+ */
+public class RequestPhoneStartsWithPredicate implements IndexedRequestPredicate {
+    private final String prefix;
+
+    public RequestPhoneStartsWithPredicate(String prefix) {
+        requireNonNull(prefix);
+        this.prefix = prefix;
+    }
+
+    @Override
+    public boolean test(Request request) {
+        return request.getPhone().value.startsWith(prefix);
+    }
+
+    @Override
+    public Set<Request> findIn(RequestIndex index) {
+        return index.findByPhonePrefix(prefix);
+    }
+
+    @Override
+    public int estimateCount(RequestIndex index) {
+        return index.estimateByPhonePrefix(prefix);
+    }
+
+    @Override
+    public String toString() {
+        return "phone starts with \"" + prefix + "\"";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RequestPhoneStartsWithPredicate // instanceof handles nulls
+                && prefix.equals(((RequestPhoneStartsWithPredicate) other).prefix)); // state check
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.request;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A query for the requests that are accepted by all of a list of clauses.
+ * Unlike {@link Predicate#and}, the clauses stay visible, so a {@link RequestQueryPlan} can find candidates
+ * through the most selective clause that can use a {@link RequestIndex} and filter them by the others, and
+ * queries of the same clauses are equal.
+ */
+public class RequestQuery implements IndexedRequestPredicate {
+    private final List<Predicate<Request>> clauses;
+
+    public RequestQuery(List<Predicate<Request>> clauses) {
+        requireNonNull(clauses);
+        this.clauses = new ArrayList<>(clauses);
+    }
+
+    /**
+     * Returns {@code predicate} if it is a query, or a query with {@code predicate} as its only clause.
+     */
+    public static RequestQuery of(Predicate<Request> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof RequestQuery) {
+            return (RequestQuery) predicate;
+        }
+        return new RequestQuery(Collections.singletonList(predicate));
+    }
+
+    public List<Predicate<Request>> getClauses() {
+        return Collections.unmodifiableList(clauses);
+    }
+
+    /**
+     * Returns the plan for finding the requests of {@code index} that this query accepts.
+     */
+    public RequestQueryPlan plan(RequestIndex index) {
+        return RequestQueryPlan.of(clauses, index);
+    }
+
+    @Override
+    public boolean test(Request request) {
+        for (Predicate<Request> clause : clauses) {
+            if (!clause.test(request)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Set<Request> findIn(RequestIndex index) {
+        return plan(index).execute(index);
+    }
+
+    @Override
+    public int estimateCount(RequestIndex index) {
+        return plan(index).getEstimatedCount();
+    }
+
+    /**
+     * Returns a predicate that accepts the same requests as this query, finding them through the plan of the
+     * query in {@code index}, or this query itself if none of its clauses can use an index.
+     */
+    @Override
+    public Predicate<Request> withIndex(RequestIndex index) {
+        if (clauses.stream().noneMatch(clause -> clause instanceof IndexedRequestPredicate)) {
+            return this;
+        }
+        return IndexedRequestPredicate.super.withIndex(index);
+    }
+
+    @Override
+    public String toString() {
+        return clauses.stream().map(Object::toString).collect(Collectors.joining(" and "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof RequestQuery // instanceof handles nulls
+            && clauses.equals(((RequestQuery) other).clauses)); // state check
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.model.request;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * How the requests accepted by the clauses of a {@link RequestQuery} are found in a {@link RequestIndex}.
+ * <p>
+ * The number of requests each clause accepts is estimated. The clause with the lowest estimate that can use the
+ * index finds the candidates, and the other clauses filter them, from the lowest estimate up, so that most
+ * candidates are dropped by the first filter. If no clause can use the index, all the requests are candidates.
+ * Clauses that cannot estimate are taken to accept every request.
+ */
+public class RequestQueryPlan {
+    private final int requestCount;
+    private final IndexedRequestPredicate candidateClause;
+    private final int candidateEstimate;
+    private final List<Predicate<Request>> filterClauses;
+    private final List<Integer> filterEstimates;
+
+    private RequestQueryPlan(int requestCount, IndexedRequestPredicate candidateClause, int candidateEstimate,
+            List<Predicate<Request>> filterClauses, List<Integer> filterEstimates) {
+        this.requestCount = requestCount;
+        this.candidateClause = candidateClause;
+        this.candidateEstimate = candidateEstimate;
+        this.filterClauses = filterClauses;
+        this.filterEstimates = filterEstimates;
+    }
+
+    /**
+     * Returns the plan for finding the requests of {@code index} accepted by all of {@code clauses}.
+     */
+    public static RequestQueryPlan of(List<Predicate<Request>> clauses, RequestIndex index) {
+        requireNonNull(clauses);
+        requireNonNull(index);
+
+        List<Predicate<Request>> orderedClauses = new ArrayList<>(clauses);
+        List<Integer> estimates = new ArrayList<>();
+        for (Predicate<Request> clause : orderedClauses) {
+            estimates.add(estimateCount(clause, index));
+        }
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < orderedClauses.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparing(estimates::get));
+
+        IndexedRequestPredicate candidateClause = null;
+        int candidateEstimate = index.size();
+        List<Predicate<Request>> filterClauses = new ArrayList<>();
+        List<Integer> filterEstimates = new ArrayList<>();
+        for (int i : order) {
+            Predicate<Request> clause = orderedClauses.get(i);
+            if (candidateClause == null && clause instanceof IndexedRequestPredicate) {
+                candidateClause = (IndexedRequestPredicate) clause;
+                candidateEstimate = estimates.get(i);
+            } else {
+                filterClauses.add(clause);
+                filterEstimates.add(estimates.get(i));
+            }
+        }
+        return new RequestQueryPlan(index.size(), candidateClause, candidateEstimate, filterClauses,
+            filterEstimates);
+    }
+
+    /**
+     * Returns the estimate of the number of requests of {@code index} that {@code clause} accepts.
+     */
+    private static int estimateCount(Predicate<Request> clause, RequestIndex index) {
+        if (clause instanceof SelectiveRequestPredicate) {
+            return ((SelectiveRequestPredicate) clause).estimateCount(index);
+        }
+        return index.size();
+    }
+
+    /**
+     * Returns the requests of {@code index} accepted by all the clauses, following this plan.
+     */
+    public Set<Request> execute(RequestIndex index) {
+        requireNonNull(index);
+        Set<Request> matches = candidateClause == null ? index.findAll() : candidateClause.findIn(index);
+        matches.removeIf(request -> !passesFilters(request));
+        return matches;
+    }
+
+    /**
+     * Returns true if {@code request} is accepted by all the filter clauses.
+     */
+    private boolean passesFilters(Request request) {
+        for (Predicate<Request> filterClause : filterClauses) {
+            if (!filterClause.test(request)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns an estimate of the number of requests this plan finds: the lowest estimate of its clauses.
+     */
+    public int getEstimatedCount() {
+        int estimate = candidateEstimate;
+        for (int filterEstimate : filterEstimates) {
+            estimate = Math.min(estimate, filterEstimate);
+        }
+        return estimate;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        if (candidateClause == null) {
+            builder.append("Scan all ").append(requestCount).append(" requests");
+        } else {
+            builder.append("Find candidates where ").append(candidateClause)
+                .append(" (estimated ").append(candidateEstimate).append(" of ").append(requestCount)
+                .append(" requests)");
+        }
+        for (int i = 0; i < filterClauses.size(); i++) {
+            builder.append("\nThen filter where ").append(filterClauses.get(i))
+                .append(" (estimated ").append(filterEstimates.get(i)).append(")");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.model.request;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.util.PostalDistrictUtil;
+
+/**
+ * Keeps the statistics shown on the dashboard for a list of requests: the number of requests on each day of the
+ * year, with each status and with each condition, and the number of pending requests in each district.
+ * <p>
+ * The statistics follow the changes of the list, touching only the counters of the added and removed requests,
+ * so reading them never scans the list. All the counters are arrays of ints. Requests in the list must not change,
+ * which holds as commands replace requests with edited copies.
+ */
+public class RequestStatistics {
+
+    // A leap year has every day that a request may fall on
+    private static final int LEAP_YEAR = 2000;
+    private static final MonthDay[] DAYS = new MonthDay[LocalDate.of(LEAP_YEAR, 1, 1).lengthOfYear()];
+    // The position in DAYS of the first day of each month
+    private static final int[] MONTH_STARTS = new int[12];
+
+    static {
+        for (int i = 0; i < DAYS.length; i++) {
+            DAYS[i] = MonthDay.from(LocalDate.ofYearDay(LEAP_YEAR, i + 1));
+            if (DAYS[i].getDayOfMonth() == 1) {
+                MONTH_STARTS[DAYS[i].getMonthValue() - 1] = i;
+            }
+        }
+    }
+
+    private final int[] dayCounts = new int[DAYS.length];
+    private final int[] pendingDistrictCounts = new int[PostalDistrictUtil.getDistrictCount() + 1];
+    private final RequestStatusCounts statusCounts = new RequestStatusCounts();
+    private final ConditionCounts conditionCounts = new ConditionCounts();
+    private final List<Runnable> listeners = new ArrayList<>();
+
+    /**
+     * Creates the statistics of {@code requests}, which are kept up to date as the list changes.
+     */
+    public RequestStatistics(ObservableList<? extends Request> requests) {
+        requireNonNull(requests);
+        requests.forEach(this::add);
+        requests.addListener(this::onChanged);
+    }
+
+    /**
+     * Updates the statistics with the requests added to and removed from the list in {@code change}, then tells
+     * the listeners.
+     */
+    private void onChanged(ListChangeListener.Change<? extends Request> change) {
+        while (change.next()) {
+            // Permutations and updates leave the requests in the list, and requests do not change
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+        listeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Counts {@code request}.
+     */
+    private void add(Request request) {
+        dayCounts[dayOf(request)]++;
+        if (request.getRequestStatus().isPendingStatus()) {
+            pendingDistrictCounts[request.getAddress().getDistrict()]++;
+        }
+        statusCounts.add(request);
+        conditionCounts.add(request);
+    }
+
+    /**
+     * Stops counting {@code request}, which must have been counted.
+     */
+    private void remove(Request request) {
+        dayCounts[dayOf(request)]--;
+        if (request.getRequestStatus().isPendingStatus()) {
+            pendingDistrictCounts[request.getAddress().getDistrict()]--;
+        }
+        statusCounts.remove(request);
+        conditionCounts.remove(request);
+    }
+
+    /**
+     * Returns the position in {@link #DAYS} of the day of {@code request}.
+     */
+    private static int dayOf(Request request) {
+        MonthDay monthDay = request.getDate().getMonthDay();
+        return MONTH_STARTS[monthDay.getMonthValue() - 1] + monthDay.getDayOfMonth() - 1;
+    }
+
+    /**
+     * Calls {@code listener} after every change to the statistics.
+     */
+    public void addListener(Runnable listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns the number of requests in the list.
+     */
+    public int getRequestCount() {
+        return statusCounts.getTotal();
+    }
+
+    /**
+     * Returns the number of requests in the list with {@code status}.
+     */
+    public int getStatusCount(RequestStatus status) {
+        return statusCounts.getCount(status);
+    }
+
+    /**
+     * Returns the number of pending requests in the list whose address is in {@code district}, from 1 to
+     * {@link PostalDistrictUtil#getDistrictCount()}.
+     */
+    public int getPendingCountInDistrict(int district) {
+        return pendingDistrictCounts[district];
+    }
+
+    /**
+     * Returns the condition of the most requests in the list, if any request has a condition.
+     */
+    public Optional<Condition> getMostCommonCondition() {
+        return conditionCounts.getMostCommon();
+    }
+
+    /**
+     * Returns up to {@code limit} conditions of the most requests in the list, from the condition of the most.
+     */
+    public List<Condition> getMostCommonConditions(int limit) {
+        return conditionCounts.getMostCommon(limit);
+    }
+
+    /**
+     * Returns the number of requests in the list with {@code condition}.
+     */
+    public int getConditionCount(Condition condition) {
+        return conditionCounts.getCount(condition);
+    }
+
+    /**
+     * Returns the number of requests on each of the last {@code dayLimit} days of the year, ignoring the year, that
+     * have a request, sorted by day.
+     */
+    public SortedMap<MonthDay, Integer> getLatestDayCounts(int dayLimit) {
+        SortedMap<MonthDay, Integer> latestDayCounts = new TreeMap<>();
+        for (int i = DAYS.length - 1; i >= 0 && latestDayCounts.size() < dayLimit; i--) {
+            if (dayCounts[i] > 0) {
+                latestDayCounts.put(DAYS[i], dayCounts[i]);
+            }
+        }
+        return latestDayCounts;
+    }
+}
@@ -36,6 +36,27 @@ public class RequestStatus {
         orderState = Status.valueOf(status);
     }
 
+    /**
+     * Returns the number of valid statuses.
+     */
+    public static int getStatusCount() {
+        return Status.values().length;
+    }
+
+    /**
+     * Returns the position of this status among the valid statuses, from 0 to {@link #getStatusCount()} - 1.
+     */
+    int ordinal() {
+        return orderState.ordinal();
+    }
+
+    /**
+     * Checks if the status is pending.
+     */
+    public boolean isPendingStatus() {
+        return orderState.equals(Status.PENDING);
+    }
+
     /**
      * Checks if the status is ongoing.
      */
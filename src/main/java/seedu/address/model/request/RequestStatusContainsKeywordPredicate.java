@@ -1,12 +1,12 @@
 package seedu.address.model.request;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 /**
  * Tests that a {@code Request}'s {@code Status} matches the keywords given.
  */
-public class RequestStatusContainsKeywordPredicate implements Predicate<Request> {
+public class RequestStatusContainsKeywordPredicate implements IndexedRequestPredicate {
     private final List<RequestStatus> keywords;
 
     public RequestStatusContainsKeywordPredicate(List<RequestStatus> statuses) {
@@ -19,6 +19,23 @@ public class RequestStatusContainsKeywordPredicate implements Predicate<Request>
                 .anyMatch(keyword -> request.getRequestStatus().equals(keyword));
     }
 
+    @Override
+    public Set<Request> findIn(RequestIndex index) {
+        Set<Request> matches = RequestIndex.newRequestSet();
+        keywords.stream().distinct().forEach(status -> matches.addAll(index.findByStatus(status)));
+        return matches;
+    }
+
+    @Override
+    public int estimateCount(RequestIndex index) {
+        return keywords.stream().distinct().mapToInt(index::countByStatus).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "status is any of " + keywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
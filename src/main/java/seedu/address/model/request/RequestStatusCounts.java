@@ -0,0 +1,49 @@
+package seedu.address.model.request;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Counts the requests with each status, in an array indexed by the position of the status.
+ * Adding or removing a request only touches the count of its status.
+ */
+public class RequestStatusCounts {
+
+    private final int[] counts = new int[RequestStatus.getStatusCount()];
+    private int total;
+
+    /**
+     * Counts the status of {@code request}.
+     */
+    public void add(Request request) {
+        requireNonNull(request);
+        counts[request.getRequestStatus().ordinal()]++;
+        total++;
+    }
+
+    /**
+     * Stops counting the status of {@code request}, which must have been added.
+     */
+    public void remove(Request request) {
+        requireNonNull(request);
+        int ordinal = request.getRequestStatus().ordinal();
+        if (counts[ordinal] > 0) {
+            counts[ordinal]--;
+            total--;
+        }
+    }
+
+    /**
+     * Returns the number of counted requests with {@code status}.
+     */
+    public int getCount(RequestStatus status) {
+        requireNonNull(status);
+        return counts[status.ordinal()];
+    }
+
+    /**
+     * Returns the number of counted requests.
+     */
+    public int getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.address.model.request;
+
+import java.util.function.Predicate;
+
+/**
+ * A predicate on requests that can estimate how many of the requests in a {@link RequestIndex} it accepts,
+ * so that a {@link RequestQuery} can plan which of its predicates to use first.
+ */
+public interface SelectiveRequestPredicate extends Predicate<Request> {
+
+    /**
+     * Returns an estimate of the number of requests in {@code index} that this predicate accepts.
+     */
+    int estimateCount(RequestIndex index);
+}
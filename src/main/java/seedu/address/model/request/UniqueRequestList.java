@@ -3,13 +3,24 @@ package seedu.address.model.request;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.common.Phone;
 import seedu.address.model.request.exceptions.DuplicateRequestException;
 import seedu.address.model.request.exceptions.RequestNotFoundException;
+import seedu.address.model.util.PositionIndex;
 
 /**
  * A list of orders that enforces uniqueness between its elements and does not allow nulls.
@@ -19,6 +30,13 @@ import seedu.address.model.request.exceptions.RequestNotFoundException;
  * However, the removal of an Request uses Request#equals(Object) so as to ensure that the
  * request with exactly the same fields will be removed.
  * <p>
+ * Two hash indexes are kept in sync with the backing list: one keyed by the identity fields used in
+ * {@code Request#isSameOrder(Request)} (name, phone and date) and one keyed by the request's tag.
+ * The position of each request in the backing list is kept in a {@link PositionIndex}.
+ * Membership checks, lookups and replacing a request are therefore constant-time, and bulk replacement is linear.
+ * Removing a request shifts the requests after it, as in any array-backed list, and their positions are
+ * renumbered once before the next lookup among them.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Request#isSameOrder(Request)
@@ -26,13 +44,24 @@ import seedu.address.model.request.exceptions.RequestNotFoundException;
 public class UniqueRequestList implements Iterable<Request> {
 
     private final ObservableList<Request> internalList = FXCollections.observableArrayList();
+    private final Map<IdentityKey, Request> identityIndex = new HashMap<>();
+    private final Map<UUID, Request> tagIndex = new HashMap<>();
+    private final PositionIndex<Request> positionIndex = new PositionIndex<>(internalList);
 
     /**
      * Returns true if the list contains an equivalent request as the given argument.
      */
     public boolean contains(Request toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameOrder);
+        return identityIndex.containsKey(new IdentityKey(toCheck));
+    }
+
+    /**
+     * Returns the request in the list that has the given {@code tag}, if any.
+     */
+    public Optional<Request> getByTag(UUID tag) {
+        requireNonNull(tag);
+        return Optional.ofNullable(tagIndex.get(tag));
     }
 
     /**
@@ -45,18 +74,22 @@ public class UniqueRequestList implements Iterable<Request> {
             throw new DuplicateRequestException();
         }
         internalList.add(toAdd);
+        positionIndex.appended(toAdd);
+        index(toAdd);
     }
 
     /**
      * Replaces the request {@code target} in the list with {@code editedRequest}.
      * {@code target} must exist in the list.
      * The request identity of {@code editedRequest} must not be the same as another existing request in the list.
+     *
+     * @return the request that was replaced, which is equal to {@code target} but may be another instance.
      */
-    public void setRequest(Request target, Request editedRequest) {
+    public Request setRequest(Request target, Request editedRequest) {
         requireAllNonNull(target, editedRequest);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Request existing = findEqual(target);
+        if (existing == null) {
             throw new RequestNotFoundException();
         }
 
@@ -64,12 +97,22 @@ public class UniqueRequestList implements Iterable<Request> {
             throw new DuplicateRequestException();
         }
 
-        internalList.set(index, editedRequest);
+        int position = positionOf(existing);
+        internalList.set(position, editedRequest);
+        positionIndex.replaced(position, existing, editedRequest);
+        unindex(existing);
+        index(editedRequest);
+        return existing;
     }
 
     public void setRequest(UniqueRequestList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        tagIndex.clear();
+        tagIndex.putAll(replacement.tagIndex);
         internalList.setAll(replacement.internalList);
+        positionIndex.reset();
     }
 
     /**
@@ -78,22 +121,71 @@ public class UniqueRequestList implements Iterable<Request> {
      */
     public void setRequest(List<Request> requests) {
         requireAllNonNull(requests);
-        if (!ordersAreUnique(requests)) {
-            throw new DuplicateRequestException();
+        Map<IdentityKey, Request> newIdentityIndex = new HashMap<>();
+        for (Request request : requests) {
+            if (newIdentityIndex.putIfAbsent(new IdentityKey(request), request) != null) {
+                throw new DuplicateRequestException();
+            }
         }
 
+        identityIndex.clear();
+        identityIndex.putAll(newIdentityIndex);
+        tagIndex.clear();
+        requests.stream().filter(request -> request.getTag() != null)
+            .forEach(request -> tagIndex.put(request.getTag(), request));
         internalList.setAll(requests);
+        positionIndex.reset();
+    }
+
+    /**
+     * Replaces the {@code removeCount} requests starting at position {@code from} with {@code inserted}.
+     * {@code inserted} must not contain requests with the same identity as each other or as the remaining requests.
+     */
+    public void splice(int from, int removeCount, List<Request> inserted) {
+        requireAllNonNull(inserted);
+        List<Request> toRemove = internalList.subList(from, from + removeCount);
+        Set<IdentityKey> removedKeys = new HashSet<>();
+        toRemove.forEach(request -> removedKeys.add(new IdentityKey(request)));
+        Set<IdentityKey> insertedKeys = new HashSet<>();
+        for (Request request : inserted) {
+            IdentityKey key = new IdentityKey(request);
+            if (!insertedKeys.add(key) || (identityIndex.containsKey(key) && !removedKeys.contains(key))) {
+                throw new DuplicateRequestException();
+            }
+        }
+
+        toRemove.forEach(this::unindex);
+        inserted.forEach(this::index);
+        if (removeCount == internalList.size()) {
+            internalList.setAll(inserted);
+            positionIndex.reset();
+        } else if (removeCount == 1 && inserted.size() == 1) {
+            positionIndex.replaced(from, toRemove.get(0), inserted.get(0));
+            internalList.set(from, inserted.get(0));
+        } else {
+            positionIndex.spliced(from, toRemove);
+            toRemove.clear();
+            internalList.addAll(from, inserted);
+        }
     }
 
     /**
      * Removes the equivalent request from the list.
      * The request must exist in the list.
+     *
+     * @return the request that was removed, which is equal to {@code toRemove} but may be another instance.
      */
-    public void remove(Request toRemove) {
+    public Request remove(Request toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Request existing = findEqual(toRemove);
+        if (existing == null) {
             throw new RequestNotFoundException();
         }
+        int position = positionOf(existing);
+        internalList.remove(position);
+        positionIndex.spliced(position, Collections.singletonList(existing));
+        unindex(existing);
+        return existing;
     }
 
     /**
@@ -121,16 +213,75 @@ public class UniqueRequestList implements Iterable<Request> {
     }
 
     /**
-     * Returns true if {@code requests} contains only unique requests.
+     * Returns the request in the list that is equal to {@code request}, or null if there is none.
+     * Only the request sharing the identity of {@code request} can be equal to it.
+     */
+    private Request findEqual(Request request) {
+        Request candidate = identityIndex.get(new IdentityKey(request));
+        return request.equals(candidate) ? candidate : null;
+    }
+
+    /**
+     * Returns the position of {@code request} in the backing list, comparing by reference.
      */
-    private boolean ordersAreUnique(List<Request> requests) {
-        for (int i = 0; i < requests.size() - 1; i++) {
-            for (int j = i + 1; j < requests.size(); j++) {
-                if (requests.get(i).isSameOrder(requests.get(j))) {
-                    return false;
-                }
+    private int positionOf(Request request) {
+        int position = positionIndex.positionOf(request);
+        if (position < 0) {
+            throw new RequestNotFoundException();
+        }
+        return position;
+    }
+
+    /**
+     * Adds {@code request} to the identity and tag indexes.
+     */
+    private void index(Request request) {
+        identityIndex.put(new IdentityKey(request), request);
+        if (request.getTag() != null) {
+            tagIndex.put(request.getTag(), request);
+        }
+    }
+
+    /**
+     * Removes {@code request} from the identity and tag indexes.
+     */
+    private void unindex(Request request) {
+        identityIndex.remove(new IdentityKey(request));
+        if (request.getTag() != null) {
+            tagIndex.remove(request.getTag(), request);
+        }
+    }
+
+    /**
+     * Hash key over the identity fields compared by {@code Request#isSameOrder(Request)}.
+     * Names are compared case-insensitively, so the key holds the lower-cased name.
+     */
+    private static final class IdentityKey {
+        private final String name;
+        private final Phone phone;
+        private final RequestDate date;
+
+        IdentityKey(Request request) {
+            name = request.getName().fullName.toLowerCase(Locale.ROOT);
+            phone = request.getPhone();
+            date = request.getDate();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
             }
+            IdentityKey otherKey = (IdentityKey) other;
+            return name.equals(otherKey.name) && phone.equals(otherKey.phone) && date.equals(otherKey.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone, date);
         }
-        return true;
     }
 }
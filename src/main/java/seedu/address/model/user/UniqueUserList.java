@@ -6,24 +6,28 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.Iterator;
 import java.util.List;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.common.Username;
 import seedu.address.model.common.exceptions.DuplicateHealthWorkerException;
 import seedu.address.model.common.exceptions.HealthWorkerNotFoundException;
+import seedu.address.model.util.UniqueKeyedList;
 
 /**
- * A list of unique users
+ * A list of unique users.
+ * Users are indexed by username, so registration and login checks do not scan the list.
  */
 public class UniqueUserList implements Iterable<User> {
 
-    private final ObservableList<User> internalList = FXCollections.observableArrayList();
+    private final UniqueKeyedList<User, Username> internalList =
+            new UniqueKeyedList<>(User::getUsername, DuplicateHealthWorkerException::new,
+                HealthWorkerNotFoundException::new);
 
     /**
      * Returns true if the list contains an equivalent user as the given argument.
      */
     public boolean contains(User toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameUser);
+        return internalList.contains(toCheck);
     }
 
     /**
@@ -31,7 +35,7 @@ public class UniqueUserList implements Iterable<User> {
      */
     public boolean check(User toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameExistingUser);
+        return internalList.get(toCheck.getUsername()).filter(toCheck::isSameExistingUser).isPresent();
     }
 
     /**
@@ -40,9 +44,6 @@ public class UniqueUserList implements Iterable<User> {
      */
     public void add(User toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            throw new DuplicateHealthWorkerException();
-        }
         internalList.add(toAdd);
     }
 
@@ -53,17 +54,7 @@ public class UniqueUserList implements Iterable<User> {
      */
     public void setUser(User target, User editedPerson) {
         requireAllNonNull(target, editedPerson);
-
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new HealthWorkerNotFoundException();
-        }
-
-        if (!target.isSameUser(editedPerson) && contains(editedPerson)) {
-            throw new DuplicateHealthWorkerException();
-        }
-
-        internalList.set(index, editedPerson);
+        internalList.set(target, editedPerson);
     }
 
     /**
@@ -72,9 +63,14 @@ public class UniqueUserList implements Iterable<User> {
      */
     public void remove(User toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new HealthWorkerNotFoundException();
-        }
+        internalList.remove(toRemove);
+    }
+
+    /**
+     * Replaces the {@code removeCount} users starting at position {@code from} with {@code inserted}.
+     */
+    public void splice(int from, int removeCount, List<User> inserted) {
+        internalList.splice(from, removeCount, inserted);
     }
 
     public void setUsers(UniqueUserList replacement) {
@@ -88,10 +84,6 @@ public class UniqueUserList implements Iterable<User> {
      */
     public void setUsers(List<User> users) {
         requireAllNonNull(users);
-        if (!usersAreUnique(users)) {
-            throw new DuplicateHealthWorkerException();
-        }
-
         internalList.setAll(users);
     }
 
@@ -99,7 +91,7 @@ public class UniqueUserList implements Iterable<User> {
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<User> asUnmodifiableObservableList() {
-        return FXCollections.unmodifiableObservableList(internalList);
+        return internalList.asUnmodifiableObservableList();
     }
 
     @Override
@@ -118,18 +110,4 @@ public class UniqueUserList implements Iterable<User> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code users} contains only unique users.
-     */
-    private boolean usersAreUnique(List<User> users) {
-        for (int i = 0; i < users.size() - 1; i++) {
-            for (int j = i + 1; j < users.size(); j++) {
-                if (users.get(i).isSameUser(users.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -0,0 +1,34 @@
+package seedu.address.model.user;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import seedu.address.model.common.Name;
+import seedu.address.model.common.Password;
+import seedu.address.model.common.Username;
+import seedu.address.model.util.ElementCodec;
+
+/**
+ * Converts a {@code User} to and from a compact binary form.
+ */
+public class UserCodec implements ElementCodec<User> {
+
+    @Override
+    public void write(DataOutput out, User user) throws IOException {
+        out.writeBoolean(user.getName() != null);
+        if (user.getName() != null) {
+            out.writeUTF(user.getName().fullName);
+        }
+        out.writeUTF(user.getUsername().value);
+        out.writeUTF(user.getPassword().value);
+    }
+
+    @Override
+    public User read(DataInput in) throws IOException {
+        Name name = in.readBoolean() ? new Name(in.readUTF()) : null;
+        Username username = new Username(in.readUTF());
+        Password password = new Password(in.readUTF());
+        return name == null ? new User(username, password) : new User(name, username, password);
+    }
+}
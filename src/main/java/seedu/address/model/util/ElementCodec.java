@@ -0,0 +1,45 @@
+package seedu.address.model.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Converts elements of type {@code T} to and from a compact binary form.
+ *
+ * @param <T> type of the elements
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Writes {@code element} to {@code out}.
+     */
+    void write(DataOutput out, T element) throws IOException;
+
+    /**
+     * Reads an element written by {@link #write(DataOutput, Object)} from {@code in}.
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Writes a {@code tag} that may be null to {@code out}.
+     */
+    static void writeTag(DataOutput out, UUID tag) throws IOException {
+        out.writeBoolean(tag != null);
+        if (tag != null) {
+            out.writeLong(tag.getMostSignificantBits());
+            out.writeLong(tag.getLeastSignificantBits());
+        }
+    }
+
+    /**
+     * Reads a tag written by {@link #writeTag(DataOutput, UUID)} from {@code in}.
+     */
+    static UUID readTag(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+/**
+ * Bounds the undo/redo history kept by a {@link ListEditLog}.
+ * Revisions beyond {@code maxDepth} are forgotten. Once the revisions held in memory take up more than
+ * {@code memoryBudget} bytes in their encoded form, the oldest of them are moved to a temporary file.
+ */
+public class HistoryLimits {
+
+    public static final String MESSAGE_LIMITS_CONSTRAINTS =
+            "Memory budget should not be negative and maximum depth should be positive.";
+
+    public static final HistoryLimits UNLIMITED = new HistoryLimits(Long.MAX_VALUE, Integer.MAX_VALUE);
+
+    private final long memoryBudget;
+    private final int maxDepth;
+
+    /**
+     * @param memoryBudget number of bytes of history to keep in memory.
+     * @param maxDepth     number of revisions that can be undone.
+     */
+    public HistoryLimits(long memoryBudget, int maxDepth) {
+        checkArgument(memoryBudget >= 0 && maxDepth > 0, MESSAGE_LIMITS_CONSTRAINTS);
+        this.memoryBudget = memoryBudget;
+        this.maxDepth = maxDepth;
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Returns true if history may have to be moved out of memory to stay within the budget.
+     */
+    public boolean isMemoryBounded() {
+        return memoryBudget != Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof HistoryLimits // instanceof handles nulls
+                && memoryBudget == ((HistoryLimits) other).memoryBudget
+                && maxDepth == ((HistoryLimits) other).maxDepth);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(memoryBudget, maxDepth);
+    }
+
+    @Override
+    public String toString() {
+        return "Memory budget: " + memoryBudget + " bytes, maximum depth: " + maxDepth;
+    }
+}
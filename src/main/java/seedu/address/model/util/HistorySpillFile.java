@@ -0,0 +1,127 @@
+package seedu.address.model.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An append-only temporary file holding history that has been moved out of memory.
+ * Records are addressed by logical offsets that stay valid when discarded records at the start of the file
+ * are compacted away. The file is deleted when it is closed or when the JVM exits.
+ */
+class HistorySpillFile implements AutoCloseable {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    // Logical offset of the first byte in the file.
+    private long base;
+    // Logical offsets of the first live byte and of the end of the file.
+    private long start;
+    private long end;
+
+    private HistorySpillFile(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Creates an empty spill file in the default temporary-file directory.
+     */
+    static HistorySpillFile create() throws IOException {
+        Path path = Files.createTempFile("healthhub-history", ".bin");
+        path.toFile().deleteOnExit();
+        return new HistorySpillFile(FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE));
+    }
+
+    /**
+     * Appends {@code record} and returns its offset.
+     */
+    long append(byte[] record) throws IOException {
+        long offset = end;
+        writeFully(ByteBuffer.wrap(record), offset - base);
+        end += record.length;
+        return offset;
+    }
+
+    /**
+     * Returns the {@code length} bytes stored at {@code offset}.
+     */
+    byte[] read(long offset, int length) throws IOException {
+        assert offset >= start && offset + length <= end;
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        readFully(buffer, offset - base);
+        return buffer.array();
+    }
+
+    /**
+     * Discards the records at and after {@code offset}.
+     */
+    void truncate(long offset) throws IOException {
+        assert offset >= start && offset <= end;
+        end = offset;
+        channel.truncate(end - base);
+    }
+
+    /**
+     * Discards the records before {@code offset}.
+     * The file is compacted once the discarded records take up more space than the remaining ones.
+     */
+    void discardBefore(long offset) throws IOException {
+        assert offset >= start && offset <= end;
+        start = offset;
+        if (start - base > end - start) {
+            compact();
+        }
+    }
+
+    /**
+     * Moves the live records to the start of the file.
+     */
+    private void compact() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+        long from = start - base;
+        long to = 0;
+        while (from < end - base) {
+            buffer.clear();
+            buffer.limit((int) Math.min(COPY_BUFFER_SIZE, end - base - from));
+            readFully(buffer, from);
+            buffer.flip();
+            writeFully(buffer, to);
+            from += buffer.limit();
+            to += buffer.limit();
+        }
+        channel.truncate(to);
+        base = start;
+    }
+
+    /**
+     * Reads from the file into {@code buffer} until it is full.
+     */
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of history file");
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Writes all remaining bytes of {@code buffer} to the file.
+     */
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
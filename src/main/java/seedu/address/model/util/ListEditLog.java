@@ -0,0 +1,460 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Keeps the undo/redo history of an {@code ObservableList} as a log of edits instead of full copies.
+ * Every change to the observed list is recorded as a {@link ListEdit} (the elements removed and added at
+ * an index). Edits made between two calls to {@link #commit()} form a revision, so the cost of a commit is
+ * proportional to the size of the changes it saves. Undo and redo replay the edits of one revision
+ * backwards or forwards through a {@link Splicer}, which touches only the affected positions.
+ * <p>
+ * The history can be bounded by {@link HistoryLimits}. Revisions beyond the maximum depth are forgotten, and
+ * once the revisions held in memory exceed the memory budget, the oldest of them are encoded with an
+ * {@link ElementCodec} and moved to a temporary file, from which they are read back when undone or redone.
+ *
+ * @param <T> type of the elements in the observed list
+ */
+public class ListEditLog<T> {
+
+    private static final Logger logger = LogsCenter.getLogger(ListEditLog.class);
+
+    // Held so that the observed list, which may be a weakly-listening view, stays reachable with its listener.
+    private final ObservableList<? extends T> observedList;
+    private final Splicer<T> splicer;
+    private final ElementCodec<T> codec;
+    private final HistoryLimits limits;
+    private final List<Revision<T>> revisions = new ArrayList<>();
+    private List<ListEdit<T>> pendingEdits = new ArrayList<>();
+    private int currentStatePointer;
+    // Revisions before this index are in the spill file, the others are in memory.
+    private int spilledCount;
+    private long inMemoryBytes;
+    private HistorySpillFile spillFile;
+    private boolean isReplaying;
+
+    /**
+     * Starts logging changes made to {@code observedList} from its current state, without bounding the history.
+     *
+     * @param splicer applies an edit to the list that backs {@code observedList}.
+     */
+    public ListEditLog(ObservableList<? extends T> observedList, Splicer<T> splicer) {
+        this(observedList, splicer, null, HistoryLimits.UNLIMITED);
+    }
+
+    /**
+     * Starts logging changes made to {@code observedList} from its current state, keeping the history within
+     * {@code limits}.
+     *
+     * @param splicer applies an edit to the list that backs {@code observedList}.
+     * @param codec   encodes elements of revisions that are moved out of memory. Required if {@code limits}
+     *                bounds the memory used.
+     */
+    public ListEditLog(ObservableList<? extends T> observedList, Splicer<T> splicer, ElementCodec<T> codec,
+                       HistoryLimits limits) {
+        requireAllNonNull(observedList, splicer, limits);
+        assert codec != null || !limits.isMemoryBounded();
+        this.observedList = observedList;
+        this.splicer = splicer;
+        this.codec = codec;
+        this.limits = limits;
+        currentStatePointer = 0;
+        observedList.addListener(this::record);
+    }
+
+    /**
+     * Saves the edits made since the last commit as a new revision.
+     * Undone revisions are discarded.
+     */
+    public void commit() {
+        discardUndoneRevisions();
+        Revision<T> revision = new Revision<>(pendingEdits);
+        if (limits.isMemoryBounded()) {
+            revision.encoded = encode(pendingEdits);
+            revision.size = revision.encoded.length;
+        }
+        revisions.add(revision);
+        inMemoryBytes += revision.size;
+        pendingEdits = new ArrayList<>();
+        currentStatePointer++;
+
+        enforceLimits();
+        revision.encoded = null;
+    }
+
+    /**
+     * Restores the list to the state of the previous commit.
+     * Uncommitted edits are discarded.
+     *
+     * @return the elements inserted into the list, some of which a later edit may have removed again.
+     */
+    public List<T> undo() {
+        assert canUndo();
+        List<T> inserted = rollBackPendingEdits();
+        currentStatePointer--;
+        inserted.addAll(replayBackwards(editsOf(currentStatePointer)));
+        return inserted;
+    }
+
+    /**
+     * Restores the list to the state of the next, previously undone, commit.
+     * Uncommitted edits are discarded.
+     *
+     * @return the elements inserted into the list, some of which a later edit may have removed again.
+     */
+    public List<T> redo() {
+        assert canRedo();
+        List<T> inserted = rollBackPendingEdits();
+        inserted.addAll(replayForwards(editsOf(currentStatePointer)));
+        currentStatePointer++;
+        return inserted;
+    }
+
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    public boolean canRedo() {
+        return currentStatePointer < revisions.size();
+    }
+
+    /**
+     * Returns the number of bytes taken up by the encoded revisions that are held in memory.
+     * Always zero if the memory used is not bounded.
+     */
+    public long getInMemoryBytes() {
+        return inMemoryBytes;
+    }
+
+    /**
+     * Returns the number of revisions that have been moved out of memory.
+     */
+    public int getSpilledCount() {
+        return spilledCount;
+    }
+
+    /**
+     * Removes the revisions after the current state.
+     */
+    private void discardUndoneRevisions() {
+        if (!canRedo()) {
+            return;
+        }
+        List<Revision<T>> undone = revisions.subList(currentStatePointer, revisions.size());
+        if (currentStatePointer < spilledCount) {
+            try {
+                spillFile.truncate(undone.get(0).offset);
+            } catch (IOException ioe) {
+                logger.warning("Unable to truncate undo history file: " + ioe.getMessage());
+            }
+            spilledCount = currentStatePointer;
+        }
+        undone.forEach(revision -> inMemoryBytes -= revision.size);
+        undone.clear();
+    }
+
+    /**
+     * Forgets the oldest revisions beyond the maximum depth, then moves the oldest revisions in memory to the
+     * spill file until the memory budget is met.
+     */
+    private void enforceLimits() {
+        if (revisions.size() > limits.getMaxDepth()) {
+            forgetOldest(revisions.size() - limits.getMaxDepth());
+        }
+        while (inMemoryBytes > limits.getMemoryBudget() && spilledCount < revisions.size()) {
+            Revision<T> oldest = revisions.get(spilledCount);
+            try {
+                spill(oldest);
+            } catch (IOException ioe) {
+                logger.warning("Unable to move undo history to disk, forgetting it instead: " + ioe.getMessage());
+                forgetOldest(spilledCount + 1);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code revision} to the spill file and releases its edits.
+     */
+    private void spill(Revision<T> revision) throws IOException {
+        byte[] encoded = revision.encoded != null ? revision.encoded : encode(revision.edits);
+        if (spillFile == null) {
+            spillFile = HistorySpillFile.create();
+        }
+        revision.offset = spillFile.append(encoded);
+        revision.length = encoded.length;
+        revision.edits = null;
+        revision.encoded = null;
+        inMemoryBytes -= revision.size;
+        revision.size = 0;
+        spilledCount++;
+    }
+
+    /**
+     * Forgets the {@code count} oldest revisions.
+     */
+    private void forgetOldest(int count) {
+        List<Revision<T>> oldest = revisions.subList(0, count);
+        int spilledForgotten = Math.min(count, spilledCount);
+        if (spilledForgotten > 0) {
+            Revision<T> lastSpilled = oldest.get(spilledForgotten - 1);
+            try {
+                spillFile.discardBefore(lastSpilled.offset + lastSpilled.length);
+            } catch (IOException ioe) {
+                logger.warning("Unable to compact undo history file: " + ioe.getMessage());
+            }
+        }
+        oldest.forEach(revision -> inMemoryBytes -= revision.size);
+        oldest.clear();
+        spilledCount -= spilledForgotten;
+        currentStatePointer -= count;
+    }
+
+    /**
+     * Returns the edits of the revision at {@code index}, reading them from the spill file if necessary.
+     */
+    private List<ListEdit<T>> editsOf(int index) {
+        Revision<T> revision = revisions.get(index);
+        if (index >= spilledCount) {
+            return revision.edits;
+        }
+        try {
+            return decode(spillFile.read(revision.offset, revision.length));
+        } catch (IOException ioe) {
+            throw new UncheckedIOException("Unable to read undo history from disk", ioe);
+        }
+    }
+
+    /**
+     * Encodes {@code edits} in the format read by {@link #decode(byte[])}.
+     */
+    private byte[] encode(List<ListEdit<T>> edits) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(edits.size());
+            for (ListEdit<T> edit : edits) {
+                out.writeInt(edit.from);
+                writeElements(out, edit.removed);
+                writeElements(out, edit.added);
+            }
+        } catch (IOException ioe) {
+            throw new AssertionError("Writing to a byte array should not fail", ioe);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes edits encoded by {@link #encode(List)}.
+     */
+    private List<ListEdit<T>> decode(byte[] encoded) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded));
+        int editCount = in.readInt();
+        List<ListEdit<T>> edits = new ArrayList<>(editCount);
+        for (int i = 0; i < editCount; i++) {
+            int from = in.readInt();
+            List<T> removed = readElements(in);
+            List<T> added = readElements(in);
+            edits.add(new ListEdit<>(from, removed, added));
+        }
+        return edits;
+    }
+
+    /**
+     * Writes the number of {@code elements} followed by each element.
+     */
+    private void writeElements(DataOutput out, List<T> elements) throws IOException {
+        out.writeInt(elements.size());
+        for (T element : elements) {
+            codec.write(out, element);
+        }
+    }
+
+    /**
+     * Reads elements written by {@link #writeElements(DataOutput, List)}.
+     */
+    private List<T> readElements(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<T> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(codec.read(in));
+        }
+        return elements;
+    }
+
+    /**
+     * Records the edits described by {@code change}, unless the change was caused by an undo or redo.
+     */
+    private void record(ListChangeListener.Change<? extends T> change) {
+        if (isReplaying) {
+            return;
+        }
+        while (change.next()) {
+            assert !change.wasPermutated() && !change.wasUpdated();
+            pendingEdits.add(new ListEdit<>(change.getFrom(), change.getRemoved(), change.getAddedSubList()));
+        }
+    }
+
+    /**
+     * Undoes the edits made since the last commit, and returns the elements inserted by doing so.
+     */
+    private List<T> rollBackPendingEdits() {
+        List<T> inserted = replayBackwards(pendingEdits);
+        pendingEdits = new ArrayList<>();
+        return inserted;
+    }
+
+    /**
+     * Reverts {@code edits}, starting from the most recent one, and returns the elements inserted by doing so.
+     */
+    private List<T> replayBackwards(List<ListEdit<T>> edits) {
+        List<T> inserted = new ArrayList<>();
+        isReplaying = true;
+        try {
+            for (int i = edits.size() - 1; i >= 0; i--) {
+                ListEdit<T> edit = edits.get(i);
+                splicer.splice(edit.from, edit.added.size(), edit.removed);
+                inserted.addAll(edit.removed);
+            }
+        } finally {
+            isReplaying = false;
+        }
+        return inserted;
+    }
+
+    /**
+     * Reapplies {@code edits} in the order they were made, and returns the elements inserted by doing so.
+     */
+    private List<T> replayForwards(List<ListEdit<T>> edits) {
+        List<T> inserted = new ArrayList<>();
+        isReplaying = true;
+        try {
+            for (ListEdit<T> edit : edits) {
+                splicer.splice(edit.from, edit.removed.size(), edit.added);
+                inserted.addAll(edit.added);
+            }
+        } finally {
+            isReplaying = false;
+        }
+        return inserted;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListEditLog)) {
+            return false;
+        }
+
+        ListEditLog<?> otherLog = (ListEditLog<?>) other;
+
+        // state check
+        if (revisions.size() != otherLog.revisions.size()
+                || !pendingEdits.equals(otherLog.pendingEdits)
+                || currentStatePointer != otherLog.currentStatePointer) {
+            return false;
+        }
+        for (int i = 0; i < revisions.size(); i++) {
+            if (!editsOf(i).equals(otherLog.editsOf(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(revisions.size(), pendingEdits, currentStatePointer);
+    }
+
+    /**
+     * Replaces a range of the list that backs the observed list.
+     */
+    @FunctionalInterface
+    public interface Splicer<T> {
+        /**
+         * Removes {@code removeCount} elements starting at {@code from} and inserts {@code inserted} in their place.
+         */
+        void splice(int from, int removeCount, List<T> inserted);
+    }
+
+    /**
+     * The edits saved by one commit. Once moved to the spill file, only the location of the encoded edits is kept.
+     */
+    private static class Revision<T> {
+        private List<ListEdit<T>> edits;
+        // Size of the encoded edits while they are held in memory, or zero if the memory used is not bounded.
+        private long size;
+        // Encoded edits, kept only until the limits have been enforced after the commit.
+        private byte[] encoded;
+        private long offset;
+        private int length;
+
+        Revision(List<ListEdit<T>> edits) {
+            this.edits = edits;
+        }
+    }
+
+    /**
+     * An edit to a list: {@code removed} was replaced by {@code added}, starting at position {@code from}.
+     */
+    private static class ListEdit<T> {
+        private final int from;
+        private final List<T> removed;
+        private final List<T> added;
+
+        ListEdit(int from, List<? extends T> removed, List<? extends T> added) {
+            this.from = from;
+            this.removed = copyOf(removed);
+            this.added = copyOf(added);
+        }
+
+        /**
+         * Returns an immutable copy of {@code elements}, which may be a view of a live list.
+         */
+        private static <T> List<T> copyOf(List<? extends T> elements) {
+            if (elements.isEmpty()) {
+                return Collections.emptyList();
+            }
+            if (elements.size() == 1) {
+                return Collections.singletonList(elements.get(0));
+            }
+            return Collections.unmodifiableList(new ArrayList<>(elements));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ListEdit // instanceof handles nulls
+                    && from == ((ListEdit<?>) other).from
+                    && removed.equals(((ListEdit<?>) other).removed)
+                    && added.equals(((ListEdit<?>) other).added));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, removed, added);
+        }
+    }
+}
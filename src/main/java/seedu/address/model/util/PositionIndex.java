@@ -0,0 +1,86 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The positions of the elements of a list, told apart by identity, so that an element is found in the list without
+ * scanning it. The owner of the list tells the index about each change it makes to the list.
+ * <p>
+ * Replacing or appending an element updates one position. Removing or inserting elements moves all the elements
+ * after them, so their positions are renumbered lazily, on the next lookup of an element at or after the change;
+ * a run of changes renumbers the rest of the list once.
+ *
+ * @param <T> type of the elements
+ */
+public class PositionIndex<T> {
+
+    private final List<T> list;
+    private final Map<T, Integer> positions = new IdentityHashMap<>();
+    // The positions of the elements before this position are up to date
+    private int firstStalePosition;
+
+    /**
+     * Creates an index of the positions in {@code list}, which is read when positions are renumbered.
+     */
+    public PositionIndex(List<T> list) {
+        requireNonNull(list);
+        this.list = list;
+    }
+
+    /**
+     * Returns the position of {@code element} in the list, or -1 if it is not in the list.
+     */
+    public int positionOf(T element) {
+        Integer position = positions.get(element);
+        if (position != null && position < firstStalePosition) {
+            return position;
+        }
+
+        for (int i = firstStalePosition; i < list.size(); i++) {
+            positions.put(list.get(i), i);
+        }
+        firstStalePosition = list.size();
+        position = positions.get(element);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Records that {@code element} was appended to the list.
+     */
+    public void appended(T element) {
+        int position = list.size() - 1;
+        positions.put(element, position);
+        if (firstStalePosition == position) {
+            firstStalePosition++;
+        }
+    }
+
+    /**
+     * Records that {@code removed} at {@code position} was replaced by {@code element}.
+     */
+    public void replaced(int position, T removed, T element) {
+        positions.remove(removed);
+        positions.put(element, position);
+    }
+
+    /**
+     * Records that {@code removed}, from {@code from} on, were removed from the list, and that elements may have
+     * been inserted at {@code from}.
+     */
+    public void spliced(int from, List<T> removed) {
+        removed.forEach(positions::remove);
+        firstStalePosition = Math.min(firstStalePosition, from);
+    }
+
+    /**
+     * Records that the contents of the list were replaced.
+     */
+    public void reset() {
+        positions.clear();
+        firstStalePosition = 0;
+    }
+}
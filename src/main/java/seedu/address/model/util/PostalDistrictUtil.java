@@ -0,0 +1,55 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Maps postal codes to the districts of the Singapore map, by the postal sector in their first two digits.
+ */
+public class PostalDistrictUtil {
+
+    /** The district of postal codes whose sector is in no district. */
+    public static final int NO_DISTRICT = 0;
+
+    /** The postal sectors of each district, starting from district 1. */
+    private static final int[][] DISTRICT_SECTORS = {
+        {1, 2, 3, 4, 5, 6}, {7, 8}, {14, 15, 16}, {9, 10}, {11, 12, 13}, {17}, {18, 19}, {20, 21}, {22, 23},
+        {24, 25, 26, 27}, {28, 29, 30}, {31, 32, 33}, {34, 35, 36, 37}, {38, 39, 40, 41}, {42, 43, 44, 45},
+        {46, 47, 48}, {49, 50, 81}, {51, 52}, {53, 54, 55, 82}, {56, 57}, {58, 59}, {60, 61, 62, 63, 64},
+        {65, 66, 67, 68}, {69, 70, 71}, {72, 73}, {77, 78}, {75, 76}, {79, 80}
+    };
+
+    private static final int SECTOR_COUNT = 100;
+
+    private static final int[] SECTOR_DISTRICTS = new int[SECTOR_COUNT];
+
+    static {
+        for (int district = 1; district <= DISTRICT_SECTORS.length; district++) {
+            for (int sector : DISTRICT_SECTORS[district - 1]) {
+                SECTOR_DISTRICTS[sector] = district;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of districts, which are numbered from 1 to this number.
+     */
+    public static int getDistrictCount() {
+        return DISTRICT_SECTORS.length;
+    }
+
+    /**
+     * Returns the district of {@code postalCode}, which must start with two digits, or {@link #NO_DISTRICT}.
+     */
+    public static int getDistrict(String postalCode) {
+        requireNonNull(postalCode);
+        assert postalCode.length() >= 2;
+        return getDistrictOfSector((postalCode.charAt(0) - '0') * 10 + (postalCode.charAt(1) - '0'));
+    }
+
+    /**
+     * Returns the district of the postal sector {@code sector}, or {@link #NO_DISTRICT}.
+     */
+    public static int getDistrictOfSector(int sector) {
+        return sector >= 0 && sector < SECTOR_COUNT ? SECTOR_DISTRICTS[sector] : NO_DISTRICT;
+    }
+}
@@ -26,24 +26,24 @@ import seedu.address.model.user.User;
 public class SampleDataUtil {
     public static Request[] getSampleOrders() {
         Request[] requests = new Request[]{
-            new Request(new Name("Alex Yeoh"), new Phone("87438807"),
-                new Address("Blk 30 Geylang Street 29, #06-40, 388670"), new RequestDate("20-10-2018 10:00:00"),
+            new Request(Name.of("Alex Yeoh"), new Phone("87438807"),
+                Address.of("Blk 30 Geylang Street 29, #06-40, 388670"), new RequestDate("20-10-2018 10:00:00"),
                 getConditionSet("Physiotherapy")),
-            new Request(new Name("Bernice Yu"), new Phone("99272758"),
-                new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18, 192355"),
+            new Request(Name.of("Bernice Yu"), new Phone("99272758"),
+                Address.of("Blk 30 Lorong 3 Serangoon Gardens, #07-18, 192355"),
                 new RequestDate("21-10-2018 10:00:00"), getConditionSet("Dialysis")),
-            new Request(new Name("Charlotte Oliveiro"), new Phone("93210283"),
-                new Address("Blk 11 Ang Mo Kio Street 74, #11-04, 564322"),
+            new Request(Name.of("Charlotte Oliveiro"), new Phone("93210283"),
+                Address.of("Blk 11 Ang Mo Kio Street 74, #11-04, 564322"),
                 new RequestDate("21-10-2018 14:00:00"), getConditionSet("Cancer")),
-            new Request(new Name("David Li"), new Phone("91031282"),
-                new Address("Blk 436 Jurong West Street 26, #16-43, 612234"),
+            new Request(Name.of("David Li"), new Phone("91031282"),
+                Address.of("Blk 436 Jurong West Street 26, #16-43, 612234"),
                 new RequestDate("24-10-2018 10:00:00"),
                 getConditionSet("Therapy")),
-            new Request(new Name("Irfan Ibrahim"), new Phone("92492021"),
-                new Address("Blk 47 Tampines Street 20, #17-35, 512234"), new RequestDate("26-10-2018 10:00:00"),
+            new Request(Name.of("Irfan Ibrahim"), new Phone("92492021"),
+                Address.of("Blk 47 Tampines Street 20, #17-35, 512234"), new RequestDate("26-10-2018 10:00:00"),
                 getConditionSet("Stroke")),
-            new Request(new Name("Roy Balakrishnan"), new Phone("92624417"),
-                new Address("Blk 45 Aljunied Street 85, #11-31, 380095"), new RequestDate("28-10-2018 10:00:00"),
+            new Request(Name.of("Roy Balakrishnan"), new Phone("92624417"),
+                Address.of("Blk 45 Aljunied Street 85, #11-31, 380095"), new RequestDate("28-10-2018 10:00:00"),
                 getConditionSet("Alzheimers"))
         };
         return requests;
@@ -52,10 +52,10 @@ public class SampleDataUtil {
 
     public static Healthworker[] getSampleDeliverymen() {
         return new Healthworker[]{
-            new Healthworker(new Name("Hoh Chi Kao")),
-            new Healthworker(new Name("Tan Yin Jing")),
-            new Healthworker(new Name("Rajul Rahesh")),
-            new Healthworker(new Name("Manika Monuela"))
+            new Healthworker(Name.of("Hoh Chi Kao")),
+            new Healthworker(Name.of("Tan Yin Jing")),
+            new Healthworker(Name.of("Rajul Rahesh")),
+            new Healthworker(Name.of("Manika Monuela"))
         };
     }
 
@@ -69,10 +69,10 @@ public class SampleDataUtil {
 
     public static User[] getSampleUsers() {
         return new User[]{
-            new User(new Name("Alice Pauline"), new Username("alicepauline"), new Password("alicepauline01")),
-            new User(new Name("Benson Meier"), new Username("bensonmeier"), new Password("bensonmeier02")),
-            new User(new Name("Carl Kurz"), new Username("carlkurz"), new Password("carlkurz03")),
-            new User(new Name("Hoon Meier"), new Username("hoonmeier"), new Password("hoonmeier04"))
+            new User(Name.of("Alice Pauline"), new Username("alicepauline"), new Password("alicepauline01")),
+            new User(Name.of("Benson Meier"), new Username("bensonmeier"), new Password("bensonmeier02")),
+            new User(Name.of("Carl Kurz"), new Username("carlkurz"), new Password("carlkurz03")),
+            new User(Name.of("Hoon Meier"), new Username("hoonmeier"), new Password("hoonmeier04"))
         };
     }
 
@@ -97,7 +97,7 @@ public class SampleDataUtil {
      */
     public static Set<Condition> getConditionSet(String... strings) {
         return Arrays.stream(strings)
-            .map(Condition::new)
+            .map(Condition::of)
             .collect(Collectors.toSet());
     }
 }
@@ -0,0 +1,259 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An inverted index of the trigrams, the runs of three characters, in the lower cased texts of a set of values.
+ * Finds the values with a text containing a keyword by intersecting the values of the trigrams in the keyword
+ * and checking only those, instead of checking every value.
+ * Texts are lower cased in the root locale, as keywords must be, so that the index and the check of its
+ * candidates agree whatever the default locale.
+ * <p>
+ * Values are told apart by identity, and the texts of a value must not change while it is in the index.
+ * Each value gets a slot number when added, and slot numbers only increase, so every posting list is sorted by
+ * appending to it.
+ *
+ * @param <T> type of the indexed values
+ */
+public class TrigramIndex<T> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Function<T, List<String>> textsOf;
+    private final Map<T, Integer> slots = new IdentityHashMap<>();
+    private final Map<Integer, T> values = new HashMap<>();
+    private final Map<Long, PostingList> postingLists = new HashMap<>();
+    private int nextSlot;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param textsOf returns the texts of a value that are indexed
+     */
+    public TrigramIndex(Function<T, List<String>> textsOf) {
+        requireNonNull(textsOf);
+        this.textsOf = textsOf;
+    }
+
+    /**
+     * Adds {@code value} to the index, if it is not there.
+     */
+    public void add(T value) {
+        requireNonNull(value);
+        if (slots.containsKey(value)) {
+            return;
+        }
+
+        int slot = nextSlot++;
+        slots.put(value, slot);
+        values.put(slot, value);
+        for (long gram : gramsOf(value)) {
+            postingLists.computeIfAbsent(gram, unused -> new PostingList()).append(slot);
+        }
+    }
+
+    /**
+     * Removes {@code value} from the index, if it is there.
+     */
+    public void remove(T value) {
+        requireNonNull(value);
+        Integer slot = slots.remove(value);
+        if (slot == null) {
+            return;
+        }
+
+        values.remove(slot);
+        for (long gram : gramsOf(value)) {
+            PostingList postingList = postingLists.get(gram);
+            postingList.remove(slot);
+            if (postingList.size == 0) {
+                postingLists.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes all the values from the index.
+     */
+    public void clear() {
+        slots.clear();
+        values.clear();
+        postingLists.clear();
+        nextSlot = 0;
+    }
+
+    /**
+     * Returns true if {@code value} is in the index.
+     */
+    public boolean contains(T value) {
+        return slots.containsKey(value);
+    }
+
+    /**
+     * Returns the number of values in the index.
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Returns the values with a text whose lower cased form contains {@code keyword}, which must be lower cased.
+     * Keywords shorter than a trigram are checked against every value.
+     */
+    public Set<T> find(String keyword) {
+        requireNonNull(keyword);
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (keyword.length() < GRAM_LENGTH) {
+            for (T value : slots.keySet()) {
+                addIfMatches(value, keyword, matches);
+            }
+            return matches;
+        }
+
+        List<PostingList> keywordPostingLists = new ArrayList<>();
+        for (long gram : gramsOfKeyword(keyword)) {
+            PostingList postingList = postingLists.get(gram);
+            if (postingList == null) {
+                return matches;
+            }
+            keywordPostingLists.add(postingList);
+        }
+        // Intersecting from the shortest list keeps the candidates few from the start
+        keywordPostingLists.sort(Comparator.comparingInt(postingList -> postingList.size));
+
+        int[] candidates = Arrays.copyOf(keywordPostingLists.get(0).slots, keywordPostingLists.get(0).size);
+        int candidateCount = candidates.length;
+        for (int i = 1; i < keywordPostingLists.size() && candidateCount > 0; i++) {
+            candidateCount = keywordPostingLists.get(i).retainIn(candidates, candidateCount);
+        }
+
+        // Having all the trigrams of the keyword does not mean having the keyword, so candidates are checked
+        for (int i = 0; i < candidateCount; i++) {
+            addIfMatches(values.get(candidates[i]), keyword, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of values that {@link #find} would return for {@code keyword}, which
+     * must be lower cased: the number of values with the rarest trigram of the keyword. Does not check any value.
+     */
+    public int estimate(String keyword) {
+        requireNonNull(keyword);
+        if (keyword.length() < GRAM_LENGTH) {
+            return size();
+        }
+
+        int estimate = size();
+        for (long gram : gramsOfKeyword(keyword)) {
+            PostingList postingList = postingLists.get(gram);
+            if (postingList == null) {
+                return 0;
+            }
+            estimate = Math.min(estimate, postingList.size);
+        }
+        return estimate;
+    }
+
+    /**
+     * Adds {@code value} to {@code matches} if one of its lower cased texts contains {@code keyword}.
+     */
+    private void addIfMatches(T value, String keyword, Set<T> matches) {
+        for (String text : textsOf.apply(value)) {
+            if (text.toLowerCase(Locale.ROOT).contains(keyword)) {
+                matches.add(value);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of the lower cased texts of {@code value}.
+     */
+    private Set<Long> gramsOf(T value) {
+        Set<Long> grams = new HashSet<>();
+        for (String text : textsOf.apply(value)) {
+            addGrams(text.toLowerCase(Locale.ROOT), grams);
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text}.
+     */
+    private static Set<Long> gramsOfKeyword(String text) {
+        Set<Long> grams = new HashSet<>();
+        addGrams(text, grams);
+        return grams;
+    }
+
+    /**
+     * Adds the trigrams of {@code text} to {@code grams}, each packed into a long.
+     */
+    private static void addGrams(String text, Set<Long> grams) {
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+    }
+
+    /**
+     * The sorted slots of the values with a trigram.
+     */
+    private static class PostingList {
+        private int[] slots = new int[2];
+        private int size;
+
+        /**
+         * Adds {@code slot}, which must be greater than all the slots in the list.
+         */
+        void append(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, 2 * size);
+            }
+            slots[size++] = slot;
+        }
+
+        /**
+         * Removes {@code slot}, if it is in the list.
+         */
+        void remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index >= 0) {
+                System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+                size--;
+            }
+        }
+
+        /**
+         * Keeps only the first {@code count} sorted {@code candidates} that are in this list, moving them to the
+         * front, and returns how many are kept.
+         */
+        int retainIn(int[] candidates, int count) {
+            int kept = 0;
+            int from = 0;
+            for (int i = 0; i < count && from < size; i++) {
+                int index = Arrays.binarySearch(slots, from, size, candidates[i]);
+                if (index >= 0) {
+                    candidates[kept++] = candidates[i];
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+            }
+            return kept;
+        }
+    }
+}
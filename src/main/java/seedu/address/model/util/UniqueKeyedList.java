@@ -0,0 +1,238 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * An observable list that enforces uniqueness of its elements by a key and does not allow nulls.
+ * Two elements are considered the same if {@code keyExtractor} maps them to equal keys. A hash index from
+ * key to element is kept in sync with the backing list, and the position of each element in a {@link PositionIndex},
+ * so membership checks, lookups by key and replacement of an element are constant-time, and bulk replacement is
+ * linear. Removing an element shifts the elements after it, as in any array-backed list, and their positions are
+ * renumbered once before the next lookup among them.
+ * <p>
+ * As with the other unique lists, replacing and removing an element requires an element that is
+ * {@code equals} to the target to be present in the list.
+ *
+ * @param <T> type of the elements
+ * @param <K> type of the unique key extracted from each element
+ */
+public class UniqueKeyedList<T, K> implements Iterable<T> {
+
+    private final ObservableList<T> internalList = FXCollections.observableArrayList();
+    private final Map<K, T> index = new HashMap<>();
+    private final PositionIndex<T> positionIndex = new PositionIndex<>(internalList);
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final Supplier<? extends RuntimeException> duplicateException;
+    private final Supplier<? extends RuntimeException> notFoundException;
+
+    /**
+     * Creates an empty list.
+     *
+     * @param keyExtractor       maps an element to its unique key. The key must be derived from immutable fields.
+     * @param duplicateException supplies the exception thrown when an operation would result in duplicate keys.
+     * @param notFoundException  supplies the exception thrown when an element to replace or remove is missing.
+     */
+    public UniqueKeyedList(Function<? super T, ? extends K> keyExtractor,
+                           Supplier<? extends RuntimeException> duplicateException,
+                           Supplier<? extends RuntimeException> notFoundException) {
+        requireAllNonNull(keyExtractor, duplicateException, notFoundException);
+        this.keyExtractor = keyExtractor;
+        this.duplicateException = duplicateException;
+        this.notFoundException = notFoundException;
+    }
+
+    /**
+     * Returns true if the list contains an element with the same key as the given argument.
+     */
+    public boolean contains(T toCheck) {
+        requireNonNull(toCheck);
+        return index.containsKey(keyExtractor.apply(toCheck));
+    }
+
+    /**
+     * Returns the element with the given {@code key}, if any.
+     */
+    public Optional<T> get(K key) {
+        requireNonNull(key);
+        return Optional.ofNullable(index.get(key));
+    }
+
+    /**
+     * Adds an element to the list.
+     * No element with the same key may already exist in the list.
+     */
+    public void add(T toAdd) {
+        requireNonNull(toAdd);
+        K key = keyExtractor.apply(toAdd);
+        if (index.containsKey(key)) {
+            throw duplicateException.get();
+        }
+        internalList.add(toAdd);
+        positionIndex.appended(toAdd);
+        index.put(key, toAdd);
+    }
+
+    /**
+     * Replaces the element {@code target} in the list with {@code edited}.
+     * {@code target} must exist in the list.
+     * The key of {@code edited} must not be the same as that of another element in the list.
+     */
+    public void set(T target, T edited) {
+        requireAllNonNull(target, edited);
+
+        K targetKey = keyExtractor.apply(target);
+        T existing = findEqual(targetKey, target);
+
+        K editedKey = keyExtractor.apply(edited);
+        if (!targetKey.equals(editedKey) && index.containsKey(editedKey)) {
+            throw duplicateException.get();
+        }
+
+        int position = positionOf(existing);
+        internalList.set(position, edited);
+        positionIndex.replaced(position, existing, edited);
+        index.remove(targetKey);
+        index.put(editedKey, edited);
+    }
+
+    /**
+     * Removes the equivalent element from the list.
+     * The element must exist in the list.
+     */
+    public void remove(T toRemove) {
+        requireNonNull(toRemove);
+
+        K key = keyExtractor.apply(toRemove);
+        T existing = findEqual(key, toRemove);
+
+        int position = positionOf(existing);
+        internalList.remove(position);
+        positionIndex.spliced(position, Collections.singletonList(existing));
+        index.remove(key);
+    }
+
+    /**
+     * Replaces the {@code removeCount} elements starting at position {@code from} with {@code inserted}.
+     * The keys of {@code inserted} must be unique among themselves and the remaining elements.
+     */
+    public void splice(int from, int removeCount, List<T> inserted) {
+        requireAllNonNull(inserted);
+        List<T> toRemove = internalList.subList(from, from + removeCount);
+        Set<K> removedKeys = new HashSet<>();
+        toRemove.forEach(element -> removedKeys.add(keyExtractor.apply(element)));
+        Map<K, T> insertedByKey = new HashMap<>();
+        for (T element : inserted) {
+            K key = keyExtractor.apply(element);
+            if (insertedByKey.putIfAbsent(key, element) != null
+                    || (index.containsKey(key) && !removedKeys.contains(key))) {
+                throw duplicateException.get();
+            }
+        }
+
+        removedKeys.forEach(index::remove);
+        index.putAll(insertedByKey);
+        if (removeCount == internalList.size()) {
+            internalList.setAll(inserted);
+            positionIndex.reset();
+        } else if (removeCount == 1 && inserted.size() == 1) {
+            positionIndex.replaced(from, toRemove.get(0), inserted.get(0));
+            internalList.set(from, inserted.get(0));
+        } else {
+            positionIndex.spliced(from, toRemove);
+            toRemove.clear();
+            internalList.addAll(from, inserted);
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
+    public void setAll(UniqueKeyedList<T, K> replacement) {
+        requireNonNull(replacement);
+        index.clear();
+        index.putAll(replacement.index);
+        internalList.setAll(replacement.internalList);
+        positionIndex.reset();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code elements}.
+     * {@code elements} must not contain elements with duplicate keys.
+     */
+    public void setAll(List<T> elements) {
+        requireAllNonNull(elements);
+        Map<K, T> newIndex = new HashMap<>();
+        for (T element : elements) {
+            if (newIndex.putIfAbsent(keyExtractor.apply(element), element) != null) {
+                throw duplicateException.get();
+            }
+        }
+
+        index.clear();
+        index.putAll(newIndex);
+        internalList.setAll(elements);
+        positionIndex.reset();
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<T> asUnmodifiableObservableList() {
+        return FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return internalList.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UniqueKeyedList // instanceof handles nulls
+                && internalList.equals(((UniqueKeyedList<?, ?>) other).internalList));
+    }
+
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+
+    /**
+     * Returns the element in the list stored under {@code key} that is equal to {@code element}.
+     * Throws the not-found exception if there is none.
+     */
+    private T findEqual(K key, T element) {
+        T candidate = index.get(key);
+        if (candidate == null || !element.equals(candidate)) {
+            throw notFoundException.get();
+        }
+        return candidate;
+    }
+
+    /**
+     * Returns the position of {@code element} in the backing list, comparing by reference.
+     */
+    private int positionOf(T element) {
+        int position = positionIndex.positionOf(element);
+        if (position < 0) {
+            throw notFoundException.get();
+        }
+        return position;
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A pool of immutable values, each created from a string, that hands out one shared instance per string.
+ * Values that repeat across many requests, such as conditions and healthworker names, are then held once in
+ * memory however many times they are loaded or parsed.
+ * <p>
+ * The pool refers to its values weakly, so a value that is no longer used anywhere else is garbage collected
+ * and its entry dropped. Values are keyed by the exact string they were created from, as the {@code equals} of
+ * some values, such as {@code Name}, ignores differences that must be kept. Safe for use by several threads.
+ *
+ * @param <T> type of the pooled values
+ */
+public class WeakInterner<T> {
+
+    private final Function<String, ? extends T> factory;
+    private final Map<String, ValueReference<T>> pool = new HashMap<>();
+    private final ReferenceQueue<T> collectedValues = new ReferenceQueue<>();
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param factory creates the value for a string that is not in the pool. It may validate the string and throw.
+     */
+    public WeakInterner(Function<String, ? extends T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the pooled value for {@code string}, creating and pooling it if there is none.
+     * Only strings that have been accepted by the factory are pooled, so a string is validated once.
+     */
+    public synchronized T intern(String string) {
+        requireNonNull(string);
+        dropCollectedValues();
+
+        ValueReference<T> pooledReference = pool.get(string);
+        T pooled = pooledReference == null ? null : pooledReference.get();
+        if (pooled != null) {
+            return pooled;
+        }
+
+        T created = factory.apply(string);
+        pool.put(string, new ValueReference<>(string, created, collectedValues));
+        return created;
+    }
+
+    /**
+     * Returns the number of values in the pool, including values that have been collected but are yet to be
+     * dropped.
+     */
+    public synchronized int size() {
+        dropCollectedValues();
+        return pool.size();
+    }
+
+    /**
+     * Drops the entries of the values that have been garbage collected.
+     */
+    private void dropCollectedValues() {
+        for (Object collected = collectedValues.poll(); collected != null; collected = collectedValues.poll()) {
+            ValueReference<?> reference = (ValueReference<?>) collected;
+            // The entry may already hold a newer value for the same string
+            pool.remove(reference.string, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a pooled value that remembers the string it was created from.
+     */
+    private static class ValueReference<T> extends WeakReference<T> {
+        private final String string;
+
+        ValueReference(String string, T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.string = string;
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyRequestBook;
+import seedu.address.model.ReferenceResolver;
+import seedu.address.model.RequestBook;
+import seedu.address.model.common.Address;
+import seedu.address.model.common.Name;
+import seedu.address.model.common.Phone;
+import seedu.address.model.healthworker.Healthworker;
+import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.model.request.Condition;
+import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestDate;
+import seedu.address.model.request.RequestStatus;
+import seedu.address.storage.healthworker.XmlSerializableHealthworkerList;
+
+/**
+ * A class to access HealthHub data stored in a compact binary file.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a table of the distinct strings in
+ * the data, the requests and the healthworkers. Requests refer to their field values by their index in the
+ * string table, so repeated values such as conditions and healthworker names are stored once. Healthworkers
+ * refer to their requests by position in the request list. Strings are length-prefixed, and counts and
+ * indexes are written as variable-length integers.
+ */
+public class BinaryHealthHubStorage implements HealthHubStorage {
+
+    public static final int MAGIC_NUMBER = 0x48484246;
+    public static final short FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not a binary HealthHub file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary HealthHub file version: %d";
+    public static final String MESSAGE_TRUNCATED_FILE = "Binary HealthHub file is truncated";
+    public static final String MESSAGE_INVALID_REFERENCE = "Binary HealthHub file refers to a missing %s: %d";
+    public static final String MESSAGE_UNKNOWN_REQUEST = "Healthworker %s is assigned a request that is not in the"
+            + " request book";
+
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryHealthHubStorage.class);
+
+    private Path healthHubFilePath;
+
+    public BinaryHealthHubStorage(Path healthHubFilePath) {
+        this.healthHubFilePath = healthHubFilePath;
+    }
+
+    @Override
+    public Path getHealthHubFilePath() {
+        return healthHubFilePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the magic number of the binary format.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Read until the magic number is complete or the file ends
+            }
+            header.flip();
+            return header.remaining() == Integer.BYTES && header.getInt() == MAGIC_NUMBER;
+        }
+    }
+
+    //================================ data save methods ======================================
+
+    @Override
+    public void saveHealthHub(ReadOnlyRequestBook orderBook, HealthworkerList healthworkerList) throws IOException {
+        saveHealthHub(orderBook, healthworkerList, healthHubFilePath);
+    }
+
+    /**
+     * Saves data to the binary file in the hard disk.
+     * The data is written to a temporary file first, which then replaces the data file.
+     */
+    @Override
+    public void saveHealthHub(ReadOnlyRequestBook orderBook, HealthworkerList healthworkerList, Path filePath)
+            throws IOException {
+        requireNonNull(orderBook);
+        requireNonNull(healthworkerList);
+        requireNonNull(filePath);
+
+        Encoder encoder = new Encoder();
+        byte[] body = encoder.encode(orderBook.getRequestList(), healthworkerList.getDeliverymenList());
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC_NUMBER).putShort(FORMAT_VERSION);
+        header.flip();
+        ByteBuffer[] buffers = {header, ByteBuffer.wrap(encoder.encodeStringTable()), ByteBuffer.wrap(body)};
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffers[buffers.length - 1].hasRemaining()) {
+                channel.write(buffers);
+            }
+        }
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    //================================ data read methods ======================================
+
+    @Override
+    public Optional<HealthHubData> readHealthHub() throws DataConversionException, IOException {
+        return readHealthHub(healthHubFilePath);
+    }
+
+    /**
+     * Similar to {@link #readHealthHub()}
+     *
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<HealthHubData> readHealthHub(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("HealthHub file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Read until the buffer is full or the file ends
+            }
+            buffer.flip();
+        }
+
+        try {
+            return Optional.of(new Decoder(buffer).decode());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (BufferUnderflowException bue) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_TRUNCATED_FILE));
+        } catch (RuntimeException re) {
+            // Constraint violations and duplicates reported by the model
+            logger.info("Illegal values found in " + filePath + ": " + re.getMessage());
+            throw new DataConversionException(re);
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyRequestBook> readRequestBook() throws DataConversionException, IOException {
+        return readRequestBook(healthHubFilePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyRequestBook> readRequestBook(Path filePath) throws DataConversionException, IOException {
+        return readHealthHub(filePath).map(HealthHubData::getRequestBook);
+    }
+
+    @Override
+    public Optional<HealthworkerList> readHealthworkerList() throws DataConversionException, IOException {
+        return readHealthworkerList(healthHubFilePath);
+    }
+
+    @Override
+    public Optional<HealthworkerList> readHealthworkerList(Path filePath) throws DataConversionException,
+            IOException {
+        return readHealthHub(filePath).map(HealthHubData::getHealthworkerList);
+    }
+
+    /**
+     * Writes a non-negative {@code value} in as few bytes as possible, seven bits at a time.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarInt(DataOutputStream, int)}.
+     */
+    private static int readVarInt(ByteBuffer in) throws IllegalValueException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+    }
+
+    /**
+     * Encodes requests and healthworkers, collecting the strings they use into a string table.
+     */
+    private static class Encoder {
+        private final Map<String, Integer> stringIds = new LinkedHashMap<>();
+
+        /**
+         * Returns the encoded {@code requests} followed by the encoded {@code healthworkers}.
+         */
+        byte[] encode(List<Request> requests, List<Healthworker> healthworkers) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+
+            Map<Request, Integer> requestPositions = new IdentityHashMap<>();
+            Map<UUID, Integer> taggedRequestPositions = new HashMap<>();
+            writeVarInt(out, requests.size());
+            for (Request request : requests) {
+                requestPositions.put(request, requestPositions.size());
+                if (request.getTag() != null) {
+                    taggedRequestPositions.put(request.getTag(), requestPositions.get(request));
+                }
+                writeRequest(out, request);
+            }
+
+            writeVarInt(out, healthworkers.size());
+            for (Healthworker healthworker : healthworkers) {
+                writeTag(out, healthworker.getTag());
+                writeString(out, healthworker.getName().fullName);
+                writeVarInt(out, healthworker.getRequests().size());
+                for (Request request : healthworker.getRequests()) {
+                    Integer position = requestPositions.get(request);
+                    if (position == null && request.getTag() != null) {
+                        position = taggedRequestPositions.get(request.getTag());
+                    }
+                    if (position == null) {
+                        throw new IOException(String.format(MESSAGE_UNKNOWN_REQUEST, healthworker.getName()));
+                    }
+                    writeVarInt(out, position);
+                }
+            }
+
+            out.flush();
+            return bytes.toByteArray();
+        }
+
+        /**
+         * Returns the string table of the strings used by the data encoded so far.
+         */
+        byte[] encodeStringTable() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            writeVarInt(out, stringIds.size());
+            for (String string : stringIds.keySet()) {
+                byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, encoded.length);
+                out.write(encoded);
+            }
+            out.flush();
+            return bytes.toByteArray();
+        }
+
+        /**
+         * Writes {@code request}, with its strings replaced by their ids in the string table.
+         */
+        private void writeRequest(DataOutputStream out, Request request) throws IOException {
+            writeTag(out, request.getTag());
+            writeString(out, request.getName().fullName);
+            writeString(out, request.getPhone().value);
+            writeString(out, request.getAddress().value);
+            writeString(out, request.getDate().toString());
+            writeString(out, request.getRequestStatus().toString());
+            writeVarInt(out, request.getCondition().size());
+            for (Condition condition : request.getCondition()) {
+                writeString(out, condition.foodName);
+            }
+            if (request.getHealthworker() == null) {
+                out.writeByte(0);
+            } else {
+                out.writeByte(1);
+                writeString(out, request.getHealthworker().getName().fullName);
+            }
+        }
+
+        /**
+         * Writes the id of {@code string} in the string table, adding it to the table if needed.
+         */
+        private void writeString(DataOutputStream out, String string) throws IOException {
+            writeVarInt(out, stringIds.computeIfAbsent(string, unused -> stringIds.size()));
+        }
+
+        /**
+         * Writes a {@code tag} that may be null.
+         */
+        private static void writeTag(DataOutputStream out, UUID tag) throws IOException {
+            out.writeBoolean(tag != null);
+            if (tag != null) {
+                out.writeLong(tag.getMostSignificantBits());
+                out.writeLong(tag.getLeastSignificantBits());
+            }
+        }
+    }
+
+    /**
+     * Decodes the data in a binary HealthHub file.
+     */
+    private static class Decoder {
+        private final ByteBuffer in;
+        private String[] strings;
+
+        Decoder(ByteBuffer in) {
+            this.in = in;
+        }
+
+        /**
+         * Returns the data in the file.
+         */
+        HealthHubData decode() throws IllegalValueException {
+            if (in.remaining() < HEADER_SIZE || in.getInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+            }
+            short version = in.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            strings = new String[readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] encoded = new byte[readCount()];
+                in.get(encoded);
+                strings[i] = new String(encoded, StandardCharsets.UTF_8);
+            }
+
+            List<Request> requests = new ArrayList<>();
+            int requestCount = readCount();
+            for (int i = 0; i < requestCount; i++) {
+                requests.add(readRequest());
+            }
+            RequestBook requestBook = new RequestBook();
+            for (Request request : requests) {
+                if (requestBook.hasRequest(request)) {
+                    throw new IllegalValueException(XmlSerializableRequestBook.MESSAGE_DUPLICATE_ORDER);
+                }
+                requestBook.addRequest(request);
+            }
+
+            HealthworkerList healthworkerList = new HealthworkerList();
+            int healthworkerCount = readCount();
+            for (int i = 0; i < healthworkerCount; i++) {
+                UUID tag = readTag();
+                Name name = Name.of(readString());
+                Set<Request> assignedRequests = new HashSet<>();
+                int assignedCount = readCount();
+                for (int j = 0; j < assignedCount; j++) {
+                    assignedRequests.add(requests.get(checkIndex(readVarInt(in), requests.size(), "request")));
+                }
+                Healthworker healthworker = new Healthworker(tag, name, assignedRequests);
+                if (healthworkerList.hasDeliveryman(healthworker)) {
+                    throw new IllegalValueException(XmlSerializableHealthworkerList.MESSAGE_DUPLICATE_DELIVERYMAN);
+                }
+                healthworkerList.addDeliveryman(healthworker);
+            }
+            ReferenceResolver.resolve(requestBook, healthworkerList);
+            return new HealthHubData(requestBook, healthworkerList);
+        }
+
+        /**
+         * Reads a request written by {@code Encoder#writeRequest}.
+         */
+        private Request readRequest() throws IllegalValueException {
+            UUID tag = readTag();
+            Name name = Name.of(readString());
+            Phone phone = new Phone(readString());
+            Address address = Address.of(readString());
+            RequestDate date = new RequestDate(readString());
+            RequestStatus status = new RequestStatus(readString());
+            Set<Condition> conditions = new HashSet<>();
+            int conditionCount = readCount();
+            for (int i = 0; i < conditionCount; i++) {
+                conditions.add(Condition.of(readString()));
+            }
+            Healthworker healthworker = in.get() == 0 ? null : new Healthworker(Name.of(readString()));
+            return new Request(tag, name, phone, address, date, status, conditions, healthworker);
+        }
+
+        private String readString() throws IllegalValueException {
+            return strings[checkIndex(readVarInt(in), strings.length, "string")];
+        }
+
+        /**
+         * Reads a count, which cannot be larger than the number of bytes left in the file.
+         */
+        private int readCount() throws IllegalValueException {
+            int count = readVarInt(in);
+            if (count < 0 || count > in.remaining()) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED_FILE);
+            }
+            return count;
+        }
+
+        private UUID readTag() {
+            return in.get() == 0 ? null : new UUID(in.getLong(), in.getLong());
+        }
+
+        /**
+         * Returns {@code index} if it is a valid index into a table of {@code size} {@code kind}s.
+         */
+        private static int checkIndex(int index, int size, String kind) throws IllegalValueException {
+            if (index < 0 || index >= size) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_REFERENCE, kind, index));
+            }
+            return index;
+        }
+    }
+}
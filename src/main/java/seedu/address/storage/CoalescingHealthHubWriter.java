@@ -0,0 +1,272 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyRequestBook;
+import seedu.address.model.RequestBook;
+import seedu.address.model.healthworker.Healthworker;
+import seedu.address.model.healthworker.HealthworkerList;
+
+/**
+ * Saves healthhub data on a background thread, coalescing the changes made within a debounce window.
+ * The first change after a save schedules a write {@code debounceMillis} later. Changes submitted before that
+ * write starts only replace the snapshot to be written, so a burst of changes costs a single write.
+ * Writes happen one at a time, in the order the snapshots were taken.
+ * <p>
+ * When given a {@link RecordStore}, such as a {@link HealthHubJournal}, the writer can also save change records
+ * instead of writing a snapshot. Records are saved in the order they were submitted, after the snapshot
+ * submitted before them, and records submitted before a snapshot are dropped, as the snapshot already includes
+ * their changes.
+ * The record store is cleared whenever a snapshot is written.
+ */
+public class CoalescingHealthHubWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(CoalescingHealthHubWriter.class);
+
+    private final HealthHubStorage healthHubStorage;
+    private final RecordStore recordStore;
+    private final long debounceMillis;
+    private final Consumer<Exception> errorHandler;
+    private final ScheduledExecutorService executor;
+
+    // Guarded by this
+    private Snapshot pendingSnapshot;
+    private List<byte[]> pendingRecords = new ArrayList<>();
+    private long firstChangeNanos;
+    private ScheduledFuture<?> scheduledWrite;
+    private long submitCount;
+    private long writeCount;
+    private long failedWriteCount;
+    private long lastWriteNanos;
+    private long lastLagNanos;
+    private long maxLagNanos;
+
+    /**
+     * @param errorHandler called on the writer thread when a write fails.
+     */
+    public CoalescingHealthHubWriter(HealthHubStorage healthHubStorage, long debounceMillis,
+                                     Consumer<Exception> errorHandler) {
+        this(healthHubStorage, null, debounceMillis, errorHandler);
+    }
+
+    /**
+     * Creates a writer that can save records to {@code recordStore}, which may be null if records are not used.
+     *
+     * @param errorHandler called on the writer thread when a write fails.
+     */
+    public CoalescingHealthHubWriter(HealthHubStorage healthHubStorage, RecordStore recordStore,
+                                     long debounceMillis, Consumer<Exception> errorHandler) {
+        requireAllNonNull(healthHubStorage, errorHandler);
+        this.healthHubStorage = healthHubStorage;
+        this.recordStore = recordStore;
+        this.debounceMillis = debounceMillis;
+        this.errorHandler = errorHandler;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "healthhub-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code orderBook} and {@code healthworkerList} to be saved.
+     * The lists and the healthworkers are copied, so they may be modified as soon as this method returns.
+     * The requests are copied without indexing them, as the copy is only read to be written.
+     */
+    public void submit(ReadOnlyRequestBook orderBook, HealthworkerList healthworkerList) {
+        Snapshot snapshot = new Snapshot(RequestBook.unindexedCopyOf(orderBook), copyOf(healthworkerList));
+        synchronized (this) {
+            recordSubmit();
+            pendingSnapshot = snapshot;
+            pendingRecords = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Returns a copy of {@code healthworkerList} holding copies of its healthworkers, as the requests of a
+     * healthworker are replaced in place when the requests are edited.
+     */
+    private static HealthworkerList copyOf(HealthworkerList healthworkerList) {
+        HealthworkerList copy = new HealthworkerList();
+        copy.setDeliverymen(healthworkerList.getDeliverymenList().stream()
+            .map(healthworker -> new Healthworker(healthworker.getTag(), healthworker.getName(),
+                healthworker.getRequests()))
+            .collect(Collectors.toList()));
+        return copy;
+    }
+
+    /**
+     * Schedules {@code records}, as taken from a {@link ListChangeRecorder}, to be saved to the record store.
+     */
+    public void submitRecords(byte[] records) {
+        requireAllNonNull(records);
+        if (recordStore == null) {
+            throw new IllegalStateException("Writer has no record store to save records to");
+        }
+        synchronized (this) {
+            recordSubmit();
+            pendingRecords.add(records);
+        }
+    }
+
+    /**
+     * Counts a submit, and schedules a write if it is the first change since the last write.
+     */
+    private void recordSubmit() {
+        assert Thread.holdsLock(this);
+        submitCount++;
+        if (!hasPendingChanges()) {
+            firstChangeNanos = System.nanoTime();
+            scheduledWrite = executor.schedule(this::writePendingChanges, debounceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private boolean hasPendingChanges() {
+        return pendingSnapshot != null || !pendingRecords.isEmpty();
+    }
+
+    /**
+     * Writes the pending changes, if any, without waiting for the debounce window to end.
+     * Returns once all submitted changes have been written.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+            }
+        }
+        try {
+            executor.submit(this::writePendingChanges).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            logger.warning("Unable to flush healthhub data: " + ee.getCause());
+        }
+    }
+
+    /**
+     * Returns the counters of this writer.
+     */
+    public synchronized Metrics getMetrics() {
+        return new Metrics(submitCount, writeCount, failedWriteCount, hasPendingChanges(), lastWriteNanos,
+                lastLagNanos, maxLagNanos);
+    }
+
+    /**
+     * Takes the pending snapshot and records and writes them.
+     */
+    private void writePendingChanges() {
+        Snapshot snapshot;
+        List<byte[]> records;
+        long changeNanos;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            records = pendingRecords;
+            changeNanos = firstChangeNanos;
+            pendingSnapshot = null;
+            pendingRecords = new ArrayList<>();
+            scheduledWrite = null;
+        }
+        if (snapshot == null && records.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (snapshot != null) {
+                healthHubStorage.saveHealthHub(snapshot.orderBook, snapshot.healthworkerList);
+                if (recordStore != null) {
+                    recordStore.clear();
+                }
+            }
+            if (!records.isEmpty()) {
+                recordStore.append(records);
+            }
+            recordWrite(changeNanos, start, true);
+        } catch (IOException | RuntimeException e) {
+            // Unexpected exceptions are reported too, as they would otherwise be lost with the scheduled task
+            recordWrite(changeNanos, start, false);
+            errorHandler.accept(e);
+        }
+    }
+
+    /**
+     * Updates the counters after the write that started at {@code start}, of changes first made at
+     * {@code changeNanos}.
+     */
+    private synchronized void recordWrite(long changeNanos, long start, boolean isSuccessful) {
+        long end = System.nanoTime();
+        if (isSuccessful) {
+            writeCount++;
+        } else {
+            failedWriteCount++;
+        }
+        lastWriteNanos = end - start;
+        lastLagNanos = end - changeNanos;
+        maxLagNanos = Math.max(maxLagNanos, lastLagNanos);
+        logger.fine("Saved healthhub data in " + TimeUnit.NANOSECONDS.toMillis(lastWriteNanos) + "ms, "
+                + TimeUnit.NANOSECONDS.toMillis(lastLagNanos) + "ms after the first unsaved change");
+    }
+
+    /**
+     * Copies of the data to be written.
+     */
+    private static class Snapshot {
+        private final ReadOnlyRequestBook orderBook;
+        private final HealthworkerList healthworkerList;
+
+        Snapshot(ReadOnlyRequestBook orderBook, HealthworkerList healthworkerList) {
+            this.orderBook = orderBook;
+            this.healthworkerList = healthworkerList;
+        }
+    }
+
+    /**
+     * Counters of a {@code CoalescingHealthHubWriter}.
+     * The lag of a write is the time from the first change it saves until the write completes.
+     */
+    public static class Metrics {
+        public final long submitCount;
+        public final long writeCount;
+        public final long failedWriteCount;
+        public final boolean hasPendingChanges;
+        public final long lastWriteMillis;
+        public final long lastLagMillis;
+        public final long maxLagMillis;
+
+        Metrics(long submitCount, long writeCount, long failedWriteCount, boolean hasPendingChanges,
+                long lastWriteNanos, long lastLagNanos, long maxLagNanos) {
+            this.submitCount = submitCount;
+            this.writeCount = writeCount;
+            this.failedWriteCount = failedWriteCount;
+            this.hasPendingChanges = hasPendingChanges;
+            this.lastWriteMillis = TimeUnit.NANOSECONDS.toMillis(lastWriteNanos);
+            this.lastLagMillis = TimeUnit.NANOSECONDS.toMillis(lastLagNanos);
+            this.maxLagMillis = TimeUnit.NANOSECONDS.toMillis(maxLagNanos);
+        }
+
+        @Override
+        public String toString() {
+            return "Changes submitted: " + submitCount
+                    + ", writes: " + writeCount
+                    + ", failed writes: " + failedWriteCount
+                    + ", unsaved changes: " + hasPendingChanges
+                    + ", last write: " + lastWriteMillis + "ms"
+                    + ", last lag: " + lastLagMillis + "ms"
+                    + ", max lag: " + maxLagMillis + "ms";
+        }
+    }
+}
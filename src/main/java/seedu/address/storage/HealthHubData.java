@@ -0,0 +1,29 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.ReadOnlyRequestBook;
+import seedu.address.model.healthworker.HealthworkerList;
+
+/**
+ * The request book and healthworker list read together from a HealthHub data file.
+ */
+public class HealthHubData {
+
+    private final ReadOnlyRequestBook requestBook;
+    private final HealthworkerList healthworkerList;
+
+    public HealthHubData(ReadOnlyRequestBook requestBook, HealthworkerList healthworkerList) {
+        requireAllNonNull(requestBook, healthworkerList);
+        this.requestBook = requestBook;
+        this.healthworkerList = healthworkerList;
+    }
+
+    public ReadOnlyRequestBook getRequestBook() {
+        return requestBook;
+    }
+
+    public HealthworkerList getHealthworkerList() {
+        return healthworkerList;
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Converts HealthHub data files from the XML format to the binary format, and copies them into databases.
+ */
+public class HealthHubFileConverter {
+
+    public static final String BACKUP_FILE_SUFFIX = ".xml.bak";
+
+    private static final Logger logger = LogsCenter.getLogger(HealthHubFileConverter.class);
+
+    /**
+     * Writes the data in the XML file at {@code xmlFilePath} to a binary file at {@code binaryFilePath}.
+     * Returns false if there is no file at {@code xmlFilePath}.
+     *
+     * @throws DataConversionException if the XML file is not in the correct format.
+     */
+    public static boolean convertXmlToBinary(Path xmlFilePath, Path binaryFilePath)
+            throws DataConversionException, IOException {
+        requireNonNull(xmlFilePath);
+        requireNonNull(binaryFilePath);
+
+        Optional<HealthHubData> data = new XmlHealthHubStorage(xmlFilePath).readHealthHub();
+        if (!data.isPresent()) {
+            return false;
+        }
+        new BinaryHealthHubStorage(binaryFilePath).saveHealthHub(data.get().getRequestBook(),
+                data.get().getHealthworkerList());
+        return true;
+    }
+
+    /**
+     * Converts the file at {@code filePath} to the binary format if it is an XML file, keeping a copy of the
+     * XML file next to it. Returns true if the file was converted.
+     *
+     * @throws DataConversionException if the file is neither a binary file nor an XML file in the correct format.
+     */
+    public static boolean convertToBinaryIfXml(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath) || BinaryHealthHubStorage.isBinaryFile(filePath)) {
+            return false;
+        }
+
+        Path backupFilePath = filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX);
+        Files.copy(filePath, backupFilePath, StandardCopyOption.REPLACE_EXISTING);
+        convertXmlToBinary(backupFilePath, filePath);
+        logger.info("Converted " + filePath + " to the binary format, the XML file is kept at " + backupFilePath);
+        return true;
+    }
+
+    /**
+     * Writes the data in the file at {@code filePath}, in the XML or the binary format and with its journal
+     * replayed, to the database of the file, if there is no database yet. The file and its journal are left as
+     * they are. Returns true if the data was written.
+     *
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    public static boolean convertToSqlIfMissing(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (SqlHealthHubStorage.exists(filePath) || !Files.exists(filePath)) {
+            return false;
+        }
+
+        HealthHubStorage fileStorage = BinaryHealthHubStorage.isBinaryFile(filePath)
+                ? new BinaryHealthHubStorage(filePath)
+                : new XmlHealthHubStorage(filePath);
+        Optional<HealthHubData> data = fileStorage.readHealthHub();
+        if (!data.isPresent()) {
+            return false;
+        }
+        HealthHubData replayed = HealthHubJournal.of(filePath).replay(data.get());
+        SqlHealthHubStorage sqlStorage = new SqlHealthHubStorage(filePath);
+        try {
+            sqlStorage.saveHealthHub(replayed.getRequestBook(), replayed.getHealthworkerList());
+        } catch (IOException ioe) {
+            sqlStorage.close();
+            Files.deleteIfExists(SqlDatabase.getDatabaseFilePath(filePath));
+            throw ioe;
+        } finally {
+            sqlStorage.close();
+        }
+        logger.info("Copied the data in " + filePath + " to " + SqlDatabase.getDatabaseFilePath(filePath));
+        return true;
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyRequestBook;
+import seedu.address.model.ReferenceResolver;
+import seedu.address.model.RequestBook;
+import seedu.address.model.healthworker.Healthworker;
+import seedu.address.model.healthworker.HealthworkerCodec;
+import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestCodec;
+
+/**
+ * The journal of the changes made to the healthhub data since its file was last written in full.
+ * Each record inserts, replaces or removes one request or healthworker, which is identified by its tag.
+ * Replaying the records on top of the data in the healthhub file gives the latest data.
+ */
+public class HealthHubJournal extends JournalFile {
+
+    static final byte REQUEST_LIST = 0;
+    static final byte HEALTHWORKER_LIST = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(HealthHubJournal.class);
+
+    public HealthHubJournal(Path journalFilePath) {
+        super(journalFilePath);
+    }
+
+    /**
+     * Returns the journal of the healthhub file at {@code healthHubFilePath}.
+     */
+    public static HealthHubJournal of(Path healthHubFilePath) {
+        return new HealthHubJournal(getJournalFilePath(healthHubFilePath));
+    }
+
+    /**
+     * Returns a recorder of the changes made to {@code requestBook} and {@code healthworkerList}, as records of
+     * this journal.
+     */
+    public static ListChangeRecorder record(ReadOnlyRequestBook requestBook, HealthworkerList healthworkerList,
+                                            long maxPendingBytes) {
+        ListChangeRecorder recorder = new ListChangeRecorder(maxPendingBytes);
+        recorder.track(REQUEST_LIST, requestBook.getRequestList(), new RequestCodec(), KeyCodec.byTag());
+        recorder.track(HEALTHWORKER_LIST, healthworkerList.getDeliverymenList(), new HealthworkerCodec(),
+                KeyCodec.byTag());
+        return recorder;
+    }
+
+    /**
+     * Returns {@code snapshot} with the records of the journal applied to it.
+     * Returns {@code snapshot} itself if there is no journal.
+     *
+     * @throws DataConversionException if a record cannot be applied to the data.
+     */
+    public HealthHubData replay(HealthHubData snapshot) throws IOException, DataConversionException {
+        requireNonNull(snapshot);
+        if (!exists()) {
+            return snapshot;
+        }
+
+        List<Request> requests = new ArrayList<>(snapshot.getRequestBook().getRequestList());
+        List<Healthworker> healthworkers = new ArrayList<>(snapshot.getHealthworkerList().getDeliverymenList());
+        List<byte[]> records = readRecords();
+        ReplayedList<Request, UUID> replayedRequests = new ReplayedList<>(requests, KeyCodec.byTag());
+        ReplayedList<Healthworker, UUID> replayedHealthworkers = new ReplayedList<>(healthworkers, KeyCodec.byTag());
+        try {
+            for (byte[] record : records) {
+                apply(new DataInputStream(new ByteArrayInputStream(record)), replayedRequests, replayedHealthworkers);
+            }
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+        logger.fine("Replayed " + records.size() + " journal records from " + getJournalFilePath());
+
+        try {
+            return toHealthHubData(requests, healthworkers);
+        } catch (RuntimeException re) {
+            // Duplicates left by the records
+            throw new DataConversionException(re);
+        }
+    }
+
+    /**
+     * Applies the record in {@code in} to {@code requests} or {@code healthworkers}.
+     */
+    private static void apply(DataInputStream in, ReplayedList<Request, UUID> requests,
+                              ReplayedList<Healthworker, UUID> healthworkers)
+            throws IOException, IllegalValueException {
+        byte list = in.readByte();
+        if (list == REQUEST_LIST) {
+            apply(in, requests, new RequestCodec());
+        } else if (list == HEALTHWORKER_LIST) {
+            apply(in, healthworkers, new HealthworkerCodec());
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_RECORD, list));
+        }
+    }
+
+    /**
+     * Builds the replayed data, linking the replayed requests and healthworkers to each other by tag.
+     */
+    private static HealthHubData toHealthHubData(List<Request> requests, List<Healthworker> healthworkers) {
+        RequestBook requestBook = new RequestBook();
+        requestBook.setRequests(requests);
+        HealthworkerList healthworkerList = new HealthworkerList();
+        healthworkerList.setDeliverymen(healthworkers);
+        ReferenceResolver.resolve(requestBook, healthworkerList);
+        return new HealthHubData(requestBook, healthworkerList);
+    }
+}
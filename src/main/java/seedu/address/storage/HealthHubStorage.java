@@ -14,6 +14,20 @@ import seedu.address.model.healthworker.HealthworkerList;
 public interface HealthHubStorage {
     Path getHealthHubFilePath();
 
+    /**
+     * Returns the request book and healthworker list in the data file, read in a single pass.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the data in the file is not in the expected format.
+     * @throws IOException if there was any problem when reading from the file.
+     */
+    Optional<HealthHubData> readHealthHub() throws DataConversionException, IOException;
+
+    /**
+     * @see #readHealthHub()
+     */
+    Optional<HealthHubData> readHealthHub(Path filePath) throws DataConversionException, IOException;
+
     Optional<ReadOnlyRequestBook> readRequestBook() throws DataConversionException, IOException;
 
     Optional<ReadOnlyRequestBook> readRequestBook(Path filePath) throws DataConversionException,
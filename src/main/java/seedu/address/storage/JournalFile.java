@@ -0,0 +1,291 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.util.ElementCodec;
+
+/**
+ * An append-only log of the changes made to a data file since it was last written in full, kept next to it.
+ * Records are written by a {@link ListChangeRecorder}. They are length-prefixed, so a record left incomplete
+ * by a crash during an append is ignored.
+ */
+public class JournalFile implements RecordStore {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String MESSAGE_UNKNOWN_KEY = "Journal refers to an unknown element: %s";
+    public static final String MESSAGE_UNKNOWN_RECORD = "Journal contains an unknown record type: %d";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalFile.class);
+
+    private final Path journalFilePath;
+
+    public JournalFile(Path journalFilePath) {
+        requireNonNull(journalFilePath);
+        this.journalFilePath = journalFilePath;
+    }
+
+    /**
+     * Returns the path of the journal of the data file at {@code dataFilePath}.
+     */
+    public static Path getJournalFilePath(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    public boolean exists() {
+        return Files.exists(journalFilePath);
+    }
+
+    /**
+     * Returns the size of the journal in bytes.
+     */
+    public long size() throws IOException {
+        return exists() ? Files.size(journalFilePath) : 0;
+    }
+
+    /**
+     * Appends {@code records}, as taken from a {@link ListChangeRecorder}, to the journal.
+     * Creates the journal file if it is missing.
+     */
+    @Override
+    public void append(List<byte[]> records) throws IOException {
+        requireNonNull(records);
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (OutputStream out = Files.newOutputStream(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+            for (byte[] record : records) {
+                out.write(record);
+            }
+        }
+    }
+
+    /**
+     * Discards all records, once the data file has been written in full.
+     */
+    @Override
+    public void clear() throws IOException {
+        Files.deleteIfExists(journalFilePath);
+    }
+
+    @Override
+    public boolean keepsRecords() {
+        return true;
+    }
+
+    /**
+     * Returns the complete records in the journal, without their length prefixes, in the order they were
+     * appended. Returns an empty list if there is no journal.
+     */
+    public List<byte[]> readRecords() throws IOException {
+        if (!exists()) {
+            return new ArrayList<>();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(journalFilePath)))) {
+            return readRecords(in, journalFilePath.toString());
+        }
+    }
+
+    /**
+     * Returns the complete length-prefixed records in {@code in}, which come from {@code source}, without their
+     * length prefixes.
+     */
+    private static List<byte[]> readRecords(DataInputStream in, String source) throws IOException {
+        List<byte[]> records = new ArrayList<>();
+        while (true) {
+            int length;
+            try {
+                length = in.readInt();
+            } catch (EOFException eofe) {
+                return records;
+            }
+            byte[] record = new byte[length];
+            try {
+                in.readFully(record);
+            } catch (EOFException eofe) {
+                logger.warning("Ignoring an incomplete record at the end of " + source);
+                return records;
+            }
+            records.add(record);
+        }
+    }
+
+    /**
+     * Returns the records in {@code appended}, as taken from a {@link ListChangeRecorder}, without their length
+     * prefixes, in order.
+     */
+    public static List<byte[]> splitRecords(List<byte[]> appended) throws IOException {
+        requireNonNull(appended);
+        List<byte[]> records = new ArrayList<>();
+        for (byte[] bytes : appended) {
+            records.addAll(readRecords(new DataInputStream(new ByteArrayInputStream(bytes)), "recorded changes"));
+        }
+        return records;
+    }
+
+    /**
+     * Applies the operation of the record in {@code in}, which is past the list id of the record, to
+     * {@code target}.
+     *
+     * @throws IllegalValueException if the record cannot be applied to {@code target}.
+     */
+    public static <T, K> void apply(DataInput in, RecordTarget<T, K> target, ElementCodec<T> codec)
+            throws IOException, IllegalValueException {
+        byte operation = in.readByte();
+        switch (operation) {
+        case ListChangeRecorder.INSERT:
+            int index = in.readInt();
+            target.insert(index, codec.read(in));
+            break;
+        case ListChangeRecorder.REPLACE:
+            K replacedKey = target.getKeyCodec().read(in);
+            target.replace(replacedKey, codec.read(in));
+            break;
+        case ListChangeRecorder.REMOVE:
+            target.remove(target.getKeyCodec().read(in));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_RECORD, operation));
+        }
+    }
+
+    /**
+     * The elements that records are applied to, which are identified by key.
+     *
+     * @param <T> type of the elements
+     * @param <K> type of the keys
+     */
+    public interface RecordTarget<T, K> {
+
+        KeyCodec<T, K> getKeyCodec();
+
+        /**
+         * Inserts {@code element} at {@code index}, or at the nearest end if it is out of range.
+         */
+        void insert(int index, T element) throws IOException, IllegalValueException;
+
+        /**
+         * Replaces the element with the key {@code key} with {@code element}, in the same position.
+         *
+         * @throws IllegalValueException if there is no element with the key.
+         */
+        void replace(K key, T element) throws IOException, IllegalValueException;
+
+        /**
+         * Removes the element with the key {@code key}.
+         *
+         * @throws IllegalValueException if there is no element with the key.
+         */
+        void remove(K key) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * A list that journal records are applied to, which finds elements by key without scanning it.
+     * The positions of the elements are numbered once, and those after an insertion or removal are renumbered
+     * lazily, on the next lookup of a key at or after it, so replaying records is not proportional to the size
+     * of the list for each record.
+     *
+     * @param <T> type of the elements
+     * @param <K> type of the keys
+     */
+    public static class ReplayedList<T, K> implements RecordTarget<T, K> {
+        private final List<T> elements;
+        private final KeyCodec<T, K> keyCodec;
+        private final Map<K, Integer> positions = new HashMap<>();
+        // The positions of the elements before this position are up to date
+        private int firstStalePosition;
+
+        /**
+         * Creates a list that applies records to {@code elements}, identifying them with {@code keyCodec}.
+         */
+        public ReplayedList(List<T> elements, KeyCodec<T, K> keyCodec) {
+            requireNonNull(elements);
+            requireNonNull(keyCodec);
+            this.elements = elements;
+            this.keyCodec = keyCodec;
+        }
+
+        @Override
+        public KeyCodec<T, K> getKeyCodec() {
+            return keyCodec;
+        }
+
+        @Override
+        public void insert(int index, T element) {
+            int position = Math.max(0, Math.min(index, elements.size()));
+            elements.add(position, element);
+            firstStalePosition = Math.min(firstStalePosition, position);
+        }
+
+        @Override
+        public void replace(K key, T element) throws IllegalValueException {
+            int position = indexOf(key);
+            forget(elements.set(position, element));
+            K elementKey = keyCodec.keyOf(element);
+            if (elementKey != null) {
+                positions.put(elementKey, position);
+            }
+        }
+
+        @Override
+        public void remove(K key) throws IllegalValueException {
+            int position = indexOf(key);
+            forget(elements.remove(position));
+            firstStalePosition = Math.min(firstStalePosition, position);
+        }
+
+        /**
+         * Returns the position of the element with the key {@code key}.
+         */
+        private int indexOf(K key) throws IllegalValueException {
+            Integer position = positions.get(key);
+            if (position == null || position >= firstStalePosition) {
+                for (int i = firstStalePosition; i < elements.size(); i++) {
+                    K elementKey = keyCodec.keyOf(elements.get(i));
+                    if (elementKey != null) {
+                        positions.put(elementKey, i);
+                    }
+                }
+                firstStalePosition = elements.size();
+                position = positions.get(key);
+            }
+            if (position == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_KEY, key));
+            }
+            return position;
+        }
+
+        /**
+         * Forgets the position of {@code element}, which is no longer in the list.
+         */
+        private void forget(T element) {
+            K key = keyCodec.keyOf(element);
+            if (key != null) {
+                positions.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.UUID;
+
+import seedu.address.model.TaggedObject;
+
+/**
+ * Identifies the elements of a journaled list by a unique key, and converts keys to and from a binary form.
+ *
+ * @param <T> type of the elements
+ * @param <K> type of the keys
+ */
+public interface KeyCodec<T, K> {
+
+    /**
+     * Returns the key of {@code element}, or null if it has none.
+     */
+    K keyOf(T element);
+
+    /**
+     * Writes {@code key} to {@code out}.
+     */
+    void write(DataOutput out, K key) throws IOException;
+
+    /**
+     * Reads a key written by {@link #write(DataOutput, Object)} from {@code in}.
+     */
+    K read(DataInput in) throws IOException;
+
+    /**
+     * Returns a {@code KeyCodec} that identifies elements by their tag.
+     */
+    static <T extends TaggedObject> KeyCodec<T, UUID> byTag() {
+        return new KeyCodec<T, UUID>() {
+            @Override
+            public UUID keyOf(T element) {
+                return element.getTag();
+            }
+
+            @Override
+            public void write(DataOutput out, UUID tag) throws IOException {
+                out.writeLong(tag.getMostSignificantBits());
+                out.writeLong(tag.getLeastSignificantBits());
+            }
+
+            @Override
+            public UUID read(DataInput in) throws IOException {
+                return new UUID(in.readLong(), in.readLong());
+            }
+        };
+    }
+}
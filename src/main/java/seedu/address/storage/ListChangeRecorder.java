@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.util.ElementCodec;
+
+/**
+ * Records the changes made to observable lists as {@link JournalFile} records.
+ * Each record inserts an element at a position, or replaces or removes the element with a given key.
+ * Changes are encoded as they happen, so taking the records costs time proportional to the changes made,
+ * not to the size of the lists.
+ * <p>
+ * Changes that cannot be expressed as records, such as reordering a list or adding an element without a key,
+ * and changes whose records would take up more than {@code maxPendingBytes}, are not recorded.
+ * The data must then be written in full instead.
+ */
+public class ListChangeRecorder {
+
+    public static final byte INSERT = 0;
+    public static final byte REPLACE = 1;
+    public static final byte REMOVE = 2;
+
+    private final long maxPendingBytes;
+    // The lists may be unmodifiable views that only hold weak references to their listeners.
+    private final List<ObservableList<?>> recordedLists = new ArrayList<>();
+
+    private final ByteArrayOutputStream pendingRecords = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream();
+    private final DataOutputStream recordOut = new DataOutputStream(recordBuffer);
+    private boolean isIncomplete;
+
+    public ListChangeRecorder(long maxPendingBytes) {
+        this.maxPendingBytes = maxPendingBytes;
+    }
+
+    /**
+     * Starts recording the changes made to {@code list}, in records that start with {@code listId}.
+     */
+    public <T, K> void track(byte listId, ObservableList<T> list, ElementCodec<T> codec,
+                             KeyCodec<T, K> keyCodec) {
+        requireAllNonNull(list, codec, keyCodec);
+        recordedLists.add(list);
+        list.addListener((ListChangeListener<T>) change -> record(listId, codec, keyCodec, change));
+    }
+
+    /**
+     * Returns the records of the changes made since the last call, and starts recording afresh.
+     * Returns an empty {@code Optional} if some of those changes were not recorded.
+     */
+    public Optional<byte[]> takeRecords() {
+        Optional<byte[]> records = isIncomplete ? Optional.empty() : Optional.of(pendingRecords.toByteArray());
+        pendingRecords.reset();
+        isIncomplete = false;
+        return records;
+    }
+
+    /**
+     * Encodes {@code change}, made to the list identified by {@code listId}, as records.
+     */
+    private <T, K> void record(byte listId, ElementCodec<T> codec, KeyCodec<T, K> keyCodec,
+                               ListChangeListener.Change<? extends T> change) {
+        try {
+            while (change.next() && !isIncomplete) {
+                if (change.wasPermutated()) {
+                    isIncomplete = true;
+                } else if (!change.wasUpdated()) {
+                    record(listId, codec, keyCodec, change.getFrom(), change.getRemoved(), change.getAddedSubList());
+                }
+            }
+        } catch (IOException ioe) {
+            // Writes to an in-memory stream do not fail
+            throw new UncheckedIOException(ioe);
+        }
+        if (pendingRecords.size() > maxPendingBytes) {
+            isIncomplete = true;
+        }
+        if (isIncomplete) {
+            pendingRecords.reset();
+        }
+    }
+
+    /**
+     * Encodes the replacement of {@code removed} by {@code added} at {@code from} as records.
+     * Elements are replaced one for one where possible, so that they keep their positions.
+     */
+    private <T, K> void record(byte listId, ElementCodec<T> codec, KeyCodec<T, K> keyCodec, int from,
+                               List<? extends T> removed, List<? extends T> added) throws IOException {
+        if (removed.stream().anyMatch(element -> keyCodec.keyOf(element) == null)
+                || added.stream().anyMatch(element -> keyCodec.keyOf(element) == null)) {
+            isIncomplete = true;
+            return;
+        }
+
+        if (removed.size() == added.size()) {
+            for (int i = 0; i < removed.size(); i++) {
+                startRecord(listId, REPLACE);
+                keyCodec.write(recordOut, keyCodec.keyOf(removed.get(i)));
+                codec.write(recordOut, added.get(i));
+                endRecord();
+            }
+            return;
+        }
+        for (T element : removed) {
+            startRecord(listId, REMOVE);
+            keyCodec.write(recordOut, keyCodec.keyOf(element));
+            endRecord();
+        }
+        for (int i = 0; i < added.size(); i++) {
+            startRecord(listId, INSERT);
+            recordOut.writeInt(from + i);
+            codec.write(recordOut, added.get(i));
+            endRecord();
+        }
+    }
+
+    private void startRecord(byte listId, byte operation) throws IOException {
+        recordBuffer.reset();
+        recordOut.writeByte(listId);
+        recordOut.writeByte(operation);
+    }
+
+    /**
+     * Adds the record in the record buffer, prefixed by its length, to the pending records.
+     */
+    private void endRecord() throws IOException {
+        recordOut.flush();
+        new DataOutputStream(pendingRecords).writeInt(recordBuffer.size());
+        recordBuffer.writeTo(pendingRecords);
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Saves the changes recorded by a {@link ListChangeRecorder}, between the times the data is written in full.
+ */
+public interface RecordStore {
+
+    /**
+     * Saves the changes in {@code records}, as taken from a {@link ListChangeRecorder}.
+     */
+    void append(List<byte[]> records) throws IOException;
+
+    /**
+     * Discards the records saved so far, once the data has been written in full.
+     */
+    void clear() throws IOException;
+
+    /**
+     * Returns true if the records are kept until the data is written in full, so that the store grows with each
+     * append, as a journal does. Stores that apply the records to the saved data in place return false.
+     */
+    boolean keepsRecords();
+}
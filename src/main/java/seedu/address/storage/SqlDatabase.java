@@ -0,0 +1,212 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * An embedded H2 database kept in a file next to a data file. The database runs in this process, without a
+ * server. A connection is opened on first use, creating the tables of the schema if they are missing, and is
+ * kept open until {@link #close()}. Transactions run one at a time.
+ * <p>
+ * Tables whose rows are kept in the order of a list have an {@code ord} column, which orders the rows.
+ */
+public class SqlDatabase {
+
+    public static final String DATABASE_FILE_SUFFIX = ".mv.db";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlDatabase.class);
+
+    private final Path databaseFilePath;
+    private final List<String> schema;
+    private Connection connection;
+
+    /**
+     * Creates a database for the data file at {@code dataFilePath}, with the tables and indexes created by the
+     * statements in {@code schema}, which must do nothing if they already exist.
+     */
+    public SqlDatabase(Path dataFilePath, List<String> schema) {
+        requireNonNull(dataFilePath);
+        requireNonNull(schema);
+        this.databaseFilePath = getDatabaseFilePath(dataFilePath);
+        this.schema = new ArrayList<>(schema);
+    }
+
+    /**
+     * Returns the path of the database file of the data file at {@code dataFilePath}: the data file with its
+     * extension replaced by {@value #DATABASE_FILE_SUFFIX}.
+     */
+    public static Path getDatabaseFilePath(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return dataFilePath.resolveSibling(baseName + DATABASE_FILE_SUFFIX);
+    }
+
+    public Path getDatabaseFilePath() {
+        return databaseFilePath;
+    }
+
+    public boolean exists() {
+        return Files.exists(databaseFilePath);
+    }
+
+    /**
+     * Runs {@code transaction} and commits it, or rolls it back if it throws.
+     * Creates the database file if it is missing.
+     */
+    public synchronized <R> R run(Transaction<R> transaction) throws IOException, IllegalValueException {
+        requireNonNull(transaction);
+        Connection transactionConnection = getConnection();
+        boolean isCommitted = false;
+        try {
+            R result = transaction.run(transactionConnection);
+            transactionConnection.commit();
+            isCommitted = true;
+            return result;
+        } catch (SQLException sqle) {
+            throw new IOException("Unable to update " + databaseFilePath + ": " + sqle.getMessage(), sqle);
+        } finally {
+            if (!isCommitted) {
+                rollBack(transactionConnection);
+            }
+        }
+    }
+
+    /**
+     * Closes the connection to the database, if it is open. The next transaction opens it again.
+     */
+    public synchronized void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException sqle) {
+            throw new IOException("Unable to close " + databaseFilePath, sqle);
+        } finally {
+            connection = null;
+        }
+    }
+
+    /**
+     * Returns the open connection to the database, opening it and creating the schema if necessary.
+     */
+    private Connection getConnection() throws IOException {
+        if (connection != null) {
+            return connection;
+        }
+        FileUtil.createParentDirsOfFile(databaseFilePath);
+        String fileName = databaseFilePath.getFileName().toString();
+        Path basePath = databaseFilePath.resolveSibling(
+                fileName.substring(0, fileName.length() - DATABASE_FILE_SUFFIX.length()));
+        try {
+            Connection newConnection = DriverManager.getConnection("jdbc:h2:" + basePath.toAbsolutePath());
+            newConnection.setAutoCommit(false);
+            try (Statement statement = newConnection.createStatement()) {
+                for (String schemaStatement : schema) {
+                    statement.execute(schemaStatement);
+                }
+            }
+            newConnection.commit();
+            connection = newConnection;
+            return connection;
+        } catch (SQLException sqle) {
+            throw new IOException("Unable to open " + databaseFilePath + ": " + sqle.getMessage(), sqle);
+        }
+    }
+
+    /**
+     * Rolls back the changes of the current transaction on {@code transactionConnection}.
+     */
+    private void rollBack(Connection transactionConnection) {
+        try {
+            transactionConnection.rollback();
+        } catch (SQLException sqle) {
+            logger.warning("Unable to roll back changes to " + databaseFilePath + ": " + sqle.getMessage());
+        }
+    }
+
+    /**
+     * Returns the {@code ord} to insert a row of {@code table} with so that it comes at {@code index} among the
+     * rows in order, or last if {@code index} is past the last row, and moves up the rows from {@code index} on.
+     * Appending a row looks up the largest {@code ord} in its index, while inserting a row before others updates
+     * the {@code ord} of each of the rows after it.
+     */
+    public static long makeRoomAt(Connection connection, String table, int index) throws SQLException {
+        try (PreparedStatement count = connection.prepareStatement("SELECT COUNT(*) FROM " + table);
+                ResultSet countResult = count.executeQuery()) {
+            countResult.next();
+            if (index >= countResult.getLong(1)) {
+                return nextOrd(connection, table);
+            }
+        }
+
+        long ord;
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT ord FROM " + table + " ORDER BY ord LIMIT 1 OFFSET ?")) {
+            select.setInt(1, Math.max(0, index));
+            try (ResultSet result = select.executeQuery()) {
+                result.next();
+                ord = result.getLong(1);
+            }
+        }
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE " + table + " SET ord = ord + 1 WHERE ord >= ?")) {
+            update.setLong(1, ord);
+            update.executeUpdate();
+        }
+        return ord;
+    }
+
+    /**
+     * Returns the {@code ord} of the row of {@code table} whose {@code keyColumn} is {@code key}, or -1 if there
+     * is no such row.
+     */
+    public static long ordOf(Connection connection, String table, String keyColumn, Object key)
+            throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT ord FROM " + table + " WHERE " + keyColumn + " = ?")) {
+            select.setObject(1, key);
+            try (ResultSet result = select.executeQuery()) {
+                return result.next() ? result.getLong(1) : -1;
+            }
+        }
+    }
+
+    /**
+     * Returns the {@code ord} that comes after those of all the rows of {@code table}.
+     */
+    private static long nextOrd(Connection connection, String table) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement("SELECT MAX(ord) FROM " + table);
+                ResultSet result = select.executeQuery()) {
+            result.next();
+            long maxOrd = result.getLong(1);
+            return result.wasNull() ? 0 : maxOrd + 1;
+        }
+    }
+
+    /**
+     * Work done on the database in a single transaction.
+     */
+    @FunctionalInterface
+    public interface Transaction<R> {
+        R run(Connection connection) throws SQLException, IOException, IllegalValueException;
+    }
+}
@@ -0,0 +1,643 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyRequestBook;
+import seedu.address.model.ReferenceResolver;
+import seedu.address.model.RequestBook;
+import seedu.address.model.common.Address;
+import seedu.address.model.common.Name;
+import seedu.address.model.common.Phone;
+import seedu.address.model.healthworker.Healthworker;
+import seedu.address.model.healthworker.HealthworkerCodec;
+import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.model.request.Condition;
+import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestCodec;
+import seedu.address.model.request.RequestDate;
+import seedu.address.model.request.RequestStatus;
+import seedu.address.storage.JournalFile.RecordTarget;
+import seedu.address.storage.healthworker.XmlSerializableHealthworkerList;
+
+/**
+ * A class to access HealthHub data stored in an embedded H2 database next to the healthhub file.
+ * <p>
+ * Requests and healthworkers are kept as rows of their own tables, keyed by tag, with the conditions of each
+ * request and the requests assigned to each healthworker in tables of their own. As a {@link RecordStore}, the
+ * storage saves each change made to the data by inserting, updating or deleting only the rows of the requests
+ * and healthworkers changed, in a single transaction.
+ * <p>
+ * Reading the data at startup loads only the columns that the model is built from, in one query per table
+ * in the order of the rows, without parsing a file or replaying a journal.
+ */
+public class SqlHealthHubStorage implements HealthHubStorage, RecordStore {
+
+    public static final String MESSAGE_MISSING_TAG = "Record refers to an element without a tag";
+
+    static final List<String> SCHEMA = Arrays.asList(
+            "CREATE TABLE IF NOT EXISTS requests (tag UUID PRIMARY KEY, ord BIGINT NOT NULL, "
+                    + "name VARCHAR NOT NULL, phone VARCHAR NOT NULL, address VARCHAR NOT NULL, "
+                    + "request_date VARCHAR NOT NULL, status VARCHAR NOT NULL, healthworker VARCHAR)",
+            "CREATE INDEX IF NOT EXISTS requests_ord ON requests (ord)",
+            "CREATE INDEX IF NOT EXISTS requests_status ON requests (status)",
+            "CREATE INDEX IF NOT EXISTS requests_healthworker ON requests (healthworker)",
+            "CREATE TABLE IF NOT EXISTS conditions (id INT AUTO_INCREMENT PRIMARY KEY, name VARCHAR NOT NULL UNIQUE)",
+            "CREATE TABLE IF NOT EXISTS request_conditions ("
+                    + "request_tag UUID NOT NULL REFERENCES requests (tag) ON DELETE CASCADE, "
+                    + "condition_id INT NOT NULL REFERENCES conditions (id), "
+                    + "PRIMARY KEY (request_tag, condition_id))",
+            "CREATE INDEX IF NOT EXISTS request_conditions_condition ON request_conditions (condition_id)",
+            "CREATE TABLE IF NOT EXISTS healthworkers (tag UUID PRIMARY KEY, ord BIGINT NOT NULL, "
+                    + "name VARCHAR NOT NULL)",
+            "CREATE INDEX IF NOT EXISTS healthworkers_ord ON healthworkers (ord)",
+            "CREATE INDEX IF NOT EXISTS healthworkers_name ON healthworkers (name)",
+            "CREATE TABLE IF NOT EXISTS assignments ("
+                    + "healthworker_tag UUID NOT NULL REFERENCES healthworkers (tag) ON DELETE CASCADE, "
+                    + "request_tag UUID NOT NULL, PRIMARY KEY (healthworker_tag, request_tag))",
+            "CREATE INDEX IF NOT EXISTS assignments_request ON assignments (request_tag)");
+
+    private static final String MERGE_REQUEST = "MERGE INTO requests "
+            + "(tag, ord, name, phone, address, request_date, status, healthworker) KEY (tag) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_REQUEST_CONDITION =
+            "INSERT INTO request_conditions (request_tag, condition_id) VALUES (?, ?)";
+    private static final String MERGE_HEALTHWORKER =
+            "MERGE INTO healthworkers (tag, ord, name) KEY (tag) VALUES (?, ?, ?)";
+    private static final String INSERT_ASSIGNMENT =
+            "INSERT INTO assignments (healthworker_tag, request_tag) VALUES (?, ?)";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlHealthHubStorage.class);
+
+    private Path healthHubFilePath;
+    private final SqlDatabase database;
+
+    public SqlHealthHubStorage(Path healthHubFilePath) {
+        this.healthHubFilePath = healthHubFilePath;
+        this.database = new SqlDatabase(healthHubFilePath, SCHEMA);
+    }
+
+    @Override
+    public Path getHealthHubFilePath() {
+        return healthHubFilePath;
+    }
+
+    /**
+     * Returns true if there is a database for the healthhub file at {@code filePath}.
+     */
+    public static boolean exists(Path filePath) {
+        return new SqlDatabase(filePath, SCHEMA).exists();
+    }
+
+    /**
+     * Closes the connection to the database.
+     */
+    public void close() throws IOException {
+        database.close();
+    }
+
+    //================================ data save methods ======================================
+
+    @Override
+    public void saveHealthHub(ReadOnlyRequestBook orderBook, HealthworkerList healthworkerList) throws IOException {
+        saveHealthHub(orderBook, healthworkerList, healthHubFilePath);
+    }
+
+    /**
+     * Replaces all the rows in the database with the data, in a single transaction.
+     */
+    @Override
+    public void saveHealthHub(ReadOnlyRequestBook orderBook, HealthworkerList healthworkerList, Path filePath)
+            throws IOException {
+        requireNonNull(orderBook);
+        requireNonNull(healthworkerList);
+        requireNonNull(filePath);
+
+        List<Request> requests = new ArrayList<>(orderBook.getRequestList());
+        List<Healthworker> healthworkers = new ArrayList<>(healthworkerList.getDeliverymenList());
+        runUpdateOn(filePath, connection -> {
+            try (Statement statement = connection.createStatement()) {
+                for (String table : new String[] {"assignments", "request_conditions", "healthworkers", "requests",
+                    "conditions"}) {
+                    statement.executeUpdate("DELETE FROM " + table);
+                }
+            }
+            writeAll(connection, requests, healthworkers);
+            return null;
+        });
+    }
+
+    /**
+     * Inserts the rows of {@code requests} and {@code healthworkers}, in batches.
+     * Rows are given tags for the requests and healthworkers that have none.
+     */
+    private static void writeAll(Connection connection, List<Request> requests, List<Healthworker> healthworkers)
+            throws SQLException, IOException {
+        Map<Request, UUID> requestTags = new IdentityHashMap<>();
+        Set<UUID> savedRequestTags = new HashSet<>();
+        Map<String, Integer> conditionIds = new HashMap<>();
+        try (PreparedStatement insertRequest = connection.prepareStatement(MERGE_REQUEST);
+                PreparedStatement insertCondition = connection.prepareStatement(INSERT_REQUEST_CONDITION)) {
+            for (int i = 0; i < requests.size(); i++) {
+                Request request = requests.get(i);
+                UUID tag = request.getTag() != null ? request.getTag() : UUID.randomUUID();
+                requestTags.put(request, tag);
+                savedRequestTags.add(tag);
+                setRequest(insertRequest, tag, i, request);
+                insertRequest.addBatch();
+                for (Condition condition : request.getCondition()) {
+                    Integer conditionId = conditionIds.get(condition.foodName);
+                    if (conditionId == null) {
+                        conditionId = conditionIdOf(connection, condition);
+                        conditionIds.put(condition.foodName, conditionId);
+                    }
+                    insertCondition.setObject(1, tag);
+                    insertCondition.setInt(2, conditionId);
+                    insertCondition.addBatch();
+                }
+            }
+            insertRequest.executeBatch();
+            insertCondition.executeBatch();
+        }
+
+        try (PreparedStatement insertHealthworker = connection.prepareStatement(MERGE_HEALTHWORKER);
+                PreparedStatement insertAssignment = connection.prepareStatement(INSERT_ASSIGNMENT)) {
+            for (int i = 0; i < healthworkers.size(); i++) {
+                Healthworker healthworker = healthworkers.get(i);
+                UUID tag = healthworker.getTag() != null ? healthworker.getTag() : UUID.randomUUID();
+                setHealthworker(insertHealthworker, tag, i, healthworker);
+                insertHealthworker.addBatch();
+                Set<UUID> assignedTags = new HashSet<>();
+                for (Request request : healthworker.getRequests()) {
+                    UUID requestTag = requestTags.get(request);
+                    if (requestTag == null && savedRequestTags.contains(request.getTag())) {
+                        requestTag = request.getTag();
+                    }
+                    if (requestTag == null) {
+                        throw new IOException(String.format(BinaryHealthHubStorage.MESSAGE_UNKNOWN_REQUEST,
+                                healthworker.getName()));
+                    }
+                    if (assignedTags.add(requestTag)) {
+                        insertAssignment.setObject(1, tag);
+                        insertAssignment.setObject(2, requestTag);
+                        insertAssignment.addBatch();
+                    }
+                }
+            }
+            insertHealthworker.executeBatch();
+            insertAssignment.executeBatch();
+        }
+    }
+
+    /**
+     * Returns the id of {@code condition} in the conditions table, adding it to the table if it is not there.
+     */
+    private static int conditionIdOf(Connection connection, Condition condition) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement("SELECT id FROM conditions WHERE name = ?")) {
+            select.setString(1, condition.foodName);
+            try (ResultSet result = select.executeQuery()) {
+                if (result.next()) {
+                    return result.getInt(1);
+                }
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO conditions (name) VALUES (?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            insert.setString(1, condition.foodName);
+            insert.executeUpdate();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                keys.next();
+                return keys.getInt(1);
+            }
+        }
+    }
+
+    /**
+     * Sets the parameters of {@link #MERGE_REQUEST} to the row of {@code request}.
+     */
+    private static void setRequest(PreparedStatement statement, UUID tag, long ord, Request request)
+            throws SQLException {
+        statement.setObject(1, tag);
+        statement.setLong(2, ord);
+        statement.setString(3, request.getName().fullName);
+        statement.setString(4, request.getPhone().value);
+        statement.setString(5, request.getAddress().value);
+        statement.setString(6, request.getDate().toString());
+        statement.setString(7, request.getRequestStatus().toString());
+        statement.setString(8, request.getHealthworker() == null ? null
+                : request.getHealthworker().getName().fullName);
+    }
+
+    /**
+     * Sets the parameters of {@link #MERGE_HEALTHWORKER} to the row of {@code healthworker}.
+     */
+    private static void setHealthworker(PreparedStatement statement, UUID tag, long ord, Healthworker healthworker)
+            throws SQLException {
+        statement.setObject(1, tag);
+        statement.setLong(2, ord);
+        statement.setString(3, healthworker.getName().fullName);
+    }
+
+    /**
+     * Applies the changes in {@code records} to the rows in the database, in a single transaction.
+     */
+    @Override
+    public void append(List<byte[]> records) throws IOException {
+        requireNonNull(records);
+        runUpdateOn(healthHubFilePath, connection -> {
+            RequestRows requestRows = new RequestRows(connection);
+            HealthworkerRows healthworkerRows = new HealthworkerRows(connection);
+            for (byte[] record : JournalFile.splitRecords(records)) {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+                byte list = in.readByte();
+                if (list == HealthHubJournal.REQUEST_LIST) {
+                    JournalFile.apply(in, requestRows, new RequestCodec());
+                } else if (list == HealthHubJournal.HEALTHWORKER_LIST) {
+                    JournalFile.apply(in, healthworkerRows, new HealthworkerCodec());
+                } else {
+                    throw new IllegalValueException(String.format(JournalFile.MESSAGE_UNKNOWN_RECORD, list));
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Does nothing, as the records are applied to the rows as they are saved.
+     */
+    @Override
+    public void clear() {
+    }
+
+    @Override
+    public boolean keepsRecords() {
+        return false;
+    }
+
+    //================================ data read methods ======================================
+
+    @Override
+    public Optional<HealthHubData> readHealthHub() throws DataConversionException, IOException {
+        return readHealthHub(healthHubFilePath);
+    }
+
+    /**
+     * Similar to {@link #readHealthHub()}
+     *
+     * @param filePath location of the healthhub file whose database to read. Cannot be null
+     * @throws DataConversionException if the rows are not valid data.
+     */
+    @Override
+    public Optional<HealthHubData> readHealthHub(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!exists(filePath)) {
+            logger.info("HealthHub database for " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(runOn(filePath, SqlHealthHubStorage::readAll));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in the database for " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (RuntimeException re) {
+            // Constraint violations reported by the model
+            logger.info("Illegal values found in the database for " + filePath + ": " + re.getMessage());
+            throw new DataConversionException(re);
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyRequestBook> readRequestBook() throws DataConversionException, IOException {
+        return readRequestBook(healthHubFilePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyRequestBook> readRequestBook(Path filePath) throws DataConversionException, IOException {
+        return readHealthHub(filePath).map(HealthHubData::getRequestBook);
+    }
+
+    @Override
+    public Optional<HealthworkerList> readHealthworkerList() throws DataConversionException, IOException {
+        return readHealthworkerList(healthHubFilePath);
+    }
+
+    @Override
+    public Optional<HealthworkerList> readHealthworkerList(Path filePath) throws DataConversionException,
+            IOException {
+        return readHealthHub(filePath).map(HealthHubData::getHealthworkerList);
+    }
+
+    /**
+     * Returns the data in the rows of the database. Assignments of requests that are not in the requests table
+     * are left out.
+     */
+    private static HealthHubData readAll(Connection connection) throws SQLException, IllegalValueException {
+        Map<Integer, Condition> conditions = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT id, name FROM conditions")) {
+            while (rows.next()) {
+                conditions.put(rows.getInt(1), Condition.of(rows.getString(2)));
+            }
+        }
+
+        Map<UUID, Set<Condition>> requestConditions = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT request_tag, condition_id FROM request_conditions")) {
+            while (rows.next()) {
+                requestConditions.computeIfAbsent((UUID) rows.getObject(1), unused -> new HashSet<>())
+                        .add(conditions.get(rows.getInt(2)));
+            }
+        }
+
+        RequestBook requestBook = new RequestBook();
+        Map<UUID, Request> requestsByTag = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT tag, name, phone, address, request_date, status, "
+                        + "healthworker FROM requests ORDER BY ord")) {
+            while (rows.next()) {
+                UUID tag = (UUID) rows.getObject(1);
+                String healthworkerName = rows.getString(7);
+                Request request = new Request(tag, Name.of(rows.getString(2)), new Phone(rows.getString(3)),
+                        Address.of(rows.getString(4)), new RequestDate(rows.getString(5)),
+                        new RequestStatus(rows.getString(6)),
+                        requestConditions.getOrDefault(tag, Collections.emptySet()),
+                        healthworkerName == null ? null : new Healthworker(Name.of(healthworkerName)));
+                if (requestBook.hasRequest(request)) {
+                    throw new IllegalValueException(XmlSerializableRequestBook.MESSAGE_DUPLICATE_ORDER);
+                }
+                requestBook.addRequest(request);
+                requestsByTag.put(tag, request);
+            }
+        }
+
+        Map<UUID, Set<Request>> assignedRequests = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT a.healthworker_tag, a.request_tag "
+                        + "FROM assignments a JOIN requests r ON r.tag = a.request_tag")) {
+            while (rows.next()) {
+                assignedRequests.computeIfAbsent((UUID) rows.getObject(1), unused -> new HashSet<>())
+                        .add(requestsByTag.get((UUID) rows.getObject(2)));
+            }
+        }
+
+        HealthworkerList healthworkerList = new HealthworkerList();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT tag, name FROM healthworkers ORDER BY ord")) {
+            while (rows.next()) {
+                UUID tag = (UUID) rows.getObject(1);
+                Healthworker healthworker = new Healthworker(tag, Name.of(rows.getString(2)),
+                        assignedRequests.getOrDefault(tag, Collections.emptySet()));
+                if (healthworkerList.hasDeliveryman(healthworker)) {
+                    throw new IllegalValueException(XmlSerializableHealthworkerList.MESSAGE_DUPLICATE_DELIVERYMAN);
+                }
+                healthworkerList.addDeliveryman(healthworker);
+            }
+        }
+
+        ReferenceResolver.resolve(requestBook, healthworkerList);
+        return new HealthHubData(requestBook, healthworkerList);
+    }
+
+    /**
+     * Runs {@code transaction} on the database of the healthhub file at {@code filePath}.
+     */
+    private <R> R runOn(Path filePath, SqlDatabase.Transaction<R> transaction)
+            throws IOException, IllegalValueException {
+        if (filePath.equals(healthHubFilePath)) {
+            return database.run(transaction);
+        }
+        SqlDatabase otherDatabase = new SqlDatabase(filePath, SCHEMA);
+        try {
+            return otherDatabase.run(transaction);
+        } finally {
+            otherDatabase.close();
+        }
+    }
+
+    /**
+     * Runs {@code transaction}, which changes the rows, on the database of the healthhub file at {@code filePath}.
+     * Invalid records are reported as an {@code IOException}, so that the data is next saved in full.
+     */
+    private void runUpdateOn(Path filePath, SqlDatabase.Transaction<Void> transaction) throws IOException {
+        try {
+            runOn(filePath, transaction);
+        } catch (IllegalValueException ive) {
+            throw new IOException(ive.getMessage(), ive);
+        }
+    }
+
+    /**
+     * Returns {@code tag} if it is not null, as the rows of the elements in records are keyed by their tags.
+     */
+    private static UUID requireTag(UUID tag) throws IllegalValueException {
+        if (tag == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_TAG);
+        }
+        return tag;
+    }
+
+    /**
+     * The rows of the requests table, with their conditions, that request records are applied to.
+     */
+    private static class RequestRows implements RecordTarget<Request, UUID> {
+        private final Connection connection;
+
+        RequestRows(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public KeyCodec<Request, UUID> getKeyCodec() {
+            return KeyCodec.byTag();
+        }
+
+        @Override
+        public void insert(int index, Request element) throws IOException, IllegalValueException {
+            try {
+                write(SqlDatabase.makeRoomAt(connection, "requests", index), element);
+            } catch (SQLException sqle) {
+                throw new IOException(sqle);
+            }
+        }
+
+        @Override
+        public void replace(UUID key, Request element) throws IOException, IllegalValueException {
+            try {
+                long ord = SqlDatabase.ordOf(connection, "requests", "tag", key);
+                if (ord < 0) {
+                    throw new IllegalValueException(String.format(JournalFile.MESSAGE_UNKNOWN_KEY, key));
+                }
+                if (!key.equals(element.getTag())) {
+                    delete(key);
+                }
+                write(ord, element);
+            } catch (SQLException sqle) {
+                throw new IOException(sqle);
+            }
+        }
+
+        @Override
+        public void remove(UUID key) throws IOException, IllegalValueException {
+            try {
+                if (delete(key) == 0) {
+                    throw new IllegalValueException(String.format(JournalFile.MESSAGE_UNKNOWN_KEY, key));
+                }
+            } catch (SQLException sqle) {
+                throw new IOException(sqle);
+            }
+        }
+
+        /**
+         * Inserts or updates the row of {@code request} at {@code ord}, and replaces its conditions.
+         */
+        private void write(long ord, Request request) throws SQLException, IllegalValueException {
+            UUID tag = requireTag(request.getTag());
+            try (PreparedStatement merge = connection.prepareStatement(MERGE_REQUEST)) {
+                setRequest(merge, tag, ord, request);
+                merge.executeUpdate();
+            }
+            try (PreparedStatement delete = connection.prepareStatement(
+                    "DELETE FROM request_conditions WHERE request_tag = ?")) {
+                delete.setObject(1, tag);
+                delete.executeUpdate();
+            }
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_REQUEST_CONDITION)) {
+                for (Condition condition : request.getCondition()) {
+                    insert.setObject(1, tag);
+                    insert.setInt(2, conditionIdOf(connection, condition));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+
+        /**
+         * Deletes the row of the request with the tag {@code key}, with its conditions, and returns the number of
+         * rows deleted.
+         */
+        private int delete(UUID key) throws SQLException {
+            try (PreparedStatement delete = connection.prepareStatement("DELETE FROM requests WHERE tag = ?")) {
+                delete.setObject(1, key);
+                return delete.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * The rows of the healthworkers table, with their assignments, that healthworker records are applied to.
+     */
+    private static class HealthworkerRows implements RecordTarget<Healthworker, UUID> {
+        private final Connection connection;
+
+        HealthworkerRows(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public KeyCodec<Healthworker, UUID> getKeyCodec() {
+            return KeyCodec.byTag();
+        }
+
+        @Override
+        public void insert(int index, Healthworker element) throws IOException, IllegalValueException {
+            try {
+                write(SqlDatabase.makeRoomAt(connection, "healthworkers", index), element);
+            } catch (SQLException sqle) {
+                throw new IOException(sqle);
+            }
+        }
+
+        @Override
+        public void replace(UUID key, Healthworker element) throws IOException, IllegalValueException {
+            try {
+                long ord = SqlDatabase.ordOf(connection, "healthworkers", "tag", key);
+                if (ord < 0) {
+                    throw new IllegalValueException(String.format(JournalFile.MESSAGE_UNKNOWN_KEY, key));
+                }
+                if (!key.equals(element.getTag())) {
+                    delete(key);
+                }
+                write(ord, element);
+            } catch (SQLException sqle) {
+                throw new IOException(sqle);
+            }
+        }
+
+        @Override
+        public void remove(UUID key) throws IOException, IllegalValueException {
+            try {
+                if (delete(key) == 0) {
+                    throw new IllegalValueException(String.format(JournalFile.MESSAGE_UNKNOWN_KEY, key));
+                }
+            } catch (SQLException sqle) {
+                throw new IOException(sqle);
+            }
+        }
+
+        /**
+         * Inserts or updates the row of {@code healthworker} at {@code ord}, and replaces its assignments.
+         */
+        private void write(long ord, Healthworker healthworker) throws SQLException, IllegalValueException {
+            UUID tag = requireTag(healthworker.getTag());
+            try (PreparedStatement merge = connection.prepareStatement(MERGE_HEALTHWORKER)) {
+                setHealthworker(merge, tag, ord, healthworker);
+                merge.executeUpdate();
+            }
+            try (PreparedStatement delete = connection.prepareStatement(
+                    "DELETE FROM assignments WHERE healthworker_tag = ?")) {
+                delete.setObject(1, tag);
+                delete.executeUpdate();
+            }
+            Set<UUID> assignedTags = new HashSet<>();
+            for (Request request : healthworker.getRequests()) {
+                assignedTags.add(requireTag(request.getTag()));
+            }
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_ASSIGNMENT)) {
+                for (UUID requestTag : assignedTags) {
+                    insert.setObject(1, tag);
+                    insert.setObject(2, requestTag);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+
+        /**
+         * Deletes the row of the healthworker with the tag {@code key}, with its assignments, and returns the
+         * number of rows deleted.
+         */
+        private int delete(UUID key) throws SQLException {
+            try (PreparedStatement delete = connection.prepareStatement(
+                    "DELETE FROM healthworkers WHERE tag = ?")) {
+                delete.setObject(1, key);
+                return delete.executeUpdate();
+            }
+        }
+    }
+}
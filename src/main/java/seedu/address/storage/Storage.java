@@ -34,13 +34,28 @@ public interface Storage extends HealthHubStorage, UserPrefsStorage, UsersListSt
     @Override
     void saveUsersList(ReadOnlyUsersList usersList) throws IOException;
 
+    /**
+     * Starts recording the changes made to {@code usersList}, so that saving it only appends the changes to the
+     * journal of the users list file, or updates the changed rows of a database.
+     * The first save after this call writes the users list file in full, unless the users list was just read from
+     * a database.
+     */
+    void trackUsersListChanges(ReadOnlyUsersList usersList);
+
     /**
      * Saves the current version of the UsersList to the hard disk.
+     * Changes to a tracked users list are appended to the journal of its file when it is small enough.
      * Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleUsersListChangedEvent(UsersListChangedEvent ulce);
 
+    @Override
+    Optional<HealthHubData> readHealthHub() throws DataConversionException, IOException;
+
+    @Override
+    Optional<HealthHubData> readHealthHub(Path filePath) throws DataConversionException, IOException;
+
     @Override
     Optional<ReadOnlyRequestBook> readRequestBook() throws DataConversionException, IOException;
 
@@ -62,5 +77,29 @@ public interface Storage extends HealthHubStorage, UserPrefsStorage, UsersListSt
     void saveHealthHub(ReadOnlyRequestBook orderBook, HealthworkerList healthworkerList, Path filePath)
         throws IOException;
 
+    /**
+     * Starts recording the changes made to {@code orderBook} and {@code healthworkerList}, so that saving them
+     * only appends the changes to the journal of the healthhub file, or updates the changed rows of a database.
+     * The first save after this call writes the healthhub file in full, unless the data was just read from a
+     * database.
+     */
+    void trackHealthHubChanges(ReadOnlyRequestBook orderBook, HealthworkerList healthworkerList);
+
+    /**
+     * Saves the data in the event to the hard disk on a background thread.
+     * Changes made in quick succession are coalesced into a single save.
+     * Changes to tracked data are appended to the journal of the healthhub file when it is small enough.
+     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     */
     void handleFoodZoomChangedEvent(HealthHubChangedEvent healthHubChangedEvent);
+
+    /**
+     * Saves the healthhub changes that have not been saved yet, and waits for the save to complete.
+     */
+    void flushHealthHub();
+
+    /**
+     * Returns the counters of the background healthhub saves.
+     */
+    CoalescingHealthHubWriter.Metrics getHealthHubWriteMetrics();
 }
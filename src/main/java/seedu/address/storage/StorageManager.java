@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -17,6 +18,7 @@ import seedu.address.model.ReadOnlyRequestBook;
 import seedu.address.model.ReadOnlyUsersList;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.storage.user.UsersListJournal;
 import seedu.address.storage.user.UsersListStorage;
 
 /**
@@ -24,17 +26,65 @@ import seedu.address.storage.user.UsersListStorage;
  */
 public class StorageManager extends ComponentManager implements Storage {
 
+    public static final long DEFAULT_SAVE_DEBOUNCE_MILLIS = 300;
+    public static final long DEFAULT_JOURNAL_SIZE_LIMIT = UserPrefs.DEFAULT_JOURNAL_SIZE_LIMIT;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private HealthHubStorage healthHubStorage;
     private UserPrefsStorage userPrefsStorage;
     private UsersListStorage usersListStorage;
+    private CoalescingHealthHubWriter healthHubWriter;
+    private long journalSizeLimit;
+
+    private RecordStore healthHubRecordStore;
+    private ListChangeRecorder healthHubRecorder;
+    private ReadOnlyRequestBook trackedOrderBook;
+    private HealthworkerList trackedHealthworkerList;
+    // Bytes appended to the journal since the healthhub file was last written in full
+    private long healthHubJournalSize;
+    private volatile boolean isHealthHubSnapshotRequired = true;
+    // Whether the healthhub data was last read from a record store that saves records in place
+    private boolean isHealthHubReadFromRecordStore;
+
+    private RecordStore usersListRecordStore;
+    private ListChangeRecorder usersListRecorder;
+    private ReadOnlyUsersList trackedUsersList;
+    private long usersListJournalSize;
+    private boolean isUsersListSnapshotRequired = true;
+    private boolean isUsersListReadFromRecordStore;
 
     public StorageManager(UsersListStorage usersListStorage, HealthHubStorage healthHubStorage,
                           UserPrefsStorage userPrefsStorage) {
+        this(usersListStorage, healthHubStorage, userPrefsStorage, DEFAULT_SAVE_DEBOUNCE_MILLIS,
+            DEFAULT_JOURNAL_SIZE_LIMIT);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves healthhub changes at most once every {@code saveDebounceMillis}.
+     * Changes to the data being tracked are appended to the journal of its file until the journal grows past
+     * {@code journalSizeLimit} bytes, after which the file is written in full. A limit of 0 always writes the
+     * files in full. Storages that are themselves a {@link RecordStore}, such as databases, save the changes in
+     * place instead of to a journal, and are only written in full when the changes cannot be saved as records.
+     */
+    public StorageManager(UsersListStorage usersListStorage, HealthHubStorage healthHubStorage,
+                          UserPrefsStorage userPrefsStorage, long saveDebounceMillis, long journalSizeLimit) {
         super();
         this.healthHubStorage = healthHubStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.usersListStorage = usersListStorage;
+        this.journalSizeLimit = journalSizeLimit;
+        this.healthHubRecordStore = healthHubStorage instanceof RecordStore
+            ? (RecordStore) healthHubStorage
+            : HealthHubJournal.of(healthHubStorage.getHealthHubFilePath());
+        this.usersListRecordStore = usersListStorage instanceof RecordStore
+            ? (RecordStore) usersListStorage
+            : UsersListJournal.of(usersListStorage.getUsersListFilePath());
+        this.healthHubWriter = new CoalescingHealthHubWriter(healthHubStorage, healthHubRecordStore, saveDebounceMillis,
+            e -> {
+                // The records saved may no longer match the healthhub file
+                isHealthHubSnapshotRequired = true;
+                raise(new DataSavingExceptionEvent(e));
+            });
     }
 
     // ================ UsersList methods ==============================
@@ -46,13 +96,20 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public Optional<ReadOnlyUsersList> readUsersList() throws DataConversionException, IOException {
-        return readUsersList(usersListStorage.getUsersListFilePath());
+        isUsersListReadFromRecordStore = false;
+        Optional<ReadOnlyUsersList> usersList = readUsersList(usersListStorage.getUsersListFilePath());
+        isUsersListReadFromRecordStore = usersList.isPresent() && !usersListRecordStore.keepsRecords();
+        return usersList;
     }
 
     @Override
     public Optional<ReadOnlyUsersList> readUsersList(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return usersListStorage.readUsersList(filePath);
+        Optional<ReadOnlyUsersList> snapshot = usersListStorage.readUsersList(filePath);
+        if (!snapshot.isPresent() || !usersListRecordStore.keepsRecords()) {
+            return snapshot;
+        }
+        return Optional.of(UsersListJournal.of(filePath).replay(snapshot.get()));
     }
 
     @Override
@@ -64,6 +121,19 @@ public class StorageManager extends ComponentManager implements Storage {
     public void saveUsersList(ReadOnlyUsersList usersList, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         usersListStorage.saveUsersList(usersList, filePath);
+        if (usersListRecordStore.keepsRecords()) {
+            UsersListJournal.of(filePath).clear();
+        }
+    }
+
+    @Override
+    public void trackUsersListChanges(ReadOnlyUsersList usersList) {
+        if (journalSizeLimit > 0) {
+            usersListRecorder = UsersListJournal.record(usersList, journalSizeLimit);
+            trackedUsersList = usersList;
+            // Records can be saved in place right away to the store the users list was read from
+            isUsersListSnapshotRequired = !isUsersListReadFromRecordStore;
+        }
     }
 
     @Override
@@ -71,8 +141,24 @@ public class StorageManager extends ComponentManager implements Storage {
     public void handleUsersListChangedEvent(UsersListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
         try {
-            saveUsersList(event.data);
+            if (usersListRecorder == null || event.data != trackedUsersList) {
+                saveUsersList(event.data);
+                return;
+            }
+
+            Optional<byte[]> records = usersListRecorder.takeRecords();
+            if (isUsersListSnapshotRequired || !records.isPresent() || (usersListRecordStore.keepsRecords()
+                    && usersListJournalSize + records.get().length > journalSizeLimit)) {
+                saveUsersList(event.data);
+                isUsersListSnapshotRequired = false;
+                usersListJournalSize = 0;
+            } else {
+                usersListRecordStore.append(Collections.singletonList(records.get()));
+                usersListJournalSize += records.get().length;
+            }
         } catch (IOException e) {
+            // The records saved may no longer match the users list file
+            isUsersListSnapshotRequired = true;
             raise(new DataSavingExceptionEvent(e));
         }
     }
@@ -100,6 +186,24 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
     //================================ data read methods ======================================
+    @Override
+    public Optional<HealthHubData> readHealthHub() throws DataConversionException, IOException {
+        isHealthHubReadFromRecordStore = false;
+        Optional<HealthHubData> healthHub = readHealthHub(healthHubStorage.getHealthHubFilePath());
+        isHealthHubReadFromRecordStore = healthHub.isPresent() && !healthHubRecordStore.keepsRecords();
+        return healthHub;
+    }
+
+    @Override
+    public Optional<HealthHubData> readHealthHub(Path filePath) throws DataConversionException, IOException {
+        logger.fine("Attempting to read data from file: " + filePath);
+        Optional<HealthHubData> snapshot = healthHubStorage.readHealthHub(filePath);
+        if (!snapshot.isPresent() || !healthHubRecordStore.keepsRecords()) {
+            return snapshot;
+        }
+        return Optional.of(HealthHubJournal.of(filePath).replay(snapshot.get()));
+    }
+
     @Override
     public Optional<ReadOnlyRequestBook> readRequestBook() throws DataConversionException, IOException {
         return readRequestBook(healthHubStorage.getHealthHubFilePath());
@@ -107,6 +211,9 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public Optional<ReadOnlyRequestBook> readRequestBook(Path filePath) throws DataConversionException, IOException {
+        if (healthHubRecordStore.keepsRecords() && HealthHubJournal.of(filePath).exists()) {
+            return readHealthHub(filePath).map(HealthHubData::getRequestBook);
+        }
         logger.fine("Attempting to read data from file: " + filePath);
         return healthHubStorage.readRequestBook(filePath);
     }
@@ -118,6 +225,9 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public Optional<HealthworkerList> readHealthworkerList(Path filePath) throws DataConversionException, IOException {
+        if (healthHubRecordStore.keepsRecords() && HealthHubJournal.of(filePath).exists()) {
+            return readHealthHub(filePath).map(HealthHubData::getHealthworkerList);
+        }
         logger.fine("Attempting to read data from file: " + filePath);
         return healthHubStorage.readHealthworkerList(filePath);
     }
@@ -134,16 +244,54 @@ public class StorageManager extends ComponentManager implements Storage {
         IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         healthHubStorage.saveHealthHub(orderBook, healthworkerList, filePath);
+        if (healthHubRecordStore.keepsRecords()) {
+            HealthHubJournal.of(filePath).clear();
+        }
+    }
+
+    @Override
+    public void trackHealthHubChanges(ReadOnlyRequestBook orderBook, HealthworkerList healthworkerList) {
+        if (journalSizeLimit > 0) {
+            healthHubRecorder = HealthHubJournal.record(orderBook, healthworkerList, journalSizeLimit);
+            trackedOrderBook = orderBook;
+            trackedHealthworkerList = healthworkerList;
+            // Records can be saved in place right away to the store the data was read from
+            isHealthHubSnapshotRequired = !isHealthHubReadFromRecordStore;
+        }
     }
 
     @Override
     @Subscribe
     public void handleFoodZoomChangedEvent(HealthHubChangedEvent healthHubChangedEvent) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(healthHubChangedEvent, "Local data changed, saving to file"));
-        try {
-            saveHealthHub(healthHubChangedEvent.orderBook, healthHubChangedEvent.healthworkerList);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        logger.info(LogsCenter.getEventHandlingLogMessage(healthHubChangedEvent,
+            "Local data changed, scheduling save to file"));
+        ReadOnlyRequestBook orderBook = healthHubChangedEvent.orderBook;
+        HealthworkerList healthworkerList = healthHubChangedEvent.healthworkerList;
+        if (healthHubRecorder == null || orderBook != trackedOrderBook
+                || healthworkerList != trackedHealthworkerList) {
+            healthHubWriter.submit(orderBook, healthworkerList);
+            return;
+        }
+
+        Optional<byte[]> records = healthHubRecorder.takeRecords();
+        if (isHealthHubSnapshotRequired || !records.isPresent() || (healthHubRecordStore.keepsRecords()
+                && healthHubJournalSize + records.get().length > journalSizeLimit)) {
+            isHealthHubSnapshotRequired = false;
+            healthHubJournalSize = 0;
+            healthHubWriter.submit(orderBook, healthworkerList);
+        } else {
+            healthHubJournalSize += records.get().length;
+            healthHubWriter.submitRecords(records.get());
         }
     }
+
+    @Override
+    public void flushHealthHub() {
+        healthHubWriter.flush();
+    }
+
+    @Override
+    public CoalescingHealthHubWriter.Metrics getHealthHubWriteMetrics() {
+        return healthHubWriter.getMetrics();
+    }
 }
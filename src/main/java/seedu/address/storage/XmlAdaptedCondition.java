@@ -45,7 +45,7 @@ public class XmlAdaptedCondition {
         if (!Condition.isValidFood(condition)) {
             throw new IllegalValueException(Condition.MESSAGE_FOOD_CONSTRAINTS);
         }
-        return new Condition(condition);
+        return Condition.of(condition);
     }
 
     @Override
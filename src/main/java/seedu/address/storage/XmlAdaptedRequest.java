@@ -108,6 +108,10 @@ public class XmlAdaptedRequest {
         }
     }
 
+    public String getTag() {
+        return tag;
+    }
+
     /**
      * Converts this jaxb-friendly adapted request object into the model's Request object.
      *
@@ -127,7 +131,7 @@ public class XmlAdaptedRequest {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -146,7 +150,7 @@ public class XmlAdaptedRequest {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_ADDRESS_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.of(address);
 
 
         if (date == null) {
@@ -189,7 +193,7 @@ public class XmlAdaptedRequest {
         if (deliveryman == null) {
             modelHealthworker = null;
         } else {
-            modelHealthworker = new Healthworker(new Name(deliveryman));
+            modelHealthworker = new Healthworker(Name.of(deliveryman));
         }
 
         return new Request(modelTag, modelName, modelPhone, modelAddress, modelDate, requestStatus,
@@ -5,6 +5,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyRequestBook;
+import seedu.address.model.ReferenceResolver;
 import seedu.address.model.RequestBook;
 import seedu.address.model.healthworker.HealthworkerList;
 import seedu.address.storage.healthworker.XmlSerializableHealthworkerList;
@@ -34,7 +35,23 @@ public class XmlHealthHub {
         return orderBook.toModelType();
     }
 
+    /**
+     * Returns the healthworker list, with the healthworkers assigned to the requests in the request book.
+     */
     public HealthworkerList getDeliverymenList() throws IllegalValueException {
-        return deliverymenList.toModelType();
+        return toModelType().getHealthworkerList();
+    }
+
+    /**
+     * Converts this into the model's request book and healthworker list. Each request and healthworker is
+     * converted once, and they are linked to each other by reference.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the data.
+     */
+    public HealthHubData toModelType() throws IllegalValueException {
+        RequestBook requestBook = orderBook.toModelType();
+        HealthworkerList healthworkerList = deliverymenList.toModelType(requestBook);
+        ReferenceResolver.resolve(requestBook, healthworkerList);
+        return new HealthHubData(requestBook, healthworkerList);
     }
 }
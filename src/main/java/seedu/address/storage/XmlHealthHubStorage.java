@@ -58,6 +58,35 @@ public class XmlHealthHubStorage implements HealthHubStorage {
         XmlFileStorage.saveFoodZoomDataToFile(filePath, new XmlHealthHub(orderBook, healthworkerList));
     }
 
+    @Override
+    public Optional<HealthHubData> readHealthHub() throws DataConversionException, IOException {
+        return readHealthHub(healthHubFilePath);
+    }
+
+    /**
+     * Similar to {@link #readHealthHub()}
+     *
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<HealthHubData> readHealthHub(Path filePath) throws DataConversionException,
+        IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("FoodZoom file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new XmlHealthHubStreamReader().read(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
     @Override
     public Optional<ReadOnlyRequestBook> readRequestBook() throws DataConversionException, IOException {
         return readRequestBook(healthHubFilePath);
@@ -0,0 +1,232 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.ReferenceResolver;
+import seedu.address.model.RequestBook;
+import seedu.address.model.healthworker.Healthworker;
+import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.model.request.Request;
+import seedu.address.storage.healthworker.XmlAdaptedHealthworker;
+import seedu.address.storage.healthworker.XmlSerializableHealthworkerList;
+
+/**
+ * Reads a healthhub XML file, in the format written for {@link XmlHealthHub}, in a single streaming pass.
+ * Request elements are unmarshalled one at a time and handed in batches to a fork-join pool, which validates
+ * and converts them into {@code Request}s. Converted batches are added to the request book in file order, and
+ * only a few batches are in flight at any time, so the memory used while loading stays close to the size of
+ * the loaded model.
+ * <p>
+ * The requests of each healthworker are resolved by tag against the loaded request book, and each assigned
+ * request is linked to its healthworker, so that every request and healthworker is loaded once.
+ */
+public class XmlHealthHubStreamReader {
+
+    public static final String MESSAGE_UNKNOWN_REQUEST = XmlAdaptedHealthworker.MESSAGE_UNKNOWN_REQUEST;
+
+    private static final String REQUEST_ELEMENT = "orders";
+    private static final String HEALTHWORKER_ELEMENT = "deliverymen";
+    private static final String HEALTHWORKER_NAME_ELEMENT = "name";
+    private static final String HEALTHWORKER_REQUEST_ELEMENT = "orders";
+    private static final String TAG_ATTRIBUTE = "tag";
+    private static final int BATCH_SIZE = 256;
+
+    private final ForkJoinPool pool;
+    private final int maxBatchesInFlight;
+
+    public XmlHealthHubStreamReader() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public XmlHealthHubStreamReader(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+        this.maxBatchesInFlight = 2 * pool.getParallelism();
+    }
+
+    /**
+     * Returns the request book and healthworker list in {@code file}.
+     *
+     * @throws DataConversionException if the file is not well-formed or does not match the expected structure.
+     * @throws IllegalValueException   if there were any data constraints violated or duplicates in the data.
+     */
+    public HealthHubData read(Path file) throws IOException, DataConversionException, IllegalValueException {
+        requireNonNull(file);
+
+        XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        try (InputStream in = Files.newInputStream(file)) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                return read(reader, XmlUtil.createUnmarshaller(XmlAdaptedRequest.class));
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the healthhub data from {@code reader}, using {@code unmarshaller} for request elements.
+     */
+    private HealthHubData read(XMLStreamReader reader, Unmarshaller unmarshaller)
+            throws XMLStreamException, JAXBException, IllegalValueException {
+        RequestBook requestBook = new RequestBook();
+        List<HealthworkerElement> healthworkerElements = new ArrayList<>();
+        Deque<ForkJoinTask<List<Request>>> batchesInFlight = new ArrayDeque<>();
+        List<XmlAdaptedRequest> batch = new ArrayList<>(BATCH_SIZE);
+
+        try {
+            while (reader.hasNext()) {
+                if (isStartOf(reader, REQUEST_ELEMENT)) {
+                    // Moves the reader past the end of the element
+                    batch.add(unmarshaller.unmarshal(reader, XmlAdaptedRequest.class).getValue());
+                    if (batch.size() == BATCH_SIZE) {
+                        batchesInFlight.add(pool.submit(convert(batch)));
+                        batch = new ArrayList<>(BATCH_SIZE);
+                    }
+                    while (batchesInFlight.size() > maxBatchesInFlight) {
+                        addAll(requestBook, batchesInFlight.poll());
+                    }
+                } else if (isStartOf(reader, HEALTHWORKER_ELEMENT)) {
+                    healthworkerElements.add(readHealthworker(reader));
+                } else {
+                    reader.next();
+                }
+            }
+            batchesInFlight.add(pool.submit(convert(batch)));
+            while (!batchesInFlight.isEmpty()) {
+                addAll(requestBook, batchesInFlight.poll());
+            }
+        } finally {
+            batchesInFlight.forEach(task -> task.cancel(false));
+        }
+
+        HealthworkerList healthworkerList = toHealthworkerList(healthworkerElements, requestBook);
+        ReferenceResolver.resolve(requestBook, healthworkerList);
+        return new HealthHubData(requestBook, healthworkerList);
+    }
+
+    private static boolean isStartOf(XMLStreamReader reader, String elementName) {
+        return reader.isStartElement() && elementName.equals(reader.getLocalName());
+    }
+
+    /**
+     * Returns a task that converts {@code batch} into model requests.
+     */
+    private static ForkJoinTask<List<Request>> convert(List<XmlAdaptedRequest> batch) {
+        return ForkJoinTask.adapt(() -> {
+            List<Request> requests = new ArrayList<>(batch.size());
+            for (XmlAdaptedRequest adaptedRequest : batch) {
+                requests.add(adaptedRequest.toModelType());
+            }
+            return requests;
+        });
+    }
+
+    /**
+     * Waits for {@code convertedBatch} and adds its requests to {@code requestBook}.
+     */
+    private static void addAll(RequestBook requestBook, ForkJoinTask<List<Request>> convertedBatch)
+            throws IllegalValueException {
+        List<Request> requests;
+        try {
+            requests = convertedBatch.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading requests", ie);
+        } catch (ExecutionException ee) {
+            // Checked exceptions thrown by an adapted callable are wrapped once more
+            for (Throwable cause = ee.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IllegalValueException) {
+                    throw (IllegalValueException) cause;
+                }
+            }
+            throw new IllegalStateException(ee.getCause());
+        }
+
+        for (Request request : requests) {
+            if (requestBook.hasRequest(request)) {
+                throw new IllegalValueException(XmlSerializableRequestBook.MESSAGE_DUPLICATE_ORDER);
+            }
+            requestBook.addRequest(request);
+        }
+    }
+
+    /**
+     * Reads the healthworker element that {@code reader} is at, and moves the reader past its end.
+     */
+    private static HealthworkerElement readHealthworker(XMLStreamReader reader) throws XMLStreamException {
+        String tag = reader.getAttributeValue(null, TAG_ATTRIBUTE);
+        String name = null;
+        List<String> requestTags = new ArrayList<>();
+        while (!(reader.next() == XMLStreamReader.END_ELEMENT
+                && HEALTHWORKER_ELEMENT.equals(reader.getLocalName()))) {
+            if (isStartOf(reader, HEALTHWORKER_NAME_ELEMENT)) {
+                name = reader.getElementText();
+            } else if (isStartOf(reader, HEALTHWORKER_REQUEST_ELEMENT)) {
+                requestTags.add(reader.getElementText().trim());
+            }
+        }
+        reader.next();
+        return new HealthworkerElement(new XmlAdaptedHealthworker(tag, name, null), requestTags);
+    }
+
+    /**
+     * Converts {@code healthworkerElements} into a {@code HealthworkerList}, assigning each healthworker the
+     * requests in {@code requestBook} with the tags it refers to.
+     */
+    private static HealthworkerList toHealthworkerList(List<HealthworkerElement> healthworkerElements,
+                                                       RequestBook requestBook) throws IllegalValueException {
+        HealthworkerList healthworkerList = new HealthworkerList();
+        for (HealthworkerElement element : healthworkerElements) {
+            List<Request> requests = new ArrayList<>();
+            for (String requestTag : element.requestTags) {
+                requests.add(XmlAdaptedHealthworker.findRequest(requestBook, requestTag));
+            }
+            Healthworker healthworker = element.adaptedHealthworker.toModelType(requests);
+            if (healthworkerList.hasDeliveryman(healthworker)) {
+                throw new IllegalValueException(XmlSerializableHealthworkerList.MESSAGE_DUPLICATE_DELIVERYMAN);
+            }
+            healthworkerList.addDeliveryman(healthworker);
+        }
+        return healthworkerList;
+    }
+
+    /**
+     * A healthworker element read from the file, whose requests are yet to be resolved.
+     */
+    private static class HealthworkerElement {
+        private final XmlAdaptedHealthworker adaptedHealthworker;
+        private final List<String> requestTags;
+
+        HealthworkerElement(XmlAdaptedHealthworker adaptedHealthworker, List<String> requestTags) {
+            this.adaptedHealthworker = adaptedHealthworker;
+            this.requestTags = requestTags;
+        }
+    }
+}
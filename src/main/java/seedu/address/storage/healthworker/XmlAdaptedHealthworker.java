@@ -3,6 +3,7 @@ package seedu.address.storage.healthworker;
 import static seedu.address.model.TaggedObject.MESSAGE_INVALID_ID;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -16,6 +17,7 @@ import javax.xml.bind.annotation.XmlID;
 import javax.xml.bind.annotation.XmlIDREF;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.RequestBook;
 import seedu.address.model.common.Name;
 import seedu.address.model.healthworker.Healthworker;
 import seedu.address.model.request.Request;
@@ -26,6 +28,7 @@ import seedu.address.storage.XmlAdaptedRequest;
  */
 public class XmlAdaptedHealthworker {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Healthworker's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_REQUEST = "Healthworker is assigned an unknown request: %s";
 
     @XmlAttribute
     @XmlID
@@ -80,6 +83,36 @@ public class XmlAdaptedHealthworker {
      * @throws IllegalValueException If there were any data constraints violated.
      */
     public Healthworker toModelType() throws IllegalValueException {
+        final List<Request> requestStore = new ArrayList<>();
+        for (XmlAdaptedRequest orderItem : orders) {
+            requestStore.add(orderItem.toModelType());
+        }
+        return toModelType(requestStore);
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted healthworker object into the model's Healthworker object, assigned to
+     * the requests in {@code requestBook} with the tags of the requests held by this object. No copies of the
+     * requests are made.
+     *
+     * @throws IllegalValueException If there were any data constraints violated, or a request is not in
+     *                               {@code requestBook}.
+     */
+    public Healthworker toModelType(RequestBook requestBook) throws IllegalValueException {
+        final List<Request> requestStore = new ArrayList<>();
+        for (XmlAdaptedRequest orderItem : orders) {
+            requestStore.add(findRequest(requestBook, orderItem.getTag()));
+        }
+        return toModelType(requestStore);
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted healthworker object into the model's Healthworker object, assigned to
+     * {@code requests} instead of the requests held by this object.
+     *
+     * @throws IllegalValueException If there were any data constraints violated.
+     */
+    public Healthworker toModelType(Collection<Request> requests) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -99,17 +132,27 @@ public class XmlAdaptedHealthworker {
             throw new IllegalValueException(MESSAGE_INVALID_ID);
         }
 
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
-        final List<Request> requestStore = new ArrayList<>();
-        for (XmlAdaptedRequest orderItem : orders) {
-            requestStore.add(orderItem.toModelType());
-        }
-        final Set<Request> modelRequest = new HashSet<>(requestStore);
+        final Set<Request> modelRequest = new HashSet<>(requests);
 
         return new Healthworker(modelTag, modelName, modelRequest);
     }
 
+    /**
+     * Returns the request in {@code requestBook} with the tag {@code requestTag}.
+     *
+     * @throws IllegalValueException if there is no such request.
+     */
+    public static Request findRequest(RequestBook requestBook, String requestTag) throws IllegalValueException {
+        try {
+            return requestBook.getRequestByTag(UUID.fromString(requestTag))
+                .orElseThrow(() -> new IllegalValueException(String.format(MESSAGE_UNKNOWN_REQUEST, requestTag)));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_REQUEST, requestTag));
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.RequestBook;
 import seedu.address.model.healthworker.Healthworker;
 import seedu.address.model.healthworker.HealthworkerList;
 
@@ -54,6 +55,24 @@ public class XmlSerializableHealthworkerList {
         return healthworkerList;
     }
 
+    /**
+     * Converts this deliverymen list into the model's {@code HealthworkerList} object, with the healthworkers
+     * assigned to the requests in {@code requestBook} instead of copies of them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or dupicates
+     */
+    public HealthworkerList toModelType(RequestBook requestBook) throws IllegalValueException {
+        HealthworkerList healthworkerList = new HealthworkerList();
+        for (XmlAdaptedHealthworker d : deliverymen) {
+            Healthworker dMan = d.toModelType(requestBook);
+            if (healthworkerList.hasDeliveryman(dMan)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_DELIVERYMAN);
+            }
+            healthworkerList.addDeliveryman(dMan);
+        }
+        return healthworkerList;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
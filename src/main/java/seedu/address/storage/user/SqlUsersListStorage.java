@@ -0,0 +1,333 @@
+package seedu.address.storage.user;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyUsersList;
+import seedu.address.model.UsersList;
+import seedu.address.model.common.Name;
+import seedu.address.model.common.Password;
+import seedu.address.model.common.Username;
+import seedu.address.model.user.User;
+import seedu.address.model.user.UserCodec;
+import seedu.address.storage.JournalFile;
+import seedu.address.storage.JournalFile.RecordTarget;
+import seedu.address.storage.KeyCodec;
+import seedu.address.storage.RecordStore;
+import seedu.address.storage.SqlDatabase;
+
+/**
+ * A class to access UsersList data stored in an embedded H2 database next to the users list file.
+ * Each user is a row keyed by username, and as a {@link RecordStore}, the storage saves each change made to the
+ * users list by inserting, updating or deleting only the rows of the users changed.
+ */
+public class SqlUsersListStorage implements UsersListStorage, RecordStore {
+
+    static final List<String> SCHEMA = Arrays.asList(
+            "CREATE TABLE IF NOT EXISTS users (username VARCHAR PRIMARY KEY, ord BIGINT NOT NULL, name VARCHAR, "
+                    + "password VARCHAR NOT NULL)",
+            "CREATE INDEX IF NOT EXISTS users_ord ON users (ord)");
+
+    private static final String MERGE_USER =
+            "MERGE INTO users (username, ord, name, password) KEY (username) VALUES (?, ?, ?, ?)";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlUsersListStorage.class);
+
+    private Path filePath;
+    private final SqlDatabase database;
+
+    public SqlUsersListStorage(Path filePath) {
+        this.filePath = filePath;
+        this.database = new SqlDatabase(filePath, SCHEMA);
+    }
+
+    @Override
+    public Path getUsersListFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if there is a database for the users list file at {@code filePath}.
+     */
+    public static boolean exists(Path filePath) {
+        return new SqlDatabase(filePath, SCHEMA).exists();
+    }
+
+    /**
+     * Writes the users in the XML file at {@code filePath}, with its journal replayed, to the database of the
+     * file, if there is no database yet. The XML file and its journal are left as they are.
+     * Returns true if the users were written.
+     *
+     * @throws DataConversionException if the XML file or its journal is not in the correct format.
+     */
+    public static boolean convertXmlIfMissing(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (exists(filePath)) {
+            return false;
+        }
+
+        Optional<ReadOnlyUsersList> usersList = new XmlUsersListStorage(filePath).readUsersList();
+        if (!usersList.isPresent()) {
+            return false;
+        }
+        ReadOnlyUsersList replayed = UsersListJournal.of(filePath).replay(usersList.get());
+        SqlUsersListStorage sqlStorage = new SqlUsersListStorage(filePath);
+        try {
+            sqlStorage.saveUsersList(replayed);
+        } catch (IOException ioe) {
+            sqlStorage.close();
+            Files.deleteIfExists(SqlDatabase.getDatabaseFilePath(filePath));
+            throw ioe;
+        } finally {
+            sqlStorage.close();
+        }
+        logger.info("Copied the users in " + filePath + " to " + SqlDatabase.getDatabaseFilePath(filePath));
+        return true;
+    }
+
+    /**
+     * Closes the connection to the database.
+     */
+    public void close() throws IOException {
+        database.close();
+    }
+
+    @Override
+    public Optional<ReadOnlyUsersList> readUsersList() throws DataConversionException, IOException {
+        return readUsersList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readUsersList()}
+     *
+     * @param filePath location of the users list file whose database to read. Cannot be null
+     * @throws DataConversionException if the rows are not valid users.
+     */
+    @Override
+    public Optional<ReadOnlyUsersList> readUsersList(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!exists(filePath)) {
+            logger.info("UsersList database for " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(runOn(filePath, SqlUsersListStorage::readAll));
+        } catch (IllegalValueException | RuntimeException e) {
+            // Invalid values and duplicates reported by the model
+            logger.info("Illegal values found in the database for " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveUsersList(ReadOnlyUsersList usersList) throws IOException {
+        saveUsersList(usersList, filePath);
+    }
+
+    /**
+     * Replaces all the rows in the database with the users in {@code usersList}, in a single transaction.
+     *
+     * @param filePath location of the users list file whose database to write. Cannot be null
+     */
+    @Override
+    public void saveUsersList(ReadOnlyUsersList usersList, Path filePath) throws IOException {
+        requireNonNull(usersList);
+        requireNonNull(filePath);
+
+        List<User> users = new ArrayList<>(usersList.getUserList());
+        runUpdateOn(filePath, connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("DELETE FROM users");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(MERGE_USER)) {
+                for (int i = 0; i < users.size(); i++) {
+                    setUser(insert, i, users.get(i));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Applies the changes in {@code records} to the rows in the database, in a single transaction.
+     */
+    @Override
+    public void append(List<byte[]> records) throws IOException {
+        requireNonNull(records);
+        runUpdateOn(filePath, connection -> {
+            UserRows userRows = new UserRows(connection);
+            for (byte[] record : JournalFile.splitRecords(records)) {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+                byte list = in.readByte();
+                if (list != UsersListJournal.USER_LIST) {
+                    throw new IllegalValueException(String.format(JournalFile.MESSAGE_UNKNOWN_RECORD, list));
+                }
+                JournalFile.apply(in, userRows, new UserCodec());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Does nothing, as the records are applied to the rows as they are saved.
+     */
+    @Override
+    public void clear() {
+    }
+
+    @Override
+    public boolean keepsRecords() {
+        return false;
+    }
+
+    /**
+     * Returns the users in the rows of the database, in order.
+     */
+    private static ReadOnlyUsersList readAll(Connection connection) throws SQLException {
+        List<User> users = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT name, username, password FROM users ORDER BY ord")) {
+            while (rows.next()) {
+                String name = rows.getString(1);
+                Username username = new Username(rows.getString(2));
+                Password password = new Password(rows.getString(3));
+                users.add(name == null ? new User(username, password) : new User(new Name(name), username, password));
+            }
+        }
+        UsersList usersList = new UsersList();
+        usersList.setUsers(users);
+        return usersList;
+    }
+
+    /**
+     * Sets the parameters of {@link #MERGE_USER} to the row of {@code user}.
+     */
+    private static void setUser(PreparedStatement statement, long ord, User user) throws SQLException {
+        statement.setString(1, user.getUsername().value);
+        statement.setLong(2, ord);
+        statement.setString(3, user.getName() == null ? null : user.getName().fullName);
+        statement.setString(4, user.getPassword().value);
+    }
+
+    /**
+     * Runs {@code transaction}, which changes the rows, on the database of the users list file at {@code filePath}.
+     * Invalid records are reported as an {@code IOException}, so that the users list is next saved in full.
+     */
+    private void runUpdateOn(Path filePath, SqlDatabase.Transaction<Void> transaction) throws IOException {
+        try {
+            runOn(filePath, transaction);
+        } catch (IllegalValueException ive) {
+            throw new IOException(ive.getMessage(), ive);
+        }
+    }
+
+    /**
+     * Runs {@code transaction} on the database of the users list file at {@code filePath}.
+     */
+    private <R> R runOn(Path filePath, SqlDatabase.Transaction<R> transaction)
+            throws IOException, IllegalValueException {
+        if (filePath.equals(this.filePath)) {
+            return database.run(transaction);
+        }
+        SqlDatabase otherDatabase = new SqlDatabase(filePath, SCHEMA);
+        try {
+            return otherDatabase.run(transaction);
+        } finally {
+            otherDatabase.close();
+        }
+    }
+
+    /**
+     * The rows of the users table that user records are applied to.
+     */
+    private static class UserRows implements RecordTarget<User, String> {
+        private final Connection connection;
+
+        UserRows(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public KeyCodec<User, String> getKeyCodec() {
+            return UsersListJournal.BY_USERNAME;
+        }
+
+        @Override
+        public void insert(int index, User element) throws IOException {
+            try {
+                write(SqlDatabase.makeRoomAt(connection, "users", index), element);
+            } catch (SQLException sqle) {
+                throw new IOException(sqle);
+            }
+        }
+
+        @Override
+        public void replace(String key, User element) throws IOException, IllegalValueException {
+            try {
+                long ord = SqlDatabase.ordOf(connection, "users", "username", key);
+                if (ord < 0) {
+                    throw new IllegalValueException(String.format(JournalFile.MESSAGE_UNKNOWN_KEY, key));
+                }
+                if (!key.equals(element.getUsername().value)) {
+                    delete(key);
+                }
+                write(ord, element);
+            } catch (SQLException sqle) {
+                throw new IOException(sqle);
+            }
+        }
+
+        @Override
+        public void remove(String key) throws IOException, IllegalValueException {
+            try {
+                if (delete(key) == 0) {
+                    throw new IllegalValueException(String.format(JournalFile.MESSAGE_UNKNOWN_KEY, key));
+                }
+            } catch (SQLException sqle) {
+                throw new IOException(sqle);
+            }
+        }
+
+        /**
+         * Inserts or updates the row of {@code user} at {@code ord}.
+         */
+        private void write(long ord, User user) throws SQLException {
+            try (PreparedStatement merge = connection.prepareStatement(MERGE_USER)) {
+                setUser(merge, ord, user);
+                merge.executeUpdate();
+            }
+        }
+
+        /**
+         * Deletes the row of the user with the username {@code key}, and returns the number of rows deleted.
+         */
+        private int delete(String key) throws SQLException {
+            try (PreparedStatement delete = connection.prepareStatement("DELETE FROM users WHERE username = ?")) {
+                delete.setString(1, key);
+                return delete.executeUpdate();
+            }
+        }
+    }
+}
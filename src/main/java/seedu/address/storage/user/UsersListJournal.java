@@ -0,0 +1,100 @@
+package seedu.address.storage.user;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyUsersList;
+import seedu.address.model.UsersList;
+import seedu.address.model.user.User;
+import seedu.address.model.user.UserCodec;
+import seedu.address.storage.JournalFile;
+import seedu.address.storage.KeyCodec;
+import seedu.address.storage.ListChangeRecorder;
+
+/**
+ * The journal of the changes made to the users list since its file was last written in full.
+ * Each record inserts, replaces or removes one user, which is identified by its username.
+ */
+public class UsersListJournal extends JournalFile {
+
+    static final byte USER_LIST = 0;
+
+    static final KeyCodec<User, String> BY_USERNAME = new KeyCodec<User, String>() {
+        @Override
+        public String keyOf(User user) {
+            return user.getUsername().value;
+        }
+
+        @Override
+        public void write(DataOutput out, String username) throws IOException {
+            out.writeUTF(username);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    };
+
+    public UsersListJournal(Path journalFilePath) {
+        super(journalFilePath);
+    }
+
+    /**
+     * Returns the journal of the users list file at {@code usersListFilePath}.
+     */
+    public static UsersListJournal of(Path usersListFilePath) {
+        return new UsersListJournal(getJournalFilePath(usersListFilePath));
+    }
+
+    /**
+     * Returns a recorder of the changes made to {@code usersList}, as records of this journal.
+     */
+    public static ListChangeRecorder record(ReadOnlyUsersList usersList, long maxPendingBytes) {
+        ListChangeRecorder recorder = new ListChangeRecorder(maxPendingBytes);
+        recorder.track(USER_LIST, usersList.getUserList(), new UserCodec(), BY_USERNAME);
+        return recorder;
+    }
+
+    /**
+     * Returns {@code snapshot} with the records of the journal applied to it.
+     * Returns {@code snapshot} itself if there is no journal.
+     *
+     * @throws DataConversionException if a record cannot be applied to the users list.
+     */
+    public ReadOnlyUsersList replay(ReadOnlyUsersList snapshot) throws IOException, DataConversionException {
+        requireNonNull(snapshot);
+        if (!exists()) {
+            return snapshot;
+        }
+
+        List<User> users = new ArrayList<>(snapshot.getUserList());
+        ReplayedList<User, String> replayedUsers = new ReplayedList<>(users, BY_USERNAME);
+        try {
+            for (byte[] record : readRecords()) {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+                byte list = in.readByte();
+                if (list != USER_LIST) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_RECORD, list));
+                }
+                apply(in, replayedUsers, new UserCodec());
+            }
+            UsersList usersList = new UsersList();
+            usersList.setUsers(users);
+            return usersList;
+        } catch (IllegalValueException | RuntimeException e) {
+            // Invalid values and duplicates left by the records
+            throw new DataConversionException(e);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.ListElementPointer;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
@@ -17,15 +18,19 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands run off the JavaFX application thread; while one runs, the command box is read-only and shows that it
+ * is busy, and the rest of the UI keeps responding.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String RUNNING_STYLE_CLASS = "running";
     private static final String FXML = "CommandBox.fxml";
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
+    private boolean isRunning;
 
     @FXML
     private TextField commandTextField;
@@ -100,21 +105,59 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
-            initHistory();
-            historySnapshot.next();
-            // process result of the command
-            commandTextField.setText("");
-            logger.info("Result: " + commandResult.feedbackToUser);
-            raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
-
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            // handle command failure
-            setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
+        if (isRunning) {
+            return;
+        }
+
+        String commandText = commandTextField.getText();
+        setRunning(true);
+        logic.executeAsync(commandText).whenComplete((commandResult, error) -> {
+            setRunning(false);
+            if (error == null) {
+                handleCommandSucceeded(commandResult);
+            } else {
+                handleCommandFailed(commandText, error);
+            }
+        });
+    }
+
+    /**
+     * Shows the result of a command that succeeded.
+     */
+    private void handleCommandSucceeded(CommandResult commandResult) {
+        initHistory();
+        historySnapshot.next();
+        // process result of the command
+        commandTextField.setText("");
+        logger.info("Result: " + commandResult.feedbackToUser);
+        raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+    }
+
+    /**
+     * Shows the {@code error} that the command {@code commandText} failed with.
+     */
+    private void handleCommandFailed(String commandText, Throwable error) {
+        initHistory();
+        // handle command failure
+        setStyleToIndicateCommandFailure();
+        if (error instanceof CommandException || error instanceof ParseException) {
+            logger.info("Invalid command: " + commandText);
+        } else {
+            logger.severe("Command failed: " + commandText + StringUtil.getDetails(error));
+        }
+        raise(new NewResultAvailableEvent(error.getMessage()));
+    }
+
+    /**
+     * Makes the command box read-only and shows that it is busy while a command runs, if {@code isRunning}.
+     */
+    private void setRunning(boolean isRunning) {
+        this.isRunning = isRunning;
+        commandTextField.setEditable(!isRunning);
+        if (isRunning) {
+            commandTextField.getStyleClass().add(RUNNING_STYLE_CLASS);
+        } else {
+            commandTextField.getStyleClass().remove(RUNNING_STYLE_CLASS);
         }
     }
 
@@ -23,7 +23,7 @@ public class DeliverymanCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on RequestBook level 4</a>
      */
 
-    public final Healthworker healthworker;
+    private Healthworker healthworker;
 
     @FXML
     private VBox cardPane;
@@ -34,18 +34,29 @@ public class DeliverymanCard extends UiPart<Region> {
 
     public DeliverymanCard(Healthworker healthworker, int displayedIndex) {
         super(FXML);
+        setHealthworker(healthworker, displayedIndex);
+    }
+
+    /**
+     * Shows {@code healthworker} as the health worker at {@code displayedIndex} in this card, in place of the
+     * health worker it showed.
+     */
+    public void setHealthworker(Healthworker healthworker, int displayedIndex) {
         this.healthworker = healthworker;
         name.setText(healthworker.getName().fullName);
         setDeliverymanStatus();
     }
 
+    public Healthworker getHealthworker() {
+        return healthworker;
+    }
+
     private void setDeliverymanStatus() {
+        deliverymanIndicator.getStyleClass().clear();
         if (healthworker.getRequests().size() > 0) {
-            deliverymanIndicator.getStyleClass().clear();
             deliverymanIndicator.getStyleClass().add(BUSY_LABEL_CLASS);
             deliverymanIndicator.setText("Assigned: " + healthworker.getRequests().size());
         } else {
-            deliverymanIndicator.getStyleClass().clear();
             deliverymanIndicator.getStyleClass().add(AVAILABLE_LABEL_CLASS);
             deliverymanIndicator.setText("Available");
         }
@@ -77,9 +77,12 @@ public class DeliverymanListPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Request} using a {@code RequestCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Healthworker} using a {@code DeliverymanCard}.
      */
     class DeliveryManListViewCell extends ListCell<Healthworker> {
+        // Built for the first item and reused for every later item shown by this cell
+        private DeliverymanCard card;
+
         @Override
         protected void updateItem(Healthworker healthworker, boolean empty) {
             super.updateItem(healthworker, empty);
@@ -88,7 +91,12 @@ public class DeliverymanListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DeliverymanCard(healthworker, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new DeliverymanCard(healthworker, getIndex() + 1);
+                } else {
+                    card.setHealthworker(healthworker, getIndex() + 1);
+                }
+                setGraphic(card.getRoot());
             }
         }
     }
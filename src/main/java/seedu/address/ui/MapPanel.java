@@ -1,9 +1,5 @@
 package seedu.address.ui;
 
-import static seedu.address.ui.util.MapDataUtil.DISTRICT_CACHE;
-import static seedu.address.ui.util.MapDataUtil.POSTAL_CODE_CACHE;
-
-import java.util.HashMap;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -12,64 +8,70 @@ import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.request.RequestStatistics;
+import seedu.address.model.util.PostalDistrictUtil;
+import seedu.address.ui.util.MapDataUtil;
 
 /**
  * An UI component that displays a map along with placeholders for pending {@code Request}.
+ * <p>
+ * Each district has a single placeholder, made once and kept on the map, which is hidden while the district has
+ * no pending request. Updating the map only resizes the placeholders of the districts whose counts changed.
  */
 public class MapPanel extends UiPart<Region> {
 
     private static final String FXML = "MapPanel.fxml";
     private static final String PLACEHOLDER_IMAGE_PATH = "/images/placeholder.png";
+    private static final int MAX_COUNT_SHOWN = 25;
 
     private final Logger logger = LogsCenter.getLogger(MapPanel.class);
 
     private final Image placeholder = new Image(getClass().getResource(PLACEHOLDER_IMAGE_PATH).toExternalForm());
-    private ImageView placeholderContainer;
+    // The placeholder and the count it shows of each district, starting from district 1
+    private final ImageView[] placeholderContainers = new ImageView[PostalDistrictUtil.getDistrictCount() + 1];
+    private final int[] shownCounts = new int[PostalDistrictUtil.getDistrictCount() + 1];
 
     @FXML
     private GridPane mapPane;
 
     public MapPanel() {
         super(FXML);
+
+        for (int regionCode = 1; regionCode <= PostalDistrictUtil.getDistrictCount(); regionCode++) {
+            ImageView placeholderContainer = new ImageView(placeholder);
+            placeholderContainer.setPreserveRatio(true);
+            show(placeholderContainer, 0);
+
+            placeholderContainers[regionCode] = placeholderContainer;
+            mapPane.add(placeholderContainer, MapDataUtil.getColumn(regionCode), MapDataUtil.getRow(regionCode));
+        }
     }
 
     /**
-     * Initialises map with all pending orders using a cache
-     * @param orderMap map of pending orders where key is postal code and value is counter
+     * Updates the placeholders of the districts whose number of pending orders changed
+     * @param statistics statistics with the number of pending orders in each district
      */
-    public void initialise(HashMap<String, Integer> orderMap) {
-        // for each postal code
-        for (String postalCodeKey : orderMap.keySet()) {
-
-            if (POSTAL_CODE_CACHE.containsKey(postalCodeKey)) {
-
-                int regionCode = POSTAL_CODE_CACHE.get(postalCodeKey);
-                Integer[] coordinates = DISTRICT_CACHE.get(regionCode);
-
-                placeholderContainer = new ImageView(placeholder);
-
-                int count = orderMap.get(postalCodeKey);
-
-                // set a limit on count
-                if (count > 25) {
-                    count = 25;
-                }
-
-                int increment = 16 + count * 2;
-
-                placeholderContainer.setPreserveRatio(true);
-                placeholderContainer.setFitHeight(increment);
-                placeholderContainer.setFitWidth(increment);
-
-                mapPane.add(placeholderContainer, coordinates[1], coordinates[0]);
+    public void update(RequestStatistics statistics) {
+        for (int regionCode = 1; regionCode <= PostalDistrictUtil.getDistrictCount(); regionCode++) {
+            // set a limit on count
+            int count = Math.min(statistics.getPendingCountInDistrict(regionCode), MAX_COUNT_SHOWN);
+            if (count != shownCounts[regionCode]) {
+                show(placeholderContainers[regionCode], count);
+                shownCounts[regionCode] = count;
             }
         }
     }
 
     /**
-     * Clears all placeholders from map
+     * Sizes {@code placeholderContainer} by {@code count}, hiding it and leaving it out of the layout of the map if
+     * {@code count} is 0.
      */
-    public void clear() {
-        mapPane.getChildren().clear();
+    private static void show(ImageView placeholderContainer, int count) {
+        int increment = 16 + count * 2;
+
+        placeholderContainer.setFitHeight(increment);
+        placeholderContainer.setFitWidth(increment);
+        placeholderContainer.setVisible(count > 0);
+        placeholderContainer.setManaged(count > 0);
     }
 }
@@ -78,8 +78,13 @@ public class OrderListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Request} using a {@code RequestCard}.
+     * Scrolling moves the cells to other requests, so each cell rebinds one card instead of building a card
+     * for every request it shows.
      */
     class OrderListViewCell extends ListCell<Request> {
+        // Built for the first item and reused for every later item shown by this cell
+        private RequestCard card;
+
         @Override
         protected void updateItem(Request request, boolean empty) {
             super.updateItem(request, empty);
@@ -88,7 +93,12 @@ public class OrderListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new RequestCard(request, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new RequestCard(request, getIndex() + 1);
+                } else {
+                    card.setRequest(request, getIndex() + 1);
+                }
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -27,7 +27,7 @@ public class RequestCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on RequestBook level 4</a>
      */
 
-    public final Request request;
+    private Request request;
 
     @FXML
     private Text id;
@@ -42,6 +42,14 @@ public class RequestCard extends UiPart<Region> {
 
     public RequestCard(Request request, int displayedIndex) {
         super(FXML);
+        setRequest(request, displayedIndex);
+    }
+
+    /**
+     * Shows {@code request} as the request at {@code displayedIndex} in this card, in place of the request it
+     * showed, so that a list cell can keep one card for every request it shows.
+     */
+    public void setRequest(Request request, int displayedIndex) {
         this.request = request;
         id.setText("#" + displayedIndex);
 
@@ -57,6 +65,10 @@ public class RequestCard extends UiPart<Region> {
         setOrderStatusColor();
     }
 
+    public Request getRequest() {
+        return request;
+    }
+
     private void setOrderStatusColor() {
         requestStatus.getStyleClass().clear();
         if (request.getRequestStatus().toString().equals(STATUS_PENDING)) {
@@ -68,7 +80,6 @@ public class RequestCard extends UiPart<Region> {
         }
     }
 
-
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -1,10 +1,9 @@
 package seedu.address.ui;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.MonthDay;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Map;
-import java.util.Stack;
-import java.util.TreeMap;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -16,6 +15,7 @@ import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.request.RequestStatistics;
 
 /**
  * Panel containing the statistics of orders.
@@ -23,6 +23,8 @@ import seedu.address.commons.core.LogsCenter;
 public class StatisticsPanel extends UiPart<Region> {
 
     private static final String FXML = "Statistics.fxml";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM");
+    private static final int DAYS_SHOWN = 7;
     private final Logger logger = LogsCenter.getLogger(StatisticsPanel.class);
 
     @FXML
@@ -48,36 +50,19 @@ public class StatisticsPanel extends UiPart<Region> {
     }
 
     /**
-     * Updates the bar graph in the component with orders over the past 7 days. It does this by calling
-     * the pollLastEntry method from a balanced binary search tree
+     * Updates the bar graph in the component with orders over the past 7 days that have orders
      *
-     * @param historyDate TreeMap of request count arranged by their day/month
+     * @param statistics statistics with the request count of each day/month
      */
-    public void initialize(TreeMap<Date, Integer> historyDate) {
+    public void initialize(RequestStatistics statistics) {
         xAxis.setLabel("Date");
         yAxis.setLabel("Request Count");
         barChart.setAnimated(false);
         barChart.setLegendVisible(false);
 
-        TreeMap<Date, Integer> history = new TreeMap<>(historyDate);
-
-        SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM");
-
-        Stack<Map.Entry<Date, Integer>> storage = new Stack<>();
-        for (int i = 0; i < 7; ++i) {
-
-            if (history.isEmpty()) {
-                break;
-            }
-
-            Map.Entry<Date, Integer> entry = history.pollLastEntry();
-            storage.push(entry);
-        }
-
         XYChart.Series<String, Number> series1 = new XYChart.Series<>();
-        while (!storage.empty()) {
-            Map.Entry<Date, Integer> entry = storage.pop();
-            series1.getData().add(new XYChart.Data<>(dateFormat.format(entry.getKey()), entry.getValue()));
+        for (Map.Entry<MonthDay, Integer> entry : statistics.getLatestDayCounts(DAYS_SHOWN).entrySet()) {
+            series1.getData().add(new XYChart.Data<>(DATE_FORMATTER.format(entry.getKey()), entry.getValue()));
         }
 
         barChart.getData().clear();
@@ -89,15 +74,15 @@ public class StatisticsPanel extends UiPart<Region> {
      *
      * @param count Total count of orders
      * @param progress Percentage of orders that are pending
-     *  @param food The most popular food item
+     * @param conditions The most common conditions, from the most common
      */
-    public void updateLabels(int count, double progress, String food) {
+    public void updateLabels(int count, double progress, List<String> conditions) {
 
         logger.info("PROGRESS " + progress);
 
         orderCount.setText("Total Requests: " + Integer.toString(count));
         orderProgress.setProgress(progress);
-        trendingFood.setText("Most common: " + food);
+        trendingFood.setText("Most common: " + String.join(", ", conditions));
     }
 
     public void clear() {
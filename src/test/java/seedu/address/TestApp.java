@@ -18,6 +18,7 @@ import seedu.address.model.ReadOnlyRequestBook;
 import seedu.address.model.ReadOnlyUsersList;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.storage.JournalFile;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.storage.XmlHealthHub;
 import seedu.address.storage.user.XmlSerializableUsersList;
@@ -60,11 +61,13 @@ public class TestApp extends MainApp {
         if (initialOrdersDataSupplier.get() != null && initialDeliverymenDataSupplier.get() != null) {
             createDataFileWithData(new XmlHealthHub(this.initialOrdersDataSupplier.get(),
                 this.initialDeliverymenDataSupplier.get()), this.saveFileLocation);
+            clearJournal(this.saveFileLocation);
         }
 
         if (initialUsersListSupplier.get() != null) {
             createDataFileWithData(new XmlSerializableUsersList(this.initialUsersListSupplier.get()),
                 this.usersSaveFileLocation);
+            clearJournal(this.usersSaveFileLocation);
         }
     }
 
@@ -93,8 +96,10 @@ public class TestApp extends MainApp {
 
     /**
      * Returns a defensive copy of the request book data stored inside the storage file.
+     * Changes that have not been saved yet are saved first.
      */
     public RequestBook readStorageOrderBook() {
+        storage.flushHealthHub();
         try {
             return new RequestBook(storage.readRequestBook().get());
         } catch (DataConversionException dce) {
@@ -126,6 +131,17 @@ public class TestApp extends MainApp {
         ui.start(primaryStage);
     }
 
+    /**
+     * Deletes the journal left next to the data file at {@code filePath} by earlier runs.
+     */
+    private void clearJournal(Path filePath) {
+        try {
+            new JournalFile(JournalFile.getJournalFilePath(filePath)).clear();
+        } catch (IOException ioe) {
+            throw new RuntimeException(ioe);
+        }
+    }
+
     /**
      * Creates an XML file at the {@code filePath} with the {@code data}.
      */
@@ -0,0 +1,148 @@
+package seedu.address.commons.util;
+
+import static java.time.Duration.ofMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.model.common.Address;
+import seedu.address.model.common.Name;
+import seedu.address.model.common.Password;
+import seedu.address.model.common.Phone;
+import seedu.address.model.common.Username;
+import seedu.address.model.request.Condition;
+import seedu.address.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    private static final String ALPHABET = "aZ09 -,#\t\n\r\u000B\f\u0085\u2028\u00E9\u0660";
+    private static final int RANDOM_STRING_COUNT = 20000;
+    private static final int MAX_RANDOM_LENGTH = 12;
+
+    private static final int LARGE_FIELD_COUNT = 100000;
+    private static final long LARGE_VALIDATION_TIMEOUT = 1000;
+
+    @Test
+    public void isAlphanumeric() {
+        assertTrue(ValidationUtil.isAlphanumeric("abc123", 3, 6));
+        assertFalse(ValidationUtil.isAlphanumeric("ab", 3, 6)); // too short
+        assertFalse(ValidationUtil.isAlphanumeric("abc1234", 3, 6)); // too long
+        assertFalse(ValidationUtil.isAlphanumeric("ab c", 3, 6)); // space
+        assertFalse(ValidationUtil.isAlphanumeric("caf\u00E9", 3, 6)); // not ASCII
+    }
+
+    @Test
+    public void isAlphanumericWords() {
+        assertTrue(ValidationUtil.isAlphanumericWords("Alice Pauline", 2, 65));
+        assertTrue(ValidationUtil.isAlphanumericWords("Al  ", 2, 65));
+        assertFalse(ValidationUtil.isAlphanumericWords(" Alice", 2, 65)); // leading space
+        assertFalse(ValidationUtil.isAlphanumericWords("A", 2, 65)); // too short
+        assertFalse(ValidationUtil.isAlphanumericWords("", 0, 65)); // empty
+    }
+
+    @Test
+    public void isDigits() {
+        assertTrue(ValidationUtil.isDigits("Road 123456", 5, 11));
+        assertTrue(ValidationUtil.isDigits("Road", 2, 2)); // empty range
+        assertFalse(ValidationUtil.isDigits("Road 12a456", 5, 11));
+        assertFalse(ValidationUtil.isDigits("\u0660\u0661\u0662", 0, 3)); // not ASCII
+    }
+
+    @Test
+    public void validators_randomStrings_agreeWithRegexes() {
+        assertAgreesWithRegex(Name::isValidName, Name.NAME_VALIDATION_REGEX);
+        assertAgreesWithRegex(Phone::isValidPhone, Phone.PHONE_VALIDATION_REGEX);
+        assertAgreesWithRegex(Address::isValidAddress, Address.ADDRESS_VALIDATION_REGEX);
+        assertAgreesWithRegex(Condition::isValidFood, Condition.FOOD_VALIDATION_REGEX);
+        assertAgreesWithRegex(Password::isValidPassword, Password.PASSWORD_VALIDATION_REGEX);
+        assertAgreesWithRegex(Username::isValidUsername, Username.USERNAME_VALIDATION_REGEX);
+        assertAgreesWithRegex(Tag::isValidTagName, Tag.TAG_VALIDATION_REGEX);
+    }
+
+    /**
+     * Verifies that validating {@code LARGE_FIELD_COUNT} sets of the fields of a request requires lesser than
+     * {@code LARGE_VALIDATION_TIMEOUT} milliseconds, and less time than matching the validation regexes.
+     */
+    @Test
+    public void performanceTest() {
+        List<String[]> fields = new ArrayList<>(LARGE_FIELD_COUNT);
+        for (int i = 0; i < LARGE_FIELD_COUNT; i++) {
+            fields.add(new String[] {"Patient " + i, "9" + (1000000 + i),
+                "Blk " + i + " Jurong West Street 26, " + (100000 + i), "Condition " + i % 100});
+        }
+
+        // Warms up both paths before timing them
+        validateWithScanners(fields);
+        validateWithRegexes(fields);
+
+        long scannerNanos = System.nanoTime();
+        assertTimeoutPreemptively(ofMillis(LARGE_VALIDATION_TIMEOUT), () -> {
+            assertEquals(LARGE_FIELD_COUNT, validateWithScanners(fields));
+        }, "Validation of a large number of fields exceeded time limit");
+        scannerNanos = System.nanoTime() - scannerNanos;
+
+        long regexNanos = System.nanoTime();
+        assertEquals(LARGE_FIELD_COUNT, validateWithRegexes(fields));
+        regexNanos = System.nanoTime() - regexNanos;
+
+        assertTrue("Validation took " + scannerNanos + "ns against " + regexNanos + "ns with regexes",
+            scannerNanos < regexNanos);
+    }
+
+    /**
+     * Asserts that {@code validator} accepts exactly the random strings that match {@code regex}.
+     */
+    private static void assertAgreesWithRegex(Predicate<String> validator, String regex) {
+        Random random = new Random(regex.hashCode());
+        for (int i = 0; i < RANDOM_STRING_COUNT; i++) {
+            StringBuilder test = new StringBuilder();
+            int length = random.nextInt(MAX_RANDOM_LENGTH);
+            for (int j = 0; j < length; j++) {
+                test.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            // Long enough runs of digits for postal codes and phone numbers to be valid
+            if (random.nextBoolean()) {
+                test.append(String.valueOf(random.nextInt(10000000)));
+            }
+            String string = test.toString();
+            assertEquals(regex + " on \"" + string + "\"", string.matches(regex), validator.test(string));
+        }
+    }
+
+    /**
+     * Returns the number of {@code fields} whose name, phone, address and condition are valid.
+     */
+    private static int validateWithScanners(List<String[]> fields) {
+        int validCount = 0;
+        for (String[] field : fields) {
+            if (Name.isValidName(field[0]) && Phone.isValidPhone(field[1]) && Address.isValidAddress(field[2])
+                    && Condition.isValidFood(field[3])) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    /**
+     * Returns the number of {@code fields} whose name, phone, address and condition match the validation regexes.
+     */
+    private static int validateWithRegexes(List<String[]> fields) {
+        int validCount = 0;
+        for (String[] field : fields) {
+            if (field[0].matches(Name.NAME_VALIDATION_REGEX) && field[1].matches(Phone.PHONE_VALIDATION_REGEX)
+                    && field[2].matches(Address.ADDRESS_VALIDATION_REGEX)
+                    && field[3].matches(Condition.FOOD_VALIDATION_REGEX)) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+}
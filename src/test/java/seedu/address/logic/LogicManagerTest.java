@@ -1,6 +1,11 @@
 package seedu.address.logic;
 
+import static java.time.Duration.ofMillis;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_REQUEST_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_REQUIRE_LOGIN;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -8,30 +13,59 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_MANAGER_NAME_ID
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MANAGER_PASSWORD_IDA;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MANAGER_USERNAME_IDA;
 import static seedu.address.logic.commands.SignUpCommand.MESSAGE_LOGGED_IN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HEALTHWORKER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PASSWORD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REQUEST;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_USERNAME;
+import static seedu.address.testutil.TypicalDeliverymen.getTypicalDeliverymenList;
+import static seedu.address.testutil.TypicalOrders.FIONA;
+import static seedu.address.testutil.TypicalOrders.getTypicalOrderBook;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.AssignCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.LogoutCommand;
 import seedu.address.logic.commands.SignUpCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.request.DoneCommand;
 import seedu.address.logic.commands.request.ListCommand;
 import seedu.address.logic.commands.request.RequestCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.UsersList;
+import seedu.address.model.healthworker.Healthworker;
+import seedu.address.model.request.Request;
 import seedu.address.model.user.User;
+import seedu.address.testutil.DeliverymanBuilder;
+import seedu.address.testutil.DeliverymenListBuilder;
+import seedu.address.testutil.OrderBookBuilder;
+import seedu.address.testutil.RequestBuilder;
 import seedu.address.testutil.user.UserBuilder;
 
 
 public class LogicManagerTest {
+    private static final int ASSIGN_COUNT = 100;
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
@@ -74,6 +108,126 @@ public class LogicManagerTest {
         logic.getFilteredOrderList().remove(0);
     }
 
+    @Test
+    public void executeAsync_validCommand_completesWithResult() throws Exception {
+        String listCommand = RequestCommand.COMMAND_WORD + " " + ListCommand.COMMAND_WORD;
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.executeAsync(listCommand).get().feedbackToUser);
+        assertHistoryCorrect(listCommand, signUpCommand);
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesWithParseException() throws Exception {
+        String invalidCommand = "uicfhmowqewca";
+        try {
+            logic.executeAsync(invalidCommand).get();
+            fail("The command should fail.");
+        } catch (ExecutionException e) {
+            assertEquals(ParseException.class, e.getCause().getClass());
+            assertEquals(MESSAGE_UNKNOWN_COMMAND, e.getCause().getMessage());
+        }
+        assertHistoryCorrect(invalidCommand, signUpCommand);
+    }
+
+    @Test
+    public void executeAsync_manyCommands_executedInOrder() throws Exception {
+        String listCommand = RequestCommand.COMMAND_WORD + " " + ListCommand.COMMAND_WORD;
+        String invalidCommand = "uicfhmowqewca";
+        String listCompletedCommand = listCommand + " " + PREFIX_STATUS + "COMPLETED";
+
+        logic.executeAsync(listCommand);
+        logic.executeAsync(invalidCommand);
+        logic.executeAsync(listCompletedCommand).get();
+        assertHistoryCorrect(listCompletedCommand, invalidCommand, listCommand, signUpCommand);
+    }
+
+    @Test
+    public void executeAsync_changesList_handedBackBeforeResult() throws Exception {
+        Model ordersModel = new ModelManager(getTypicalOrderBook(), new UsersList(), getTypicalDeliverymenList(),
+                new UserPrefs());
+        ordersModel.storeUserInSession(new UserBuilder().build());
+        BlockingQueue<Runnable> handedBack = new LinkedBlockingQueue<>();
+        Logic queuedLogic = new LogicManager(ordersModel, handedBack::add);
+        int requestCount = queuedLogic.getFilteredOrderList().size();
+
+        CompletableFuture<CommandResult> result = queuedLogic.executeAsync(RequestCommand.COMMAND_WORD + " "
+                + ListCommand.COMMAND_WORD + " " + PREFIX_STATUS + "COMPLETED");
+
+        // the list is not changed until its change is handed back
+        Runnable listChange = handedBack.take();
+        assertEquals(requestCount, queuedLogic.getFilteredOrderList().size());
+        assertEquals(requestCount, queuedLogic.getRequestStatistics().getRequestCount());
+
+        listChange.run();
+        assertEquals(Collections.singletonList(FIONA), queuedLogic.getFilteredOrderList());
+        assertEquals(1, queuedLogic.getRequestStatistics().getRequestCount());
+        assertFalse(result.isDone());
+
+        handedBack.take().run();
+        assertTrue(result.isDone());
+        assertEquals(String.format(Messages.MESSAGE_REQUESTS_LISTED_OVERVIEW, 1), result.get().feedbackToUser);
+    }
+
+    @Test
+    public void executeAsync_assignAndComplete_requestsReadableFromAnotherThread() throws Exception {
+        OrderBookBuilder orderBookBuilder = new OrderBookBuilder();
+        for (int i = 0; i < ASSIGN_COUNT; i++) {
+            orderBookBuilder.withOrder(new RequestBuilder().withName("Patient " + i).build());
+        }
+        Model assignedModel = new ModelManager(orderBookBuilder.build(), new UsersList(),
+                new DeliverymenListBuilder().withDeliveryman(new DeliverymanBuilder().withName("Hoh Chi Kao").build())
+                        .build(), new UserPrefs());
+        assignedModel.storeUserInSession(new UserBuilder().build());
+        Logic assignedLogic = new LogicManager(assignedModel, Runnable::run);
+
+        // Reads the requests of the healthworker in the list as the UI does, while commands assign and complete them
+        List<Healthworker> healthworkers = assignedModel.getDeliverymenList().getDeliverymenList();
+        AtomicBoolean isAssigning = new AtomicBoolean(true);
+        CompletableFuture<Void> reads = CompletableFuture.runAsync(() -> {
+            while (isAssigning.get()) {
+                Set<Request> requests = healthworkers.get(0).getRequests();
+                assertTrue(requests.size() <= 1);
+                for (Request request : requests) {
+                    assertTrue(request.isOngoing());
+                }
+            }
+        });
+        CompletableFuture<CommandResult> lastCommand = null;
+        for (int i = 1; i <= ASSIGN_COUNT; i++) {
+            assignedLogic.executeAsync(AssignCommand.COMMAND_WORD + " " + PREFIX_HEALTHWORKER + "1 "
+                    + PREFIX_REQUEST + i);
+            lastCommand = assignedLogic.executeAsync(RequestCommand.COMMAND_WORD + " " + DoneCommand.COMMAND_WORD
+                    + " " + i);
+        }
+        lastCommand.get();
+        isAssigning.set(false);
+        reads.get();
+
+        assertTrue(healthworkers.get(0).getRequests().isEmpty());
+        assertTrue(assignedModel.getFilteredOrderList().stream().allMatch(Request::isCompleted));
+    }
+
+    @Test
+    public void stop_commandsSubmitted_finishedBeforeReturning() {
+        String listCommand = RequestCommand.COMMAND_WORD + " " + ListCommand.COMMAND_WORD;
+        List<CompletableFuture<CommandResult>> results = new ArrayList<>();
+        for (int i = 0; i < ASSIGN_COUNT; i++) {
+            results.add(logic.executeAsync(listCommand));
+        }
+        logic.stop();
+        assertTrue(results.stream().allMatch(CompletableFuture::isDone));
+    }
+
+    @Test
+    public void stop_calledByRunningCommand_doesNotWaitForItself() throws Exception {
+        AtomicReference<Logic> stoppingLogic = new AtomicReference<>();
+        stoppingLogic.set(new LogicManager(model, runnable -> {
+            stoppingLogic.get().stop();
+            runnable.run();
+        }));
+        CompletableFuture<CommandResult> result = stoppingLogic.get().executeAsync(HistoryCommand.COMMAND_WORD);
+        assertTimeoutPreemptively(ofMillis(1000), () -> result.get());
+    }
+
     @Test
     public void execute_validCommand_notLogin() {
         String logoutCommand = LogoutCommand.COMMAND_WORD;
@@ -0,0 +1,109 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class ObservableListMirrorTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new ObservableListMirror<>(null, Runnable::run);
+    }
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(source, new ObservableListMirror<>(source, Runnable::run));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        ObservableListMirror<Integer> mirror = new ObservableListMirror<>(source, Runnable::run);
+        thrown.expect(UnsupportedOperationException.class);
+        mirror.remove(0);
+    }
+
+    @Test
+    public void sourceChanged_changesTakenWhenRunByExecutor() {
+        List<Runnable> handedOver = new ArrayList<>();
+        ObservableListMirror<Integer> mirror = new ObservableListMirror<>(source, handedOver::add);
+
+        source.add(4);
+        source.remove(Integer.valueOf(1));
+        assertEquals(Arrays.asList(1, 2, 3), mirror);
+        assertEquals(2, handedOver.size());
+
+        handedOver.get(0).run();
+        assertEquals(Arrays.asList(1, 2, 3, 4), mirror);
+        handedOver.get(1).run();
+        assertEquals(Arrays.asList(2, 3, 4), mirror);
+    }
+
+    @Test
+    public void sourceChanged_oneChangeOfMirrorPerChangeOfSource() {
+        ObservableListMirror<Integer> mirror = new ObservableListMirror<>(source, Runnable::run);
+        List<String> changes = new ArrayList<>();
+        mirror.addListener((ListChangeListener<Integer>) change -> changes.add(change.toString()));
+
+        source.setAll(5, 6);
+        source.addAll(7, 8);
+        assertEquals(2, changes.size());
+        assertEquals(Arrays.asList(5, 6, 7, 8), mirror);
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_mirrorMatchesSource() {
+        Random random = new Random(25);
+        ObservableList<Integer> backingList = FXCollections.observableArrayList();
+        FilteredList<Integer> filteredList = new FilteredList<>(backingList);
+        ObservableListMirror<Integer> mirror = new ObservableListMirror<>(filteredList, Runnable::run);
+
+        for (int i = 0; i < 2000; i++) {
+            switch (random.nextInt(6)) {
+            case 0:
+                backingList.add(random.nextInt(backingList.size() + 1), random.nextInt(100));
+                break;
+            case 1:
+                if (!backingList.isEmpty()) {
+                    backingList.remove(random.nextInt(backingList.size()));
+                }
+                break;
+            case 2:
+                int modulus = random.nextInt(4) + 1;
+                filteredList.setPredicate(value -> value % modulus == 0);
+                break;
+            case 3:
+                FXCollections.sort(backingList);
+                break;
+            case 4:
+                FXCollections.sort(backingList, Collections.reverseOrder());
+                break;
+            default:
+                List<Integer> values = new ArrayList<>();
+                for (int j = random.nextInt(20); j > 0; j--) {
+                    values.add(random.nextInt(100));
+                }
+                backingList.setAll(values);
+            }
+            assertEquals(filteredList, mirror);
+        }
+    }
+}
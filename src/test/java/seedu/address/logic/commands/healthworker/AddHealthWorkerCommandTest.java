@@ -151,6 +151,11 @@ public class AddHealthWorkerCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public String explainOrderQuery(Predicate<Request> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoOrderBook() {
             throw new AssertionError("This method should not be called.");
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands.request;
 
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalDeliverymen.getTypicalDeliverymenList;
 import static seedu.address.testutil.TypicalOrders.getTypicalOrderBook;
@@ -7,11 +8,13 @@ import static seedu.address.testutil.user.TypicalUsers.getTypicalUsersList;
 
 import org.junit.Test;
 
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.RequestBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.RequestBuilder;
 
 public class ClearCommandTest {
 
@@ -38,4 +41,14 @@ public class ClearCommandTest {
         assertCommandSuccess(new ClearCommand(), model, commandHistory, ClearCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_ongoingRequest_throwsCommandException() {
+        RequestBook requestBook = getTypicalOrderBook();
+        requestBook.addRequest(new RequestBuilder().withName("Ongoing Patient").withStatus("ONGOING").build());
+        Model model = new ModelManager(requestBook, getTypicalUsersList(), getTypicalDeliverymenList(),
+                new UserPrefs());
+
+        assertCommandFailure(new ClearCommand(), model, commandHistory, Messages.MESSAGE_ORDER_ONGOING_CANNOT_CLEAR);
+    }
+
 }
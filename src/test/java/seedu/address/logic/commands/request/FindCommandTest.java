@@ -29,6 +29,7 @@ import java.util.stream.Stream;
 import org.junit.Test;
 
 import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Prefix;
@@ -83,6 +84,19 @@ public class FindCommandTest {
 
         // different common -> returns false
         assertFalse(findFirstOrderCommand.equals(findSecondOrderCommand));
+
+        // different explain -> returns false
+        assertFalse(findFirstOrderCommand.equals(new FindCommand(firstPredicate, true)));
+    }
+
+    @Test
+    public void execute_explain_describesPlan() throws Exception {
+        Predicate<Request> predicate = preparePredicate(" n/alice c/Alzheimers");
+        CommandResult result = new FindCommand(predicate, true).execute(model, commandHistory);
+
+        assertTrue(result.feedbackToUser.startsWith(String.format(MESSAGE_REQUESTS_LISTED_OVERVIEW, 1) + "\n"
+            + model.explainOrderQuery(predicate) + "\nTook "));
+        assertEquals(Arrays.asList(ALICE), model.getFilteredOrderList());
     }
 
     @Test
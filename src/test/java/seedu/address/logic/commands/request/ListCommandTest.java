@@ -1,12 +1,21 @@
 package seedu.address.logic.commands.request;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_REQUESTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showOrderAtIndex;
 import static seedu.address.testutil.TypicalDeliverymen.getTypicalDeliverymenList;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalOrders.FIONA;
 import static seedu.address.testutil.TypicalOrders.getTypicalOrderBook;
 import static seedu.address.testutil.user.TypicalUsers.getTypicalUsersList;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Predicate;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -14,6 +23,9 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestStatus;
+import seedu.address.model.request.RequestStatusContainsKeywordPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -42,4 +54,25 @@ public class ListCommandTest {
         showOrderAtIndex(model, INDEX_FIRST);
         assertCommandSuccess(new ListCommand(), model, commandHistory, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_status_showsRequestsWithStatus() {
+        Predicate<Request> predicate =
+            new RequestStatusContainsKeywordPredicate(Collections.singletonList(new RequestStatus("COMPLETED")));
+        expectedModel.updateFilteredOrderList(predicate);
+        assertCommandSuccess(new ListCommand(predicate), model, commandHistory,
+            String.format(MESSAGE_REQUESTS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(Arrays.asList(FIONA), model.getFilteredOrderList());
+    }
+
+    @Test
+    public void equals() {
+        Predicate<Request> predicate =
+            new RequestStatusContainsKeywordPredicate(Collections.singletonList(new RequestStatus("PENDING")));
+
+        assertTrue(new ListCommand().equals(new ListCommand()));
+        assertTrue(new ListCommand(predicate).equals(new ListCommand(predicate)));
+        assertFalse(new ListCommand().equals(new ListCommand(predicate)));
+        assertFalse(new ListCommand().equals(null));
+    }
 }
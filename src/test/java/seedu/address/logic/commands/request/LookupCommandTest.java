@@ -0,0 +1,81 @@
+package seedu.address.logic.commands.request;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalDeliverymen.getTypicalDeliverymenList;
+import static seedu.address.testutil.TypicalOrders.ALICE;
+import static seedu.address.testutil.TypicalOrders.ELLE;
+import static seedu.address.testutil.TypicalOrders.FIONA;
+import static seedu.address.testutil.TypicalOrders.GEORGE;
+import static seedu.address.testutil.TypicalOrders.getTypicalOrderBook;
+import static seedu.address.testutil.user.TypicalUsers.getTypicalUsersList;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.request.RequestPhoneStartsWithPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code LookupCommand}.
+ */
+public class LookupCommandTest {
+    private Model model = new ModelManager(getTypicalOrderBook(), getTypicalUsersList(),
+        getTypicalDeliverymenList(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalOrderBook(), getTypicalUsersList(),
+        getTypicalDeliverymenList(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        LookupCommand lookupFirstCommand = new LookupCommand("9435");
+        LookupCommand lookupSecondCommand = new LookupCommand("9876");
+
+        // same object -> returns true
+        assertTrue(lookupFirstCommand.equals(lookupFirstCommand));
+
+        // same values -> returns true
+        assertTrue(lookupFirstCommand.equals(new LookupCommand("9435")));
+
+        // different types -> returns false
+        assertFalse(lookupFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(lookupFirstCommand.equals(null));
+
+        // different phone -> returns false
+        assertFalse(lookupFirstCommand.equals(lookupSecondCommand));
+    }
+
+    @Test
+    public void execute_wholePhone_oneRequestFound() {
+        String phone = ALICE.getPhone().value;
+        String expectedMessage = String.format(LookupCommand.MESSAGE_SUCCESS, 1, 0, phone);
+        expectedModel.updateFilteredOrderList(new RequestPhoneStartsWithPredicate(phone));
+        assertCommandSuccess(new LookupCommand(phone), model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE), model.getFilteredOrderList());
+    }
+
+    @Test
+    public void execute_phonePrefix_openAndPastRequestsFound() {
+        String expectedMessage = String.format(LookupCommand.MESSAGE_SUCCESS, 2, 1, "9482");
+        expectedModel.updateFilteredOrderList(new RequestPhoneStartsWithPredicate("9482"));
+        assertCommandSuccess(new LookupCommand("9482"), model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE), model.getFilteredOrderList());
+    }
+
+    @Test
+    public void execute_unknownPhone_noRequestFound() {
+        String expectedMessage = String.format(LookupCommand.MESSAGE_SUCCESS, 0, 0, "12345678");
+        expectedModel.updateFilteredOrderList(new RequestPhoneStartsWithPredicate("12345678"));
+        assertCommandSuccess(new LookupCommand("12345678"), model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredOrderList());
+    }
+}
@@ -1,23 +1,21 @@
 package seedu.address.logic.parser.request;
 
-import static org.junit.Assert.assertFalse;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_REQUEST_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Arrays;
-import java.util.Date;
 
 import org.junit.Test;
 
 import seedu.address.logic.commands.request.FindCommand;
 import seedu.address.model.request.RequestAddressContainsKeywordPredicate;
 import seedu.address.model.request.RequestConditionContainsKeywordPredicate;
+import seedu.address.model.request.RequestDate;
 import seedu.address.model.request.RequestDatePredicate;
 import seedu.address.model.request.RequestNameContainsKeywordPredicate;
 import seedu.address.model.request.RequestPhoneContainsKeywordPredicate;
+import seedu.address.model.request.RequestQuery;
 import seedu.address.model.request.RequestStatus;
 import seedu.address.model.request.RequestStatusContainsKeywordPredicate;
 
@@ -33,6 +31,17 @@ public class FindCommandParserTest {
             String.format(MESSAGE_INVALID_REQUEST_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_explainPreamble_returnsExplainingFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new RequestNameContainsKeywordPredicate("Alex"), true);
+        assertParseSuccess(parser, " explain n/Alex", expectedFindCommand);
+
+        assertParseFailure(parser, " explain",
+            String.format(MESSAGE_INVALID_REQUEST_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " describe n/Alex",
+            String.format(MESSAGE_INVALID_REQUEST_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_validArgs_returnsFindCommand() {
         FindCommand expectedNameFindCommand =
@@ -55,18 +64,15 @@ public class FindCommandParserTest {
             new FindCommand(new RequestStatusContainsKeywordPredicate(Arrays.asList(new RequestStatus("PENDING"))));
         assertParseSuccess(parser, " st/PENDING", expectedStatusFindCommand);
 
-        SimpleDateFormat sf = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
-        Date date = null;
-
-        try {
-            date = sf.parse("01-10-2018 10:00:00");
-        } catch (ParseException pE) {
-            assertFalse(true);
-        }
+        RequestDate date = new RequestDate("01-10-2018 10:00:00");
 
         FindCommand expectedDateFindCommand =
             new FindCommand(new RequestDatePredicate(Arrays.asList(date)));
         assertParseSuccess(parser, " dt/01-10-2018 10:00:00", expectedDateFindCommand);
+
+        FindCommand expectedChainFindCommand = new FindCommand(new RequestQuery(Arrays.asList(
+            new RequestNameContainsKeywordPredicate("alice"), new RequestConditionContainsKeywordPredicate("physio"))));
+        assertParseSuccess(parser, " n/alice c/physio", expectedChainFindCommand);
     }
 
     @Test
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser.request;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.request.ListCommand;
+import seedu.address.model.request.RequestStatus;
+import seedu.address.model.request.RequestStatusContainsKeywordPredicate;
+
+public class ListCommandParserTest {
+
+    private ListCommandParser parser = new ListCommandParser();
+
+    @Test
+    public void parse_noStatus_returnsListAllCommand() {
+        assertParseSuccess(parser, "", new ListCommand());
+        assertParseSuccess(parser, " 3", new ListCommand());
+    }
+
+    @Test
+    public void parse_statuses_returnsListStatusCommand() {
+        assertParseSuccess(parser, " st/pending ongoing", new ListCommand(new RequestStatusContainsKeywordPredicate(
+            Arrays.asList(new RequestStatus("PENDING"), new RequestStatus("ONGOING")))));
+    }
+
+    @Test
+    public void parse_invalidStatus_throwsParseException() {
+        assertParseFailure(parser, " st/", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " st/DONE", RequestStatus.MESSAGE_STATUS_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser.request;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.request.LookupCommand;
+
+public class LookupCommandParserTest {
+
+    private LookupCommandParser parser = new LookupCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsLookupCommand() {
+        assertParseSuccess(parser, " 94351253 ", new LookupCommand("94351253"));
+        assertParseSuccess(parser, "9", new LookupCommand("9"));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "9435 1253", expectedMessage);
+        assertParseFailure(parser, "+6594351253", expectedMessage);
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,10 +23,13 @@ import seedu.address.logic.commands.request.EditCommand;
 import seedu.address.logic.commands.request.EditCommand.EditOrderDescriptor;
 import seedu.address.logic.commands.request.FindCommand;
 import seedu.address.logic.commands.request.ListCommand;
+import seedu.address.logic.commands.request.LookupCommand;
 import seedu.address.logic.commands.request.SelectCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.request.Request;
 import seedu.address.model.request.RequestNameContainsKeywordPredicate;
+import seedu.address.model.request.RequestStatus;
+import seedu.address.model.request.RequestStatusContainsKeywordPredicate;
 import seedu.address.testutil.EditOrderDescriptorBuilder;
 import seedu.address.testutil.OrderUtil;
 import seedu.address.testutil.RequestBuilder;
@@ -62,6 +66,9 @@ public class RequestCommandParserTest {
     public void parse_list() throws Exception {
         assertTrue(parser.parse(ListCommand.COMMAND_WORD) instanceof ListCommand);
         assertTrue(parser.parse(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
+        assertEquals(new ListCommand(new RequestStatusContainsKeywordPredicate(
+            Collections.singletonList(new RequestStatus("PENDING")))),
+            parser.parse(ListCommand.COMMAND_WORD + " st/PENDING"));
     }
 
     @Test
@@ -81,6 +88,12 @@ public class RequestCommandParserTest {
         assertEquals(new FindCommand(new RequestNameContainsKeywordPredicate(searchKeyword)), command);
     }
 
+    @Test
+    public void parse_lookup() throws Exception {
+        LookupCommand command = (LookupCommand) parser.parse(LookupCommand.COMMAND_WORD + " 94351253");
+        assertEquals(new LookupCommand("94351253"), command);
+    }
+
     @Test
     public void parse_edit() throws Exception {
         Request request = new RequestBuilder().build();
@@ -5,7 +5,6 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 
 import org.junit.Test;
@@ -29,7 +28,7 @@ public class RequestDatePredicateUtilTest {
     @Test
     public void test_unsortedList_returnSortedList() throws ParseException {
         List<String> stringDates = Arrays.asList("02-10-2018 10:00:00", "01-12-2018 12:00:00", "03-10-2018 10:00:00");
-        List<Date> dates = new RequestDatePredicateUtil().parseDateKeywords(stringDates);
+        List<RequestDate> dates = new RequestDatePredicateUtil().parseDateKeywords(stringDates);
 
         assertTrue(is_dates_sorted(dates));
     }
@@ -37,7 +36,7 @@ public class RequestDatePredicateUtilTest {
     @Test
     public void test_moreThanTwoDatesSupplied_returnListSizeOfTwo() throws ParseException {
         List<String> stringDates = Arrays.asList("01-10-2018 10:00:00", "02-12-2018 12:00:00", "03-10-2018 10:00:00");
-        List<Date> dates = new RequestDatePredicateUtil().parseDateKeywords(stringDates);
+        List<RequestDate> dates = new RequestDatePredicateUtil().parseDateKeywords(stringDates);
 
         assertTrue(dates.size() == 2);
     }
@@ -45,7 +44,7 @@ public class RequestDatePredicateUtilTest {
     /**
      * Util to check if the dates in the list are sorted
      */
-    private boolean is_dates_sorted(List<Date> dates) {
+    private boolean is_dates_sorted(List<RequestDate> dates) {
         for (int i = 1; i < dates.size(); i++) {
             if (dates.get(i - 1).compareTo(dates.get(i)) > 0) {
                 return false;
@@ -61,7 +60,7 @@ public class RequestDatePredicateUtilTest {
      */
     private void assertParseFailure(List<String> userInput, String expectedMessage) {
         try {
-            List<Date> dates = new RequestDatePredicateUtil().parseDateKeywords(userInput);
+            List<RequestDate> dates = new RequestDatePredicateUtil().parseDateKeywords(userInput);
             throw new AssertionError("The expected ParseException was not thrown.");
         } catch (ParseException pe) {
             assertEquals(expectedMessage, pe.getMessage());
@@ -1,8 +1,10 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
 import static seedu.address.testutil.TypicalDeliverymen.CHIKAO;
@@ -19,11 +21,18 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.healthworker.Healthworker;
 import seedu.address.model.healthworker.HealthworkerList;
 import seedu.address.model.request.NameContainsKeywordsPredicate;
+import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestDate;
+import seedu.address.model.request.RequestDateRangePredicate;
+import seedu.address.model.request.RequestNameContainsKeywordPredicate;
 import seedu.address.model.user.User;
+import seedu.address.testutil.DeliverymanBuilder;
 import seedu.address.testutil.DeliverymenListBuilder;
 import seedu.address.testutil.OrderBookBuilder;
+import seedu.address.testutil.RequestBuilder;
 import seedu.address.testutil.user.UserBuilder;
 import seedu.address.testutil.user.UsersListBuilder;
 
@@ -80,6 +89,59 @@ public class ModelManagerTest {
         assertNull(modelManager.getLoggedInUserDetails());
     }
 
+    @Test
+    public void updateOrder_assignedRequest_healthworkerHoldsEditedRequestUntilUndone() throws Exception {
+        Healthworker healthworker = new DeliverymanBuilder().withName("Hoh Chi Kao").build();
+        Request request = new RequestBuilder(BENSON).withStatus("ONGOING").withDeliveryman(healthworker).build();
+        healthworker.addOrder(request);
+        modelManager = new ModelManager(new OrderBookBuilder().withOrder(request).build(), new UsersList(),
+            new DeliverymenListBuilder().withDeliveryman(healthworker).build(), new UserPrefs());
+
+        Request editedRequest = new RequestBuilder(request).withPhone("91234567").build();
+        modelManager.updateOrder(request, editedRequest);
+        modelManager.commitOrderBook();
+        assertSame(editedRequest, healthworker.getRequests().iterator().next());
+        assertSame(healthworker, editedRequest.getHealthworker());
+
+        modelManager.undoOrderBook();
+        assertSame(modelManager.getOrderBook().getRequestList().get(0), healthworker.getRequests().iterator().next());
+    }
+
+    @Test
+    public void updateFilteredOrderList_indexedPredicate_followsAddsAndUndo() {
+        modelManager.addOrder(ALICE);
+        modelManager.commitOrderBook();
+        modelManager.updateFilteredOrderList(new RequestNameContainsKeywordPredicate("Pauline"));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredOrderList());
+
+        Request otherPauline = new RequestBuilder(BENSON).withName("Pauline Tan").build();
+        modelManager.addOrder(otherPauline);
+        modelManager.commitOrderBook();
+        assertEquals(Arrays.asList(ALICE, otherPauline), modelManager.getFilteredOrderList());
+
+        modelManager.undoOrderBook();
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredOrderList());
+        modelManager.redoOrderBook();
+        assertEquals(Arrays.asList(ALICE, otherPauline), modelManager.getFilteredOrderList());
+    }
+
+    @Test
+    public void updateFilteredOrderList_dateRangePredicate_followsUndoAndRedo() {
+        modelManager.addOrder(ALICE);
+        modelManager.commitOrderBook();
+        modelManager.updateFilteredOrderList(new RequestDateRangePredicate(
+            new RequestDate("01-10-2018 00:00:00"), new RequestDate("02-10-2018 23:59:59")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredOrderList());
+
+        modelManager.addOrder(BENSON);
+        modelManager.commitOrderBook();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredOrderList());
+
+        modelManager.undoOrderBook();
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredOrderList());
+        modelManager.redoOrderBook();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredOrderList());
+    }
 
     @Test
     public void equals() {
@@ -0,0 +1,123 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalOrders.ALICE;
+import static seedu.address.testutil.TypicalOrders.ALICE_ID;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.healthworker.Healthworker;
+import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.model.request.Request;
+import seedu.address.testutil.DeliverymanBuilder;
+import seedu.address.testutil.RequestBuilder;
+
+public class ReferenceResolverTest {
+
+    private static final String HEALTHWORKER_NAME = "Hoh Chi Kao";
+
+    private RequestBook requestBook;
+    private HealthworkerList healthworkerList;
+    private Request assignedRequest;
+    private Healthworker healthworker;
+
+    @Before
+    public void setUp() throws Exception {
+        healthworker = new DeliverymanBuilder().withName(HEALTHWORKER_NAME).build();
+        assignedRequest = new RequestBuilder(ALICE).withId(ALICE_ID).withStatus("ONGOING")
+            .withDeliveryman(healthworker).build();
+        healthworker.addOrder(assignedRequest);
+        requestBook = new RequestBook();
+        requestBook.addRequest(assignedRequest);
+        healthworkerList = new HealthworkerList();
+        healthworkerList.addDeliveryman(healthworker);
+    }
+
+    @Test
+    public void resolve_copiesAndStubs_linkedToInstancesInLists() throws Exception {
+        // As loaded from a file: the healthworker holds a copy of the request, which refers to a stub
+        Request loadedRequest = new RequestBuilder(assignedRequest)
+            .withDeliveryman(new Healthworker(healthworker.getName())).build();
+        requestBook.setRequests(Collections.singletonList(loadedRequest));
+
+        ReferenceResolver.resolve(requestBook, healthworkerList);
+        assertSame(loadedRequest, healthworker.getRequests().iterator().next());
+        assertSame(healthworker, loadedRequest.getHealthworker());
+    }
+
+    @Test
+    public void resolveRequest_editedRequest_replacesRequestOfHealthworker() {
+        Request editedRequest = new RequestBuilder(assignedRequest).withPhone("91234567").build();
+        requestBook.updateRequest(assignedRequest, editedRequest);
+
+        ReferenceResolver.resolveRequest(editedRequest, healthworkerList);
+        assertEquals(1, healthworker.getRequests().size());
+        assertSame(editedRequest, healthworker.getRequests().iterator().next());
+        assertSame(healthworker, editedRequest.getHealthworker());
+    }
+
+    @Test
+    public void resolveRequest_completedRequest_healthworkerUnchanged() {
+        Request completedRequest = new RequestBuilder(assignedRequest).withStatus("COMPLETED").build();
+        requestBook.updateRequest(assignedRequest, completedRequest);
+
+        ReferenceResolver.resolveRequest(completedRequest, healthworkerList);
+        assertSame(assignedRequest, healthworker.getRequests().iterator().next());
+    }
+
+    @Test
+    public void resolveHealthworker_editedHealthworker_requestsLinkedBack() {
+        Healthworker editedHealthworker = new Healthworker(healthworker);
+        healthworkerList.updateDeliveryman(healthworker, editedHealthworker);
+
+        ReferenceResolver.resolveHealthworker(editedHealthworker, requestBook);
+        assertEquals(healthworker.getTag(), editedHealthworker.getTag());
+        assertSame(assignedRequest, editedHealthworker.getRequests().iterator().next());
+        assertSame(editedHealthworker, assignedRequest.getHealthworker());
+    }
+
+    @Test
+    public void resolveRestoredRequests_restoredRequest_replacesRequestOfHealthworker() throws Exception {
+        // As put back by undo: the restored request refers to the healthworker instance it was edited with
+        Request restoredRequest = new RequestBuilder(assignedRequest).withPhone("91234567")
+            .withDeliveryman(new DeliverymanBuilder().withName(HEALTHWORKER_NAME).build()).build();
+        requestBook.updateRequest(assignedRequest, restoredRequest);
+
+        ReferenceResolver.resolveRestoredRequests(Collections.singletonList(restoredRequest), requestBook,
+            healthworkerList);
+        assertSame(restoredRequest, healthworker.getRequests().iterator().next());
+        assertSame(healthworker, restoredRequest.getHealthworker());
+    }
+
+    @Test
+    public void resolveRestoredRequests_requestRemovedAgain_healthworkerUnchanged() {
+        Request removedRequest = new RequestBuilder(assignedRequest).withPhone("91234567").build();
+
+        ReferenceResolver.resolveRestoredRequests(Collections.singletonList(removedRequest), requestBook,
+            healthworkerList);
+        assertSame(assignedRequest, healthworker.getRequests().iterator().next());
+    }
+
+    @Test
+    public void resolveRestoredHealthworkers_restoredHealthworker_requestsLinkedBack() {
+        Healthworker restoredHealthworker = new Healthworker(healthworker);
+        healthworkerList.updateDeliveryman(healthworker, restoredHealthworker);
+
+        ReferenceResolver.resolveRestoredHealthworkers(Collections.singletonList(restoredHealthworker),
+            requestBook, healthworkerList);
+        assertSame(restoredHealthworker, assignedRequest.getHealthworker());
+    }
+
+    @Test
+    public void resolveRestoredHealthworkers_healthworkerRemovedAgain_requestsUnchanged() {
+        Healthworker removedHealthworker = new Healthworker(healthworker);
+
+        ReferenceResolver.resolveRestoredHealthworkers(Collections.singletonList(removedHealthworker),
+            requestBook, healthworkerList);
+        assertSame(healthworker, assignedRequest.getHealthworker());
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_FOOD_BURGER;
 import static seedu.address.testutil.TypicalOrders.ALICE;
 import static seedu.address.testutil.TypicalOrders.getTypicalOrderBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,6 +21,7 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestStatus;
 import seedu.address.model.request.exceptions.DuplicateRequestException;
 import seedu.address.testutil.RequestBuilder;
 
@@ -34,6 +36,38 @@ public class RequestBookTest {
         assertEquals(Collections.emptyList(), orderBook.getRequestList());
     }
 
+    @Test
+    public void getRequestIndex_afterEdits_findsCurrentRequests() {
+        orderBook.addRequest(ALICE);
+        assertTrue(orderBook.getRequestIndex().findByName("alice").contains(ALICE));
+
+        Request editedAlice = new RequestBuilder(ALICE).withName("Alicia Pauline").build();
+        orderBook.updateRequest(ALICE, editedAlice);
+        assertTrue(orderBook.getRequestIndex().findByName("alicia").contains(editedAlice));
+        assertFalse(orderBook.getRequestIndex().contains(ALICE));
+
+        orderBook.removeRequest(editedAlice);
+        assertTrue(orderBook.getRequestIndex().findByName("alic").isEmpty());
+
+        orderBook.resetData(getTypicalOrderBook());
+        assertEquals(1, orderBook.getRequestIndex().findByName("alice").size());
+    }
+
+    @Test
+    public void updateAndRemoveRequest_equalInstances_unindexStoredRequests() {
+        Request alice = new RequestBuilder(ALICE).build();
+        orderBook.addRequest(alice);
+
+        Request editedAlice = new RequestBuilder(ALICE).withName("Alicia Pauline").build();
+        orderBook.updateRequest(new RequestBuilder(ALICE).build(), editedAlice);
+        assertFalse(orderBook.getRequestIndex().contains(alice));
+        assertEquals(1, orderBook.getRequestIndex().size());
+
+        orderBook.removeRequest(new RequestBuilder(editedAlice).build());
+        assertEquals(0, orderBook.getRequestIndex().size());
+        assertEquals(0, orderBook.countRequestsWithStatus(alice.getRequestStatus()));
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -90,6 +124,24 @@ public class RequestBookTest {
         orderBook.getRequestList().remove(0);
     }
 
+    @Test
+    public void unindexedCopyOf_modifiedAfterCopy_copyUnchanged() {
+        RequestBook typicalOrderBook = getTypicalOrderBook();
+        List<Request> requests = new ArrayList<>(typicalOrderBook.getRequestList());
+        ReadOnlyRequestBook copy = RequestBook.unindexedCopyOf(typicalOrderBook);
+        typicalOrderBook.removeRequest(requests.get(0));
+
+        assertEquals(requests, copy.getRequestList());
+        RequestStatus pending = new RequestStatus("PENDING");
+        assertEquals(new RequestBook(copy).countRequestsWithStatus(pending), copy.countRequestsWithStatus(pending));
+    }
+
+    @Test
+    public void unindexedCopyOf_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        RequestBook.unindexedCopyOf(getTypicalOrderBook()).getRequestList().remove(0);
+    }
+
     /**
      * A stub ReadOnlyRequestBook whose requests list can violate interface constraints.
      */
@@ -104,6 +156,11 @@ public class RequestBookTest {
         public ObservableList<Request> getRequestList() {
             return requests;
         }
+
+        @Override
+        public int countRequestsWithStatus(RequestStatus status) {
+            return (int) requests.stream().filter(request -> request.getRequestStatus().equals(status)).count();
+        }
     }
 
 }
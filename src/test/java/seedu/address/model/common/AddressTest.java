@@ -1,11 +1,13 @@
 package seedu.address.model.common;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
 import seedu.address.model.request.Request;
+import seedu.address.model.util.PostalDistrictUtil;
 import seedu.address.testutil.Assert;
 import seedu.address.testutil.RequestBuilder;
 
@@ -35,6 +37,15 @@ public class AddressTest {
 
     }
 
+    @Test
+    public void getDistrict() {
+        Address address = new Address("Block 123, Fire Road, #10-10, 640321");
+        assertEquals("64", address.getPostalSector());
+        assertEquals(22, address.getDistrict());
+
+        assertEquals(PostalDistrictUtil.NO_DISTRICT, new Address("Triad Street, 990000").getDistrict());
+    }
+
     @Test
     public void isValidAddress() {
         // null address
@@ -54,6 +65,9 @@ public class AddressTest {
         assertFalse(Address.isValidAddress("Blk 456, Den Road, #01-355, 600123, "));
         assertFalse(Address.isValidAddress("Blk 456, Den Road, #01-355, 600123 "));
 
+        // invalid address - more than one line
+        assertFalse(Address.isValidAddress("Blk 456, Den Road,\n#01-355, 600123"));
+
         // valid address
         assertTrue(Address.isValidAddress("Blk 456, Den Road, #01-355, 610123"));
         assertTrue(Address.isValidAddress("- 615132")); // one character
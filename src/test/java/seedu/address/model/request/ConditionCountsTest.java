@@ -0,0 +1,108 @@
+package seedu.address.model.request;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.address.testutil.RequestBuilder;
+
+public class ConditionCountsTest {
+    private static final int RANDOM_CONDITION_COUNT = 20;
+    private static final int RANDOM_CHANGE_COUNT = 2000;
+    private static final int TOP_LIMIT = 5;
+    private static final long RANDOM_SEED = 42;
+
+    private final ConditionCounts conditionCounts = new ConditionCounts();
+
+    @Test
+    public void getMostCommon_noRequests_empty() {
+        assertFalse(conditionCounts.getMostCommon().isPresent());
+    }
+
+    @Test
+    public void addAndRemove_requests_countsUpdated() {
+        Request dialysisOnly = new RequestBuilder().withCondition("Dialysis").build();
+        Request both = new RequestBuilder().withName("Benson Meier").withCondition("Dialysis", "Physiotherapy")
+            .build();
+        Request physiotherapyOnly = new RequestBuilder().withName("Carl Kurz").withCondition("Physiotherapy")
+            .build();
+        conditionCounts.add(dialysisOnly);
+        conditionCounts.add(both);
+        conditionCounts.add(physiotherapyOnly);
+        conditionCounts.add(new RequestBuilder().withName("Daniel Meier").withCondition("Physiotherapy").build());
+        assertEquals(2, conditionCounts.getCount(new Condition("Dialysis")));
+        assertEquals(3, conditionCounts.getCount(new Condition("Physiotherapy")));
+        assertEquals(Optional.of(new Condition("Physiotherapy")), conditionCounts.getMostCommon());
+
+        conditionCounts.remove(physiotherapyOnly);
+        conditionCounts.remove(both);
+        assertEquals(1, conditionCounts.getCount(new Condition("Physiotherapy")));
+        assertEquals(0, conditionCounts.getCount(new Condition("Never Counted Condition")));
+    }
+
+    @Test
+    public void getMostCommon_limit_mostCountedFirst() {
+        conditionCounts.add(new RequestBuilder().withCondition("Dialysis", "Physiotherapy", "Eldercare").build());
+        conditionCounts.add(new RequestBuilder().withCondition("Physiotherapy", "Eldercare").build());
+        conditionCounts.add(new RequestBuilder().withCondition("Physiotherapy").build());
+
+        assertEquals(Arrays.asList(new Condition("Physiotherapy"), new Condition("Eldercare")),
+            conditionCounts.getMostCommon(2));
+        assertEquals(3, conditionCounts.getMostCommon(5).size());
+        assertEquals(Collections.emptyList(), new ConditionCounts().getMostCommon(3));
+    }
+
+    @Test
+    public void addAndRemove_randomRequests_mostCommonMatchesCounts() {
+        List<Condition> conditions = new ArrayList<>();
+        for (int i = 0; i < RANDOM_CONDITION_COUNT; i++) {
+            conditions.add(new Condition("Random Condition " + i));
+        }
+        Random random = new Random(RANDOM_SEED);
+        List<Request> counted = new ArrayList<>();
+        for (int i = 0; i < RANDOM_CHANGE_COUNT; i++) {
+            if (!counted.isEmpty() && random.nextInt(3) == 0) {
+                conditionCounts.remove(counted.remove(random.nextInt(counted.size())));
+            } else {
+                Request request = new RequestBuilder().withCondition(
+                    conditions.get(random.nextInt(RANDOM_CONDITION_COUNT)).toString(),
+                    conditions.get(random.nextInt(RANDOM_CONDITION_COUNT)).toString()).build();
+                conditionCounts.add(request);
+                counted.add(request);
+            }
+            assertMostCommon(conditions);
+        }
+    }
+
+    /**
+     * Asserts that the most common of {@code conditions} are in the order of their counts, with ties in the order
+     * of the dictionary, and that no condition left out has a greater count.
+     */
+    private void assertMostCommon(List<Condition> conditions) {
+        List<Condition> mostCommon = conditionCounts.getMostCommon(TOP_LIMIT);
+        ConditionDictionary dictionary = ConditionDictionary.getInstance();
+        for (int i = 1; i < mostCommon.size(); i++) {
+            int previousCount = conditionCounts.getCount(mostCommon.get(i - 1));
+            int count = conditionCounts.getCount(mostCommon.get(i));
+            assertTrue(previousCount > count || (previousCount == count
+                && dictionary.findId(mostCommon.get(i - 1)) < dictionary.findId(mostCommon.get(i))));
+        }
+        int lastCount = mostCommon.isEmpty() ? 0 : conditionCounts.getCount(mostCommon.get(mostCommon.size() - 1));
+        for (Condition condition : conditions) {
+            if (!mostCommon.contains(condition)) {
+                assertTrue(conditionCounts.getCount(condition) <= lastCount);
+            }
+        }
+        assertEquals(mostCommon.isEmpty() ? Optional.empty() : Optional.of(mostCommon.get(0)),
+            conditionCounts.getMostCommon());
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.request;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.ref.WeakReference;
+
+import org.junit.Test;
+
+public class ConditionDictionaryTest {
+
+    private final ConditionDictionary dictionary = new ConditionDictionary();
+
+    @Test
+    public void idOf_equalConditions_sameId() {
+        int id = dictionary.idOf(new Condition("Asthma"));
+        assertEquals(id, dictionary.idOf(new Condition("Asthma")));
+        assertEquals(id, dictionary.findId(new Condition("Asthma")));
+        assertEquals(-1, dictionary.findId(new Condition("Diabetes")));
+    }
+
+    @Test
+    public void get_conditionInUse_returnsSameCondition() {
+        Condition condition = Condition.of("Asthma");
+        assertSame(condition, dictionary.get(dictionary.idOf(condition)));
+    }
+
+    @Test
+    public void get_unusedCondition_collectedAndLookedUpAgain() throws InterruptedException {
+        WeakReference<Condition> reference = new WeakReference<>(Condition.of("Sickle cell disease"));
+        int id = dictionary.idOf(reference.get());
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+
+        Condition condition = dictionary.get(id);
+        assertEquals("Sickle cell disease", condition.foodName);
+        assertSame(condition, Condition.of("Sickle cell disease"));
+        assertEquals(id, dictionary.findId(condition));
+    }
+}
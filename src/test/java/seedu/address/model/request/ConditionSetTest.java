@@ -0,0 +1,78 @@
+package seedu.address.model.request;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ConditionSetTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Condition dialysis = Condition.of("Dialysis");
+    private final Condition physiotherapy = Condition.of("Physiotherapy");
+
+    @Test
+    public void of_duplicateConditions_duplicatesDropped() {
+        ConditionSet conditions = ConditionSet.of(Arrays.asList(dialysis, physiotherapy, new Condition("Dialysis")));
+        assertEquals(2, conditions.size());
+        assertTrue(conditions.contains(new Condition("Dialysis")));
+        assertTrue(conditions.contains(physiotherapy));
+        assertFalse(conditions.contains(new Condition("Unused Condition Set Condition")));
+    }
+
+    @Test
+    public void of_conditionSet_sameSet() {
+        ConditionSet conditions = ConditionSet.of(Arrays.asList(dialysis));
+        assertSame(conditions, ConditionSet.of(conditions));
+    }
+
+    @Test
+    public void equals_hashSetOfSameConditions_equal() {
+        Set<Condition> hashSet = new HashSet<>(Arrays.asList(dialysis, physiotherapy));
+        ConditionSet conditions = ConditionSet.of(hashSet);
+        assertEquals(hashSet, conditions);
+        assertEquals(conditions, hashSet);
+        assertEquals(hashSet.hashCode(), conditions.hashCode());
+        assertEquals(conditions, ConditionSet.of(Arrays.asList(physiotherapy, dialysis)));
+        assertFalse(conditions.equals(ConditionSet.of(Arrays.asList(dialysis))));
+    }
+
+    @Test
+    public void containsAny_conditionIds_matchesById() {
+        ConditionSet conditions = ConditionSet.of(Arrays.asList(dialysis));
+        BitSet ids = new BitSet();
+        ids.set(ConditionDictionary.getInstance().idOf(physiotherapy));
+        assertFalse(conditions.containsAny(ids));
+        ids.set(ConditionDictionary.getInstance().idOf(dialysis));
+        assertTrue(conditions.containsAny(ids));
+    }
+
+    @Test
+    public void forEachId_conditions_idsInIncreasingOrder() {
+        List<Integer> ids = new ArrayList<>();
+        ConditionSet.of(Arrays.asList(physiotherapy, dialysis)).forEachId(ids::add);
+        List<Integer> expectedIds = Arrays.asList(ConditionDictionary.getInstance().idOf(dialysis),
+            ConditionDictionary.getInstance().idOf(physiotherapy));
+        expectedIds.sort(null);
+        assertEquals(expectedIds, ids);
+    }
+
+    @Test
+    public void add_anyCondition_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        ConditionSet.of(Arrays.asList(dialysis)).add(physiotherapy);
+    }
+}
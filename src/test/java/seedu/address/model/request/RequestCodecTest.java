@@ -0,0 +1,44 @@
+package seedu.address.model.request;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalDeliverymen.CHIKAO;
+import static seedu.address.testutil.TypicalOrders.ALICE;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import seedu.address.testutil.RequestBuilder;
+
+public class RequestCodecTest {
+
+    private final RequestCodec codec = new RequestCodec();
+
+    @Test
+    public void read_writtenRequest_returnsEqualRequest() throws IOException {
+        assertRoundTrip(ALICE);
+    }
+
+    @Test
+    public void read_writtenAssignedRequest_keepsTagAndHealthworkerName() throws IOException {
+        Request assigned = new RequestBuilder(ALICE).withStatus("ONGOING").withDeliveryman(CHIKAO).build();
+        Request read = assertRoundTrip(assigned);
+        assertEquals(assigned.getTag(), read.getTag());
+        assertEquals(CHIKAO.getName(), read.getHealthworker().getName());
+    }
+
+    /**
+     * Asserts that {@code request} is read back equal to itself after being written, and returns the copy read.
+     */
+    private Request assertRoundTrip(Request request) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.write(new DataOutputStream(bytes), request);
+        Request read = codec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(request, read);
+        return read;
+    }
+}
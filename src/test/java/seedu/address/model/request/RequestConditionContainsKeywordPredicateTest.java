@@ -66,4 +66,11 @@ public class RequestConditionContainsKeywordPredicateTest {
         predicate = new RequestConditionContainsKeywordPredicate("tea");
         assertFalse(predicate.test(new RequestBuilder().withCondition("fried rice", "ice milo", "roti canai").build()));
     }
+
+    @Test
+    public void test_conditionAddedAfterEarlierTests_returnsTrue() {
+        RequestConditionContainsKeywordPredicate predicate = new RequestConditionContainsKeywordPredicate("goreng");
+        assertFalse(predicate.test(new RequestBuilder().withCondition("fried rice").build()));
+        assertTrue(predicate.test(new RequestBuilder().withCondition("Mee Goreng Predicate").build()));
+    }
 }
@@ -3,11 +3,8 @@ package seedu.address.model.request;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 
 import org.junit.Test;
@@ -17,20 +14,11 @@ import seedu.address.testutil.RequestBuilder;
 public class RequestDatePredicateTest {
     @Test
     public void equals() {
-        SimpleDateFormat sf = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
+        RequestDate dateOne = new RequestDate("01-10-2018 10:00:00");
+        RequestDate dateTwo = new RequestDate("03-10-2018 10:00:00");
 
-        Date dateOne = null;
-        Date dateTwo = null;
-
-        try {
-            dateOne = sf.parse("01-10-2018 10:00:00");
-            dateTwo = sf.parse("03-10-2018 10:00:00");
-        } catch (ParseException pE) {
-            assertFalse(true);
-        }
-
-        List<Date> firstPredicateKeywordList = Collections.singletonList(dateOne);
-        List<Date> secondPredicateKeywordList = Arrays.asList(dateOne, dateTwo);
+        List<RequestDate> firstPredicateKeywordList = Collections.singletonList(dateOne);
+        List<RequestDate> secondPredicateKeywordList = Arrays.asList(dateOne, dateTwo);
 
         RequestDatePredicate firstPredicate =
                 new RequestDatePredicate(firstPredicateKeywordList);
@@ -57,17 +45,9 @@ public class RequestDatePredicateTest {
 
     @Test
     public void test_singleDateGivenMatchDate_returnsTrue() {
-        SimpleDateFormat sf = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
-
-        Date datePredicateKeyword = null;
+        RequestDate datePredicateKeyword = new RequestDate("01-10-2018 10:00:00");
 
-        try {
-            datePredicateKeyword = sf.parse("01-10-2018 10:00:00");
-        } catch (ParseException pE) {
-            assertFalse(true);
-        }
-
-        List<Date> predicateKeywordList = Collections.singletonList(datePredicateKeyword);
+        List<RequestDate> predicateKeywordList = Collections.singletonList(datePredicateKeyword);
 
         // Exact match
         RequestDatePredicate predicate = new RequestDatePredicate(predicateKeywordList);
@@ -76,17 +56,9 @@ public class RequestDatePredicateTest {
 
     @Test
     public void test_singleDateGivenDateDoesNotMatch_returnsFalse() {
-        SimpleDateFormat sf = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
-
-        Date datePredicateKeyword = null;
+        RequestDate datePredicateKeyword = new RequestDate("01-10-2018 10:00:00");
 
-        try {
-            datePredicateKeyword = sf.parse("01-10-2018 10:00:00");
-        } catch (ParseException pE) {
-            assertFalse(true);
-        }
-
-        List<Date> predicateKeywordList = Collections.singletonList(datePredicateKeyword);
+        List<RequestDate> predicateKeywordList = Collections.singletonList(datePredicateKeyword);
 
         // Different date, same time
         RequestDatePredicate predicate = new RequestDatePredicate(predicateKeywordList);
@@ -98,19 +70,10 @@ public class RequestDatePredicateTest {
 
     @Test
     public void test_twoDatesGivenDateWithinBoundary_returnsTrue() {
-        SimpleDateFormat sf = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
-
-        Date lowerDateBoundary = null;
-        Date upperDateBoundary = null;
-
-        try {
-            lowerDateBoundary = sf.parse("01-10-2018 10:00:00");
-            upperDateBoundary = sf.parse("03-10-2018 10:00:00");
-        } catch (ParseException pE) {
-            assertFalse(true);
-        }
+        RequestDate lowerDateBoundary = new RequestDate("01-10-2018 10:00:00");
+        RequestDate upperDateBoundary = new RequestDate("03-10-2018 10:00:00");
 
-        List<Date> predicateKeywordList = Arrays.asList(lowerDateBoundary, upperDateBoundary);
+        List<RequestDate> predicateKeywordList = Arrays.asList(lowerDateBoundary, upperDateBoundary);
 
         // Equals lower boundary
         RequestDatePredicate predicate = new RequestDatePredicate(predicateKeywordList);
@@ -125,19 +88,10 @@ public class RequestDatePredicateTest {
 
     @Test
     public void test_twoDatesGivenDateOutsideBoundary_returnsFalse() {
-        SimpleDateFormat sf = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
-
-        Date lowerDateBoundary = null;
-        Date upperDateBoundary = null;
-
-        try {
-            lowerDateBoundary = sf.parse("01-10-2018 10:00:00");
-            upperDateBoundary = sf.parse("03-10-2018 10:00:00");
-        } catch (ParseException pE) {
-            assertFalse(true);
-        }
+        RequestDate lowerDateBoundary = new RequestDate("01-10-2018 10:00:00");
+        RequestDate upperDateBoundary = new RequestDate("03-10-2018 10:00:00");
 
-        List<Date> predicateKeywordList = Arrays.asList(lowerDateBoundary, upperDateBoundary);
+        List<RequestDate> predicateKeywordList = Arrays.asList(lowerDateBoundary, upperDateBoundary);
 
         // Below lower boundary
         RequestDatePredicate predicate = new RequestDatePredicate(predicateKeywordList);
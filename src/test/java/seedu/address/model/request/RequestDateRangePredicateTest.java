@@ -1,34 +1,34 @@
 package seedu.address.model.request;
 
+import static java.time.Duration.ofMillis;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.Test;
 
+import seedu.address.model.RequestBook;
 import seedu.address.testutil.RequestBuilder;
 
 public class RequestDateRangePredicateTest {
+    private static final int LARGE_REQUEST_COUNT = 100000;
+    private static final int DAYS_IN_YEAR = 365;
+    private static final int DAYS_IN_WEEK = 7;
+    private static final int QUERY_COUNT = 1000;
+    private static final long LARGE_RANGE_QUERY_TIMEOUT = 2000;
+
     @Test
     public void equals() {
-        SimpleDateFormat sf = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
-
-        Date firstPredicateFirstKeyword = null;
-        Date firstPredicateSecondKeyword = null;
-        Date secondPredicateFirstKeyword = null;
-        Date secondPredicateSecondKeyword = null;
-
-        try {
-            firstPredicateFirstKeyword = sf.parse("01-10-2018 10:00:00");
-            firstPredicateSecondKeyword = sf.parse("03-10-2018 10:00:00");
-            secondPredicateFirstKeyword = sf.parse("01-10-2018 12:00:00");
-            secondPredicateSecondKeyword = sf.parse("03-10-2018 12:00:00");
-        } catch (ParseException pE) {
-            assertFalse(true);
-        }
+        RequestDate firstPredicateFirstKeyword = new RequestDate("01-10-2018 10:00:00");
+        RequestDate firstPredicateSecondKeyword = new RequestDate("03-10-2018 10:00:00");
+        RequestDate secondPredicateFirstKeyword = new RequestDate("01-10-2018 12:00:00");
+        RequestDate secondPredicateSecondKeyword = new RequestDate("03-10-2018 12:00:00");
 
 
         RequestDateRangePredicate firstPredicate =
@@ -56,17 +56,8 @@ public class RequestDateRangePredicateTest {
 
     @Test
     public void test_datesWithinRange_returnsTrue() {
-        SimpleDateFormat sf = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
-
-        Date lowerDateBoundary = null;
-        Date upperDateBoundary = null;
-
-        try {
-            lowerDateBoundary = sf.parse("01-10-2018 10:00:00");
-            upperDateBoundary = sf.parse("03-10-2018 10:00:00");
-        } catch (ParseException pE) {
-            assertFalse(true);
-        }
+        RequestDate lowerDateBoundary = new RequestDate("01-10-2018 10:00:00");
+        RequestDate upperDateBoundary = new RequestDate("03-10-2018 10:00:00");
 
         // Equals lower boundary
         RequestDateRangePredicate predicate = new RequestDateRangePredicate(lowerDateBoundary, upperDateBoundary);
@@ -81,17 +72,8 @@ public class RequestDateRangePredicateTest {
 
     @Test
     public void test_dateOutsideBoundary_returnsFalse() {
-        SimpleDateFormat sf = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
-
-        Date lowerDateBoundary = null;
-        Date upperDateBoundary = null;
-
-        try {
-            lowerDateBoundary = sf.parse("01-10-2018 10:00:00");
-            upperDateBoundary = sf.parse("03-10-2018 10:00:00");
-        } catch (ParseException pE) {
-            assertFalse(true);
-        }
+        RequestDate lowerDateBoundary = new RequestDate("01-10-2018 10:00:00");
+        RequestDate upperDateBoundary = new RequestDate("03-10-2018 10:00:00");
 
         // Below lower boundary
         RequestDateRangePredicate predicate = new RequestDateRangePredicate(lowerDateBoundary, upperDateBoundary);
@@ -100,4 +82,49 @@ public class RequestDateRangePredicateTest {
         // Exceed upper boundary
         assertFalse(predicate.test(new RequestBuilder().withDate("03-10-2018 10:00:01").build()));
     }
+
+    /**
+     * Verifies that {@code QUERY_COUNT} queries for a week of requests, in a request book of
+     * {@code LARGE_REQUEST_COUNT} requests over a year, require lesser than {@code LARGE_RANGE_QUERY_TIMEOUT}
+     * milliseconds.
+     */
+    @Test
+    public void performanceTest() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-uuuu HH:mm:ss");
+        LocalDateTime start = LocalDateTime.of(2018, 1, 1, 0, 0);
+        long secondsInYear = DAYS_IN_YEAR * 24L * 60 * 60;
+
+        List<Request> requests = new ArrayList<>(LARGE_REQUEST_COUNT);
+        for (int i = 0; i < LARGE_REQUEST_COUNT; i++) {
+            LocalDateTime dateTime = start.plusSeconds(i * secondsInYear / LARGE_REQUEST_COUNT);
+            requests.add(new RequestBuilder().withName("Patient " + i).withDate(formatter.format(dateTime)).build());
+        }
+        RequestBook requestBook = new RequestBook();
+        requestBook.setRequests(requests);
+
+        // A week around each of QUERY_COUNT requests spread over the year
+        List<RequestDate[]> weeks = new ArrayList<>(QUERY_COUNT);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            LocalDateTime dateTime = start.plusSeconds(requestIndexOfQuery(i) * secondsInYear / LARGE_REQUEST_COUNT);
+            weeks.add(new RequestDate[] {new RequestDate(formatter.format(dateTime.minusDays(DAYS_IN_WEEK / 2))),
+                new RequestDate(formatter.format(dateTime.plusDays(DAYS_IN_WEEK - DAYS_IN_WEEK / 2)))});
+        }
+        RequestIndex requestIndex = requestBook.getRequestIndex();
+
+        assertTimeoutPreemptively(ofMillis(LARGE_RANGE_QUERY_TIMEOUT), () -> {
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                RequestDate[] week = weeks.get(i);
+                Predicate<Request> boundPredicate = requestIndex.bind(new RequestDateRangePredicate(week[0], week[1]));
+                assertTrue(boundPredicate.test(requests.get(requestIndexOfQuery(i))));
+                assertFalse(requestIndex.findByDateRange(week[0], week[1]).isEmpty());
+            }
+        }, "Range queries over a large request book exceeded time limit");
+    }
+
+    /**
+     * Returns the position of the request that the query at position {@code query} is around.
+     */
+    private static int requestIndexOfQuery(int query) {
+        return (int) ((long) query * LARGE_REQUEST_COUNT / QUERY_COUNT);
+    }
 }
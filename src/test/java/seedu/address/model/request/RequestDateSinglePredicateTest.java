@@ -3,10 +3,6 @@ package seedu.address.model.request;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-
 import org.junit.Test;
 
 import seedu.address.testutil.RequestBuilder;
@@ -14,17 +10,8 @@ import seedu.address.testutil.RequestBuilder;
 public class RequestDateSinglePredicateTest {
     @Test
     public void equals() {
-        SimpleDateFormat sf = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
-
-        Date firstPredicateKeyword = null;
-        Date secondPredicateKeyword = null;
-
-        try {
-            firstPredicateKeyword = sf.parse("01-10-2018 10:00:00");
-            secondPredicateKeyword = sf.parse("03-10-2018 10:00:00");
-        } catch (ParseException pE) {
-            assertFalse(true);
-        }
+        RequestDate firstPredicateKeyword = new RequestDate("01-10-2018 10:00:00");
+        RequestDate secondPredicateKeyword = new RequestDate("03-10-2018 10:00:00");
 
         RequestDateSinglePredicate firstPredicate =
             new RequestDateSinglePredicate(firstPredicateKeyword);
@@ -51,15 +38,7 @@ public class RequestDateSinglePredicateTest {
 
     @Test
     public void test_dateContainsKeywords_returnsTrue() {
-        SimpleDateFormat sf = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
-
-        Date datePredicateKeyword = null;
-
-        try {
-            datePredicateKeyword = sf.parse("01-10-2018 10:00:00");
-        } catch (ParseException pE) {
-            assertFalse(true);
-        }
+        RequestDate datePredicateKeyword = new RequestDate("01-10-2018 10:00:00");
 
         // Exact match
         RequestDateSinglePredicate predicate = new RequestDateSinglePredicate(datePredicateKeyword);
@@ -68,15 +47,7 @@ public class RequestDateSinglePredicateTest {
 
     @Test
     public void test_dateDoesNotContainKeywords_returnsFalse() {
-        SimpleDateFormat sf = new SimpleDateFormat("dd-MM-yyyy HH:mm:ss");
-
-        Date datePredicateKeyword = null;
-
-        try {
-            datePredicateKeyword = sf.parse("01-10-2018 10:00:00");
-        } catch (ParseException pE) {
-            assertFalse(true);
-        }
+        RequestDate datePredicateKeyword = new RequestDate("01-10-2018 10:00:00");
 
         // Different date, same time
         RequestDateSinglePredicate predicate = new RequestDateSinglePredicate(datePredicateKeyword);
@@ -1,8 +1,11 @@
 package seedu.address.model.request;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.MonthDay;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -34,6 +37,8 @@ public class RequestDateTest {
         assertFalse(RequestDate.isValidDate("2018-12-10 10:00")); // wrong date format
         assertFalse(RequestDate.isValidDate("31-04-2018 01:00:00")); // invalid date value
         assertFalse(RequestDate.isValidDate("29-02-2018 00:00:00")); // invalid date value
+        assertFalse(RequestDate.isValidDate("01-10-2018 24:00:00")); // invalid time value
+        assertFalse(RequestDate.isValidDate("01-10-2018 10:00:00 PM")); // trailing text
 
         // valid date
         assertTrue(RequestDate.isValidDate("10-10-18 10:00:00"));
@@ -41,4 +46,32 @@ public class RequestDateTest {
         assertTrue(RequestDate.isValidDate("06-11-2018 06:00:00"));
         assertTrue(RequestDate.isValidDate("29-02-2016 00:00:00"));
     }
+
+    @Test
+    public void toString_roundTrips() {
+        assertEquals("06-11-2018 06:00:00", new RequestDate("06-11-2018 06:00:00").toString());
+        assertEquals("06-11-2018 06:00:00", new RequestDate("6-11-2018 6:00:00").toString());
+    }
+
+    @Test
+    public void getEpochDay_sameDay_sameBucket() {
+        RequestDate morning = new RequestDate("01-10-2018 00:00:00");
+        RequestDate night = new RequestDate("01-10-2018 23:59:59");
+        RequestDate nextDay = new RequestDate("02-10-2018 00:00:00");
+
+        assertEquals(morning.getEpochDay(), night.getEpochDay());
+        assertEquals(morning.getEpochDay() + 1, nextDay.getEpochDay());
+        assertEquals(MonthDay.of(10, 1), night.getMonthDay());
+    }
+
+    @Test
+    public void compareTo_ordersByTime() {
+        RequestDate earlier = new RequestDate("01-10-2018 09:59:59");
+        RequestDate later = new RequestDate("01-10-2018 10:00:00");
+
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(later.compareTo(earlier) > 0);
+        assertEquals(0, later.compareTo(new RequestDate("01-10-2018 10:00:00")));
+        assertEquals(later, new RequestDate("01-10-2018 10:00:00"));
+    }
 }
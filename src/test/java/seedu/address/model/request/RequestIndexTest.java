@@ -0,0 +1,146 @@
+package seedu.address.model.request;
+
+import static java.time.Duration.ofMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static seedu.address.testutil.TypicalOrders.ALICE;
+import static seedu.address.testutil.TypicalOrders.BENSON;
+import static seedu.address.testutil.TypicalOrders.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.model.RequestBook;
+import seedu.address.testutil.RequestBuilder;
+
+public class RequestIndexTest {
+
+    private static final int LARGE_REQUEST_COUNT = 100000;
+    private static final int QUERY_COUNT = 1000;
+    private static final long LARGE_FIND_TIMEOUT = 2000;
+
+    private final RequestIndex index = new RequestIndex();
+
+    @Test
+    public void find_byField_matchesPredicates() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+
+        assertFind(new RequestNameContainsKeywordPredicate("meier"), index.findByName("meier"));
+        assertFind(new RequestAddressContainsKeywordPredicate("jurong"), index.findByAddress("jurong"));
+        assertFind(new RequestConditionContainsKeywordPredicate("physio"), index.findByCondition("physio"));
+    }
+
+    @Test
+    public void find_byDate_matchesPredicates() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+        RequestDate first = new RequestDate("01-10-2018 10:00:00");
+        RequestDate second = new RequestDate("02-10-2018 10:00:00");
+
+        assertFind(new RequestDateSinglePredicate(first), index.findByDate(first));
+        assertFind(new RequestDateRangePredicate(first, second), index.findByDateRange(first, second));
+        assertEquals(2, index.findByDateRange(first, second).size());
+        assertTrue(index.findByDateRange(second, first).isEmpty());
+
+        index.remove(ALICE);
+        assertTrue(index.findByDate(first).isEmpty());
+    }
+
+    @Test
+    public void bind_indexedPredicate_acceptsSameRequests() {
+        Request unindexed = new RequestBuilder().withName("Alice Tan").build();
+        index.add(ALICE);
+        index.add(BENSON);
+
+        Predicate<Request> predicate = new RequestNameContainsKeywordPredicate("alice");
+        Predicate<Request> boundPredicate = index.bind(predicate);
+        assertTrue(boundPredicate.test(ALICE));
+        assertFalse(boundPredicate.test(BENSON));
+        // Requests not in the index are tested directly
+        assertTrue(boundPredicate.test(unindexed));
+
+        // The bound predicate follows changes to the index
+        index.add(unindexed);
+        index.remove(ALICE);
+        assertTrue(boundPredicate.test(unindexed));
+        assertTrue(boundPredicate.test(ALICE));
+    }
+
+    @Test
+    public void bind_chain_bindsEachPredicate() {
+        index.add(ALICE);
+        index.add(BENSON);
+        Predicate<Request> chain = new RequestQuery(Arrays.asList(
+            new RequestNameContainsKeywordPredicate("e"), new RequestPhoneContainsKeywordPredicate(
+                Arrays.asList(BENSON.getPhone().value))));
+
+        Predicate<Request> boundChain = index.bind(chain);
+        assertFalse(boundChain.test(ALICE));
+        assertTrue(boundChain.test(BENSON));
+    }
+
+    @Test
+    public void findByStatus_addAndRemove_partitionsFollow() {
+        Request ongoing = new RequestBuilder(BENSON).withStatus("ONGOING").build();
+        index.add(ALICE);
+        index.add(ongoing);
+        index.add(CARL);
+        assertEquals(2, index.countByStatus(new RequestStatus("PENDING")));
+        assertTrue(index.findByStatus(new RequestStatus("ONGOING")).contains(ongoing));
+        assertEquals(0, index.countByStatus(new RequestStatus("COMPLETED")));
+
+        index.remove(ongoing);
+        index.remove(CARL);
+        assertEquals(1, index.countByStatus(new RequestStatus("PENDING")));
+        assertTrue(index.findByStatus(new RequestStatus("ONGOING")).isEmpty());
+    }
+
+    @Test
+    public void bind_otherPredicate_returnsSamePredicate() {
+        Predicate<Request> predicate = request -> true;
+        assertTrue(index.bind(predicate) == predicate);
+    }
+
+    /**
+     * Verifies that {@code QUERY_COUNT} finds by name and address in a request book of {@code LARGE_REQUEST_COUNT}
+     * requests require lesser than {@code LARGE_FIND_TIMEOUT} milliseconds.
+     */
+    @Test
+    public void performanceTest() {
+        List<Request> requests = new ArrayList<>(LARGE_REQUEST_COUNT);
+        for (int i = 0; i < LARGE_REQUEST_COUNT; i++) {
+            requests.add(new RequestBuilder().withName("Patient " + i)
+                .withAddress("Blk " + i + " Jurong West Street 26, " + (100000 + i)).build());
+        }
+        RequestBook requestBook = new RequestBook();
+        requestBook.setRequests(requests);
+        RequestIndex requestIndex = requestBook.getRequestIndex();
+
+        assertTimeoutPreemptively(ofMillis(LARGE_FIND_TIMEOUT), () -> {
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                int patient = (i * (LARGE_REQUEST_COUNT / QUERY_COUNT) + 12345) % LARGE_REQUEST_COUNT;
+                assertTrue(requestIndex.findByName("patient " + patient).contains(requests.get(patient)));
+                assertEquals(1, requestIndex.findByAddress("blk " + patient + " ").size());
+            }
+        }, "Finding in a large request book exceeded time limit");
+    }
+
+    /**
+     * Asserts that {@code found} holds exactly the indexed typical requests accepted by {@code predicate}.
+     */
+    private void assertFind(Predicate<Request> predicate, Set<Request> found) {
+        for (Request request : Arrays.asList(ALICE, BENSON, CARL)) {
+            assertEquals(predicate.test(request), found.contains(request));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model.request;
+
+import static java.time.Duration.ofMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static seedu.address.testutil.TypicalOrders.ALICE;
+import static seedu.address.testutil.TypicalOrders.BENSON;
+import static seedu.address.testutil.TypicalOrders.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.RequestBook;
+import seedu.address.testutil.RequestBuilder;
+
+public class RequestPhoneStartsWithPredicateTest {
+    private static final int LARGE_REQUEST_COUNT = 100000;
+    private static final int QUERY_COUNT = 1000;
+    private static final long LARGE_LOOKUP_TIMEOUT = 200;
+
+    @Test
+    public void equals() {
+        RequestPhoneStartsWithPredicate firstPredicate = new RequestPhoneStartsWithPredicate("9435");
+        RequestPhoneStartsWithPredicate secondPredicate = new RequestPhoneStartsWithPredicate("9876");
+
+        // Same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // Same values -> returns true
+        assertTrue(firstPredicate.equals(new RequestPhoneStartsWithPredicate("9435")));
+
+        // Different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // Different prefix -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_phoneStartsWithPrefix_returnsTrue() {
+        assertTrue(new RequestPhoneStartsWithPredicate("9435").test(ALICE));
+        assertTrue(new RequestPhoneStartsWithPredicate(ALICE.getPhone().value).test(ALICE));
+    }
+
+    @Test
+    public void test_phoneContainsPrefixElsewhere_returnsFalse() {
+        assertFalse(new RequestPhoneStartsWithPredicate("1253").test(ALICE));
+        assertFalse(new RequestPhoneStartsWithPredicate(ALICE.getPhone().value + "0").test(ALICE));
+    }
+
+    @Test
+    public void findIn_prefixes_matchesTest() {
+        RequestIndex index = new RequestIndex();
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+
+        for (String prefix : Arrays.asList("9", "94", "9435", ALICE.getPhone().value, "95352563", "8", "")) {
+            RequestPhoneStartsWithPredicate predicate = new RequestPhoneStartsWithPredicate(prefix);
+            int count = 0;
+            for (Request request : Arrays.asList(ALICE, BENSON, CARL)) {
+                assertEquals(predicate.test(request), predicate.findIn(index).contains(request));
+                count += predicate.test(request) ? 1 : 0;
+            }
+            assertEquals(count, predicate.estimateCount(index));
+        }
+
+        index.remove(ALICE);
+        assertTrue(new RequestPhoneStartsWithPredicate("9435").findIn(index).isEmpty());
+    }
+
+    /**
+     * Verifies that {@code QUERY_COUNT} lookups of a whole phone number and of its first four digits, in a request
+     * book of {@code LARGE_REQUEST_COUNT} requests, require lesser than {@code LARGE_LOOKUP_TIMEOUT} milliseconds.
+     */
+    @Test
+    public void performanceTest() {
+        List<Request> requests = new ArrayList<>(LARGE_REQUEST_COUNT);
+        for (int i = 0; i < LARGE_REQUEST_COUNT; i++) {
+            requests.add(new RequestBuilder().withName("Patient " + i).withPhone(phoneOf(i)).build());
+        }
+        RequestBook requestBook = new RequestBook();
+        requestBook.setRequests(requests);
+        RequestIndex requestIndex = requestBook.getRequestIndex();
+
+        assertTimeoutPreemptively(ofMillis(LARGE_LOOKUP_TIMEOUT), () -> {
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                int patient = (i * (LARGE_REQUEST_COUNT / QUERY_COUNT) + 12345) % LARGE_REQUEST_COUNT;
+                String phone = phoneOf(patient);
+                assertTrue(requestIndex.findByPhonePrefix(phone).contains(requests.get(patient)));
+                assertEquals(1, requestIndex.estimateByPhonePrefix(phone));
+                assertEquals(10, requestIndex.estimateByPhonePrefix(phone.substring(0, phone.length() - 1)));
+            }
+        }, "Looking up phone numbers in a large request book exceeded time limit");
+    }
+
+    /**
+     * Returns the distinct eight digit phone number of the request at position {@code i}.
+     */
+    private static String phoneOf(int i) {
+        return String.valueOf(90000000 + i);
+    }
+}
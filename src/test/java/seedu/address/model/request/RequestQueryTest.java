@@ -0,0 +1,89 @@
+package seedu.address.model.request;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalOrders.ALICE;
+import static seedu.address.testutil.TypicalOrders.BENSON;
+import static seedu.address.testutil.TypicalOrders.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+public class RequestQueryTest {
+
+    private final RequestIndex index = new RequestIndex();
+
+    @Test
+    public void plan_indexedClauses_findsCandidatesByMostSelectiveClause() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+        Predicate<Request> statusClause =
+            new RequestStatusContainsKeywordPredicate(Collections.singletonList(new RequestStatus("PENDING")));
+        Predicate<Request> nameClause = new RequestNameContainsKeywordPredicate("alice");
+        RequestQuery query = new RequestQuery(Arrays.asList(statusClause, nameClause));
+
+        String plan = query.plan(index).toString();
+        assertTrue(plan.startsWith("Find candidates where " + nameClause));
+        assertTrue(plan.contains("Then filter where " + statusClause));
+        assertEquals(1, query.estimateCount(index));
+        assertFind(query, query.findIn(index));
+    }
+
+    @Test
+    public void plan_noIndexedClause_scansAllRequests() {
+        index.add(ALICE);
+        index.add(BENSON);
+        RequestQuery query = RequestQuery.of(request -> request.getName().fullName.startsWith("Alice"));
+
+        assertTrue(query.plan(index).toString().startsWith("Scan all 2 requests"));
+        assertFind(query, query.findIn(index));
+        assertTrue(index.bind(query) == query);
+    }
+
+    @Test
+    public void findIn_clausesOverSeveralFields_matchesTest() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+        RequestQuery query = new RequestQuery(Arrays.asList(
+            new RequestAddressContainsKeywordPredicate("street"),
+            new RequestPhoneContainsKeywordPredicate(Arrays.asList(BENSON.getPhone().value, CARL.getPhone().value)),
+            new RequestNameContainsKeywordPredicate("e")));
+
+        assertFind(query, query.findIn(index));
+    }
+
+    @Test
+    public void of_query_returnsSameQuery() {
+        RequestQuery query = new RequestQuery(Collections.singletonList(new RequestNameContainsKeywordPredicate("a")));
+        assertTrue(RequestQuery.of(query) == query);
+        assertEquals(query, RequestQuery.of(new RequestNameContainsKeywordPredicate("a")));
+    }
+
+    @Test
+    public void equals() {
+        RequestQuery query = new RequestQuery(Arrays.asList(
+            new RequestNameContainsKeywordPredicate("a"), new RequestConditionContainsKeywordPredicate("b")));
+
+        assertTrue(query.equals(new RequestQuery(Arrays.asList(
+            new RequestNameContainsKeywordPredicate("a"), new RequestConditionContainsKeywordPredicate("b")))));
+        assertFalse(query.equals(new RequestQuery(Arrays.asList(
+            new RequestNameContainsKeywordPredicate("a"), new RequestConditionContainsKeywordPredicate("c")))));
+        assertFalse(query.equals(null));
+    }
+
+    /**
+     * Asserts that {@code found} has exactly the requests in the index that {@code query} accepts.
+     */
+    private void assertFind(RequestQuery query, Set<Request> found) {
+        for (Request request : Arrays.asList(ALICE, BENSON, CARL)) {
+            assertEquals(index.contains(request) && query.test(request), found.contains(request));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.model.request;
+
+import static java.time.Duration.ofMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static seedu.address.testutil.TypicalOrders.ALICE;
+import static seedu.address.testutil.TypicalOrders.BENSON;
+import static seedu.address.testutil.TypicalOrders.CARL;
+import static seedu.address.testutil.TypicalOrders.FIONA;
+
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.testutil.RequestBuilder;
+
+public class RequestStatisticsTest {
+    private static final int LARGE_REQUEST_COUNT = 100000;
+    private static final int CHANGE_COUNT = 10000;
+    private static final long LARGE_CHANGES_TIMEOUT = 2000;
+
+    private final ObservableList<Request> requests = FXCollections.observableArrayList(ALICE, BENSON);
+    private final RequestStatistics statistics = new RequestStatistics(requests);
+
+    @Test
+    public void constructor_initialRequests_counted() {
+        assertEquals(2, statistics.getRequestCount());
+        assertEquals(2, statistics.getStatusCount(new RequestStatus("PENDING")));
+        assertEquals(2, statistics.getPendingCountInDistrict(ALICE.getAddress().getDistrict()));
+    }
+
+    @Test
+    public void listChanges_addAndRemove_countsFollow() {
+        AtomicInteger changeCount = new AtomicInteger();
+        statistics.addListener(changeCount::incrementAndGet);
+
+        requests.addAll(CARL, FIONA);
+        requests.remove(ALICE);
+        assertEquals(2, changeCount.get());
+
+        assertEquals(3, statistics.getRequestCount());
+        assertEquals(1, statistics.getStatusCount(new RequestStatus("COMPLETED")));
+        // FIONA is completed, so is not counted on the map
+        assertEquals(2, statistics.getPendingCountInDistrict(CARL.getAddress().getDistrict()));
+        assertEquals(Optional.of(new Condition("Physiotherapy")), statistics.getMostCommonCondition());
+        assertEquals(Arrays.asList(new Condition("Physiotherapy"), new Condition("Dialysis")),
+            statistics.getMostCommonConditions(2));
+        assertEquals(2, statistics.getConditionCount(new Condition("Physiotherapy")));
+
+        SortedMap<MonthDay, Integer> expectedDayCounts = new TreeMap<>();
+        expectedDayCounts.put(MonthDay.of(10, 1), 1);
+        expectedDayCounts.put(MonthDay.of(10, 2), 1);
+        expectedDayCounts.put(MonthDay.of(10, 3), 1);
+        assertEquals(expectedDayCounts, statistics.getLatestDayCounts(7));
+        expectedDayCounts.remove(MonthDay.of(10, 1));
+        assertEquals(expectedDayCounts, statistics.getLatestDayCounts(2));
+
+        requests.clear();
+        assertEquals(0, statistics.getRequestCount());
+        assertEquals(0, statistics.getPendingCountInDistrict(CARL.getAddress().getDistrict()));
+        assertEquals(Optional.empty(), statistics.getMostCommonCondition());
+        assertEquals(new TreeMap<>(), statistics.getLatestDayCounts(7));
+    }
+
+    @Test
+    public void listChanges_filter_countsFollowFilter() {
+        FilteredList<Request> filteredRequests = new FilteredList<>(FXCollections.observableArrayList(
+            Arrays.asList(ALICE, BENSON, CARL, FIONA)));
+        RequestStatistics filteredStatistics = new RequestStatistics(filteredRequests);
+
+        filteredRequests.setPredicate(request -> request.isCompleted());
+        assertEquals(1, filteredStatistics.getRequestCount());
+        assertEquals(1, filteredStatistics.getStatusCount(new RequestStatus("COMPLETED")));
+
+        filteredRequests.setPredicate(null);
+        assertEquals(4, filteredStatistics.getRequestCount());
+    }
+
+    /**
+     * Verifies that {@code CHANGE_COUNT} additions and removals of a request, in a list of
+     * {@code LARGE_REQUEST_COUNT} requests, require lesser than {@code LARGE_CHANGES_TIMEOUT} milliseconds.
+     */
+    @Test
+    public void performanceTest() {
+        List<Request> largeRequests = new ArrayList<>(LARGE_REQUEST_COUNT);
+        for (int i = 0; i < LARGE_REQUEST_COUNT; i++) {
+            largeRequests.add(new RequestBuilder().withName("Patient " + i).build());
+        }
+        ObservableList<Request> largeList = FXCollections.observableArrayList(largeRequests);
+        RequestStatistics largeStatistics = new RequestStatistics(largeList);
+        Request request = new RequestBuilder().withName("Another Patient").withStatus("ONGOING").build();
+
+        assertTimeoutPreemptively(ofMillis(LARGE_CHANGES_TIMEOUT), () -> {
+            for (int i = 0; i < CHANGE_COUNT; i++) {
+                largeList.add(request);
+                assertEquals(1, largeStatistics.getStatusCount(new RequestStatus("ONGOING")));
+                largeList.remove(largeList.size() - 1);
+            }
+        }, "Updating the statistics of a large request list exceeded time limit");
+        assertEquals(LARGE_REQUEST_COUNT, largeStatistics.getRequestCount());
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.model.request;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import seedu.address.testutil.RequestBuilder;
+
+public class RequestStatusCountsTest {
+
+    private final RequestStatusCounts statusCounts = new RequestStatusCounts();
+
+    @Test
+    public void addAndRemove_requests_countsUpdated() {
+        Request pending = new RequestBuilder().withStatus("PENDING").build();
+        Request ongoing = new RequestBuilder().withName("Benson Meier").withStatus("ONGOING").build();
+        statusCounts.add(pending);
+        statusCounts.add(ongoing);
+        statusCounts.add(new RequestBuilder().withName("Carl Kurz").withStatus("PENDING").build());
+        assertEquals(2, statusCounts.getCount(new RequestStatus("PENDING")));
+        assertEquals(1, statusCounts.getCount(new RequestStatus("ONGOING")));
+        assertEquals(0, statusCounts.getCount(new RequestStatus("COMPLETED")));
+        assertEquals(3, statusCounts.getTotal());
+
+        statusCounts.remove(pending);
+        statusCounts.remove(ongoing);
+        statusCounts.remove(ongoing);
+        assertEquals(1, statusCounts.getCount(new RequestStatus("PENDING")));
+        assertEquals(0, statusCounts.getCount(new RequestStatus("ONGOING")));
+        assertEquals(1, statusCounts.getTotal());
+    }
+}
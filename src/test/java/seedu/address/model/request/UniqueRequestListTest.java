@@ -1,16 +1,21 @@
 package seedu.address.model.request;
 
+import static java.time.Duration.ofMillis;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_FOOD_BURGER;
 import static seedu.address.testutil.TypicalOrders.ALICE;
 import static seedu.address.testutil.TypicalOrders.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -22,6 +27,9 @@ import seedu.address.testutil.RequestBuilder;
 
 public class UniqueRequestListTest {
 
+    private static final int LARGE_REQUEST_COUNT = 100000;
+    private static final long LARGE_LIST_OPERATIONS_TIMEOUT = 2500;
+
     private final UniqueRequestList uniqueRequestList = new UniqueRequestList();
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -51,6 +59,39 @@ public class UniqueRequestListTest {
         assertTrue(uniqueRequestList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_orderWithDifferentCaseName_returnsTrue() {
+        uniqueRequestList.add(ALICE);
+        Request upperCaseAlice = new RequestBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase())
+            .build();
+        assertTrue(uniqueRequestList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void getByTag_taggedOrderInList_returnsOrder() {
+        Request taggedAlice = new RequestBuilder(ALICE).withId(UUID.randomUUID().toString()).build();
+        uniqueRequestList.add(taggedAlice);
+        assertEquals(Optional.of(taggedAlice), uniqueRequestList.getByTag(taggedAlice.getTag()));
+    }
+
+    @Test
+    public void getByTag_removedOrder_returnsEmpty() {
+        Request taggedAlice = new RequestBuilder(ALICE).withId(UUID.randomUUID().toString()).build();
+        uniqueRequestList.add(taggedAlice);
+        uniqueRequestList.remove(taggedAlice);
+        assertEquals(Optional.empty(), uniqueRequestList.getByTag(taggedAlice.getTag()));
+    }
+
+    @Test
+    public void getByTag_replacedOrder_returnsEditedOrder() {
+        Request taggedAlice = new RequestBuilder(ALICE).withId(UUID.randomUUID().toString()).build();
+        Request taggedBob = new RequestBuilder(BOB).withId(UUID.randomUUID().toString()).build();
+        uniqueRequestList.add(taggedAlice);
+        uniqueRequestList.setRequest(taggedAlice, taggedBob);
+        assertEquals(Optional.empty(), uniqueRequestList.getByTag(taggedAlice.getTag()));
+        assertEquals(Optional.of(taggedBob), uniqueRequestList.getByTag(taggedBob.getTag()));
+    }
+
     @Test
     public void add_nullOrder_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -131,6 +172,14 @@ public class UniqueRequestListTest {
         uniqueRequestList.remove(ALICE);
     }
 
+    @Test
+    public void remove_orderWithSameIdentityButDifferentFields_throwsOrderNotFoundException() {
+        uniqueRequestList.add(ALICE);
+        Request editedAlice = new RequestBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        thrown.expect(RequestNotFoundException.class);
+        uniqueRequestList.remove(editedAlice);
+    }
+
     @Test
     public void remove_existingOrder_removesOrder() {
         uniqueRequestList.add(ALICE);
@@ -177,6 +226,44 @@ public class UniqueRequestListTest {
         uniqueRequestList.setRequest(listWithDuplicatePersons);
     }
 
+    @Test
+    public void setOrder_listThenAdd_indexesStayInSync() {
+        uniqueRequestList.setRequest(Collections.singletonList(ALICE));
+        thrown.expect(DuplicateRequestException.class);
+        uniqueRequestList.add(ALICE);
+    }
+
+    /**
+     * Verifies that replacing the list with {@code LARGE_REQUEST_COUNT} requests and then checking, adding and
+     * removing against it requires lesser than {@code LARGE_LIST_OPERATIONS_TIMEOUT} milliseconds.
+     * The previous pairwise uniqueness check needed billions of comparisons at this size.
+     */
+    @Test
+    public void performanceTest() {
+        List<Request> requests = createRequests(LARGE_REQUEST_COUNT);
+        Request extraRequest = new RequestBuilder().withName("Extra Patient").build();
+
+        assertTimeoutPreemptively(ofMillis(LARGE_LIST_OPERATIONS_TIMEOUT), () -> {
+            uniqueRequestList.setRequest(requests);
+            for (Request request : requests) {
+                assertTrue(uniqueRequestList.contains(request));
+            }
+            uniqueRequestList.add(extraRequest);
+            uniqueRequestList.remove(extraRequest);
+        }, "Operations on a large request list exceeded time limit");
+    }
+
+    /**
+     * Returns {@code count} requests with distinct identities.
+     */
+    private List<Request> createRequests(int count) {
+        List<Request> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(new RequestBuilder().withName("Patient " + i).build());
+        }
+        return requests;
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
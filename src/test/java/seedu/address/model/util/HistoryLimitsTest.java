@@ -0,0 +1,23 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class HistoryLimitsTest {
+
+    @Test
+    public void constructor_invalidLimits_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new HistoryLimits(-1, 1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new HistoryLimits(0, 0));
+    }
+
+    @Test
+    public void isMemoryBounded() {
+        assertFalse(HistoryLimits.UNLIMITED.isMemoryBounded());
+        assertTrue(new HistoryLimits(0, 1).isMemoryBounded());
+    }
+}
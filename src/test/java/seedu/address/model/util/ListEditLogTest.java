@@ -0,0 +1,278 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ListEditLogTest {
+
+    private static final ElementCodec<String> STRING_CODEC = new ElementCodec<String>() {
+        @Override
+        public void write(DataOutput out, String element) throws IOException {
+            out.writeUTF(element);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    };
+
+    private final ObservableList<String> backingList = FXCollections.observableArrayList("a", "b", "c");
+    private final ListEditLog<String> editLog = new ListEditLog<>(
+        FXCollections.unmodifiableObservableList(backingList), this::splice);
+
+    @Test
+    public void commit_noEdits_emptyStateSaved() {
+        editLog.commit();
+        assertTrue(editLog.canUndo());
+        assertFalse(editLog.canRedo());
+
+        editLog.undo();
+        assertEquals(Arrays.asList("a", "b", "c"), backingList);
+    }
+
+    @Test
+    public void undoRedo_returnsInsertedElements() {
+        backingList.set(1, "x");
+        backingList.add("y");
+        editLog.commit();
+
+        assertEquals(Collections.singletonList("b"), editLog.undo());
+        assertEquals(Arrays.asList("x", "y"), editLog.redo());
+    }
+
+    @Test
+    public void undoRedo_singleEdits_restoresEachState() {
+        backingList.add("d");
+        editLog.commit();
+        backingList.set(1, "x");
+        editLog.commit();
+        backingList.remove(0);
+        editLog.commit();
+        assertEquals(Arrays.asList("x", "c", "d"), backingList);
+
+        editLog.undo();
+        assertEquals(Arrays.asList("a", "x", "c", "d"), backingList);
+        editLog.undo();
+        assertEquals(Arrays.asList("a", "b", "c", "d"), backingList);
+        editLog.undo();
+        assertEquals(Arrays.asList("a", "b", "c"), backingList);
+        assertFalse(editLog.canUndo());
+
+        editLog.redo();
+        editLog.redo();
+        editLog.redo();
+        assertEquals(Arrays.asList("x", "c", "d"), backingList);
+        assertFalse(editLog.canRedo());
+    }
+
+    @Test
+    public void undoRedo_multipleEditsInOneCommit_restoresWholeState() {
+        backingList.add("d");
+        backingList.remove("a");
+        backingList.set(0, "y");
+        editLog.commit();
+
+        editLog.undo();
+        assertEquals(Arrays.asList("a", "b", "c"), backingList);
+        editLog.redo();
+        assertEquals(Arrays.asList("y", "c", "d"), backingList);
+    }
+
+    @Test
+    public void undo_setAll_restoresPreviousContents() {
+        backingList.setAll("p", "q");
+        editLog.commit();
+
+        editLog.undo();
+        assertEquals(Arrays.asList("a", "b", "c"), backingList);
+    }
+
+    @Test
+    public void undo_uncommittedEdits_discardsThem() {
+        backingList.add("d");
+        editLog.commit();
+        backingList.add("e");
+
+        editLog.undo();
+        assertEquals(Arrays.asList("a", "b", "c"), backingList);
+        editLog.redo();
+        assertEquals(Arrays.asList("a", "b", "c", "d"), backingList);
+    }
+
+    @Test
+    public void commit_afterUndo_discardsUndoneStates() {
+        backingList.add("d");
+        editLog.commit();
+        editLog.undo();
+
+        backingList.add("e");
+        editLog.commit();
+        assertFalse(editLog.canRedo());
+
+        editLog.undo();
+        assertEquals(Arrays.asList("a", "b", "c"), backingList);
+        editLog.redo();
+        assertEquals(Arrays.asList("a", "b", "c", "e"), backingList);
+    }
+
+    @Test
+    public void undo_replacedElement_splicesOnlyThatPosition() {
+        backingList.set(1, "x");
+        editLog.commit();
+
+        List<String> changes = new ArrayList<>();
+        backingList.addListener((ListChangeListener.Change<? extends String> change) -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemoved() + "->" + change.getAddedSubList());
+            }
+        });
+        editLog.undo();
+        assertEquals(Collections.singletonList("1:[x]->[b]"), changes);
+    }
+
+    @Test
+    public void undoRedo_historySpilledToDisk_restoresEachState() {
+        ListEditLog<String> spillingLog = new ListEditLog<>(backingList, this::splice, STRING_CODEC,
+            new HistoryLimits(0, 10));
+        backingList.add("d");
+        spillingLog.commit();
+        backingList.set(0, "x");
+        spillingLog.commit();
+        assertEquals(2, spillingLog.getSpilledCount());
+        assertEquals(0, spillingLog.getInMemoryBytes());
+
+        spillingLog.undo();
+        assertEquals(Arrays.asList("a", "b", "c", "d"), backingList);
+        spillingLog.undo();
+        assertEquals(Arrays.asList("a", "b", "c"), backingList);
+        spillingLog.redo();
+        spillingLog.redo();
+        assertEquals(Arrays.asList("x", "b", "c", "d"), backingList);
+    }
+
+    @Test
+    public void commit_afterUndoingSpilledHistory_discardsUndoneStates() {
+        ListEditLog<String> spillingLog = new ListEditLog<>(backingList, this::splice, STRING_CODEC,
+            new HistoryLimits(0, 10));
+        backingList.add("d");
+        spillingLog.commit();
+        backingList.add("e");
+        spillingLog.commit();
+        spillingLog.undo();
+        spillingLog.undo();
+
+        backingList.add("f");
+        spillingLog.commit();
+        assertFalse(spillingLog.canRedo());
+        assertEquals(1, spillingLog.getSpilledCount());
+
+        spillingLog.undo();
+        assertEquals(Arrays.asList("a", "b", "c"), backingList);
+        spillingLog.redo();
+        assertEquals(Arrays.asList("a", "b", "c", "f"), backingList);
+    }
+
+    @Test
+    public void commit_beyondMaxDepth_forgetsOldestStates() {
+        ListEditLog<String> boundedLog = new ListEditLog<>(backingList, this::splice, STRING_CODEC,
+            new HistoryLimits(Long.MAX_VALUE, 2));
+        backingList.add("d");
+        boundedLog.commit();
+        backingList.add("e");
+        boundedLog.commit();
+        backingList.add("f");
+        boundedLog.commit();
+
+        boundedLog.undo();
+        boundedLog.undo();
+        assertFalse(boundedLog.canUndo());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), backingList);
+    }
+
+    @Test
+    public void commit_longSession_memoryStaysWithinBudget() {
+        long budget = 1024;
+        ListEditLog<String> boundedLog = new ListEditLog<>(backingList, this::splice, STRING_CODEC,
+            new HistoryLimits(budget, 200));
+        for (int i = 0; i < 5000; i++) {
+            backingList.set(i % backingList.size(), "item " + i);
+            if (i % 7 == 0) {
+                backingList.add("added " + i);
+            }
+            boundedLog.commit();
+            assertTrue(boundedLog.getInMemoryBytes() <= budget);
+        }
+        List<String> finalState = new ArrayList<>(backingList);
+
+        for (int i = 0; i < 200; i++) {
+            boundedLog.undo();
+        }
+        assertFalse(boundedLog.canUndo());
+        for (int i = 0; i < 200; i++) {
+            boundedLog.redo();
+        }
+        assertEquals(finalState, backingList);
+    }
+
+    @Test
+    public void equals_spilledHistory_comparesEdits() {
+        ListEditLog<String> spillingLog = new ListEditLog<>(backingList, this::splice, STRING_CODEC,
+            new HistoryLimits(0, 10));
+        backingList.add("d");
+        editLog.commit();
+        spillingLog.commit();
+
+        assertTrue(spillingLog.equals(editLog));
+    }
+
+    @Test
+    public void equals() {
+        backingList.add("d");
+        editLog.commit();
+
+        ObservableList<String> otherBackingList = FXCollections.observableArrayList("a", "b", "c");
+        ListEditLog<String> otherLog = new ListEditLog<>(otherBackingList, (from, removeCount, inserted) -> { });
+        otherBackingList.add("d");
+
+        // same object -> returns true
+        assertTrue(editLog.equals(editLog));
+
+        // null -> returns false
+        assertFalse(editLog.equals(null));
+
+        // uncommitted edit -> returns false
+        assertFalse(editLog.equals(otherLog));
+
+        // same edits and pointer -> returns true
+        otherLog.commit();
+        assertTrue(editLog.equals(otherLog));
+    }
+
+    /**
+     * Replaces a range of {@code backingList}, as the unique lists do.
+     */
+    private void splice(int from, int removeCount, List<String> inserted) {
+        if (removeCount == 1 && inserted.size() == 1) {
+            backingList.set(from, inserted.get(0));
+            return;
+        }
+        backingList.remove(from, from + removeCount);
+        backingList.addAll(from, inserted);
+    }
+}
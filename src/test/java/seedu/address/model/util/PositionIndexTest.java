@@ -0,0 +1,112 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PositionIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<String> list = new ArrayList<>();
+    private final PositionIndex<String> positionIndex = new PositionIndex<>(list);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new PositionIndex<String>(null);
+    }
+
+    @Test
+    public void positionOf_elementNotInList_returnsMinusOne() {
+        append("a");
+        assertEquals(-1, positionIndex.positionOf("b"));
+    }
+
+    @Test
+    public void positionOf_equalElementNotInList_returnsMinusOne() {
+        append("a");
+        assertEquals(-1, positionIndex.positionOf(new String("a")));
+    }
+
+    @Test
+    public void positionOf_afterRemoval_returnsShiftedPosition() {
+        String a = "a";
+        String b = "b";
+        String c = "c";
+        append(a);
+        append(b);
+        append(c);
+
+        list.remove(0);
+        positionIndex.spliced(0, Collections.singletonList(a));
+        assertEquals(-1, positionIndex.positionOf(a));
+        assertEquals(0, positionIndex.positionOf(b));
+        assertEquals(1, positionIndex.positionOf(c));
+    }
+
+    @Test
+    public void positionOf_afterReset_returnsNewPositions() {
+        append("a");
+        list.clear();
+        list.addAll(Arrays.asList("b", "c"));
+        positionIndex.reset();
+        assertEquals(-1, positionIndex.positionOf("a"));
+        assertEquals(1, positionIndex.positionOf("c"));
+    }
+
+    @Test
+    public void positionOf_randomChanges_matchesScan() {
+        Random random = new Random(1);
+        for (int i = 0; i < 3000; i++) {
+            int choice = random.nextInt(4);
+            if (list.isEmpty() || choice == 0) {
+                append(new String("e"));
+            } else if (choice == 1) {
+                int position = random.nextInt(list.size());
+                String element = new String("e");
+                positionIndex.replaced(position, list.get(position), element);
+                list.set(position, element);
+            } else {
+                int from = random.nextInt(list.size());
+                List<String> removed = list.subList(from, from + random.nextInt(Math.min(3, list.size() - from) + 1));
+                positionIndex.spliced(from, removed);
+                removed.clear();
+                if (choice == 3) {
+                    list.add(from, new String("e"));
+                }
+            }
+
+            String checked = list.isEmpty() ? "e" : list.get(random.nextInt(list.size()));
+            assertEquals(scan(checked), positionIndex.positionOf(checked));
+        }
+    }
+
+    /**
+     * Appends {@code element} to the list and records it in the index.
+     */
+    private void append(String element) {
+        list.add(element);
+        positionIndex.appended(element);
+    }
+
+    /**
+     * Returns the position of {@code element} in the list, comparing by reference, or -1.
+     */
+    private int scan(String element) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class PostalDistrictUtilTest {
+
+    @Test
+    public void getDistrict() {
+        assertEquals(1, PostalDistrictUtil.getDistrict("018956"));
+        assertEquals(17, PostalDistrictUtil.getDistrict("819663"));
+        assertEquals(28, PostalDistrictUtil.getDistrict("800100"));
+
+        // sectors in no district
+        assertEquals(PostalDistrictUtil.NO_DISTRICT, PostalDistrictUtil.getDistrict("000000"));
+        assertEquals(PostalDistrictUtil.NO_DISTRICT, PostalDistrictUtil.getDistrict("740000"));
+        assertEquals(PostalDistrictUtil.NO_DISTRICT, PostalDistrictUtil.getDistrict("990000"));
+    }
+
+    @Test
+    public void getDistrictCount() {
+        assertEquals(28, PostalDistrictUtil.getDistrictCount());
+    }
+
+    @Test
+    public void getDistrictOfSector_outOfRange_noDistrict() {
+        assertEquals(PostalDistrictUtil.NO_DISTRICT, PostalDistrictUtil.getDistrictOfSector(-1));
+        assertEquals(PostalDistrictUtil.NO_DISTRICT, PostalDistrictUtil.getDistrictOfSector(100));
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TrigramIndexTest {
+
+    private static final String ALPHABET = "abcAB ";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TrigramIndex<List<String>> index = new TrigramIndex<>(texts -> texts);
+
+    @Test
+    public void find_turkishDefaultLocale_lowerCasesInRootLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            List<String> ida = Collections.singletonList("IDA MUELLER");
+            index.add(ida);
+            assertEquals(set(ida), index.find("ida"));
+            assertEquals(1, index.estimate("ida"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void find_keywordInText_found() {
+        List<String> alice = Collections.singletonList("Alice Pauline");
+        List<String> benson = Arrays.asList("Benson Meier", "Pauline Street");
+        index.add(alice);
+        index.add(benson);
+
+        assertEquals(set(alice, benson), index.find("pauline"));
+        assertEquals(set(alice), index.find("ce pa"));
+        assertEquals(set(benson), index.find("meier"));
+        assertEquals(set(alice, benson), index.find("e")); // shorter than a trigram
+        assertEquals(set(), index.find("paulines"));
+    }
+
+    @Test
+    public void find_allTrigramsButNotKeyword_notFound() {
+        index.add(Collections.singletonList("abcd bcde"));
+        assertEquals(set(), index.find("abcde"));
+    }
+
+    @Test
+    public void find_equalValues_toldApartByIdentity() {
+        List<String> first = Collections.singletonList("Alice");
+        List<String> second = Collections.singletonList("Alice");
+        index.add(first);
+        index.add(second);
+        index.remove(first);
+
+        assertFalse(index.contains(first));
+        assertTrue(index.contains(second));
+        assertEquals(1, index.find("alice").size());
+    }
+
+    @Test
+    public void remove_value_notFound() {
+        List<String> alice = Collections.singletonList("Alice");
+        index.add(alice);
+        index.remove(alice);
+        index.remove(alice);
+
+        assertEquals(0, index.size());
+        assertEquals(set(), index.find("alice"));
+    }
+
+    @Test
+    public void clear_values_notFound() {
+        index.add(Collections.singletonList("Alice"));
+        index.clear();
+
+        assertEquals(0, index.size());
+        assertEquals(set(), index.find("alice"));
+    }
+
+    @Test
+    public void find_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        index.find(null);
+    }
+
+    @Test
+    public void find_randomTexts_agreesWithContains() {
+        Random random = new Random(0);
+        List<List<String>> values = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            List<String> value = Arrays.asList(randomString(random, 12), randomString(random, 6));
+            values.add(value);
+            index.add(value);
+        }
+        // Removes some values, so that posting lists are edited
+        for (int i = 0; i < values.size(); i += 3) {
+            index.remove(values.get(i));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String keyword = randomString(random, 5).toLowerCase();
+            int expectedCount = 0;
+            for (int j = 0; j < values.size(); j++) {
+                if (j % 3 != 0 && (values.get(j).get(0).toLowerCase().contains(keyword)
+                        || values.get(j).get(1).toLowerCase().contains(keyword))) {
+                    expectedCount++;
+                    assertTrue(index.find(keyword).contains(values.get(j)));
+                }
+            }
+            assertEquals(expectedCount, index.find(keyword).size());
+        }
+    }
+
+    /**
+     * Returns a string of 1 to {@code maxLength} characters from {@code ALPHABET}.
+     */
+    private static String randomString(Random random, int maxLength) {
+        StringBuilder builder = new StringBuilder();
+        int length = 1 + random.nextInt(maxLength);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    @SafeVarargs
+    private static Set<List<String>> set(List<String>... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+}
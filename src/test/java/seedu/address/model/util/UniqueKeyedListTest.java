@@ -0,0 +1,161 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class UniqueKeyedListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueKeyedList<String, String> uniqueKeyedList = createList();
+
+    @Test
+    public void constructor_nullKeyExtractor_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new UniqueKeyedList<String, String>(null, IllegalStateException::new, NoSuchElementException::new);
+    }
+
+    @Test
+    public void contains_elementWithSameKeyInList_returnsTrue() {
+        uniqueKeyedList.add("Alice");
+        assertTrue(uniqueKeyedList.contains("ALICE"));
+    }
+
+    @Test
+    public void contains_elementNotInList_returnsFalse() {
+        assertFalse(uniqueKeyedList.contains("Alice"));
+    }
+
+    @Test
+    public void get_keyInList_returnsElement() {
+        uniqueKeyedList.add("Alice");
+        assertEquals(Optional.of("Alice"), uniqueKeyedList.get("alice"));
+        assertEquals(Optional.empty(), uniqueKeyedList.get("bob"));
+    }
+
+    @Test
+    public void add_duplicateKey_throwsSuppliedException() {
+        uniqueKeyedList.add("Alice");
+        thrown.expect(IllegalStateException.class);
+        uniqueKeyedList.add("alice");
+    }
+
+    @Test
+    public void set_targetNotInList_throwsSuppliedException() {
+        thrown.expect(NoSuchElementException.class);
+        uniqueKeyedList.set("Alice", "Bob");
+    }
+
+    @Test
+    public void set_targetWithSameKeyButNotEqual_throwsSuppliedException() {
+        uniqueKeyedList.add("Alice");
+        thrown.expect(NoSuchElementException.class);
+        uniqueKeyedList.set("ALICE", "Bob");
+    }
+
+    @Test
+    public void set_editedHasSameKey_success() {
+        uniqueKeyedList.add("Alice");
+        uniqueKeyedList.set("Alice", "ALICE");
+        assertEquals(Collections.singletonList("ALICE"), uniqueKeyedList.asUnmodifiableObservableList());
+        assertEquals(Optional.of("ALICE"), uniqueKeyedList.get("alice"));
+    }
+
+    @Test
+    public void set_editedHasDifferentKey_updatesIndex() {
+        uniqueKeyedList.add("Alice");
+        uniqueKeyedList.add("Carl");
+        uniqueKeyedList.set("Alice", "Bob");
+        assertEquals(Arrays.asList("Bob", "Carl"), uniqueKeyedList.asUnmodifiableObservableList());
+        assertFalse(uniqueKeyedList.contains("Alice"));
+        assertTrue(uniqueKeyedList.contains("Bob"));
+    }
+
+    @Test
+    public void set_editedHasKeyOfAnotherElement_throwsSuppliedException() {
+        uniqueKeyedList.add("Alice");
+        uniqueKeyedList.add("Bob");
+        thrown.expect(IllegalStateException.class);
+        uniqueKeyedList.set("Alice", "bob");
+    }
+
+    @Test
+    public void remove_existingElement_removesElementAndKey() {
+        uniqueKeyedList.add("Alice");
+        uniqueKeyedList.remove("Alice");
+        assertTrue(uniqueKeyedList.asUnmodifiableObservableList().isEmpty());
+        assertFalse(uniqueKeyedList.contains("Alice"));
+    }
+
+    @Test
+    public void setAndRemove_afterRemovingEarlierElements_replacesAndRemovesRightElements() {
+        uniqueKeyedList.add("Alice");
+        uniqueKeyedList.add("Bob");
+        uniqueKeyedList.add("Carl");
+        uniqueKeyedList.add("Dan");
+        uniqueKeyedList.remove("Alice");
+
+        uniqueKeyedList.set("Carl", "Carol");
+        uniqueKeyedList.remove("Bob");
+        assertEquals(Arrays.asList("Carol", "Dan"), uniqueKeyedList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_elementNotInList_throwsSuppliedException() {
+        thrown.expect(NoSuchElementException.class);
+        uniqueKeyedList.remove("Alice");
+    }
+
+    @Test
+    public void setAll_listWithDuplicateKeys_throwsSuppliedExceptionAndKeepsContents() {
+        uniqueKeyedList.add("Carl");
+        try {
+            uniqueKeyedList.setAll(Arrays.asList("Alice", "ALICE"));
+        } catch (IllegalStateException e) {
+            assertEquals(Collections.singletonList("Carl"), uniqueKeyedList.asUnmodifiableObservableList());
+            assertTrue(uniqueKeyedList.contains("Carl"));
+            return;
+        }
+        throw new AssertionError("Expected duplicate keys to be rejected");
+    }
+
+    @Test
+    public void setAll_list_replacesContentsAndIndex() {
+        uniqueKeyedList.add("Carl");
+        uniqueKeyedList.setAll(Arrays.asList("Alice", "Bob"));
+        assertEquals(Arrays.asList("Alice", "Bob"), uniqueKeyedList.asUnmodifiableObservableList());
+        assertFalse(uniqueKeyedList.contains("Carl"));
+        assertTrue(uniqueKeyedList.contains("bob"));
+    }
+
+    @Test
+    public void setAll_uniqueKeyedList_replacesContentsAndIndex() {
+        UniqueKeyedList<String, String> replacement = createList();
+        replacement.add("Bob");
+        uniqueKeyedList.add("Alice");
+        uniqueKeyedList.setAll(replacement);
+        assertEquals(replacement, uniqueKeyedList);
+        assertTrue(uniqueKeyedList.contains("bob"));
+        assertFalse(uniqueKeyedList.contains("alice"));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        uniqueKeyedList.asUnmodifiableObservableList().add("Alice");
+    }
+
+    private static UniqueKeyedList<String, String> createList() {
+        return new UniqueKeyedList<>(String::toLowerCase, IllegalStateException::new, NoSuchElementException::new);
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.common.Name;
+import seedu.address.model.request.Condition;
+
+public class WeakInternerTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<String> createdFrom = new ArrayList<>();
+    private final WeakInterner<Condition> interner = new WeakInterner<>(string -> {
+        createdFrom.add(string);
+        return new Condition(string);
+    });
+
+    @Test
+    public void intern_sameString_sameInstanceCreatedOnce() {
+        Condition condition = interner.intern("Dialysis");
+        assertSame(condition, interner.intern(new String("Dialysis")));
+        assertEquals(1, createdFrom.size());
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_invalidString_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        interner.intern("!!");
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        interner.intern(null);
+    }
+
+    @Test
+    public void intern_unusedValue_droppedAfterCollection() throws InterruptedException {
+        interner.intern("Dialysis");
+        for (int i = 0; i < 50 && interner.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void of_namesDifferingInCase_notShared() {
+        Name name = Name.of("Alice Pauline");
+        assertSame(name, Name.of("Alice Pauline"));
+        assertNotSame(name, Name.of("alice pauline"));
+        assertEquals("alice pauline", Name.of("alice pauline").fullName);
+    }
+}
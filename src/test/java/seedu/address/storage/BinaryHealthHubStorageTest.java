@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static java.time.Duration.ofMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static seedu.address.testutil.TypicalDeliverymen.getTypicalDeliverymenList;
+import static seedu.address.testutil.TypicalOrders.getTypicalOrderBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.RequestBook;
+import seedu.address.model.healthworker.Healthworker;
+import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.model.request.Request;
+import seedu.address.testutil.DeliverymanBuilder;
+import seedu.address.testutil.RequestBuilder;
+
+public class BinaryHealthHubStorageTest {
+    private static final Path TYPICAL_HEALTHHUB_FILE = Paths.get("src", "test", "data", "XmlHealthHubTest",
+        "typicalHealthHub.xml");
+    private static final String NG_WEI_LING_ID = "5b0c3f6e-2a1d-4c8e-9f4b-7d2e6a1c9b30";
+    private static final int LARGE_REQUEST_COUNT = 20000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readHealthHub_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryHealthHubStorage(getTempFilePath("missing.bin")).readHealthHub().isPresent());
+    }
+
+    @Test
+    public void readHealthHub_xmlFile_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new BinaryHealthHubStorage(TYPICAL_HEALTHHUB_FILE).readHealthHub();
+    }
+
+    @Test
+    public void readHealthHub_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path file = getTempFilePath("future.bin");
+        Files.write(file, ByteBuffer.allocate(6).putInt(BinaryHealthHubStorage.MAGIC_NUMBER)
+            .putShort((short) (BinaryHealthHubStorage.FORMAT_VERSION + 1)).array());
+
+        thrown.expect(DataConversionException.class);
+        new BinaryHealthHubStorage(file).readHealthHub();
+    }
+
+    @Test
+    public void readHealthHub_truncatedFile_throwsDataConversionException() throws Exception {
+        Path file = getTempFilePath("truncated.bin");
+        BinaryHealthHubStorage storage = new BinaryHealthHubStorage(file);
+        storage.saveHealthHub(getTypicalOrderBook(), getTypicalDeliverymenList());
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+        thrown.expect(DataConversionException.class);
+        storage.readHealthHub();
+    }
+
+    @Test
+    public void readSave_allInOrder_success() throws Exception {
+        Path file = getTempFilePath("healthhub.bin");
+        BinaryHealthHubStorage storage = new BinaryHealthHubStorage(file);
+        RequestBook original = getTypicalOrderBook();
+        HealthworkerList healthworkerList = getTypicalDeliverymenList();
+
+        // Save in new file and read back
+        storage.saveHealthHub(original, healthworkerList);
+        assertTrue(BinaryHealthHubStorage.isBinaryFile(file));
+        HealthHubData readBack = storage.readHealthHub().get();
+        assertEquals(original, new RequestBook(readBack.getRequestBook()));
+        assertEquals(healthworkerList, readBack.getHealthworkerList());
+
+        // Modify data, overwrite existing file, and read back
+        Request request = original.getRequestList().get(0);
+        healthworkerList.addDeliveryman(new DeliverymanBuilder().withName("Ng Wei Ling").withId(NG_WEI_LING_ID)
+            .withOrder(request).build());
+        original.removeRequest(original.getRequestList().get(1));
+        storage.saveHealthHub(original, healthworkerList);
+        assertEquals(original, storage.readRequestBook().get());
+        assertEquals(healthworkerList, storage.readHealthworkerList().get());
+    }
+
+    @Test
+    public void readHealthHub_assignedRequests_sameAsRequestBook() throws Exception {
+        Path file = getTempFilePath("healthhub.bin");
+        RequestBook requestBook = getTypicalOrderBook();
+        Healthworker healthworker = new DeliverymanBuilder().withName("Ng Wei Ling").withId(NG_WEI_LING_ID)
+            .withOrder(requestBook.getRequestList().get(2)).build();
+        HealthworkerList healthworkerList = new HealthworkerList();
+        healthworkerList.addDeliveryman(healthworker);
+        new BinaryHealthHubStorage(file).saveHealthHub(requestBook, healthworkerList);
+
+        HealthHubData data = new BinaryHealthHubStorage(file).readHealthHub().get();
+        Healthworker readHealthworker = data.getHealthworkerList().getDeliverymenList().get(0);
+        assertSame(data.getRequestBook().getRequestList().get(2), readHealthworker.getRequests().iterator().next());
+    }
+
+    @Test
+    public void saveHealthHub_largeRequestBook_muchSmallerThanXml() throws Exception {
+        RequestBook requestBook = getLargeRequestBook();
+        Path xmlFile = getTempFilePath("large.xml");
+        Path binaryFile = getTempFilePath("large.bin");
+        new XmlHealthHubStorage(xmlFile).saveHealthHub(requestBook, new HealthworkerList());
+        new BinaryHealthHubStorage(binaryFile).saveHealthHub(requestBook, new HealthworkerList());
+
+        assertTrue(Files.size(binaryFile) * 5 < Files.size(xmlFile));
+    }
+
+    @Test
+    public void performanceTest() throws Exception {
+        RequestBook requestBook = getLargeRequestBook();
+        Path file = getTempFilePath("large.bin");
+        BinaryHealthHubStorage storage = new BinaryHealthHubStorage(file);
+        storage.saveHealthHub(requestBook, new HealthworkerList());
+
+        HealthHubData data = assertTimeoutPreemptively(ofMillis(1000), () -> storage.readHealthHub().get());
+        assertEquals(requestBook, data.getRequestBook());
+    }
+
+    private static RequestBook getLargeRequestBook() {
+        RequestBook requestBook = new RequestBook();
+        for (int i = 0; i < LARGE_REQUEST_COUNT; i++) {
+            requestBook.addRequest(new RequestBuilder().withName("Patient " + i).build());
+        }
+        return requestBook;
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
@@ -0,0 +1,219 @@
+package seedu.address.storage;
+
+import static java.time.Duration.ofMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static seedu.address.testutil.TypicalDeliverymen.getTypicalDeliverymenList;
+import static seedu.address.testutil.TypicalOrders.ALICE;
+import static seedu.address.testutil.TypicalOrders.getTypicalOrderBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.ReadOnlyRequestBook;
+import seedu.address.model.RequestBook;
+import seedu.address.model.common.Name;
+import seedu.address.model.healthworker.Healthworker;
+import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.model.request.Request;
+import seedu.address.testutil.RequestBuilder;
+
+public class CoalescingHealthHubWriterTest {
+
+    private static final long LONG_DEBOUNCE_MILLIS = 60000;
+    private static final int LARGE_REQUEST_COUNT = 100000;
+    private static final int LARGE_BURST_SIZE = 50;
+    private static final long LARGE_BURST_TIMEOUT = 1000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final HealthHubStorageRecordingStub storage = new HealthHubStorageRecordingStub();
+    private final List<Exception> errors = new ArrayList<>();
+
+    @Test
+    public void flush_burstOfChanges_writesLatestSnapshotOnce() {
+        CoalescingHealthHubWriter writer = new CoalescingHealthHubWriter(storage, LONG_DEBOUNCE_MILLIS,
+            errors::add);
+        RequestBook orderBook = new RequestBook();
+        for (int i = 0; i < 10; i++) {
+            writer.submit(orderBook, getTypicalDeliverymenList());
+        }
+        orderBook.addRequest(ALICE);
+        writer.submit(orderBook, getTypicalDeliverymenList());
+        assertTrue(writer.getMetrics().hasPendingChanges);
+
+        writer.flush();
+        assertEquals(1, storage.savedOrderBooks.size());
+        assertEquals(orderBook.getRequestList(), storage.savedOrderBooks.get(0).getRequestList());
+
+        CoalescingHealthHubWriter.Metrics metrics = writer.getMetrics();
+        assertEquals(11, metrics.submitCount);
+        assertEquals(1, metrics.writeCount);
+        assertFalse(metrics.hasPendingChanges);
+    }
+
+    @Test
+    public void submit_modifiedAfterSubmit_writesDataAsSubmitted() {
+        CoalescingHealthHubWriter writer = new CoalescingHealthHubWriter(storage, LONG_DEBOUNCE_MILLIS,
+            errors::add);
+        RequestBook orderBook = new RequestBook();
+        writer.submit(orderBook, new HealthworkerList());
+        orderBook.addRequest(ALICE);
+
+        writer.flush();
+        assertTrue(storage.savedOrderBooks.get(0).getRequestList().isEmpty());
+    }
+
+    @Test
+    public void flush_noChanges_doesNotWrite() {
+        CoalescingHealthHubWriter writer = new CoalescingHealthHubWriter(storage, LONG_DEBOUNCE_MILLIS,
+            errors::add);
+        writer.flush();
+        assertTrue(storage.savedOrderBooks.isEmpty());
+    }
+
+    @Test
+    public void submit_debounceWindowEnds_writesWithoutFlush() throws InterruptedException {
+        CoalescingHealthHubWriter writer = new CoalescingHealthHubWriter(storage, 0, errors::add);
+        writer.submit(getTypicalOrderBook(), getTypicalDeliverymenList());
+        for (int i = 0; i < 100 && writer.getMetrics().writeCount == 0; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, writer.getMetrics().writeCount);
+    }
+
+    @Test
+    public void flush_writeFails_errorHandled() {
+        storage.shouldFail = true;
+        CoalescingHealthHubWriter writer = new CoalescingHealthHubWriter(storage, LONG_DEBOUNCE_MILLIS,
+            errors::add);
+        writer.submit(new RequestBook(), new HealthworkerList());
+
+        writer.flush();
+        assertEquals(1, errors.size());
+        assertEquals(1, writer.getMetrics().failedWriteCount);
+    }
+
+    @Test
+    public void flush_writeFailsUnexpectedly_errorHandled() {
+        storage.shouldFailUnexpectedly = true;
+        CoalescingHealthHubWriter writer = new CoalescingHealthHubWriter(storage, LONG_DEBOUNCE_MILLIS,
+            errors::add);
+        writer.submit(new RequestBook(), new HealthworkerList());
+
+        writer.flush();
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0) instanceof IllegalStateException);
+        assertEquals(1, writer.getMetrics().failedWriteCount);
+        assertFalse(writer.getMetrics().hasPendingChanges);
+    }
+
+    @Test
+    public void submit_healthworkerModifiedAfterSubmit_writesHealthworkerAsSubmitted() {
+        CoalescingHealthHubWriter writer = new CoalescingHealthHubWriter(storage, LONG_DEBOUNCE_MILLIS,
+            errors::add);
+        Healthworker healthworker = new Healthworker(Name.of("Alice Pauline"), Collections.singleton(ALICE));
+        HealthworkerList healthworkerList = new HealthworkerList();
+        healthworkerList.addDeliveryman(healthworker);
+        writer.submit(new RequestBook(), healthworkerList);
+        healthworker.removeOrder(ALICE);
+
+        writer.flush();
+        Healthworker savedHealthworker = storage.savedHealthworkerLists.get(0).getDeliverymenList().get(0);
+        assertEquals(healthworker.getTag(), savedHealthworker.getTag());
+        assertEquals(Collections.singleton(ALICE), savedHealthworker.getRequests());
+    }
+
+    @Test
+    public void flush_recordsBeforeSnapshot_recordsDropped() throws IOException {
+        HealthHubJournal journal = HealthHubJournal.of(testFolder.getRoot().toPath().resolve("healthhub.xml"));
+        CoalescingHealthHubWriter writer = new CoalescingHealthHubWriter(storage, journal, LONG_DEBOUNCE_MILLIS,
+            errors::add);
+        writer.submitRecords(new byte[] {1, 2});
+        writer.submit(new RequestBook(), new HealthworkerList());
+        writer.submitRecords(new byte[] {3});
+
+        writer.flush();
+        assertEquals(1, storage.savedOrderBooks.size());
+        assertEquals(1, journal.size());
+        assertEquals(1, writer.getMetrics().writeCount);
+
+        writer.submitRecords(new byte[] {4, 5});
+        writer.flush();
+        assertEquals(1, storage.savedOrderBooks.size());
+        assertEquals(3, journal.size());
+    }
+
+    /**
+     * Each submit used to copy the request book with its indexes, which took about a second at this size.
+     */
+    @Test
+    public void performanceTest() {
+        List<Request> requests = new ArrayList<>(LARGE_REQUEST_COUNT);
+        for (int i = 0; i < LARGE_REQUEST_COUNT; i++) {
+            requests.add(new RequestBuilder().withName("Patient " + i).build());
+        }
+        RequestBook orderBook = new RequestBook();
+        orderBook.setRequests(requests);
+        HealthworkerList healthworkerList = getTypicalDeliverymenList();
+        CoalescingHealthHubWriter writer = new CoalescingHealthHubWriter(storage, LONG_DEBOUNCE_MILLIS,
+            errors::add);
+
+        assertTimeoutPreemptively(ofMillis(LARGE_BURST_TIMEOUT), () -> {
+            for (int i = 0; i < LARGE_BURST_SIZE; i++) {
+                writer.submit(orderBook, healthworkerList);
+            }
+        }, "Submitting a large request book exceeded time limit");
+
+        writer.flush();
+        assertEquals(requests, storage.savedOrderBooks.get(0).getRequestList());
+    }
+
+    @Test
+    public void submitRecords_noJournal_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        new CoalescingHealthHubWriter(storage, LONG_DEBOUNCE_MILLIS, errors::add).submitRecords(new byte[0]);
+    }
+
+    /**
+     * A stub that records the data it is asked to save instead of writing it to a file.
+     */
+    private static class HealthHubStorageRecordingStub extends XmlHealthHubStorage {
+        private final List<ReadOnlyRequestBook> savedOrderBooks = new ArrayList<>();
+        private final List<HealthworkerList> savedHealthworkerLists = new ArrayList<>();
+        private boolean shouldFail;
+        private boolean shouldFailUnexpectedly;
+
+        HealthHubStorageRecordingStub() {
+            super(Paths.get("dummy"));
+        }
+
+        @Override
+        public void saveHealthHub(ReadOnlyRequestBook orderBook, HealthworkerList healthworkerList, Path filePath)
+            throws IOException {
+            if (shouldFail) {
+                throw new IOException("dummy exception");
+            }
+            if (shouldFailUnexpectedly) {
+                throw new IllegalStateException("dummy exception");
+            }
+            savedOrderBooks.add(orderBook);
+            savedHealthworkerLists.add(healthworkerList);
+        }
+    }
+}
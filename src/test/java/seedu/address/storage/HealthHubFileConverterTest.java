@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.RequestBook;
+
+public class HealthHubFileConverterTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlHealthHubTest");
+    private static final Path TYPICAL_HEALTHHUB_FILE = TEST_DATA_FOLDER.resolve("typicalHealthHub.xml");
+    private static final Path INVALID_HEALTHHUB_FILE = TEST_DATA_FOLDER.resolve("invalidHealthHub.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convertXmlToBinary_typicalFile_sameData() throws Exception {
+        Path binaryFile = getTempFilePath("healthhub.bin");
+        assertTrue(HealthHubFileConverter.convertXmlToBinary(TYPICAL_HEALTHHUB_FILE, binaryFile));
+
+        HealthHubData xmlData = new XmlHealthHubStorage(TYPICAL_HEALTHHUB_FILE).readHealthHub().get();
+        HealthHubData binaryData = new BinaryHealthHubStorage(binaryFile).readHealthHub().get();
+        assertEquals(new RequestBook(xmlData.getRequestBook()), new RequestBook(binaryData.getRequestBook()));
+        assertEquals(xmlData.getHealthworkerList(), binaryData.getHealthworkerList());
+    }
+
+    @Test
+    public void convertXmlToBinary_missingFile_returnsFalse() throws Exception {
+        assertFalse(HealthHubFileConverter.convertXmlToBinary(getTempFilePath("missing.xml"),
+            getTempFilePath("healthhub.bin")));
+    }
+
+    @Test
+    public void convertXmlToBinary_invalidFile_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        HealthHubFileConverter.convertXmlToBinary(INVALID_HEALTHHUB_FILE, getTempFilePath("healthhub.bin"));
+    }
+
+    @Test
+    public void convertToBinaryIfXml_xmlFile_convertedWithBackup() throws Exception {
+        Path file = getTempFilePath("healthhub.xml");
+        Files.copy(TYPICAL_HEALTHHUB_FILE, file);
+
+        assertTrue(HealthHubFileConverter.convertToBinaryIfXml(file));
+        assertTrue(BinaryHealthHubStorage.isBinaryFile(file));
+        Path backupFile = getTempFilePath("healthhub.xml" + HealthHubFileConverter.BACKUP_FILE_SUFFIX);
+        assertEquals(new String(Files.readAllBytes(TYPICAL_HEALTHHUB_FILE)),
+            new String(Files.readAllBytes(backupFile)));
+
+        // Already converted
+        assertFalse(HealthHubFileConverter.convertToBinaryIfXml(file));
+    }
+
+    @Test
+    public void convertToSqlIfMissing_xmlFile_copiedToDatabase() throws Exception {
+        Path file = getTempFilePath("healthhub.xml");
+        Files.copy(TYPICAL_HEALTHHUB_FILE, file);
+
+        assertTrue(HealthHubFileConverter.convertToSqlIfMissing(file));
+        HealthHubData xmlData = new XmlHealthHubStorage(file).readHealthHub().get();
+        SqlHealthHubStorage sqlStorage = new SqlHealthHubStorage(file);
+        try {
+            HealthHubData sqlData = sqlStorage.readHealthHub().get();
+            assertEquals(new RequestBook(xmlData.getRequestBook()), new RequestBook(sqlData.getRequestBook()));
+            assertEquals(xmlData.getHealthworkerList(), sqlData.getHealthworkerList());
+        } finally {
+            sqlStorage.close();
+        }
+
+        // Already copied
+        assertFalse(HealthHubFileConverter.convertToSqlIfMissing(file));
+    }
+
+    @Test
+    public void convertToSqlIfMissing_invalidFile_noDatabase() throws Exception {
+        Path file = getTempFilePath("healthhub.xml");
+        Files.copy(INVALID_HEALTHHUB_FILE, file);
+
+        try {
+            HealthHubFileConverter.convertToSqlIfMissing(file);
+            throw new AssertionError("Expected a DataConversionException");
+        } catch (DataConversionException expected) {
+            assertFalse(SqlHealthHubStorage.exists(file));
+        }
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
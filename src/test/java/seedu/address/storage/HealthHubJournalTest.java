@@ -0,0 +1,189 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalDeliverymen.getTypicalDeliverymenList;
+import static seedu.address.testutil.TypicalOrders.AMY;
+import static seedu.address.testutil.TypicalOrders.getTypicalOrderBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.RequestBook;
+import seedu.address.model.common.Name;
+import seedu.address.model.healthworker.Healthworker;
+import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.model.request.Request;
+import seedu.address.testutil.DeliverymanBuilder;
+import seedu.address.testutil.RequestBuilder;
+
+public class HealthHubJournalTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private RequestBook requestBook;
+    private HealthworkerList healthworkerList;
+    private HealthHubData snapshot;
+    private ListChangeRecorder recorder;
+    private HealthHubJournal journal;
+
+    @Before
+    public void setUp() {
+        requestBook = getTypicalOrderBook();
+        healthworkerList = getTypicalDeliverymenList();
+        snapshot = new HealthHubData(new RequestBook(requestBook), new HealthworkerList(healthworkerList));
+        recorder = HealthHubJournal.record(requestBook, healthworkerList, Long.MAX_VALUE);
+        journal = HealthHubJournal.of(testFolder.getRoot().toPath().resolve("healthhub.xml"));
+    }
+
+    @Test
+    public void of_healthHubFile_journalNextToFile() {
+        assertEquals(testFolder.getRoot().toPath().resolve("healthhub.xml" + HealthHubJournal.JOURNAL_FILE_SUFFIX),
+            journal.getJournalFilePath());
+    }
+
+    @Test
+    public void replay_noJournal_returnsSnapshot() throws Exception {
+        assertFalse(journal.exists());
+        assertSame(snapshot, journal.replay(snapshot));
+    }
+
+    @Test
+    public void replay_requestChanges_returnsChangedData() throws Exception {
+        List<Request> requests = requestBook.getRequestList();
+        requestBook.addRequest(new RequestBuilder(AMY).build());
+        requestBook.updateRequest(requests.get(1), new RequestBuilder(requests.get(1)).withPhone("91234567").build());
+        requestBook.removeRequest(requests.get(0));
+        appendRecords();
+
+        assertReplayEquals(requestBook, healthworkerList);
+    }
+
+    @Test
+    public void replay_healthworkerChanges_returnsChangedData() throws Exception {
+        List<Healthworker> healthworkers = healthworkerList.getDeliverymenList();
+        Request assignedRequest = requestBook.getRequestList().get(2);
+        healthworkerList.addDeliveryman(new DeliverymanBuilder().withName("Ng Wei Ling").build());
+        healthworkerList.updateDeliveryman(healthworkers.get(0),
+            new DeliverymanBuilder(healthworkers.get(0)).withOrder(assignedRequest).build());
+        healthworkerList.removeDeliveryman(healthworkers.get(1));
+        appendRecords();
+
+        HealthHubData replayed = assertReplayEquals(requestBook, healthworkerList);
+        Request replayedRequest = replayed.getRequestBook().getRequestList().get(2);
+        assertTrue(replayed.getHealthworkerList().getDeliverymenList().get(0).getRequests().stream()
+            .anyMatch(request -> request == replayedRequest));
+    }
+
+    @Test
+    public void replay_changesAfterRemovals_appliedToShiftedRequests() throws Exception {
+        List<Request> requests = requestBook.getRequestList();
+        requestBook.removeRequest(requests.get(0));
+        Request last = requests.get(requests.size() - 1);
+        requestBook.updateRequest(last, new RequestBuilder(last).withPhone("91234567").build());
+        requestBook.removeRequest(requests.get(2));
+        requestBook.updateRequest(requests.get(1), new RequestBuilder(requests.get(1)).withPhone("98765432").build());
+        Request added = new RequestBuilder(AMY).build();
+        requestBook.addRequest(added);
+        requestBook.updateRequest(added, new RequestBuilder(added).withPhone("87654321").build());
+        appendRecords();
+
+        assertReplayEquals(requestBook, healthworkerList);
+    }
+
+    @Test
+    public void replay_severalAppends_appliedInOrder() throws Exception {
+        Request request = new RequestBuilder(AMY).build();
+        requestBook.addRequest(request);
+        appendRecords();
+        requestBook.removeRequest(request);
+        appendRecords();
+
+        assertReplayEquals(requestBook, healthworkerList);
+    }
+
+    @Test
+    public void replay_incompleteLastRecord_recordIgnored() throws Exception {
+        requestBook.addRequest(new RequestBuilder(AMY).build());
+        appendRecords();
+        RequestBook expected = new RequestBook(requestBook);
+        requestBook.removeRequest(requestBook.getRequestList().get(0));
+        byte[] records = recorder.takeRecords().get();
+        Files.write(journal.getJournalFilePath(), Arrays.copyOf(records, records.length - 1),
+            StandardOpenOption.APPEND);
+
+        assertReplayEquals(expected, healthworkerList);
+    }
+
+    @Test
+    public void replay_unknownTag_throwsDataConversionException() throws Exception {
+        requestBook.removeRequest(requestBook.getRequestList().get(0));
+        appendRecords();
+
+        thrown.expect(DataConversionException.class);
+        journal.replay(new HealthHubData(new RequestBook(), new HealthworkerList()));
+    }
+
+    @Test
+    public void takeRecords_untaggedHealthworker_empty() {
+        healthworkerList.setDeliverymen(Collections.singletonList(new Healthworker(new Name("Ng Wei Ling"))));
+        assertFalse(recorder.takeRecords().isPresent());
+    }
+
+    @Test
+    public void takeRecords_tooManyChanges_empty() {
+        ListChangeRecorder smallRecorder = HealthHubJournal.record(requestBook, healthworkerList, 10);
+        requestBook.addRequest(new RequestBuilder(AMY).build());
+        assertFalse(smallRecorder.takeRecords().isPresent());
+        // Recording starts afresh
+        assertEquals(Optional.of(0), smallRecorder.takeRecords().map(records -> records.length));
+    }
+
+    @Test
+    public void clear_existingJournal_deleted() throws Exception {
+        requestBook.addRequest(new RequestBuilder(AMY).build());
+        appendRecords();
+        assertTrue(journal.size() > 0);
+
+        journal.clear();
+        assertFalse(journal.exists());
+        assertEquals(0, journal.size());
+    }
+
+    /**
+     * Appends the changes recorded so far to the journal.
+     */
+    private void appendRecords() throws IOException {
+        journal.append(Collections.singletonList(recorder.takeRecords().get()));
+    }
+
+    /**
+     * Asserts that replaying the journal on the snapshot gives {@code expectedRequestBook} and
+     * {@code expectedHealthworkerList}, and returns the replayed data.
+     */
+    private HealthHubData assertReplayEquals(RequestBook expectedRequestBook,
+                                             HealthworkerList expectedHealthworkerList) throws Exception {
+        HealthHubData replayed = journal.replay(snapshot);
+        assertEquals(expectedRequestBook, new RequestBook(replayed.getRequestBook()));
+        assertEquals(expectedHealthworkerList, replayed.getHealthworkerList());
+        return replayed;
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static java.time.Duration.ofMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static seedu.address.testutil.TypicalDeliverymen.getTypicalDeliverymenList;
+import static seedu.address.testutil.TypicalOrders.AMY;
+import static seedu.address.testutil.TypicalOrders.getTypicalOrderBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.RequestBook;
+import seedu.address.model.healthworker.Healthworker;
+import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.model.request.Request;
+import seedu.address.model.request.RequestCodec;
+import seedu.address.testutil.DeliverymanBuilder;
+import seedu.address.testutil.RequestBuilder;
+
+public class SqlHealthHubStorageTest {
+    private static final String NG_WEI_LING_ID = "5b0c3f6e-2a1d-4c8e-9f4b-7d2e6a1c9b30";
+    private static final String AMY_ID = "0e4b8c2d-7f1a-4d3b-9c6e-2a5f8b1d4e70";
+    private static final String NEW_REQUEST_ID = "9a3d6f1c-4b8e-4e2a-8d7c-1f5b3a9e6c42";
+    private static final int LARGE_REQUEST_COUNT = 20000;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private RequestBook requestBook;
+    private HealthworkerList healthworkerList;
+    private SqlHealthHubStorage storage;
+
+    @Before
+    public void setUp() {
+        requestBook = getTypicalOrderBook();
+        healthworkerList = getTypicalDeliverymenList();
+        storage = new SqlHealthHubStorage(testFolder.getRoot().toPath().resolve("healthhub.xml"));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        storage.close();
+    }
+
+    @Test
+    public void readHealthHub_missingDatabase_emptyResult() throws Exception {
+        assertFalse(storage.readHealthHub().isPresent());
+        assertFalse(Files.exists(SqlDatabase.getDatabaseFilePath(storage.getHealthHubFilePath())));
+    }
+
+    @Test
+    public void saveHealthHub_healthHubFile_databaseNextToFile() throws Exception {
+        storage.saveHealthHub(requestBook, healthworkerList);
+        assertTrue(Files.exists(testFolder.getRoot().toPath().resolve("healthhub" + SqlDatabase.DATABASE_FILE_SUFFIX)));
+        assertTrue(SqlHealthHubStorage.exists(storage.getHealthHubFilePath()));
+    }
+
+    @Test
+    public void readSave_allInOrder_success() throws Exception {
+        storage.saveHealthHub(requestBook, healthworkerList);
+        HealthHubData readBack = storage.readHealthHub().get();
+        assertEquals(requestBook, readBack.getRequestBook());
+        assertEquals(healthworkerList, readBack.getHealthworkerList());
+
+        // Modify data, overwrite existing rows, and read back
+        healthworkerList.addDeliveryman(new DeliverymanBuilder().withName("Ng Wei Ling").withId(NG_WEI_LING_ID)
+            .withOrder(requestBook.getRequestList().get(0)).build());
+        requestBook.removeRequest(requestBook.getRequestList().get(1));
+        storage.saveHealthHub(requestBook, healthworkerList);
+        assertEquals(requestBook, storage.readRequestBook().get());
+        assertEquals(healthworkerList, storage.readHealthworkerList().get());
+    }
+
+    @Test
+    public void readHealthHub_assignedRequests_sameAsRequestBook() throws Exception {
+        Healthworker healthworker = new DeliverymanBuilder().withName("Ng Wei Ling").withId(NG_WEI_LING_ID)
+            .withOrder(requestBook.getRequestList().get(2)).build();
+        HealthworkerList assignedList = new HealthworkerList();
+        assignedList.addDeliveryman(healthworker);
+        storage.saveHealthHub(requestBook, assignedList);
+
+        HealthHubData data = storage.readHealthHub().get();
+        Healthworker readHealthworker = data.getHealthworkerList().getDeliverymenList().get(0);
+        assertSame(data.getRequestBook().getRequestList().get(2), readHealthworker.getRequests().iterator().next());
+    }
+
+    @Test
+    public void append_requestChanges_rowsChanged() throws Exception {
+        storage.saveHealthHub(requestBook, healthworkerList);
+        ListChangeRecorder recorder = HealthHubJournal.record(requestBook, healthworkerList, Long.MAX_VALUE);
+        List<Request> requests = requestBook.getRequestList();
+        requestBook.removeRequest(requests.get(0));
+        Request last = requests.get(requests.size() - 1);
+        requestBook.updateRequest(last, new RequestBuilder(last).withPhone("91234567").build());
+        Request added = new RequestBuilder(AMY).build();
+        requestBook.addRequest(added);
+        requestBook.updateRequest(added, new RequestBuilder(added).withPhone("87654321").build());
+        storage.append(Collections.singletonList(recorder.takeRecords().get()));
+
+        HealthHubData readBack = storage.readHealthHub().get();
+        assertEquals(requestBook, readBack.getRequestBook());
+        assertEquals(healthworkerList, readBack.getHealthworkerList());
+    }
+
+    @Test
+    public void append_insertionsBeforeOtherRows_rowsInOrder() throws Exception {
+        storage.saveHealthHub(requestBook, new HealthworkerList());
+        ObservableList<Request> requests = FXCollections.observableArrayList(requestBook.getRequestList());
+        ListChangeRecorder recorder = new ListChangeRecorder(Long.MAX_VALUE);
+        recorder.track(HealthHubJournal.REQUEST_LIST, requests, new RequestCodec(), KeyCodec.byTag());
+        requests.add(0, new RequestBuilder(AMY).withId(AMY_ID).build());
+        requests.remove(3);
+        requests.add(2, new RequestBuilder().withName("Ng Wei Ling").withId(NEW_REQUEST_ID).build());
+        storage.append(Collections.singletonList(recorder.takeRecords().get()));
+
+        assertEquals(new ArrayList<>(requests), storage.readRequestBook().get().getRequestList());
+    }
+
+    @Test
+    public void append_healthworkerChanges_rowsChanged() throws Exception {
+        storage.saveHealthHub(requestBook, healthworkerList);
+        ListChangeRecorder recorder = HealthHubJournal.record(requestBook, healthworkerList, Long.MAX_VALUE);
+        List<Healthworker> healthworkers = healthworkerList.getDeliverymenList();
+        Request assignedRequest = requestBook.getRequestList().get(2);
+        healthworkerList.addDeliveryman(new DeliverymanBuilder().withName("Ng Wei Ling").build());
+        healthworkerList.updateDeliveryman(healthworkers.get(0),
+            new DeliverymanBuilder(healthworkers.get(0)).withOrder(assignedRequest).build());
+        healthworkerList.removeDeliveryman(healthworkers.get(1));
+        storage.append(Collections.singletonList(recorder.takeRecords().get()));
+
+        HealthHubData readBack = storage.readHealthHub().get();
+        assertEquals(healthworkerList, readBack.getHealthworkerList());
+        Request readRequest = readBack.getRequestBook().getRequestList().get(2);
+        assertTrue(readBack.getHealthworkerList().getDeliverymenList().get(0).getRequests().stream()
+            .anyMatch(request -> request == readRequest));
+    }
+
+    @Test
+    public void append_unknownRequest_throwsIoExceptionAndKeepsRows() throws Exception {
+        ListChangeRecorder recorder = HealthHubJournal.record(requestBook, healthworkerList, Long.MAX_VALUE);
+        requestBook.removeRequest(requestBook.getRequestList().get(0));
+        byte[] records = recorder.takeRecords().get();
+        RequestBook savedRequestBook = getTypicalOrderBook();
+        savedRequestBook.removeRequest(savedRequestBook.getRequestList().get(0));
+        storage.saveHealthHub(savedRequestBook, healthworkerList);
+
+        try {
+            storage.append(Collections.singletonList(records));
+            throw new AssertionError("Expected an IOException");
+        } catch (IOException expected) {
+            assertEquals(savedRequestBook, storage.readRequestBook().get());
+        }
+    }
+
+    @Test
+    public void performanceTest() throws Exception {
+        RequestBook largeRequestBook = new RequestBook();
+        for (int i = 0; i < LARGE_REQUEST_COUNT; i++) {
+            largeRequestBook.addRequest(new RequestBuilder().withName("Patient " + i).build());
+        }
+        storage.saveHealthHub(largeRequestBook, new HealthworkerList());
+
+        HealthHubData data = assertTimeoutPreemptively(ofMillis(3000), () -> storage.readHealthHub().get());
+        assertEquals(largeRequestBook, data.getRequestBook());
+
+        // A single change only touches its own rows
+        ListChangeRecorder recorder = HealthHubJournal.record(largeRequestBook, new HealthworkerList(), Long.MAX_VALUE);
+        Request last = largeRequestBook.getRequestList().get(LARGE_REQUEST_COUNT - 1);
+        largeRequestBook.updateRequest(last, new RequestBuilder(last).withPhone("91234567").build());
+        largeRequestBook.addRequest(new RequestBuilder(AMY).build());
+        byte[] records = recorder.takeRecords().get();
+        assertTimeoutPreemptively(ofMillis(200), () -> storage.append(Collections.singletonList(records)));
+        assertEquals(largeRequestBook, storage.readRequestBook().get());
+    }
+}
@@ -1,10 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalDeliverymen.getTypicalDeliverymenList;
+import static seedu.address.testutil.TypicalOrders.AMY;
 import static seedu.address.testutil.TypicalOrders.getTypicalOrderBook;
+import static seedu.address.testutil.user.TypicalUsers.HOON_MANAGER;
+import static seedu.address.testutil.user.TypicalUsers.getTypicalUsersList;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -16,13 +20,18 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.events.model.HealthHubChangedEvent;
+import seedu.address.commons.events.model.UsersListChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.model.RequestBook;
 import seedu.address.model.ReadOnlyRequestBook;
 import seedu.address.model.ReadOnlyUsersList;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.UsersList;
 import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.storage.user.SqlUsersListStorage;
+import seedu.address.storage.user.UsersListJournal;
 import seedu.address.storage.user.XmlUsersListStorage;
+import seedu.address.testutil.RequestBuilder;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
@@ -76,6 +85,143 @@ public class StorageManagerTest {
         assertEquals(healthworkerList, new HealthworkerList(dmenRetrieved));
     }
 
+    @Test
+    public void readHealthHub_savedData_returnsBothLists() throws Exception {
+        RequestBook original = getTypicalOrderBook();
+        HealthworkerList healthworkerList = getTypicalDeliverymenList();
+        storageManager.saveHealthHub(original, healthworkerList);
+        HealthHubData retrieved = storageManager.readHealthHub().get();
+        assertEquals(original, new RequestBook(retrieved.getRequestBook()));
+        assertEquals(healthworkerList, new HealthworkerList(retrieved.getHealthworkerList()));
+    }
+
+    @Test
+    public void readHealthHub_missingFile_emptyResult() throws Exception {
+        assertFalse(storageManager.readHealthHub(getTempFilePath("missing")).isPresent());
+    }
+
+    @Test
+    public void handleFoodZoomChangedEvent_trackedChanges_appendedToJournal() throws Exception {
+        RequestBook orderBook = getTypicalOrderBook();
+        HealthworkerList healthworkerList = getTypicalDeliverymenList();
+        HealthHubJournal journal = HealthHubJournal.of(storageManager.getHealthHubFilePath());
+        storageManager.trackHealthHubChanges(orderBook, healthworkerList);
+
+        // The first save writes the file in full
+        orderBook.addRequest(new RequestBuilder(AMY).build());
+        storageManager.handleFoodZoomChangedEvent(new HealthHubChangedEvent(orderBook, healthworkerList));
+        storageManager.flushHealthHub();
+        assertFalse(journal.exists());
+
+        orderBook.removeRequest(orderBook.getRequestList().get(0));
+        storageManager.handleFoodZoomChangedEvent(new HealthHubChangedEvent(orderBook, healthworkerList));
+        storageManager.flushHealthHub();
+        assertTrue(journal.exists());
+
+        HealthHubData retrieved = storageManager.readHealthHub().get();
+        assertEquals(orderBook, new RequestBook(retrieved.getRequestBook()));
+        assertEquals(orderBook, new RequestBook(storageManager.readRequestBook().get()));
+        assertEquals(healthworkerList, storageManager.readHealthworkerList().get());
+    }
+
+    @Test
+    public void handleFoodZoomChangedEvent_journalFull_fileWrittenInFull() throws Exception {
+        StorageManager smallJournalStorageManager = new StorageManager(
+            new XmlUsersListStorage(getTempFilePath("users")), new XmlHealthHubStorage(getTempFilePath("healthhub")),
+            new JsonUserPrefsStorage(getTempFilePath("prefs")), StorageManager.DEFAULT_SAVE_DEBOUNCE_MILLIS, 200);
+        RequestBook orderBook = getTypicalOrderBook();
+        HealthworkerList healthworkerList = getTypicalDeliverymenList();
+        HealthHubJournal journal = HealthHubJournal.of(smallJournalStorageManager.getHealthHubFilePath());
+        smallJournalStorageManager.trackHealthHubChanges(orderBook, healthworkerList);
+        smallJournalStorageManager.handleFoodZoomChangedEvent(new HealthHubChangedEvent(orderBook, healthworkerList));
+
+        for (int i = 0; i < 5; i++) {
+            orderBook.updateRequest(orderBook.getRequestList().get(i),
+                new RequestBuilder(orderBook.getRequestList().get(i)).withPhone("9123456" + i).build());
+            smallJournalStorageManager.handleFoodZoomChangedEvent(
+                new HealthHubChangedEvent(orderBook, healthworkerList));
+            smallJournalStorageManager.flushHealthHub();
+            assertTrue(journal.size() <= 200);
+        }
+
+        assertEquals(orderBook, new RequestBook(smallJournalStorageManager.readRequestBook().get()));
+    }
+
+    @Test
+    public void saveHealthHub_existingJournal_journalCleared() throws Exception {
+        RequestBook orderBook = getTypicalOrderBook();
+        HealthworkerList healthworkerList = getTypicalDeliverymenList();
+        storageManager.trackHealthHubChanges(orderBook, healthworkerList);
+        storageManager.handleFoodZoomChangedEvent(new HealthHubChangedEvent(orderBook, healthworkerList));
+        orderBook.addRequest(new RequestBuilder(AMY).build());
+        storageManager.handleFoodZoomChangedEvent(new HealthHubChangedEvent(orderBook, healthworkerList));
+        storageManager.flushHealthHub();
+
+        storageManager.saveHealthHub(orderBook, healthworkerList);
+        assertFalse(HealthHubJournal.of(storageManager.getHealthHubFilePath()).exists());
+        assertEquals(orderBook, new RequestBook(storageManager.readRequestBook().get()));
+    }
+
+    @Test
+    public void handleFoodZoomChangedEvent_sqlStorage_rowsChangedWithoutJournal() throws Exception {
+        int[] fullSaveCount = {0};
+        SqlHealthHubStorage sqlStorage = new SqlHealthHubStorage(getTempFilePath("healthhub.xml")) {
+            @Override
+            public void saveHealthHub(ReadOnlyRequestBook orderBook, HealthworkerList healthworkerList,
+                                      Path filePath) throws IOException {
+                fullSaveCount[0]++;
+                super.saveHealthHub(orderBook, healthworkerList, filePath);
+            }
+        };
+        SqlUsersListStorage sqlUsersListStorage = new SqlUsersListStorage(getTempFilePath("users.xml"));
+        try {
+            RequestBook orderBook = getTypicalOrderBook();
+            HealthworkerList healthworkerList = getTypicalDeliverymenList();
+            sqlStorage.saveHealthHub(orderBook, healthworkerList);
+            fullSaveCount[0] = 0;
+            StorageManager sqlStorageManager = new StorageManager(sqlUsersListStorage, sqlStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+            HealthHubData data = sqlStorageManager.readHealthHub().get();
+            RequestBook readOrderBook = new RequestBook(data.getRequestBook());
+            HealthworkerList readHealthworkerList = data.getHealthworkerList();
+            sqlStorageManager.trackHealthHubChanges(readOrderBook, readHealthworkerList);
+
+            // The data was read from the database, so even the first save only changes rows
+            readOrderBook.addRequest(new RequestBuilder(AMY).build());
+            sqlStorageManager.handleFoodZoomChangedEvent(
+                new HealthHubChangedEvent(readOrderBook, readHealthworkerList));
+            sqlStorageManager.flushHealthHub();
+            assertEquals(1, sqlStorageManager.getHealthHubWriteMetrics().writeCount);
+            assertEquals(0, fullSaveCount[0]);
+            assertFalse(HealthHubJournal.of(sqlStorage.getHealthHubFilePath()).exists());
+            assertEquals(readOrderBook, new RequestBook(sqlStorageManager.readRequestBook().get()));
+        } finally {
+            sqlStorage.close();
+            sqlUsersListStorage.close();
+        }
+    }
+
+    @Test
+    public void handleUsersListChangedEvent_trackedChanges_appendedToJournal() throws Exception {
+        UsersList usersList = getTypicalUsersList();
+        UsersListJournal journal = UsersListJournal.of(storageManager.getUsersListFilePath());
+        storageManager.trackUsersListChanges(usersList);
+
+        // The first save writes the file in full
+        usersList.addUser(HOON_MANAGER);
+        storageManager.handleUsersListChangedEvent(new UsersListChangedEvent(usersList));
+        assertFalse(journal.exists());
+
+        usersList.removeUser(usersList.getUserList().get(0));
+        storageManager.handleUsersListChangedEvent(new UsersListChangedEvent(usersList));
+        assertTrue(journal.exists());
+        assertEquals(usersList, new UsersList(storageManager.readUsersList().get()));
+
+        storageManager.saveUsersList(usersList);
+        assertFalse(journal.exists());
+        assertEquals(usersList, new UsersList(storageManager.readUsersList().get()));
+    }
+
     @Test
     public void getFoodZoomFilePath() {
         assertNotNull(storageManager.getHealthHubFilePath());
@@ -88,6 +234,7 @@ public class StorageManagerTest {
             new XmlHealthHubStorageExceptionThrowingStub(Paths.get("dummy2")),
             new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleFoodZoomChangedEvent(new HealthHubChangedEvent(new RequestBook(), new HealthworkerList()));
+        storage.flushHealthHub();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
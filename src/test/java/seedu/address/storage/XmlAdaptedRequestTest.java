@@ -1,11 +1,18 @@
 package seedu.address.storage;
 
+import static java.time.Duration.ofMillis;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static seedu.address.storage.XmlAdaptedRequest.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.TypicalOrders.BENSON;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
@@ -15,10 +22,20 @@ import seedu.address.model.common.Address;
 import seedu.address.model.common.Name;
 import seedu.address.model.common.Phone;
 import seedu.address.model.request.Condition;
+import seedu.address.model.request.Request;
 import seedu.address.model.request.RequestDate;
 import seedu.address.testutil.Assert;
 
 public class XmlAdaptedRequestTest {
+    private static final int LARGE_REQUEST_COUNT = 100000;
+    private static final int PATIENT_COUNT = 20000;
+    private static final int CONDITION_COUNT = 300;
+    private static final long LARGE_CONVERSION_TIMEOUT = 20000;
+    // Object header and one reference, padded
+    private static final long VALUE_OBJECT_BYTES = 16;
+    // String and its byte array headers and fields
+    private static final long STRING_OBJECT_BYTES = 40;
+
     private static final String INVALID_NAME = "R@chel";
     private static final String INVALID_PHONE = "+651234";
     private static final String INVALID_ADDRESS = " ";
@@ -112,4 +129,69 @@ public class XmlAdaptedRequestTest {
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Condition.class.getSimpleName());
         Assert.assertThrows(IllegalValueException.class, expectedMessage, order::toModelType);
     }
+
+    @Test
+    public void performanceTest() {
+        List<XmlAdaptedRequest> adaptedRequests = new ArrayList<>(LARGE_REQUEST_COUNT);
+        List<Request> constructedRequests = new ArrayList<>(LARGE_REQUEST_COUNT);
+        for (int i = 0; i < LARGE_REQUEST_COUNT; i++) {
+            int patient = i % PATIENT_COUNT;
+            // Fresh strings for every request, as unmarshalled from a file
+            String name = new String("Patient " + patient);
+            String address = new String("Blk " + patient + " Jurong West Street 26, " + (100000 + patient));
+            String date = String.format("%02d-10-2018 10:00:00", 1 + i % 28);
+            List<String> conditions = Arrays.asList(new String("Condition " + i % CONDITION_COUNT),
+                new String("Condition " + (i + 1) % CONDITION_COUNT));
+            adaptedRequests.add(new XmlAdaptedRequest(name, VALID_PHONE, address, date, VALID_STATUS,
+                conditions.stream().map(XmlAdaptedCondition::new).collect(Collectors.toList()), null));
+            constructedRequests.add(new Request(new Name(name), new Phone(VALID_PHONE), new Address(address),
+                new RequestDate(date), conditions.stream().map(Condition::new).collect(Collectors.toSet())));
+        }
+
+        List<Request> convertedRequests = new ArrayList<>(LARGE_REQUEST_COUNT);
+        assertTimeoutPreemptively(ofMillis(LARGE_CONVERSION_TIMEOUT), () -> {
+            for (XmlAdaptedRequest adaptedRequest : adaptedRequests) {
+                convertedRequests.add(adaptedRequest.toModelType());
+            }
+        }, "Conversion of a large number of requests exceeded time limit");
+
+        // Interned values are retained once per distinct patient and condition instead of once per request
+        long convertedBytes = estimateValueBytes(convertedRequests);
+        long constructedBytes = estimateValueBytes(constructedRequests);
+        assertTrue("Retained " + convertedBytes + " bytes against " + constructedBytes + " without interning",
+            convertedBytes * 4 < constructedBytes);
+    }
+
+    /**
+     * Returns an estimate of the heap retained by the names, addresses and conditions of {@code requests}: the
+     * size of each distinct value object and of its distinct string, with compressed references and compact
+     * strings.
+     */
+    private static long estimateValueBytes(List<Request> requests) {
+        Set<Object> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = 0;
+        for (Request request : requests) {
+            bytes += estimateValueBytes(counted, request.getName(), request.getName().fullName);
+            bytes += estimateValueBytes(counted, request.getAddress(), request.getAddress().value);
+            for (Condition condition : request.getCondition()) {
+                bytes += estimateValueBytes(counted, condition, condition.foodName);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the estimated size of {@code value} and {@code string}, leaving out those already in
+     * {@code counted}.
+     */
+    private static long estimateValueBytes(Set<Object> counted, Object value, String string) {
+        long bytes = 0;
+        if (counted.add(value)) {
+            bytes += VALUE_OBJECT_BYTES;
+        }
+        if (counted.add(string)) {
+            bytes += STRING_OBJECT_BYTES + string.length();
+        }
+        return bytes;
+    }
 }
@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static java.time.Duration.ofMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static seedu.address.testutil.TypicalOrders.ALICE;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.Streams;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.RequestBook;
+import seedu.address.model.healthworker.Healthworker;
+import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.model.request.Request;
+import seedu.address.testutil.DeliverymanBuilder;
+import seedu.address.testutil.RequestBuilder;
+import seedu.address.testutil.TypicalDeliverymen;
+import seedu.address.testutil.TypicalOrders;
+
+public class XmlHealthHubStreamReaderTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlHealthHubStreamReaderTest");
+    private static final Path TYPICAL_HEALTHHUB_FILE = Paths.get("src", "test", "data", "XmlHealthHubTest",
+        "typicalHealthHub.xml");
+    private static final Path INVALID_HEALTHHUB_FILE = Paths.get("src", "test", "data", "XmlHealthHubTest",
+        "invalidHealthHub.xml");
+    private static final int LARGE_REQUEST_COUNT = 20000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final XmlHealthHubStreamReader reader = new XmlHealthHubStreamReader();
+
+    @Test
+    public void read_typicalHealthHub_success() throws Exception {
+        HealthHubData data = reader.read(TYPICAL_HEALTHHUB_FILE);
+        RequestBook typicalOrderBook = TypicalOrders.getTypicalOrderBook();
+        HealthworkerList typicalHealthworkerList = TypicalDeliverymen.getTypicalDeliverymenList();
+        assertEquals(typicalOrderBook, data.getRequestBook());
+        assertTrue(Streams.zip(data.getRequestBook().getRequestList().stream(),
+            typicalOrderBook.getRequestList().stream(), (a, b) -> a.hasSameTag(b)).allMatch(x -> x));
+        assertEquals(typicalHealthworkerList, data.getHealthworkerList());
+    }
+
+    @Test
+    public void read_savedHealthHub_assignedRequestsResolvedFromRequestBook() throws Exception {
+        Healthworker healthworker = new DeliverymanBuilder().withName("Hoh Chi Kao").build();
+        Request assigned = new RequestBuilder(ALICE).withStatus("ONGOING").withDeliveryman(healthworker).build();
+        healthworker.addOrder(assigned);
+        RequestBook requestBook = new RequestBook();
+        requestBook.addRequest(assigned);
+        HealthworkerList healthworkerList = new HealthworkerList();
+        healthworkerList.addDeliveryman(healthworker);
+        Path file = testFolder.getRoot().toPath().resolve("healthhub.xml");
+        new XmlHealthHubStorage(file).saveHealthHub(requestBook, healthworkerList);
+
+        HealthHubData data = reader.read(file);
+        assertEquals(requestBook, data.getRequestBook());
+        assertEquals(healthworkerList, data.getHealthworkerList());
+        Healthworker readHealthworker = data.getHealthworkerList().getDeliverymenList().get(0);
+        assertSame(data.getRequestBook().getRequestList().get(0), readHealthworker.getRequests().iterator().next());
+        assertSame(readHealthworker, data.getRequestBook().getRequestList().get(0).getHealthworker());
+    }
+
+    @Test
+    public void read_invalidRequest_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        reader.read(INVALID_HEALTHHUB_FILE);
+    }
+
+    @Test
+    public void read_duplicateRequests_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableRequestBook.MESSAGE_DUPLICATE_ORDER);
+        reader.read(TEST_DATA_FOLDER.resolve("duplicateRequestHealthHub.xml"));
+    }
+
+    @Test
+    public void read_unknownAssignedRequest_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(XmlHealthHubStreamReader.MESSAGE_UNKNOWN_REQUEST,
+            "e328789f-c707-49a9-8147-d93e213fb1d7"));
+        reader.read(TEST_DATA_FOLDER.resolve("unknownRequestHealthHub.xml"));
+    }
+
+    @Test
+    public void read_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        reader.read(TEST_DATA_FOLDER.resolve("notXmlFormatHealthHub.xml"));
+    }
+
+    @Test
+    public void performanceTest() throws Exception {
+        RequestBook requestBook = new RequestBook();
+        for (int i = 0; i < LARGE_REQUEST_COUNT; i++) {
+            requestBook.addRequest(new RequestBuilder().withName("Patient " + i).build());
+        }
+        Path file = testFolder.getRoot().toPath().resolve("large.xml");
+        new XmlHealthHubStorage(file).saveHealthHub(requestBook, new HealthworkerList());
+
+        HealthHubData data = assertTimeoutPreemptively(ofMillis(5000), () -> reader.read(file));
+        assertEquals(requestBook, data.getRequestBook());
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalOrders.ALICE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -15,7 +17,11 @@ import com.google.common.collect.Streams;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.RequestBook;
+import seedu.address.model.healthworker.Healthworker;
 import seedu.address.model.healthworker.HealthworkerList;
+import seedu.address.model.request.Request;
+import seedu.address.testutil.DeliverymanBuilder;
+import seedu.address.testutil.RequestBuilder;
 import seedu.address.testutil.TypicalDeliverymen;
 import seedu.address.testutil.TypicalOrders;
 
@@ -45,6 +51,23 @@ public class XmlHealthHubTest {
             .allMatch(x -> x));
     }
 
+    @Test
+    public void toModelType_assignedRequest_linkedByReference() throws Exception {
+        Healthworker healthworker = new DeliverymanBuilder().withName("Hoh Chi Kao").build();
+        Request assigned = new RequestBuilder(ALICE).withStatus("ONGOING").withDeliveryman(healthworker).build();
+        healthworker.addOrder(assigned);
+        RequestBook requestBook = new RequestBook();
+        requestBook.addRequest(assigned);
+        HealthworkerList healthworkerList = new HealthworkerList();
+        healthworkerList.addDeliveryman(healthworker);
+
+        HealthHubData data = new XmlHealthHub(requestBook, healthworkerList).toModelType();
+        Request readRequest = data.getRequestBook().getRequestList().get(0);
+        Healthworker readHealthworker = data.getHealthworkerList().getDeliverymenList().get(0);
+        assertSame(readRequest, readHealthworker.getRequests().iterator().next());
+        assertSame(readHealthworker, readRequest.getHealthworker());
+    }
+
     @Test
     public void getRequestsAndHealthworkers_invalidFile_throwsIllegalValueException() throws Exception {
         XmlHealthHub dataFromFile = XmlUtil.getDataFromFile(INVALID_FOODZOOM_FILE, XmlHealthHub.class);
@@ -0,0 +1,101 @@
+package seedu.address.storage.user;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.user.TypicalUsers.HOON_MANAGER;
+import static seedu.address.testutil.user.TypicalUsers.getTypicalUsersList;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.UsersList;
+import seedu.address.model.user.User;
+import seedu.address.storage.ListChangeRecorder;
+import seedu.address.testutil.user.UserBuilder;
+
+public class SqlUsersListStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private UsersList usersList;
+    private SqlUsersListStorage storage;
+
+    @Before
+    public void setUp() {
+        usersList = getTypicalUsersList();
+        storage = new SqlUsersListStorage(getTempFilePath("users.xml"));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        storage.close();
+    }
+
+    @Test
+    public void readUsersList_missingDatabase_emptyResult() throws Exception {
+        assertFalse(storage.readUsersList().isPresent());
+    }
+
+    @Test
+    public void readSave_allInOrder_success() throws Exception {
+        storage.saveUsersList(usersList);
+        assertEquals(usersList, storage.readUsersList().get());
+
+        usersList.addUser(HOON_MANAGER);
+        usersList.removeUser(usersList.getUserList().get(0));
+        storage.saveUsersList(usersList);
+        assertEquals(usersList, storage.readUsersList().get());
+    }
+
+    @Test
+    public void append_userChanges_rowsChanged() throws Exception {
+        storage.saveUsersList(usersList);
+        ListChangeRecorder recorder = UsersListJournal.record(usersList, Long.MAX_VALUE);
+        User firstUser = usersList.getUserList().get(0);
+        usersList.addUser(HOON_MANAGER);
+        usersList.updateUser(firstUser, new UserBuilder(firstUser).withPassword("newpassword01").build());
+        usersList.removeUser(usersList.getUserList().get(1));
+        storage.append(Collections.singletonList(recorder.takeRecords().get()));
+
+        assertEquals(usersList, storage.readUsersList().get());
+    }
+
+    @Test(expected = IOException.class)
+    public void append_unknownUser_throwsIoException() throws Exception {
+        storage.saveUsersList(new UsersList());
+        ListChangeRecorder recorder = UsersListJournal.record(usersList, Long.MAX_VALUE);
+        usersList.removeUser(usersList.getUserList().get(0));
+        storage.append(Collections.singletonList(recorder.takeRecords().get()));
+    }
+
+    @Test
+    public void convertXmlIfMissing_xmlFileWithJournal_copiedWithChanges() throws Exception {
+        Path xmlFilePath = getTempFilePath("converted.xml");
+        new XmlUsersListStorage(xmlFilePath).saveUsersList(usersList);
+        ListChangeRecorder recorder = UsersListJournal.record(usersList, Long.MAX_VALUE);
+        usersList.addUser(HOON_MANAGER);
+        UsersListJournal.of(xmlFilePath).append(Collections.singletonList(recorder.takeRecords().get()));
+
+        assertTrue(SqlUsersListStorage.convertXmlIfMissing(xmlFilePath));
+        assertFalse(SqlUsersListStorage.convertXmlIfMissing(xmlFilePath));
+        SqlUsersListStorage convertedStorage = new SqlUsersListStorage(xmlFilePath);
+        try {
+            assertEquals(usersList, convertedStorage.readUsersList().get());
+        } finally {
+            convertedStorage.close();
+        }
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
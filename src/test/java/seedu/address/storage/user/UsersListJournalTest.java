@@ -0,0 +1,67 @@
+package seedu.address.storage.user;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.user.TypicalUsers.HOON_MANAGER;
+import static seedu.address.testutil.user.TypicalUsers.getTypicalUsersList;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.UsersList;
+import seedu.address.model.user.User;
+import seedu.address.storage.ListChangeRecorder;
+import seedu.address.testutil.user.UserBuilder;
+
+public class UsersListJournalTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private UsersList usersList;
+    private UsersList snapshot;
+    private ListChangeRecorder recorder;
+    private UsersListJournal journal;
+
+    @Before
+    public void setUp() {
+        usersList = getTypicalUsersList();
+        snapshot = new UsersList(usersList);
+        recorder = UsersListJournal.record(usersList, Long.MAX_VALUE);
+        journal = UsersListJournal.of(testFolder.getRoot().toPath().resolve("users.xml"));
+    }
+
+    @Test
+    public void replay_noJournal_returnsSnapshot() throws Exception {
+        assertSame(snapshot, journal.replay(snapshot));
+    }
+
+    @Test
+    public void replay_userChanges_returnsChangedUsersList() throws Exception {
+        User firstUser = usersList.getUserList().get(0);
+        usersList.addUser(HOON_MANAGER);
+        usersList.updateUser(firstUser, new UserBuilder(firstUser).withPassword("newpassword01").build());
+        usersList.removeUser(usersList.getUserList().get(1));
+        journal.append(Collections.singletonList(recorder.takeRecords().get()));
+
+        assertEquals(usersList, journal.replay(snapshot));
+    }
+
+    @Test
+    public void replay_unknownUser_throwsDataConversionException() throws Exception {
+        usersList.removeUser(usersList.getUserList().get(0));
+        journal.append(Collections.singletonList(recorder.takeRecords().get()));
+
+        thrown.expect(DataConversionException.class);
+        journal.replay(new UsersList());
+    }
+}
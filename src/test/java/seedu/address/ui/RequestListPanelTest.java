@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import static java.time.Duration.ofMillis;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static seedu.address.testutil.EventsUtil.postNow;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
@@ -9,9 +10,14 @@ import static seedu.address.testutil.TypicalOrders.getTypicalOrders;
 import static seedu.address.ui.testutil.GuiTestAssert.assertCardDisplaysOrder;
 import static seedu.address.ui.testutil.GuiTestAssert.assertCardEquals;
 
+import java.lang.management.ManagementFactory;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.UUID;
+import java.util.logging.Logger;
 
 import org.junit.Test;
 
@@ -19,6 +25,9 @@ import guitests.guihandles.RequestCardHandle;
 import guitests.guihandles.OrderListPanelHandle;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.ListView;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.JumpToRequestListRequestEvent;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
@@ -36,6 +45,12 @@ public class RequestListPanelTest extends GuiUnitTest {
 
     private static final long CARD_CREATION_AND_DELETION_TIMEOUT = 2500;
 
+    private static final int SCROLL_COUNT = 500;
+    private static final int SCROLL_STEP = 20;
+    private static final long SCROLL_TIMEOUT = 2500;
+
+    private final Logger logger = LogsCenter.getLogger(RequestListPanelTest.class);
+
     private OrderListPanelHandle orderListPanelHandle;
 
     @Test
@@ -77,6 +92,47 @@ public class RequestListPanelTest extends GuiUnitTest {
         }, "Creation and deletion of common cards exceeded time limit");
     }
 
+    /**
+     * Verifies that scrolling through a large number of requests in {@code OrderListPanel} requires lesser than
+     * {@code SCROLL_TIMEOUT} milliseconds, and that the cells rebind their cards to the scrolled requests instead
+     * of building a card for each of them. Logs the time taken to lay out each scroll and the memory it allocates.
+     */
+    @Test
+    public void scrollPerformanceTest() throws Exception {
+        ObservableList<Request> backingList = createBackingList(SCROLL_COUNT * SCROLL_STEP);
+        OrderListPanel orderListPanel = new OrderListPanel(backingList);
+        uiPartRule.setUiPart(orderListPanel);
+        ListView<Request> orderListView = getChildNode(orderListPanel.getRoot(),
+            OrderListPanelHandle.ORDER_LIST_VIEW_ID);
+        com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Set<Node> cards = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Node> cells = Collections.newSetFromMap(new IdentityHashMap<>());
+        long[] totals = new long[2];
+
+        assertTimeoutPreemptively(ofMillis(SCROLL_TIMEOUT), () -> {
+            for (int i = 0; i < SCROLL_COUNT; i++) {
+                int index = i * SCROLL_STEP;
+                guiRobot.interact(() -> {
+                    long threadId = Thread.currentThread().getId();
+                    long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+                    long startTime = System.nanoTime();
+                    orderListView.scrollTo(index);
+                    orderListView.layout();
+                    totals[0] += System.nanoTime() - startTime;
+                    totals[1] += threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+                    cards.addAll(orderListView.lookupAll("#cardPane"));
+                    cells.addAll(orderListView.lookupAll(".list-cell"));
+                });
+            }
+        }, "Scrolling through common cards exceeded time limit");
+
+        logger.info(String.format("Scrolled %1$d times: %2$.3f ms and %3$d bytes allocated per scroll",
+            SCROLL_COUNT, totals[0] / 1e6 / SCROLL_COUNT, totals[1] / SCROLL_COUNT));
+        assertTrue("Cards were built for scrolled requests instead of being reused", cards.size() <= cells.size());
+    }
+
     /**
      * Returns a list of orders containing {@code orderCount} orders that is used to populate the
      * {@code OrderListPanel}.